@@ -0,0 +1,11 @@
+package fr.exalt.bankaccount.application.dto.account.openaccount;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+/** Issue d'une ligne d'ouverture en masse : l'identifiant du compte créé, ou le motif du refus. */
+public record BulkOpenOutcome(long index, AccountId accountId, String error) {
+
+    public boolean opened() {
+        return accountId != null;
+    }
+}
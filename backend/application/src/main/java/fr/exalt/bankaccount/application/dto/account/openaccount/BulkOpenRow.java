@@ -0,0 +1,17 @@
+package fr.exalt.bankaccount.application.dto.account.openaccount;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Ligne d'une ouverture en masse : un compte courant, un compte épargne, ou une ligne illisible.
+ */
+public sealed interface BulkOpenRow {
+
+    long index();
+
+    record Current(long index, Money overdraft) implements BulkOpenRow {}
+
+    record Savings(long index, Money ceiling) implements BulkOpenRow {}
+
+    record Malformed(long index, String reason) implements BulkOpenRow {}
+}
@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.application.dto.account.operation;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.List;
+
+/** Dépôts et retraits à appliquer dans l'ordre sur un même compte. */
+public record BatchOperationsCommand(AccountId accountId, List<Item> items) {
+
+    public record Item(Operation.Type type, Money amount) {}
+}
@@ -0,0 +1,21 @@
+package fr.exalt.bankaccount.application.dto.account.operation;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.List;
+
+/**
+ * Issue d'un lot : solde final et, pour chaque élément (dans l'ordre de la commande),
+ * l'opération appliquée ou le motif du refus.
+ */
+public record BatchOperationsResult(AccountId accountId, Money finalBalance, List<Item> items) {
+
+    public record Item(int index, Operation operation, String error) {
+
+        public boolean accepted() {
+            return operation != null;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package fr.exalt.bankaccount.application.dto.account.operation;
+
+/**
+ * Issue d'une tentative de dépôt ou de retrait : soit l'opération a été appliquée
+ * ({@link OperationResult}), soit elle a été refusée par une règle métier ({@link OperationRejection}).
+ */
+public sealed interface OperationAttempt permits OperationResult, OperationRejection {
+}
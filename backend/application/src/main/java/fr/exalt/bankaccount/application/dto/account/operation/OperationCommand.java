@@ -0,0 +1,14 @@
+package fr.exalt.bankaccount.application.dto.account.operation;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.UUID;
+
+/**
+ * Dépôt ou retrait soumis par un système amont (topic de commandes). {@code commandId} est attribué par
+ * l'émetteur : une commande reçue plusieurs fois n'est appliquée qu'une fois.
+ */
+public record OperationCommand(UUID commandId, AccountId accountId, Operation.Type type, Money amount) {
+}
@@ -0,0 +1,7 @@
+package fr.exalt.bankaccount.application.dto.account.operation;
+
+/**
+ * Bilan d'un lot de commandes : appliquées, refusées (règle métier, compte absent), déjà traitées.
+ */
+public record OperationCommandsResult(int applied, int rejected, int duplicates) {
+}
@@ -0,0 +1,16 @@
+package fr.exalt.bankaccount.application.dto.account.operation;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
+
+public record OperationRejection(AccountId accountId, OperationRejected rejected) implements OperationAttempt {
+
+    public RejectionReason reason() {
+        return rejected.reason();
+    }
+
+    public String message() {
+        return rejected.message();
+    }
+}
@@ -4,7 +4,7 @@ import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
 import fr.exalt.bankaccount.domain.model.money.Money;
 
-public sealed interface OperationResult permits WithdrawResult, DepositResult {
+public sealed interface OperationResult extends OperationAttempt permits WithdrawResult, DepositResult {
     AccountId accountId();
     Money newBalance();
     Operation operation();
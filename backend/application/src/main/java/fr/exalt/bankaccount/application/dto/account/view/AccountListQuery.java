@@ -0,0 +1,26 @@
+package fr.exalt.bankaccount.application.dto.account.view;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Filtres et position d'une page de comptes, parcourus par identifiant croissant
+ * (UUIDv7 : ordre d'ouverture).
+ *
+ * @param type       type de compte, {@code null} pour tous
+ * @param minBalance solde minimal inclus, {@code null} sans borne
+ * @param maxBalance solde maximal inclus, {@code null} sans borne
+ * @param after      dernier compte de la page précédente, {@code null} pour la première page
+ * @param limit      nombre maximal de comptes dans la page
+ */
+public record AccountListQuery(Account.Type type,
+                               Money minBalance,
+                               Money maxBalance,
+                               AccountId after,
+                               int limit) {
+
+    public AccountListQuery withLimit(int newLimit) {
+        return new AccountListQuery(type, minBalance, maxBalance, after, newLimit);
+    }
+}
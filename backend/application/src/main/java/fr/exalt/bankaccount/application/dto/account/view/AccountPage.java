@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.application.dto.account.view;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+import java.util.List;
+
+/**
+ * Une page de comptes.
+ *
+ * @param next position de la page suivante (dernier compte de celle-ci), {@code null} sur la dernière page
+ */
+public record AccountPage(List<AccountView> accounts, AccountId next) {
+}
@@ -0,0 +1,25 @@
+package fr.exalt.bankaccount.application.dto.account.view;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Lecture d'un compte : type, solde, découvert (CURRENT) ou plafond (SAVINGS).
+ *
+ * @param version version du compte lue en base, pour ne jamais remplacer une vue plus récente dans un cache
+ */
+public record AccountView(AccountId accountId,
+                          Account.Type type,
+                          Money balance,
+                          Money overdraft,   // CURRENT uniquement
+                          Money ceiling,     // SAVINGS uniquement
+                          long version) {
+
+    public static AccountView of(Account account) {
+        return new AccountView(account.getId(), account.getType(), account.getBalance(),
+                account.getType() == Account.Type.CURRENT ? account.getOverdraft() : null,
+                account.getType() == Account.Type.SAVINGS ? account.getCeiling() : null,
+                account.getVersion());
+    }
+}
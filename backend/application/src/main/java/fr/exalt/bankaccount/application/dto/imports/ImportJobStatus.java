@@ -0,0 +1,27 @@
+package fr.exalt.bankaccount.application.dto.imports;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Avancement d'un import : compteurs, débit en lignes par seconde et premières lignes refusées.
+ *
+ * @param rejections échantillon borné des refus ({@code rejected} donne le total)
+ * @param error      cause de l'échec si {@code state == FAILED}
+ */
+public record ImportJobStatus(UUID id,
+                              State state,
+                              long linesRead,
+                              long accepted,
+                              long rejected,
+                              double linesPerSecond,
+                              Instant startedAt,
+                              Instant finishedAt,
+                              List<RejectedLine> rejections,
+                              String error) {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    public record RejectedLine(long lineNumber, String reason) {}
+}
@@ -0,0 +1,17 @@
+package fr.exalt.bankaccount.application.dto.imports;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Ligne d'un fichier d'import : une opération lue, ou une ligne illisible signalée sans interrompre l'import.
+ */
+public sealed interface ImportLine {
+
+    long lineNumber();
+
+    record Parsed(long lineNumber, AccountId accountId, Operation.Type type, Money amount) implements ImportLine {}
+
+    record Malformed(long lineNumber, String reason) implements ImportLine {}
+}
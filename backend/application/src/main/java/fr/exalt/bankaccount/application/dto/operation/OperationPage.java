@@ -0,0 +1,26 @@
+package fr.exalt.bankaccount.application.dto.operation;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Une page d'opérations, de la plus récente à la plus ancienne.
+ *
+ * @param next position de la page suivante (dernière opération de celle-ci), {@code null} sur la dernière page
+ */
+public record OperationPage(List<Operation> operations, Cursor next) {
+
+    /**
+     * Position dans l'historique d'un compte : la page suivante commence strictement après
+     * {@code (at, operationId)} dans l'ordre {@code at DESC, id DESC}.
+     */
+    public record Cursor(Instant at, OperationId operationId) {
+
+        public static Cursor of(Operation operation) {
+            return new Cursor(operation.at(), operation.id());
+        }
+    }
+}
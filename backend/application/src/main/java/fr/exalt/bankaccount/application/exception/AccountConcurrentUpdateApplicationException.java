@@ -0,0 +1,9 @@
+package fr.exalt.bankaccount.application.exception;
+
+/**
+ * Le compte a été modifié par une autre transaction entre sa lecture et sa sauvegarde
+ * (la version lue ne correspond plus à la version en base).
+ */
+public class AccountConcurrentUpdateApplicationException extends RuntimeException {
+    public AccountConcurrentUpdateApplicationException(String message) { super(message); }
+}
@@ -0,0 +1,9 @@
+package fr.exalt.bankaccount.application.exception;
+
+/**
+ * La file de commandes d'un compte est pleine : la commande n'a pas été acceptée
+ * (contre-pression, l'appelant peut réessayer plus tard).
+ */
+public class CommandQueueFullApplicationException extends RuntimeException {
+    public CommandQueueFullApplicationException(String message) { super(message); }
+}
@@ -0,0 +1,12 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommandsResult;
+
+import java.util.List;
+
+public interface ApplyOperationCommandsUseCase {
+
+    /** Applique le lot dans l'ordre, dans une seule transaction ; les commandes déjà traitées sont ignorées. */
+    OperationCommandsResult handle(List<OperationCommand> commands);
+}
@@ -0,0 +1,8 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsResult;
+
+public interface BatchOperationsUseCase {
+    BatchOperationsResult handle(BatchOperationsCommand command);
+}
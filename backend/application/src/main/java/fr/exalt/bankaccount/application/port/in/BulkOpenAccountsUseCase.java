@@ -0,0 +1,16 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenOutcome;
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenRow;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface BulkOpenAccountsUseCase {
+
+    /**
+     * Ouvre les comptes au fil de la lecture ; chaque issue est transmise à {@code results},
+     * dans l'ordre des lignes, dès que le tronçon qui la contient est validé.
+     */
+    void handle(Iterator<BulkOpenRow> rows, Consumer<BulkOpenOutcome> results);
+}
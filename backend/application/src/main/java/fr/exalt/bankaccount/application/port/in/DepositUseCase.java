@@ -1,8 +1,16 @@
 package fr.exalt.bankaccount.application.port.in;
 
 import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
 import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
 
 public interface DepositUseCase {
     OperationResult handle(DepositCommand depositCommand);
+
+    /**
+     * Variante sans exception pour le refus métier : un dépassement de plafond
+     * est retourné comme {@link OperationRejection} au lieu d'être levé.
+     */
+    OperationAttempt tryHandle(DepositCommand depositCommand);
 }
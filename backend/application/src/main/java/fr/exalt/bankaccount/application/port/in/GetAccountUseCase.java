@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+public interface GetAccountUseCase {
+
+    /**
+     * @throws AccountNotFoundApplicationException si le compte n'existe pas
+     */
+    AccountView handle(AccountId accountId);
+}
@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GetAccountsUseCase {
+
+    /** Comptes trouvés, dans l'ordre demandé (doublons retirés) ; les comptes absents sont ignorés. */
+    List<AccountView> handle(Collection<AccountId> accountIds);
+}
@@ -0,0 +1,15 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus;
+import fr.exalt.bankaccount.application.port.out.ImportSource;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImportOperationsUseCase {
+
+    /** Lance l'import en arrière-plan et retourne immédiatement son état initial. */
+    ImportJobStatus submit(ImportSource source);
+
+    Optional<ImportJobStatus> status(UUID jobId);
+}
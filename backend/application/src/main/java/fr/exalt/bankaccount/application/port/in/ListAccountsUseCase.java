@@ -0,0 +1,9 @@
+package fr.exalt.bankaccount.application.port.in;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountPage;
+
+public interface ListAccountsUseCase {
+
+    AccountPage handle(AccountListQuery query);
+}
@@ -1,8 +1,16 @@
 package fr.exalt.bankaccount.application.port.in;
 
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
 import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
 
 public interface WithdrawUseCase {
     OperationResult handle(WithdrawCommand withdrawCommand);
+
+    /**
+     * Variante sans exception pour le refus métier : des fonds insuffisants
+     * est retourné comme {@link OperationRejection} au lieu d'être levé.
+     */
+    OperationAttempt tryHandle(WithdrawCommand withdrawCommand);
 }
@@ -0,0 +1,18 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+
+import java.util.List;
+
+/**
+ * Parcours des comptes par identifiant croissant, sans réhydratation des agrégats.
+ */
+public interface AccountListReader {
+
+    /**
+     * Au plus {@code query.limit()} comptes d'identifiant strictement supérieur à {@code query.after()},
+     * filtrés et triés par identifiant. Le coût ne dépend pas de la profondeur de la page (pas d'OFFSET).
+     */
+    List<AccountView> findPage(AccountListQuery query);
+}
@@ -0,0 +1,57 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public interface AccountRepository {
+
+    /**
+     * Insère un compte neuf, ou met à jour un compte chargé à condition que sa version n'ait pas changé.
+     *
+     * @throws AccountConcurrentUpdateApplicationException si le compte a été modifié entre-temps
+     */
+    Account save(Account account);
+
+    Account findById(AccountId accountId);
+
+    /**
+     * Chargement groupé. Les comptes absents sont ignorés (pas d'entrée dans la map).
+     * L'implémentation par défaut charge les comptes un par un.
+     */
+    default Map<AccountId, Account> findAllById(Collection<AccountId> accountIds) {
+        Map<AccountId, Account> found = new LinkedHashMap<>();
+        for (AccountId accountId : accountIds) {
+            try {
+                Account account = findById(accountId);
+                if (account != null) found.put(accountId, account);
+            } catch (AccountNotFoundApplicationException ignored) {
+                // absent : pas d'entrée
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Sauvegarde groupée, avec les mêmes règles que {@link #save(Account)} pour chaque compte.
+     * L'implémentation par défaut sauvegarde les comptes un par un.
+     *
+     * @throws AccountConcurrentUpdateApplicationException si l'un des comptes a été modifié entre-temps
+     */
+    default void saveAll(Collection<Account> accounts) {
+        accounts.forEach(this::save);
+    }
+
+    /**
+     * Insertion groupée de comptes neufs, sans lecture préalable.
+     * L'implémentation par défaut les insère un par un.
+     */
+    default void insertAll(Collection<Account> accounts) {
+        accounts.forEach(this::save);
+    }
+}
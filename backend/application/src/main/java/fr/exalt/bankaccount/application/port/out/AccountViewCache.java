@@ -0,0 +1,48 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache de lecture des comptes (read-through), tenu à jour par les services qui modifient les soldes.
+ * <p>
+ * {@link #put(AccountView)} et {@link #invalidate(AccountId)} ne prennent effet qu'à la validation de la
+ * transaction en cours (immédiatement sans transaction) : une écriture annulée ne laisse rien dans le cache.
+ * </p>
+ */
+public interface AccountViewCache {
+
+    /** Vue en cache, sinon chargée par {@code loader} puis mise en cache. */
+    AccountView getOrLoad(AccountId accountId, Function<AccountId, AccountView> loader);
+
+    /**
+     * Lecture groupée : vues en cache, les absentes chargées par un seul appel à {@code loader} puis mises en cache.
+     * Les comptes que {@code loader} ne trouve pas sont ignorés.
+     */
+    Map<AccountId, AccountView> getAllOrLoad(Collection<AccountId> accountIds,
+                                             Function<Collection<AccountId>, Map<AccountId, AccountView>> loader);
+
+    /** Remplace la vue en cache, sauf si celle-ci est d'une version plus récente. */
+    void put(AccountView view);
+
+    /** Retire la vue du cache (écriture dont la nouvelle version n'est pas connue). */
+    void invalidate(AccountId accountId);
+
+    static AccountViewCache noop() {
+        return new AccountViewCache() {
+            @Override public AccountView getOrLoad(AccountId accountId, Function<AccountId, AccountView> loader) {
+                return loader.apply(accountId);
+            }
+            @Override public Map<AccountId, AccountView> getAllOrLoad(
+                    Collection<AccountId> accountIds, Function<Collection<AccountId>, Map<AccountId, AccountView>> loader) {
+                return loader.apply(accountIds);
+            }
+            @Override public void put(AccountView view) { }
+            @Override public void invalidate(AccountId accountId) { }
+        };
+    }
+}
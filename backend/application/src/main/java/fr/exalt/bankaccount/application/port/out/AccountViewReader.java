@@ -0,0 +1,16 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Lecture seule des comptes, sans réhydratation des agrégats.
+ */
+public interface AccountViewReader {
+
+    /** Lecture groupée en une requête. Les comptes absents sont ignorés (pas d'entrée dans la map). */
+    Map<AccountId, AccountView> findAllViews(Collection<AccountId> accountIds);
+}
@@ -0,0 +1,39 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+
+import java.util.function.Consumer;
+
+/**
+ * Journal séquentiel des commandes du moteur en mémoire.
+ * <p>
+ * Une entrée est écrite avant d'être appliquée : après un arrêt brutal, les entrées postérieures
+ * au dernier point de reprise en base sont rejouées ; les entrées antérieures peuvent être retirées.
+ * </p>
+ */
+public interface CommandJournal extends AutoCloseable {
+
+    /** Ajoute une entrée (éventuellement bufferisée jusqu'au prochain {@link #flush()}). */
+    void append(Entry entry);
+
+    /** Rend durables les entrées ajoutées. */
+    void flush();
+
+    /** Relit, dans l'ordre, les entrées de séquence strictement supérieure à {@code afterSequence}. */
+    void replay(long afterSequence, Consumer<Entry> consumer);
+
+    /** Retire les entrées de séquence inférieure ou égale à {@code upToSequence} (déjà en base). */
+    void compact(long upToSequence);
+
+    /** Vide le journal (toutes les entrées sont en base). */
+    void truncate();
+
+    @Override
+    void close();
+
+    /**
+     * Commande journalisée : l'opération porte l'identifiant et l'horodatage attribués à la réception,
+     * pour qu'un rejeu produise exactement la même opération.
+     */
+    record Entry(long sequence, Operation operation) {}
+}
@@ -0,0 +1,24 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.Optional;
+
+/**
+ * Écriture d'un mouvement sans lecture préalable du compte.
+ * <p>
+ * Le solde est modifié en base par une instruction gardée par la règle du type de compte
+ * (plafond du livret, découvert du compte courant), et l'opération est journalisée dans la même
+ * transaction. Il n'y a pas de fenêtre entre lecture et écriture, donc pas de conflit de version
+ * sur un compte très sollicité.
+ * </p>
+ */
+public interface GuardedBalanceWriter {
+
+    /**
+     * @return le nouveau solde si la garde est respectée ; vide si la garde refuse le mouvement
+     * ou si le compte n'existe pas (rien n'est écrit)
+     */
+    Optional<Money> apply(Operation operation);
+}
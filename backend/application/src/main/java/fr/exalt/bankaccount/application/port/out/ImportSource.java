@@ -0,0 +1,15 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportLine;
+
+import java.util.stream.Stream;
+
+/**
+ * Fichier d'opérations à importer, lu au fil de l'eau.
+ * Le flux retourné est fermé par l'appelant, ce qui libère le fichier.
+ */
+@FunctionalInterface
+public interface ImportSource {
+
+    Stream<ImportLine> open();
+}
@@ -0,0 +1,26 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Mesures des files de commandes par compte (une file et un thread par voie).
+ */
+public interface LaneMetrics {
+
+    /** Enregistre la profondeur de file d'une voie, lue à la demande. */
+    void registerQueueDepth(int lane, IntSupplier depth);
+
+    /** Temps passé en file puis temps de traitement d'une commande. */
+    void completed(int lane, long queuedNanos, long serviceNanos);
+
+    /** Commande refusée, file pleine. */
+    void rejected(int lane);
+
+    static LaneMetrics noop() {
+        return new LaneMetrics() {
+            @Override public void registerQueueDepth(int lane, IntSupplier depth) { }
+            @Override public void completed(int lane, long queuedNanos, long serviceNanos) { }
+            @Override public void rejected(int lane) { }
+        };
+    }
+}
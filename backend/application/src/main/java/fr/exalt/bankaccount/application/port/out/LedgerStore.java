@@ -0,0 +1,21 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.Map;
+
+/**
+ * Écritures en base du moteur en mémoire, appelées dans une même transaction
+ * avec {@link OperationRepository#saveAll(java.util.List)}.
+ */
+public interface LedgerStore {
+
+    /** Dernière séquence du journal dont les effets sont en base, {@code -1} si aucune. */
+    long checkpoint();
+
+    /** Soldes absolus calculés par le moteur, seul écrivain des comptes dans ce mode. */
+    void saveBalances(Map<AccountId, Money> balances);
+
+    void saveCheckpoint(long sequence);
+}
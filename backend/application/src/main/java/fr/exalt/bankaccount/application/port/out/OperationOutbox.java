@@ -0,0 +1,27 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+
+import java.util.List;
+
+/**
+ * Boîte d'envoi des événements d'opération (transactional outbox).
+ * <p>
+ * {@link #append(Operation)} écrit l'événement dans la transaction qui enregistre l'opération : il n'est
+ * visible, puis publié par un relais asynchrone, que si cette transaction est validée. Aucun appel au
+ * broker n'a lieu dans la transaction appelante.
+ * </p>
+ */
+public interface OperationOutbox {
+
+    void append(Operation operation);
+
+    /** Écriture groupée ; l'implémentation par défaut écrit les événements un par un. */
+    default void appendAll(List<Operation> operations) {
+        operations.forEach(this::append);
+    }
+
+    static OperationOutbox noop() {
+        return operation -> { };
+    }
+}
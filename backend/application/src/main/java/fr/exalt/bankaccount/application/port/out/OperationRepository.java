@@ -0,0 +1,58 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface OperationRepository {
+    Operation save(Operation operation);
+    List<Operation> findByAccountIdBetween(AccountId accountId, Instant from, Instant to);
+
+    /**
+     * Mêmes opérations que {@link #findByAccountIdBetween}, triées {@code at DESC, id DESC}, lues au fil
+     * du parcours. Le flux est à fermer, dans la transaction où il a été ouvert.
+     * L'implémentation par défaut charge la liste complète.
+     */
+    default Stream<Operation> streamByAccountIdBetween(AccountId accountId, Instant from, Instant to) {
+        return findByAccountIdBetween(accountId, from, to).stream();
+    }
+
+    /**
+     * Au plus {@code limit} opérations du compte entre {@code from} et {@code to} (inclus), triées
+     * {@code at DESC, id DESC}, strictement après {@code after} ({@code null} pour la première page).
+     * L'implémentation par défaut filtre {@link #findByAccountIdBetween} en mémoire.
+     */
+    default List<Operation> findPageByAccountIdBetween(AccountId accountId, Instant from, Instant to,
+                                                       OperationPage.Cursor after, int limit) {
+        Comparator<Operation> order = Comparator.comparing(Operation::at)
+                .thenComparing(operation -> operation.id().value(), OperationRepository::compareUnsigned)
+                .reversed();
+        return findByAccountIdBetween(accountId, from, to).stream()
+                .filter(operation -> after == null || isBefore(operation, after))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    /** Insertion groupée ; l'implémentation par défaut insère les opérations une par une. */
+    default void saveAll(List<Operation> operations) {
+        operations.forEach(this::save);
+    }
+
+    private static boolean isBefore(Operation operation, OperationPage.Cursor cursor) {
+        int byDate = operation.at().compareTo(cursor.at());
+        return byDate < 0 || (byDate == 0 && compareUnsigned(operation.id().value(), cursor.operationId().value()) < 0);
+    }
+
+    /** Ordre des identifiants en base (octet par octet), et non celui, signé, de {@link UUID#compareTo}. */
+    private static int compareUnsigned(UUID left, UUID right) {
+        int byHigh = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,17 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Identifiants des commandes déjà traitées (appliquées ou refusées), pour le dédoublonnage.
+ * Écrits dans la transaction qui applique les commandes : une commande n'est marquée que si son effet est validé.
+ */
+public interface ProcessedCommandStore {
+
+    /** Parmi {@code commandIds}, ceux déjà traités. */
+    Set<UUID> findProcessed(Collection<UUID> commandIds);
+
+    void saveAll(Collection<UUID> commandIds);
+}
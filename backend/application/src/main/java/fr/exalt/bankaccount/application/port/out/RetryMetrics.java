@@ -0,0 +1,20 @@
+package fr.exalt.bankaccount.application.port.out;
+
+/**
+ * Compteurs des rejeux sur conflit de version (verrouillage optimiste).
+ */
+public interface RetryMetrics {
+
+    /** Une tentative a échoué sur conflit et va être rejouée. */
+    void retried(String operation);
+
+    /** Toutes les tentatives ont échoué : le conflit est remonté à l'appelant. */
+    void exhausted(String operation);
+
+    static RetryMetrics noop() {
+        return new RetryMetrics() {
+            @Override public void retried(String operation) { }
+            @Override public void exhausted(String operation) { }
+        };
+    }
+}
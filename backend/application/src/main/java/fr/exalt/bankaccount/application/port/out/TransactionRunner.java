@@ -0,0 +1,28 @@
+package fr.exalt.bankaccount.application.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Exécute un traitement dans une transaction, pour les services qui ne sont pas appelés
+ * à travers un proxy transactionnel (traitement sur un thread interne).
+ */
+public interface TransactionRunner {
+
+    /** Exécute {@code work} dans une transaction, validée au retour et annulée sur exception. */
+    <T> T inTransaction(Supplier<T> work);
+
+    /**
+     * Exécute {@code work}, qui ne fait que lire, dans une transaction en lecture seule (ni flush ni
+     * détection de modifications). Par défaut, une transaction ordinaire.
+     */
+    default <T> T inReadOnlyTransaction(Supplier<T> work) {
+        return inTransaction(work);
+    }
+
+    /** Exécute le traitement tel quel, dans la transaction de l'appelant s'il y en a une (tests). */
+    static TransactionRunner noop() {
+        return new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) { return work.get(); }
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.LaneMetrics;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Répartition des dépôts et retraits sur N voies mono-thread (une seule écriture à la fois par compte).
+ * <p>
+ * L'{@link AccountId} est haché sur une voie : toutes les commandes d'un compte passent par le même
+ * thread et sont appliquées strictement dans l'ordre d'arrivée, sans attente de verrou ligne ni conflit
+ * de version entre elles. Des comptes de voies différentes avancent en parallèle.
+ * </p>
+ * Chaque voie a une file bornée : si elle reste pleine au-delà du délai d'offre, la commande est refusée
+ * ({@link CommandQueueFullApplicationException}) au lieu d'accumuler de la latence.
+ */
+public class AccountLaneDispatcher implements DepositUseCase, WithdrawUseCase, AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofMillis(50);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final DepositUseCase deposit;
+    private final WithdrawUseCase withdraw;
+    private final LaneMetrics metrics;
+    private final long offerTimeoutNanos;
+    private final Lane[] lanes;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param lanes nombre de voies, {@code 0} pour le nombre de cœurs disponibles
+     */
+    public AccountLaneDispatcher(DepositUseCase deposit,
+                                 WithdrawUseCase withdraw,
+                                 int lanes,
+                                 int queueCapacity,
+                                 Duration offerTimeout,
+                                 LaneMetrics metrics) {
+        if (lanes < 0) throw new IllegalArgumentException("lanes must be >= 0");
+        if (queueCapacity < 1) throw new IllegalArgumentException("queueCapacity must be >= 1");
+        if (offerTimeout == null || offerTimeout.isNegative()) throw new IllegalArgumentException("offerTimeout must be >= 0");
+        this.deposit = deposit;
+        this.withdraw = withdraw;
+        this.metrics = metrics;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+
+        int count = lanes == 0 ? Runtime.getRuntime().availableProcessors() : lanes;
+        this.lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            Lane lane = new Lane(i, queueCapacity);
+            this.lanes[i] = lane;
+            metrics.registerQueueDepth(i, lane.queue::size);
+            lane.thread.start();
+        }
+    }
+
+    // ---------- Use cases ----------
+
+    @Override
+    public OperationResult handle(DepositCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        return dispatch(cmd.accountId(), () -> deposit.handle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(DepositCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        return dispatch(cmd.accountId(), () -> deposit.tryHandle(cmd));
+    }
+
+    @Override
+    public OperationResult handle(WithdrawCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        return dispatch(cmd.accountId(), () -> withdraw.handle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(WithdrawCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        return dispatch(cmd.accountId(), () -> withdraw.tryHandle(cmd));
+    }
+
+    /** Voie d'un compte : stable pour un même identifiant. */
+    public int laneOf(AccountId accountId) {
+        int h = accountId.value().hashCode();
+        return Math.floorMod(h ^ (h >>> 16), lanes.length);
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /** Arrête les voies après avoir traité les commandes déjà acceptées. */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private <T> T dispatch(AccountId accountId, Supplier<T> work) {
+        Objects.requireNonNull(accountId, "AccountId must no be null");
+        if (!running) {
+            throw new IllegalStateException("Account lanes are closed");
+        }
+        Lane lane = lanes[laneOf(accountId)];
+        Task<T> task = new Task<>(work, System.nanoTime());
+        try {
+            if (!lane.queue.offer(task, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                metrics.rejected(lane.index);
+                throw new CommandQueueFullApplicationException(
+                        "Command queue full for account %s, retry later".formatted(accountId));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandQueueFullApplicationException("Interrupted while queuing command for account " + accountId);
+        }
+        try {
+            return task.result.join();
+        } catch (CompletionException e) {
+            // On relance l'exception d'origine (règle métier, compte absent...) sur le thread appelant
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private final class Lane implements Runnable {
+        final int index;
+        final BlockingQueue<Task<?>> queue;
+        final Thread thread;
+
+        Lane(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "account-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                Task<?> task;
+                try {
+                    task = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (task == null) continue;
+                long started = System.nanoTime();
+                task.run();
+                metrics.completed(index, started - task.enqueuedAt, System.nanoTime() - started);
+            }
+            Task<?> left;
+            while ((left = queue.poll()) != null) {
+                left.result.completeExceptionally(new IllegalStateException("Account lanes are closed"));
+            }
+        }
+    }
+
+    private static final class Task<T> {
+        final Supplier<T> work;
+        final long enqueuedAt;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Task(Supplier<T> work, long enqueuedAt) {
+            this.work = work;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        void run() {
+            try {
+                result.complete(work.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsResult;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.in.BatchOperationsUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lot de dépôts / retraits sur un compte : une lecture, les règles du domaine appliquées élément par élément,
+ * une seule sauvegarde du compte et une insertion groupée des opérations et de leurs événements, dans une transaction.
+ * <p>
+ * Un élément refusé (plafond, fonds insuffisants, montant invalide) n'interrompt pas le lot :
+ * il est signalé dans le résultat et les suivants sont appliqués sur le solde inchangé.
+ * </p>
+ */
+public class BatchOperationsService implements BatchOperationsUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final TransactionRunner transactionRunner;
+    private final ConflictRetry conflictRetry;
+    private final AccountViewCache accountViewCache;
+    private final OperationOutbox operationOutbox;
+
+    public BatchOperationsService(AccountRepository accountRepository, OperationRepository operationRepository,
+                                  TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                                  AccountViewCache accountViewCache, OperationOutbox operationOutbox) {
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.transactionRunner = transactionRunner;
+        this.conflictRetry = conflictRetry;
+        this.accountViewCache = accountViewCache;
+        this.operationOutbox = operationOutbox;
+    }
+
+    @Override
+    public BatchOperationsResult handle(BatchOperationsCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.items(), "Items must not be null");
+        if (cmd.items().isEmpty() || cmd.items().size() > MAX_ITEMS) {
+            throw new BusinessRuleViolationException("A batch must contain between 1 and %d operations".formatted(MAX_ITEMS));
+        }
+        // Conflit de version : tout le lot est rejoué sur le compte rechargé, dans une nouvelle transaction
+        return conflictRetry.run("batch", () -> transactionRunner.inTransaction(() -> handleOnce(cmd)));
+    }
+
+    private BatchOperationsResult handleOnce(BatchOperationsCommand cmd) {
+        Account account = accountRepository.findById(cmd.accountId());
+        if (account == null) {
+            throw new AccountNotFoundApplicationException("Account %s not found".formatted(cmd.accountId()));
+        }
+
+        List<BatchOperationsResult.Item> items = new ArrayList<>(cmd.items().size());
+        List<Operation> accepted = new ArrayList<>(cmd.items().size());
+        for (int i = 0; i < cmd.items().size(); i++) {
+            BatchOperationsCommand.Item item = cmd.items().get(i);
+            if (item == null || item.type() == null || item.amount() == null) {
+                items.add(new BatchOperationsResult.Item(i, null, "Operation type and amount are required"));
+                continue;
+            }
+            try {
+                OperationOutcome outcome = item.type() == Operation.Type.DEPOSIT
+                        ? account.tryDeposit(item.amount())
+                        : account.tryWithdraw(item.amount());
+                if (outcome instanceof OperationRejected rejected) {
+                    items.add(new BatchOperationsResult.Item(i, null, rejected.message()));
+                } else {
+                    Operation operation = ((OperationAccepted) outcome).operation();
+                    accepted.add(operation);
+                    items.add(new BatchOperationsResult.Item(i, operation, null));
+                }
+            } catch (BusinessRuleViolationException e) {
+                items.add(new BatchOperationsResult.Item(i, null, e.getMessage()));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            accountRepository.save(account);
+            operationRepository.saveAll(accepted);
+            operationOutbox.appendAll(accepted);
+            accountViewCache.put(AccountView.of(account));
+        }
+        return new BatchOperationsResult(account.getId(), account.getBalance(), items);
+    }
+}
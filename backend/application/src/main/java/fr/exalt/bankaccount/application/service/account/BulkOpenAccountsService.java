@@ -0,0 +1,100 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenOutcome;
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenRow;
+import fr.exalt.bankaccount.application.port.in.BulkOpenAccountsUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.exception.DomainException;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Ouverture de comptes en masse (migrations clients).
+ * <p>
+ * Chaque ligne passe par {@link Account#openCurrent} / {@link Account#openSavings} ; les comptes valides
+ * sont insérés par tronçons de {@code chunkSize}, une transaction et un batch d'INSERT par tronçon.
+ * Une ligne refusée ne concerne qu'elle-même. Les identifiants sont rendus tronçon par tronçon,
+ * sans attendre la fin du flux. Un tronçon dont l'écriture échoue est annulé : chacune de ses lignes
+ * est rendue en refus, et le flux continue avec le tronçon suivant.
+ * </p>
+ */
+public class BulkOpenAccountsService implements BulkOpenAccountsUseCase {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    static final String CHUNK_FAILED = "Account could not be saved, its chunk was rolled back";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRunner transactionRunner;
+    private final int chunkSize;
+    private final Clock clock;
+
+    public BulkOpenAccountsService(AccountRepository accountRepository, TransactionRunner transactionRunner,
+                                   int chunkSize, Clock clock) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        this.accountRepository = accountRepository;
+        this.transactionRunner = transactionRunner;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public void handle(Iterator<BulkOpenRow> rows, Consumer<BulkOpenOutcome> results) {
+        Objects.requireNonNull(rows, "Rows must not be null");
+        Objects.requireNonNull(results, "Results must not be null");
+
+        List<BulkOpenOutcome> outcomes = new ArrayList<>(chunkSize);
+        List<Account> accounts = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            outcomes.add(open(rows.next(), accounts));
+            if (outcomes.size() == chunkSize) {
+                flush(accounts, outcomes, results);
+            }
+        }
+        flush(accounts, outcomes, results);
+    }
+
+    private BulkOpenOutcome open(BulkOpenRow row, List<Account> accounts) {
+        if (row instanceof BulkOpenRow.Malformed malformed) {
+            return new BulkOpenOutcome(row.index(), null, malformed.reason());
+        }
+        try {
+            // La règle (découvert <= 0, plafond > 0) est vérifiée dans le domaine
+            Account account = row instanceof BulkOpenRow.Current current
+                    ? Account.openCurrent(current.overdraft(), clock)
+                    : Account.openSavings(((BulkOpenRow.Savings) row).ceiling(), clock);
+            accounts.add(account);
+            return new BulkOpenOutcome(row.index(), account.getId(), null);
+        } catch (DomainException e) {
+            return new BulkOpenOutcome(row.index(), null, e.getMessage());
+        }
+    }
+
+    private void flush(List<Account> accounts, List<BulkOpenOutcome> outcomes, Consumer<BulkOpenOutcome> results) {
+        boolean saved = true;
+        if (!accounts.isEmpty()) {
+            try {
+                transactionRunner.inTransaction(() -> {
+                    accountRepository.insertAll(accounts);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                // Réponse déjà commencée : l'échec est rendu ligne par ligne, comme un refus
+                saved = false;
+            }
+        }
+        // Identifiants rendus seulement une fois le tronçon validé
+        for (BulkOpenOutcome outcome : outcomes) {
+            results.accept(saved || !outcome.opened() ? outcome : new BulkOpenOutcome(outcome.index(), null, CHUNK_FAILED));
+        }
+        accounts.clear();
+        outcomes.clear();
+    }
+}
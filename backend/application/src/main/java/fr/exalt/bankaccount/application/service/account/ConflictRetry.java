@@ -0,0 +1,67 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.port.out.RetryMetrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Rejoue une commande (chargement → règle métier → sauvegarde) lorsque la sauvegarde échoue
+ * sur un conflit de version.
+ * <p>
+ * Le nombre de tentatives est borné. Entre deux tentatives, l'attente est tirée au hasard entre 0 et
+ * {@code baseBackoff × 2^(tentative-1)} (« full jitter ») pour désynchroniser les écrivains concurrents
+ * d'un même compte. Au-delà, le conflit est remonté tel quel.
+ * </p>
+ */
+public final class ConflictRetry {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_BASE_BACKOFF = Duration.ofMillis(5);
+
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final RetryMetrics metrics;
+
+    public ConflictRetry(int maxAttempts, Duration baseBackoff, RetryMetrics metrics) {
+        if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be >= 1");
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = Objects.requireNonNull(baseBackoff, "baseBackoff").toMillis();
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    public static ConflictRetry defaults() {
+        return new ConflictRetry(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_BACKOFF, RetryMetrics.noop());
+    }
+
+    public <T> T run(String operation, Supplier<T> command) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return command.get();
+            } catch (AccountConcurrentUpdateApplicationException conflict) {
+                if (attempt >= maxAttempts) {
+                    metrics.exhausted(operation);
+                    throw conflict;
+                }
+                metrics.retried(operation);
+                pause(attempt, conflict);
+            }
+        }
+    }
+
+    private void pause(int attempt, AccountConcurrentUpdateApplicationException conflict) {
+        long bound = baseBackoffMillis << (attempt - 1);
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
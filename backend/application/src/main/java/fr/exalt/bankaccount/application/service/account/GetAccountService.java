@@ -0,0 +1,67 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.in.GetAccountUseCase;
+import fr.exalt.bankaccount.application.port.in.GetAccountsUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.AccountViewReader;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Lecture de comptes à travers le cache : la base n'est interrogée que pour les comptes absents du cache,
+ * en une seule requête pour une lecture groupée, et sans réhydrater les agrégats.
+ */
+public class GetAccountService implements GetAccountUseCase, GetAccountsUseCase {
+
+    public static final int MAX_IDS = 200;
+
+    private final AccountViewReader accountViewReader;
+    private final AccountViewCache cache;
+
+    public GetAccountService(AccountViewReader accountViewReader, AccountViewCache cache) {
+        this.accountViewReader = accountViewReader;
+        this.cache = cache;
+    }
+
+    @Override
+    public AccountView handle(AccountId accountId) {
+        Objects.requireNonNull(accountId, "AccountId must no be null");
+        return cache.getOrLoad(accountId, this::load);
+    }
+
+    @Override
+    public List<AccountView> handle(Collection<AccountId> accountIds) {
+        Objects.requireNonNull(accountIds, "AccountIds must not be null");
+        Set<AccountId> distinct = new LinkedHashSet<>(accountIds);
+        if (distinct.isEmpty() || distinct.size() > MAX_IDS) {
+            throw new BusinessRuleViolationException("A lookup must contain between 1 and %d accounts".formatted(MAX_IDS));
+        }
+        distinct.forEach(accountId -> Objects.requireNonNull(accountId, "AccountId must no be null"));
+
+        Map<AccountId, AccountView> found = cache.getAllOrLoad(distinct, accountViewReader::findAllViews);
+        List<AccountView> views = new ArrayList<>(found.size());
+        for (AccountId accountId : distinct) {
+            AccountView view = found.get(accountId);
+            if (view != null) views.add(view);
+        }
+        return views;
+    }
+
+    private AccountView load(AccountId accountId) {
+        AccountView view = accountViewReader.findAllViews(List.of(accountId)).get(accountId);
+        if (view == null) {
+            throw new AccountNotFoundApplicationException("Account %s not found".formatted(accountId));
+        }
+        return view;
+    }
+}
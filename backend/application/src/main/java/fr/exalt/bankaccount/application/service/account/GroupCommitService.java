@@ -0,0 +1,329 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.DepositResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawResult;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Validation groupée (group commit) des dépôts et retraits.
+ * <p>
+ * Les commandes reçues dans une fenêtre courte (par défaut 2 ms ou 256 commandes) sont appliquées
+ * par un thread unique dans une seule transaction : chargement groupé des comptes, règles du domaine
+ * appliquées dans l'ordre d'arrivée, puis écriture groupée des soldes, des opérations et de leurs
+ * événements (boîte d'envoi). Une seule
+ * validation (et un seul fsync) pour tout le groupe.
+ * </p>
+ * Chaque appelant reçoit son propre résultat :
+ * <ul>
+ *   <li>un refus métier ou une commande invalide ne concerne que sa commande ;</li>
+ *   <li>si la transaction du groupe échoue (conflit de version, erreur SQL), chaque commande est rejouée
+ *   seule par le service classique, pour que l'échec reste isolé à la commande fautive.</li>
+ * </ul>
+ * L'attente d'un appelant est bornée : une commande encore en file à l'échéance en est retirée
+ * (contre-pression, rien n'a été écrit) ; une commande déjà prise par un groupe a une issue inconnue.
+ */
+public class GroupCommitService implements DepositUseCase, WithdrawUseCase, AutoCloseable {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+    public static final int DEFAULT_MAX_BATCH = 256;
+    public static final Duration DEFAULT_RESULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final TransactionRunner transactionRunner;
+    private final DepositUseCase depositAlone;
+    private final WithdrawUseCase withdrawAlone;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final AccountViewCache accountViewCache;
+    private final OperationOutbox operationOutbox;
+    private final long resultTimeoutNanos;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    // Garde la file et l'état ensemble : aucune commande n'entre après l'arrêt
+    private final Object stateLock = new Object();
+    private volatile boolean running = true;
+
+    /**
+     * @param depositAlone  service transactionnel utilisé pour rejouer une commande seule
+     * @param withdrawAlone idem pour les retraits
+     */
+    public GroupCommitService(AccountRepository accountRepository,
+                              OperationRepository operationRepository,
+                              TransactionRunner transactionRunner,
+                              DepositUseCase depositAlone,
+                              WithdrawUseCase withdrawAlone,
+                              Duration window,
+                              int maxBatch,
+                              AccountViewCache accountViewCache,
+                              OperationOutbox operationOutbox,
+                              Duration resultTimeout) {
+        if (window == null || window.isNegative()) throw new IllegalArgumentException("window must be >= 0");
+        if (maxBatch < 1) throw new IllegalArgumentException("maxBatch must be >= 1");
+        if (resultTimeout == null || resultTimeout.isNegative() || resultTimeout.isZero()) {
+            throw new IllegalArgumentException("resultTimeout must be > 0");
+        }
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.transactionRunner = transactionRunner;
+        this.depositAlone = depositAlone;
+        this.withdrawAlone = withdrawAlone;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+        this.accountViewCache = accountViewCache;
+        this.operationOutbox = operationOutbox;
+        this.resultTimeoutNanos = resultTimeout.toNanos();
+
+        this.worker = new Thread(this::runLoop, "group-commit");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // ---------- Use cases ----------
+
+    @Override
+    public DepositResult handle(DepositCommand cmd) {
+        return (DepositResult) orThrow(tryHandle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(DepositCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.deposit(), "Deposit must not be null");
+        return submit(new Pending(cmd.accountId(), cmd.deposit(), Operation.Type.DEPOSIT));
+    }
+
+    @Override
+    public WithdrawResult handle(WithdrawCommand cmd) {
+        return (WithdrawResult) orThrow(tryHandle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(WithdrawCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.withdraw(), "Withdraw must not be null");
+        return submit(new Pending(cmd.accountId(), cmd.withdraw(), Operation.Type.WITHDRAWAL));
+    }
+
+    /** Arrête le thread après avoir traité les commandes déjà reçues. */
+    @Override
+    public void close() throws InterruptedException {
+        stop();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void stop() {
+        synchronized (stateLock) {
+            running = false;
+        }
+    }
+
+    private OperationAttempt submit(Pending pending) {
+        // Sous le verrou : le thread ne peut pas finir sa vidange finale entre le test et l'ajout
+        synchronized (stateLock) {
+            if (!running) {
+                throw new IllegalStateException("Group commit stage is closed");
+            }
+            queue.add(pending);
+        }
+        try {
+            return pending.result.get(resultTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // On relance l'exception d'origine (règle métier, compte absent...) sur le thread appelant
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                throw new CommandQueueFullApplicationException(
+                        "Group commit stage did not take the command within %d ms".formatted(
+                                TimeUnit.NANOSECONDS.toMillis(resultTimeoutNanos)));
+            }
+            throw new IllegalStateException("Group commit outcome unknown after %d ms".formatted(
+                    TimeUnit.NANOSECONDS.toMillis(resultTimeoutNanos)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the group commit", e);
+        }
+    }
+
+    private static OperationAttempt orThrow(OperationAttempt attempt) {
+        if (attempt instanceof OperationRejection rejection) {
+            throw rejection.rejected().toException();
+        }
+        return attempt;
+    }
+
+    // ---------- Thread de validation ----------
+
+    private void runLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop();
+            } catch (RuntimeException | Error e) {
+                // Ne jamais laisser un appelant bloqué
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        Pending left;
+        while ((left = queue.poll()) != null) {
+            left.result.completeExceptionally(new IllegalStateException("Group commit stage is closed"));
+        }
+    }
+
+    /** Complète le groupe jusqu'à la fin de la fenêtre ou à la taille maximale. */
+    private void collect(List<Pending> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) return;
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionRunner.inTransaction(() -> applyGroup(batch));
+        } catch (RuntimeException groupFailure) {
+            // Transaction du groupe annulée : chaque commande est rejouée seule
+            batch.forEach(this::replayAlone);
+            return;
+        }
+        // Résultats publiés après la validation seulement
+        for (int i = 0; i < batch.size(); i++) {
+            outcomes.get(i).completeTo(batch.get(i).result);
+        }
+    }
+
+    private List<Outcome> applyGroup(List<Pending> batch) {
+        Set<AccountId> ids = new LinkedHashSet<>();
+        batch.forEach(pending -> ids.add(pending.accountId));
+        Map<AccountId, Account> accounts = accountRepository.findAllById(ids);
+
+        Map<AccountId, Account> touched = new LinkedHashMap<>();
+        List<Operation> operations = new ArrayList<>(batch.size());
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+
+        for (Pending pending : batch) {
+            Account account = accounts.get(pending.accountId);
+            if (account == null) {
+                outcomes.add(Outcome.failed(
+                        new AccountNotFoundApplicationException("Account %s not found".formatted(pending.accountId))));
+                continue;
+            }
+            try {
+                // Plusieurs commandes sur un même compte s'enchaînent sur la même instance
+                OperationOutcome outcome = pending.type == Operation.Type.DEPOSIT
+                        ? account.tryDeposit(pending.amount)
+                        : account.tryWithdraw(pending.amount);
+                if (outcome instanceof OperationRejected rejected) {
+                    outcomes.add(Outcome.of(new OperationRejection(account.getId(), rejected)));
+                    continue;
+                }
+                Operation operation = ((OperationAccepted) outcome).operation();
+                operations.add(operation);
+                touched.put(account.getId(), account);
+                outcomes.add(Outcome.of(pending.type == Operation.Type.DEPOSIT
+                        ? new DepositResult(account.getId(), account.getBalance(), operation)
+                        : new WithdrawResult(account.getId(), account.getBalance(), operation)));
+            } catch (RuntimeException e) {
+                // Commande invalide : le compte n'a pas été modifié
+                outcomes.add(Outcome.failed(e));
+            }
+        }
+
+        accountRepository.saveAll(touched.values());
+        operationRepository.saveAll(operations);
+        operationOutbox.appendAll(operations);
+        touched.values().forEach(account -> accountViewCache.put(AccountView.of(account)));
+        return outcomes;
+    }
+
+    private void replayAlone(Pending pending) {
+        try {
+            OperationAttempt attempt = pending.type == Operation.Type.DEPOSIT
+                    ? depositAlone.tryHandle(new DepositCommand(pending.accountId, pending.amount))
+                    : withdrawAlone.tryHandle(new WithdrawCommand(pending.accountId, pending.amount));
+            pending.result.complete(attempt);
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class Pending {
+        final AccountId accountId;
+        final Money amount;
+        final Operation.Type type;
+        final CompletableFuture<OperationAttempt> result = new CompletableFuture<>();
+
+        Pending(AccountId accountId, Money amount, Operation.Type type) {
+            this.accountId = accountId;
+            this.amount = amount;
+            this.type = type;
+        }
+    }
+
+    private record Outcome(OperationAttempt attempt, RuntimeException failure) {
+        static Outcome of(OperationAttempt attempt) { return new Outcome(attempt, null); }
+        static Outcome failed(RuntimeException failure) { return new Outcome(null, failure); }
+
+        void completeTo(CompletableFuture<OperationAttempt> result) {
+            if (failure != null) result.completeExceptionally(failure);
+            else result.complete(attempt);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.DepositResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawResult;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.GuardedBalanceWriter;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Variante de {@link DepositService} / {@link WithdrawService} sans lecture-modification-écriture :
+ * le mouvement est appliqué par une instruction gardée ({@link GuardedBalanceWriter}).
+ * <p>
+ * Le domaine reste la référence : si la garde refuse, le compte est rechargé et la règle est rejouée
+ * par {@link Account#tryDeposit(Money)} ou {@link Account#tryWithdraw(Money)} pour construire le refus.
+ * Si le domaine accepte (le solde a bougé entre les deux), la commande est rejouée, dans une nouvelle
+ * transaction.
+ * </p>
+ */
+public class GuardedOperationService implements DepositUseCase, WithdrawUseCase {
+    private final GuardedBalanceWriter balanceWriter;
+    private final AccountRepository accountRepository;
+    private final TransactionRunner transactionRunner;
+    private final ConflictRetry conflictRetry;
+    private final AccountViewCache accountViewCache;
+    private final OperationOutbox operationOutbox;
+
+    public GuardedOperationService(GuardedBalanceWriter balanceWriter, AccountRepository accountRepository,
+                                   ConflictRetry conflictRetry) {
+        this(balanceWriter, accountRepository, conflictRetry, AccountViewCache.noop());
+    }
+
+    public GuardedOperationService(GuardedBalanceWriter balanceWriter, AccountRepository accountRepository,
+                                   ConflictRetry conflictRetry, AccountViewCache accountViewCache) {
+        this(balanceWriter, accountRepository, TransactionRunner.noop(), conflictRetry, accountViewCache);
+    }
+
+    public GuardedOperationService(GuardedBalanceWriter balanceWriter, AccountRepository accountRepository,
+                                   TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                                   AccountViewCache accountViewCache) {
+        this(balanceWriter, accountRepository, transactionRunner, conflictRetry, accountViewCache, OperationOutbox.noop());
+    }
+
+    public GuardedOperationService(GuardedBalanceWriter balanceWriter, AccountRepository accountRepository,
+                                   TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                                   AccountViewCache accountViewCache, OperationOutbox operationOutbox) {
+        this.balanceWriter = balanceWriter;
+        this.accountRepository = accountRepository;
+        this.transactionRunner = transactionRunner;
+        this.conflictRetry = conflictRetry;
+        this.accountViewCache = accountViewCache;
+        this.operationOutbox = operationOutbox;
+    }
+
+    @Override
+    public DepositResult handle(DepositCommand cmd) {
+        return (DepositResult) orThrow(tryHandle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(DepositCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.deposit(), "Deposit must not be null");
+        return conflictRetry.run("deposit", () -> transactionRunner.inTransaction(
+                () -> tryHandleOnce(cmd.accountId(), cmd.deposit(), Operation.Type.DEPOSIT)));
+    }
+
+    @Override
+    public WithdrawResult handle(WithdrawCommand cmd) {
+        return (WithdrawResult) orThrow(tryHandle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(WithdrawCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.withdraw(), "Withdraw must not be null");
+        return conflictRetry.run("withdraw", () -> transactionRunner.inTransaction(
+                () -> tryHandleOnce(cmd.accountId(), cmd.withdraw(), Operation.Type.WITHDRAWAL)));
+    }
+
+    private OperationAttempt tryHandleOnce(AccountId accountId, Money amount, Operation.Type type) {
+        boolean deposit = type == Operation.Type.DEPOSIT;
+        Operation operation = deposit
+                ? Account.prepareDeposit(accountId, amount)
+                : Account.prepareWithdrawal(accountId, amount);
+
+        Optional<Money> balance = balanceWriter.apply(operation);
+        if (balance.isPresent()) {
+            // Événement écrit dans la transaction de l'instruction gardée
+            operationOutbox.append(operation);
+            // Nouvelle version inconnue ici : la prochaine lecture recharge le compte
+            accountViewCache.invalidate(accountId);
+            return deposit
+                    ? new DepositResult(accountId, balance.get(), operation)
+                    : new WithdrawResult(accountId, balance.get(), operation);
+        }
+
+        // Garde refusée (ou compte absent) : le domaine tranche sur l'état relu
+        Account account = accountRepository.findById(accountId);
+        OperationOutcome outcome = deposit ? account.tryDeposit(amount) : account.tryWithdraw(amount);
+        if (outcome instanceof OperationRejected rejected) {
+            return new OperationRejection(account.getId(), rejected);
+        }
+        throw new AccountConcurrentUpdateApplicationException(
+                "Account %s changed between guarded %s and rule check"
+                        .formatted(accountId, deposit ? "deposit" : "withdraw"));
+    }
+
+    private static OperationAttempt orThrow(OperationAttempt attempt) {
+        if (attempt instanceof OperationRejection rejection) {
+            throw rejection.rejected().toException();
+        }
+        return attempt;
+    }
+}
@@ -0,0 +1,477 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.DepositResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawResult;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.CommandJournal;
+import fr.exalt.bankaccount.application.port.out.LedgerStore;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moteur de comptes en mémoire, sur le modèle LMAX : tampon circulaire pré-alloué,
+ * journal séquentiel, un seul thread métier, écriture en base asynchrone.
+ * <p>
+ * Chemin d'une commande :
+ * <ol>
+ *   <li>thread appelant : validation du montant, création de l'opération (identifiant, horodatage),
+ *   publication dans le tampon circulaire ;</li>
+ *   <li>thread journal : écriture séquentielle des entrées publiées, puis {@link CommandJournal#flush()} par lot ;</li>
+ *   <li>thread métier : application des entrées journalisées aux agrégats {@link Account} en mémoire,
+ *   réponse à l'appelant ;</li>
+ *   <li>thread de persistance : soldes, opérations, événements (boîte d'envoi) et point de reprise écrits
+ *   par lots dans une transaction.</li>
+ * </ol>
+ * L'appelant attend donc le journal local, pas la validation en base.
+ * </p>
+ * Au démarrage, les comptes sont relus en base (état au dernier point de reprise) et les entrées
+ * postérieures du journal sont rejouées, écrites en base, puis le journal est vidé. En marche, le thread
+ * journal retire les entrées déjà en base dès qu'elles représentent huit tours
+ * de tampon ; un arrêt propre, tout étant écrit en base, vide le journal.
+ * Le moteur est le seul écrivain des soldes : les autres modes de dépôt / retrait doivent être inactifs.
+ * <p>
+ * Si le journal devient inutilisable (disque plein…), le moteur passe en échec : les commandes publiées
+ * mais non journalisées échouent, les nouvelles sont refusées. L'issue des commandes échouées est
+ * indéterminée (une entrée a pu atteindre le disque et sera rejouée au redémarrage).
+ * De même, un lot que la base refuse {@code persistAttempts} fois de suite met le moteur en échec ;
+ * les entrées non écrites restent dans le journal et sont rejouées au redémarrage.
+ * </p>
+ */
+public class LedgerEngine implements DepositUseCase, WithdrawUseCase, AutoCloseable {
+
+    public static final int DEFAULT_RING_SIZE = 8192;
+    public static final int DEFAULT_PERSIST_ATTEMPTS = 50;   // ≈ 10 s de base indisponible
+
+    private static final int PERSIST_BATCH = 1024;
+    private static final int JOURNAL_RING_TURNS = 8;
+    private static final int PERSIST_RING_TURNS = 8;          // écritures en attente : 8 tours d'anneau
+    private static final long PERSIST_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final LedgerStore ledgerStore;
+    private final TransactionRunner transactionRunner;
+    private final CommandJournal journal;
+    private final OperationOutbox operationOutbox;
+    private final int persistAttempts;
+
+    // ---- Tampon circulaire : emplacements pré-alloués, réutilisés
+    private final Slot[] ring;
+    private final int mask;
+    private final Object publishLock = new Object();
+    private long claimed;                        // sous publishLock
+    private volatile long published;             // dernière séquence publiée
+    private volatile long journaled;             // dernière séquence journalisée
+    private volatile long processed;             // dernière séquence appliquée
+    private volatile long persistedUpTo;         // dernier point de reprise écrit en base
+
+    // ---- État du thread métier
+    private final Map<AccountId, Account> accounts = new HashMap<>();
+    private final BlockingQueue<Applied> toPersist;
+
+    private final Thread journalThread;
+    private final Thread businessThread;
+    private final Thread persistThread;
+    private volatile boolean running = true;
+    private volatile boolean persisting = true;
+    private volatile boolean journalFailed;
+    private volatile boolean persistStopped;
+    private volatile RuntimeException failure;   // première panne fatale, les commandes sont alors refusées
+
+    public LedgerEngine(AccountRepository accountRepository,
+                        OperationRepository operationRepository,
+                        LedgerStore ledgerStore,
+                        TransactionRunner transactionRunner,
+                        CommandJournal journal,
+                        int ringSize,
+                        OperationOutbox operationOutbox,
+                        int persistAttempts) {
+        if (ringSize < 2 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("ringSize must be a power of two");
+        }
+        if (persistAttempts < 1) {
+            throw new IllegalArgumentException("persistAttempts must be at least 1");
+        }
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.ledgerStore = ledgerStore;
+        this.transactionRunner = transactionRunner;
+        this.journal = journal;
+        this.operationOutbox = operationOutbox;
+        this.persistAttempts = persistAttempts;
+        this.ring = new Slot[ringSize];
+        this.mask = ringSize - 1;
+        for (int i = 0; i < ringSize; i++) {
+            ring[i] = new Slot();
+        }
+        this.toPersist = new ArrayBlockingQueue<>(ringSize * PERSIST_RING_TURNS);
+
+        long last = recover();
+        this.claimed = last;
+        this.published = last;
+        this.journaled = last;
+        this.processed = last;
+        this.persistedUpTo = last;
+
+        this.journalThread = start("ledger-journal", this::journalLoop);
+        this.businessThread = start("ledger-business", this::businessLoop);
+        this.persistThread = start("ledger-persist", this::persistLoop);
+    }
+
+    // ---------- Use cases ----------
+
+    @Override
+    public DepositResult handle(DepositCommand cmd) {
+        return (DepositResult) orThrow(tryHandle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(DepositCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.deposit(), "Deposit must not be null");
+        return submit(Account.prepareDeposit(cmd.accountId(), cmd.deposit()));
+    }
+
+    @Override
+    public WithdrawResult handle(WithdrawCommand cmd) {
+        return (WithdrawResult) orThrow(tryHandle(cmd));
+    }
+
+    @Override
+    public OperationAttempt tryHandle(WithdrawCommand cmd) {
+        Objects.requireNonNull(cmd, "Command must not be null");
+        Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
+        Objects.requireNonNull(cmd.withdraw(), "Withdraw must not be null");
+        return submit(Account.prepareWithdrawal(cmd.accountId(), cmd.withdraw()));
+    }
+
+    /**
+     * Arrêt propre : les commandes publiées sont journalisées, appliquées et écrites en base
+     * avant la fermeture du journal, alors vidé. Si l'écriture en base a échoué, le journal est conservé
+     * pour le rejeu.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (publishLock) {
+            running = false;
+        }
+        journalThread.join();
+        businessThread.join();
+        persisting = false;
+        persistThread.join();
+        if (failure == null && persistedUpTo == processed) {
+            journal.truncate();
+        }
+        journal.close();
+    }
+
+    private OperationAttempt submit(Operation operation) {
+        CompletableFuture<OperationAttempt> result = new CompletableFuture<>();
+        synchronized (publishLock) {
+            rejectIfFailed();
+            if (!running) {
+                throw new IllegalStateException("Ledger engine is closed");
+            }
+            long sequence = ++claimed;
+            // Tampon plein : on attend que le thread métier libère l'emplacement (contre-pression)
+            for (int idle = 0; sequence - ring.length > processed; idle++) {
+                if (failure != null) {
+                    claimed = sequence - 1;
+                    rejectIfFailed();
+                }
+                idle(idle);
+            }
+            Slot slot = ring[(int) sequence & mask];
+            slot.operation = operation;
+            slot.result = result;
+            published = sequence;
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void rejectIfFailed() {
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Ledger engine has failed", cause);
+        }
+    }
+
+    private static OperationAttempt orThrow(OperationAttempt attempt) {
+        if (attempt instanceof OperationRejection rejection) {
+            throw rejection.rejected().toException();
+        }
+        return attempt;
+    }
+
+    // ---------- Threads ----------
+
+    private void journalLoop() {
+        long compactEvery = (long) ring.length * JOURNAL_RING_TURNS;
+        long compactedUpTo = journaled;
+        try {
+            for (int idle = 0; running || journaled < published; ) {
+                long available = published;
+                long next = journaled + 1;
+                if (available < next) {
+                    idle(idle++);
+                    continue;
+                }
+                for (long sequence = next; sequence <= available; sequence++) {
+                    journal.append(new CommandJournal.Entry(sequence, ring[(int) sequence & mask].operation));
+                }
+                journal.flush();
+                journaled = available;
+                idle = 0;
+                // Journal borné : on retire les entrées déjà en base, par paquets
+                long checkpoint = persistedUpTo;
+                if (checkpoint - compactedUpTo >= compactEvery) {
+                    journal.compact(checkpoint);
+                    compactedUpTo = checkpoint;
+                }
+            }
+        } catch (RuntimeException e) {
+            failJournal(e);
+        }
+    }
+
+    /**
+     * Journal inutilisable : le moteur refuse toute nouvelle commande et les commandes publiées mais
+     * non journalisées, que le thread métier n'appliquera jamais, échouent.
+     */
+    private void failJournal(RuntimeException cause) {
+        fail(cause);
+        long last;
+        synchronized (publishLock) {
+            last = published;
+        }
+        for (long sequence = journaled + 1; sequence <= last; sequence++) {
+            Slot slot = ring[(int) sequence & mask];
+            CompletableFuture<OperationAttempt> result = slot.result;
+            slot.operation = null;
+            slot.result = null;
+            result.completeExceptionally(new IllegalStateException("Ledger engine journal failed", cause));
+        }
+        journalFailed = true;
+    }
+
+    /** Panne fatale : les nouvelles commandes sont refusées, les threads terminent le travail possible. */
+    private void fail(RuntimeException cause) {
+        // Hors verrou d'abord : un appelant en contre-pression le détient et doit voir la panne
+        if (failure == null) failure = cause;
+        synchronized (publishLock) {
+            running = false;
+        }
+    }
+
+    private void businessLoop() {
+        // Journal en échec : les entrées au-delà de la dernière journalisée ne seront jamais appliquées
+        for (int idle = 0; running || processed < (journalFailed ? journaled : published); ) {
+            long available = journaled;
+            long next = processed + 1;
+            if (available < next) {
+                idle(idle++);
+                continue;
+            }
+            for (long sequence = next; sequence <= available; sequence++) {
+                Slot slot = ring[(int) sequence & mask];
+                Outcome outcome = apply(sequence, slot.operation);
+                CompletableFuture<OperationAttempt> result = slot.result;
+                slot.operation = null;
+                slot.result = null;
+                processed = sequence;
+                enqueue(outcome.applied);
+                if (outcome.failure != null) result.completeExceptionally(outcome.failure);
+                else result.complete(outcome.attempt);
+            }
+            idle = 0;
+        }
+    }
+
+    private void persistLoop() {
+        List<Applied> batch = new ArrayList<>(PERSIST_BATCH);
+        while (persisting || !toPersist.isEmpty()) {
+            try {
+                Applied first = toPersist.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                toPersist.drainTo(batch, PERSIST_BATCH - 1);
+                if (!persistWithRetry(batch)) {
+                    persistStopped = true;
+                    return;
+                }
+                persistedUpTo = batch.get(batch.size() - 1).sequence;
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Base indisponible : on conserve le lot et on réessaie, au plus {@code persistAttempts} fois,
+     * puis le moteur passe en échec. À l'arrêt on abandonne aussitôt. Dans les deux cas les entrées
+     * restent dans le journal et seront rejouées au redémarrage.
+     *
+     * @return {@code false} si le lot est abandonné
+     */
+    private boolean persistWithRetry(List<Applied> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                persist(batch);
+                return true;
+            } catch (RuntimeException e) {
+                if (!persisting) return false;
+                if (attempt >= persistAttempts) {
+                    fail(new IllegalStateException("Cannot persist ledger entries up to sequence %d after %d attempts"
+                            .formatted(batch.get(batch.size() - 1).sequence, attempt), e));
+                    return false;
+                }
+                LockSupport.parkNanos(PERSIST_RETRY_NANOS);
+            }
+        }
+    }
+
+    // ---------- Logique métier (thread métier, ou thread de démarrage pendant le rejeu) ----------
+
+    private Outcome apply(long sequence, Operation operation) {
+        AccountId accountId = operation.accountId();
+        try {
+            Account account = accounts.get(accountId);
+            if (account == null) {
+                // Compte jamais modifié par le moteur : la base est à jour
+                account = accountRepository.findById(accountId);
+                if (account == null) {
+                    throw new AccountNotFoundApplicationException("Account %s not found".formatted(accountId));
+                }
+                accounts.put(accountId, account);
+            }
+            OperationOutcome outcome = operation.type() == Operation.Type.DEPOSIT
+                    ? account.tryDeposit(operation.amount())
+                    : account.tryWithdraw(operation.amount());
+            if (outcome instanceof OperationRejected rejected) {
+                return new Outcome(new OperationRejection(accountId, rejected), null, Applied.skipped(sequence));
+            }
+            // Le domaine tranche et calcule le solde ; l'opération gardée est celle du journal
+            Money balance = account.getBalance();
+            OperationAttempt attempt = operation.type() == Operation.Type.DEPOSIT
+                    ? new DepositResult(accountId, balance, operation)
+                    : new WithdrawResult(accountId, balance, operation);
+            return new Outcome(attempt, null, new Applied(sequence, operation, balance));
+        } catch (RuntimeException e) {
+            return new Outcome(null, e, Applied.skipped(sequence));
+        }
+    }
+
+    private void enqueue(Applied applied) {
+        try {
+            // Persistance abandonnée : l'entrée reste dans le journal, rien ne viderait plus la file
+            while (!persistStopped) {
+                if (toPersist.offer(applied, 50, TimeUnit.MILLISECONDS)) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void persist(List<Applied> batch) {
+        Map<AccountId, Money> balances = new LinkedHashMap<>();
+        List<Operation> operations = new ArrayList<>(batch.size());
+        for (Applied applied : batch) {
+            if (applied.operation == null) continue;
+            // Lot dans l'ordre des séquences : le dernier solde d'un compte est le bon
+            balances.put(applied.operation.accountId(), applied.balance);
+            operations.add(applied.operation);
+        }
+        long checkpoint = batch.get(batch.size() - 1).sequence;
+        transactionRunner.inTransaction(() -> {
+            ledgerStore.saveBalances(balances);
+            operationRepository.saveAll(operations);
+            operationOutbox.appendAll(operations);
+            ledgerStore.saveCheckpoint(checkpoint);
+            return null;
+        });
+    }
+
+    /**
+     * Rejoue le journal au-delà du point de reprise, écrit le résultat en base et vide le journal
+     * (y compris des entrées déjà couvertes par le point de reprise, après un arrêt brutal).
+     *
+     * @return dernière séquence connue
+     */
+    private long recover() {
+        long checkpoint = ledgerStore.checkpoint();
+        List<Applied> replayed = new ArrayList<>();
+        journal.replay(checkpoint, entry -> replayed.add(apply(entry.sequence(), entry.operation()).applied));
+        long last = checkpoint;
+        if (!replayed.isEmpty()) {
+            try {
+                persist(replayed);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Cannot persist replayed journal entries after checkpoint " + checkpoint, e);
+            }
+            last = replayed.get(replayed.size() - 1).sequence;
+        }
+        journal.truncate();
+        return last;
+    }
+
+    private static Thread start(String name, Runnable loop) {
+        Thread thread = new Thread(loop, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /** Attente active courte, puis cession du cœur, puis mise en sommeil brève. */
+    private static void idle(int rounds) {
+        if (rounds < 100) Thread.onSpinWait();
+        else if (rounds < 200) Thread.yield();
+        else LockSupport.parkNanos(50_000);
+    }
+
+    private static final class Slot {
+        Operation operation;
+        CompletableFuture<OperationAttempt> result;
+    }
+
+    /** Effet d'une entrée à écrire en base ; {@code operation == null} pour un refus ou une erreur. */
+    private record Applied(long sequence, Operation operation, Money balance) {
+        static Applied skipped(long sequence) { return new Applied(sequence, null, null); }
+    }
+
+    private record Outcome(OperationAttempt attempt, RuntimeException failure, Applied applied) {}
+}
@@ -0,0 +1,53 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountPage;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.port.in.ListAccountsUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountListReader;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Liste paginée des comptes (outils de back-office), par position et non par numéro de page :
+ * chaque page reprend après le dernier compte de la précédente.
+ * <p>
+ * Un compte de plus que demandé est lu pour savoir s'il reste une page, sans {@code COUNT}.
+ * Les soldes sont ceux de la base, hors cache de lecture. Le solde n'étant pas indexé, un filtre de solde
+ * exige un type : il s'applique alors aux comptes parcourus dans l'index du type, pas à toute la table.
+ * </p>
+ */
+public class ListAccountsService implements ListAccountsUseCase {
+
+    public static final int MAX_LIMIT = 500;
+
+    private final AccountListReader accountListReader;
+
+    public ListAccountsService(AccountListReader accountListReader) {
+        this.accountListReader = accountListReader;
+    }
+
+    @Override
+    public AccountPage handle(AccountListQuery query) {
+        Objects.requireNonNull(query, "Query must not be null");
+        if (query.limit() < 1 || query.limit() > MAX_LIMIT) {
+            throw new BusinessRuleViolationException("Page size must be between 1 and %d".formatted(MAX_LIMIT));
+        }
+        if ((query.minBalance() != null || query.maxBalance() != null) && query.type() == null) {
+            throw new BusinessRuleViolationException("Balance filter requires an account type");
+        }
+        if (query.minBalance() != null && query.maxBalance() != null
+                && query.minBalance().isGreaterThan(query.maxBalance())) {
+            throw new BusinessRuleViolationException("Minimum balance must not exceed maximum balance");
+        }
+
+        List<AccountView> found = accountListReader.findPage(query.withLimit(query.limit() + 1));
+        if (found.size() <= query.limit()) {
+            return new AccountPage(found, null);
+        }
+        List<AccountView> page = found.subList(0, query.limit());
+        return new AccountPage(List.copyOf(page), page.get(page.size() - 1).accountId());
+    }
+}
@@ -0,0 +1,116 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommandsResult;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.port.in.ApplyOperationCommandsUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.ProcessedCommandStore;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lots de dépôts / retraits reçus d'un système amont (consommateur Kafka).
+ * <p>
+ * Un lot est appliqué dans une seule transaction : dédoublonnage sur l'identifiant de commande, chargement
+ * groupé des comptes, règles du domaine commande par commande (ordre du lot conservé pour chaque compte),
+ * puis écriture groupée des soldes, des opérations, de leurs événements et des commandes traitées.
+ * </p>
+ * Une commande refusée (règle métier, compte absent, solde hors capacité) est marquée traitée sans effet :
+ * rejouée, elle reste ignorée. Un échec technique annule le lot entier, qui peut être rejoué tel quel.
+ */
+public class OperationCommandsService implements ApplyOperationCommandsUseCase {
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final ProcessedCommandStore processedCommands;
+    private final TransactionRunner transactionRunner;
+    private final ConflictRetry conflictRetry;
+    private final AccountViewCache accountViewCache;
+    private final OperationOutbox operationOutbox;
+
+    public OperationCommandsService(AccountRepository accountRepository,
+                                    OperationRepository operationRepository,
+                                    ProcessedCommandStore processedCommands,
+                                    TransactionRunner transactionRunner,
+                                    ConflictRetry conflictRetry,
+                                    AccountViewCache accountViewCache,
+                                    OperationOutbox operationOutbox) {
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.processedCommands = processedCommands;
+        this.transactionRunner = transactionRunner;
+        this.conflictRetry = conflictRetry;
+        this.accountViewCache = accountViewCache;
+        this.operationOutbox = operationOutbox;
+    }
+
+    @Override
+    public OperationCommandsResult handle(List<OperationCommand> commands) {
+        Objects.requireNonNull(commands, "Commands must not be null");
+        if (commands.isEmpty()) return new OperationCommandsResult(0, 0, 0);
+        // Conflit de version avec une écriture concurrente (REST) : le lot est rejoué sur les comptes rechargés
+        return conflictRetry.run("commands", () -> transactionRunner.inTransaction(() -> apply(commands)));
+    }
+
+    private OperationCommandsResult apply(List<OperationCommand> commands) {
+        // Doublons dans le lot puis déjà traités en base : seule la première occurrence compte
+        Map<UUID, OperationCommand> unique = new LinkedHashMap<>();
+        commands.forEach(command -> unique.putIfAbsent(command.commandId(), command));
+        Set<UUID> processed = processedCommands.findProcessed(unique.keySet());
+        unique.keySet().removeAll(processed);
+        int duplicates = commands.size() - unique.size();
+        if (unique.isEmpty()) return new OperationCommandsResult(0, 0, duplicates);
+
+        Map<AccountId, List<OperationCommand>> byAccount = new LinkedHashMap<>();
+        for (OperationCommand command : unique.values()) {
+            byAccount.computeIfAbsent(command.accountId(), id -> new ArrayList<>()).add(command);
+        }
+        Map<AccountId, Account> accounts = accountRepository.findAllById(byAccount.keySet());
+
+        List<Account> touched = new ArrayList<>(accounts.size());
+        List<Operation> operations = new ArrayList<>(unique.size());
+        byAccount.forEach((accountId, accountCommands) -> {
+            Account account = accounts.get(accountId);
+            if (account == null) return;
+            int before = operations.size();
+            for (OperationCommand command : accountCommands) {
+                try {
+                    OperationOutcome outcome = command.type() == Operation.Type.DEPOSIT
+                            ? account.tryDeposit(command.amount())
+                            : account.tryWithdraw(command.amount());
+                    if (outcome instanceof OperationAccepted accepted) {
+                        operations.add(accepted.operation());
+                    }
+                } catch (BusinessRuleViolationException | ArithmeticException e) {
+                    // Montant invalide ou solde hors capacité (dépassement) : refusée comme les autres règles
+                    // métier ; rejouée, elle échouerait à l'identique et bloquerait la partition
+                }
+            }
+            if (operations.size() > before) touched.add(account);
+        });
+
+        accountRepository.saveAll(touched);
+        operationRepository.saveAll(operations);
+        operationOutbox.appendAll(operations);
+        processedCommands.saveAll(unique.keySet());
+        touched.forEach(account -> accountViewCache.put(AccountView.of(account)));
+        return new OperationCommandsResult(operations.size(), unique.size() - operations.size(), duplicates);
+    }
+}
@@ -1,28 +1,74 @@
 package fr.exalt.bankaccount.application.service.account;
 
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
 import fr.exalt.bankaccount.application.port.out.AccountRepository;
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawResult;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
-import jakarta.transaction.Transactional;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
 
 import java.util.Objects;
 
-@Transactional
 public class WithdrawService implements WithdrawUseCase {
     private final AccountRepository accountRepository;
     private final OperationRepository operationRepository;
+    private final TransactionRunner transactionRunner;
+    private final ConflictRetry conflictRetry;
+    private final AccountViewCache accountViewCache;
+    private final OperationOutbox operationOutbox;
 
-    public WithdrawService(AccountRepository accountRepository, OperationRepository operationRepository) {
+    public WithdrawService(AccountRepository accountRepository, OperationRepository operationRepository,
+                           TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                           AccountViewCache accountViewCache, OperationOutbox operationOutbox) {
         this.accountRepository = accountRepository;
         this.operationRepository = operationRepository;
+        this.transactionRunner = transactionRunner;
+        this.conflictRetry = conflictRetry;
+        this.accountViewCache = accountViewCache;
+        this.operationOutbox = operationOutbox;
     }
 
     public WithdrawResult handle(WithdrawCommand cmd) {
+        // Conflit de version à la sauvegarde : on recharge le compte et on rejoue la commande,
+        // chaque tentative dans sa propre transaction (attente entre deux tentatives hors transaction)
+        return conflictRetry.run("withdraw", () -> transactionRunner.inTransaction(() -> handleOnce(cmd)));
+    }
+
+    public OperationAttempt tryHandle(WithdrawCommand cmd) {
+        return conflictRetry.run("withdraw", () -> transactionRunner.inTransaction(() -> tryHandleOnce(cmd)));
+    }
+
+    private WithdrawResult handleOnce(WithdrawCommand cmd) {
+        Account account = load(cmd);
+
+        // On délègue la règle métier au domaine (montant > 0 etc...)
+        Operation operation = account.withdraw(cmd.withdraw());
+        return persist(account, operation);
+    }
+
+    private OperationAttempt tryHandleOnce(WithdrawCommand cmd) {
+        Account account = load(cmd);
+
+        // Refus métier retourné comme valeur : rien n'est persisté
+        OperationOutcome outcome = account.tryWithdraw(cmd.withdraw());
+        if (outcome instanceof OperationRejected rejected) {
+            return new OperationRejection(account.getId(), rejected);
+        }
+        return persist(account, ((OperationAccepted) outcome).operation());
+    }
+
+    private Account load(WithdrawCommand cmd) {
         Objects.requireNonNull(cmd, "Command must not be null");
         Objects.requireNonNull(cmd.accountId(), "AccountId must no be null");
         Objects.requireNonNull(cmd.withdraw(), "Deposit must not be null");
@@ -31,11 +77,16 @@ public class WithdrawService implements WithdrawUseCase {
         if (account == null) {
             throw new AccountNotFoundApplicationException("Account %s not found".formatted(cmd.accountId()));
         }
+        return account;
+    }
 
-        // On délègue la règle métier au domaine (montant > 0 etc...)
-        Operation operation = account.withdraw(cmd.withdraw());
+    private WithdrawResult persist(Account account, Operation operation) {
         accountRepository.save(account);
         operationRepository.save(operation);
+        // Événement écrit dans la même transaction, publié ensuite par le relais
+        operationOutbox.append(operation);
+        // Nouveau solde visible en lecture à la validation de la transaction
+        accountViewCache.put(AccountView.of(account));
 
         return new WithdrawResult(account.getId(), account.getBalance(), operation);
     }
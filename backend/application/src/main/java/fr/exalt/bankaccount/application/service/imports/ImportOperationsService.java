@@ -0,0 +1,255 @@
+package fr.exalt.bankaccount.application.service.imports;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus;
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus.RejectedLine;
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus.State;
+import fr.exalt.bankaccount.application.dto.imports.ImportLine;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.port.in.ImportOperationsUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.ImportSource;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.application.service.account.ConflictRetry;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Import en masse d'opérations (fichiers de fin de journée), en mémoire constante.
+ * <p>
+ * Le fichier est lu ligne à ligne et découpé en tronçons de {@code chunkSize} lignes. Dans un tronçon,
+ * les lignes sont regroupées par compte (ordre du fichier conservé pour chaque compte) : chargement
+ * groupé des comptes, règles du domaine ligne par ligne, puis écriture groupée des soldes, des
+ * opérations et de leurs événements dans une transaction par tronçon. Seul le tronçon courant est en mémoire.
+ * </p>
+ * Une ligne illisible ou refusée (compte absent, plafond, fonds insuffisants, montant invalide) est
+ * comptée et échantillonnée dans l'état du job, sans interrompre l'import. Les imports sont exécutés
+ * un par un, sur un thread dédié.
+ */
+public class ImportOperationsService implements ImportOperationsUseCase, AutoCloseable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+
+    private static final int MAX_SAMPLED_REJECTIONS = 100;
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final TransactionRunner transactionRunner;
+    private final ConflictRetry conflictRetry;
+    private final int chunkSize;
+    private final Clock clock;
+    private final AccountViewCache accountViewCache;
+    private final OperationOutbox operationOutbox;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "operations-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Derniers jobs seulement : les plus anciens sont oubliés
+    private final Map<UUID, Job> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Job> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    };
+
+    public ImportOperationsService(AccountRepository accountRepository,
+                                   OperationRepository operationRepository,
+                                   TransactionRunner transactionRunner,
+                                   ConflictRetry conflictRetry,
+                                   int chunkSize,
+                                   Clock clock,
+                                   AccountViewCache accountViewCache,
+                                   OperationOutbox operationOutbox) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.transactionRunner = transactionRunner;
+        this.conflictRetry = conflictRetry;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        this.accountViewCache = accountViewCache;
+        this.operationOutbox = operationOutbox;
+    }
+
+    @Override
+    public ImportJobStatus submit(ImportSource source) {
+        Objects.requireNonNull(source, "Import source must not be null");
+        Job job = new Job(UUID.randomUUID());
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+        }
+        worker.execute(() -> run(job, source));
+        return job.snapshot(clock.instant());
+    }
+
+    @Override
+    public Optional<ImportJobStatus> status(UUID jobId) {
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        return Optional.ofNullable(job).map(found -> found.snapshot(clock.instant()));
+    }
+
+    /** Termine l'import en cours ; les imports en attente sont abandonnés. */
+    @Override
+    public void close() throws InterruptedException {
+        worker.shutdownNow();
+        worker.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void run(Job job, ImportSource source) {
+        job.start(clock.instant());
+        try (Stream<ImportLine> lines = source.open()) {
+            List<ImportLine.Parsed> chunk = new ArrayList<>(chunkSize);
+            Iterator<ImportLine> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                ImportLine line = iterator.next();
+                job.linesRead++;
+                if (line instanceof ImportLine.Malformed malformed) {
+                    job.reject(malformed.lineNumber(), malformed.reason());
+                    continue;
+                }
+                chunk.add((ImportLine.Parsed) line);
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk);
+            }
+            job.finish(State.COMPLETED, null, clock.instant());
+        } catch (RuntimeException e) {
+            // Les tronçons déjà validés restent en base
+            job.finish(State.FAILED, e.getMessage(), clock.instant());
+        }
+    }
+
+    private void importChunk(Job job, List<ImportLine.Parsed> chunk) {
+        // Conflit de version avec une écriture concurrente : le tronçon est rejoué sur les comptes rechargés
+        ChunkOutcome outcome = conflictRetry.run("import",
+                () -> transactionRunner.inTransaction(() -> applyChunk(chunk)));
+        job.accepted += outcome.accepted;
+        outcome.rejections.forEach(rejection -> job.reject(rejection.lineNumber(), rejection.reason()));
+    }
+
+    private ChunkOutcome applyChunk(List<ImportLine.Parsed> chunk) {
+        Map<AccountId, List<ImportLine.Parsed>> byAccount = new LinkedHashMap<>();
+        for (ImportLine.Parsed line : chunk) {
+            byAccount.computeIfAbsent(line.accountId(), id -> new ArrayList<>()).add(line);
+        }
+        Map<AccountId, Account> accounts = accountRepository.findAllById(byAccount.keySet());
+
+        List<Account> touched = new ArrayList<>(accounts.size());
+        List<Operation> operations = new ArrayList<>(chunk.size());
+        List<RejectedLine> rejections = new ArrayList<>();
+        byAccount.forEach((accountId, lines) -> {
+            Account account = accounts.get(accountId);
+            if (account == null) {
+                lines.forEach(line -> rejections.add(new RejectedLine(line.lineNumber(), "Account %s not found".formatted(accountId))));
+                return;
+            }
+            int before = operations.size();
+            for (ImportLine.Parsed line : lines) {
+                try {
+                    OperationOutcome outcome = line.type() == Operation.Type.DEPOSIT
+                            ? account.tryDeposit(line.amount())
+                            : account.tryWithdraw(line.amount());
+                    if (outcome instanceof OperationRejected rejected) {
+                        rejections.add(new RejectedLine(line.lineNumber(), rejected.message()));
+                    } else {
+                        operations.add(((OperationAccepted) outcome).operation());
+                    }
+                } catch (BusinessRuleViolationException e) {
+                    rejections.add(new RejectedLine(line.lineNumber(), e.getMessage()));
+                }
+            }
+            if (operations.size() > before) touched.add(account);
+        });
+
+        accountRepository.saveAll(touched);
+        operationRepository.saveAll(operations);
+        operationOutbox.appendAll(operations);
+        touched.forEach(account -> accountViewCache.put(AccountView.of(account)));
+        return new ChunkOutcome(operations.size(), rejections);
+    }
+
+    private record ChunkOutcome(int accepted, List<RejectedLine> rejections) {}
+
+    /** État mutable d'un job, écrit par le seul thread d'import et lu par les requêtes de suivi. */
+    private static final class Job {
+        final UUID id;
+        volatile State state = State.QUEUED;
+        volatile long linesRead;
+        volatile long accepted;
+        volatile long rejected;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile String error;
+        final List<RejectedLine> rejections = new ArrayList<>();
+
+        Job(UUID id) {
+            this.id = id;
+        }
+
+        void start(Instant now) {
+            startedAt = now;
+            state = State.RUNNING;
+        }
+
+        void reject(long lineNumber, String reason) {
+            rejected++;
+            synchronized (rejections) {
+                if (rejections.size() < MAX_SAMPLED_REJECTIONS) rejections.add(new RejectedLine(lineNumber, reason));
+            }
+        }
+
+        void finish(State finalState, String cause, Instant now) {
+            error = cause;
+            finishedAt = now;
+            state = finalState;
+        }
+
+        ImportJobStatus snapshot(Instant now) {
+            // État lu en premier : un job terminé est vu avec tous ses compteurs et refus
+            State current = state;
+            Instant start = startedAt;
+            Instant end = finishedAt != null ? finishedAt : now;
+            double seconds = start == null ? 0 : Duration.between(start, end).toNanos() / 1e9;
+            List<RejectedLine> sample;
+            synchronized (rejections) {
+                sample = List.copyOf(rejections);
+            }
+            return new ImportJobStatus(id, current, linesRead, accepted, rejected,
+                    seconds > 0 ? linesRead / seconds : 0, start, finishedAt, sample, error);
+        }
+    }
+}
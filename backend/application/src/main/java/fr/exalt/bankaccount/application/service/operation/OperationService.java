@@ -1,24 +1,48 @@
 package fr.exalt.bankaccount.application.service.operation;
 
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
-import jakarta.transaction.Transactional;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-@Transactional
+/**
+ * Historique des opérations. Lecture seule : chaque lecture s'exécute dans une transaction en lecture seule.
+ */
 public class OperationService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Sans gestionnaire de transactions (tests) : lecture directe
+    private static final TransactionRunner DIRECT = new TransactionRunner() {
+        @Override
+        public <T> T inTransaction(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
     private final OperationRepository operationRepository;
     private final Clock clock;
+    private final TransactionRunner transactionRunner;
 
     public OperationService(OperationRepository operationRepository, Clock clock) {
+        this(operationRepository, clock, DIRECT);
+    }
+
+    public OperationService(OperationRepository operationRepository, Clock clock, TransactionRunner transactionRunner) {
         this.operationRepository = operationRepository;
         this.clock = clock;
+        this.transactionRunner = transactionRunner;
     }
 
     public List<Operation> getMonthlyOperations(AccountId accountId) {
@@ -27,6 +51,49 @@ public class OperationService {
         Instant now = Instant.now(clock);
         Instant fromInclusive = now.minus(30, ChronoUnit.DAYS);
 
-        return operationRepository.findByAccountIdBetween(accountId, fromInclusive, now);
+        return transactionRunner.inReadOnlyTransaction(
+                () -> operationRepository.findByAccountIdBetween(accountId, fromInclusive, now));
+    }
+
+    /**
+     * Historique du mois glissant page par page, sans charger tout le mois : chaque page reprend après
+     * la dernière opération de la précédente. Une opération de plus que demandé est lue pour savoir
+     * s'il reste une page.
+     */
+    public OperationPage getMonthlyOperations(AccountId accountId, OperationPage.Cursor after, int limit) {
+        Objects.requireNonNull(accountId);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessRuleViolationException("Page size must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+
+        Instant now = Instant.now(clock);
+        Instant fromInclusive = now.minus(30, ChronoUnit.DAYS);
+
+        List<Operation> found = transactionRunner.inReadOnlyTransaction(
+                () -> operationRepository.findPageByAccountIdBetween(accountId, fromInclusive, now, after, limit + 1));
+        if (found.size() <= limit) {
+            return new OperationPage(found, null);
+        }
+        List<Operation> page = List.copyOf(found.subList(0, limit));
+        return new OperationPage(page, OperationPage.Cursor.of(page.get(limit - 1)));
+    }
+
+    /**
+     * Export du mois glissant en mémoire constante : chaque opération est remise à {@code sink} dès sa
+     * lecture, dans l'unique transaction de l'export (le curseur côté base n'existe que dans celle-ci).
+     */
+    public void exportMonthlyOperations(AccountId accountId, Consumer<Operation> sink) {
+        Objects.requireNonNull(accountId);
+        Objects.requireNonNull(sink);
+
+        Instant now = Instant.now(clock);
+        Instant fromInclusive = now.minus(30, ChronoUnit.DAYS);
+
+        transactionRunner.inReadOnlyTransaction(() -> {
+            try (Stream<Operation> operations = operationRepository.streamByAccountIdBetween(accountId, fromInclusive, now)) {
+                operations.forEach(sink);
+            }
+            return null;
+        });
     }
 }
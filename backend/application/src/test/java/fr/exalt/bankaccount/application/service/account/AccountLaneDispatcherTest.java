@@ -0,0 +1,170 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.DepositResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.LaneMetrics;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AccountLaneDispatcherTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    AccountLaneDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) dispatcher.close();
+    }
+
+    @Test
+    void commands_for_one_account_run_on_one_thread_in_order() throws Exception {
+        DepositServiceTest.InMemoryAccountRepository accounts = new DepositServiceTest.InMemoryAccountRepository();
+        DepositServiceTest.InMemoryOperationRepository operations = new DepositServiceTest.InMemoryOperationRepository();
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accounts.save(account);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        DepositService deposit = DepositServiceTest.depositService(accounts, operations);
+        DepositUseCase recording = new DepositUseCase() {
+            @Override public OperationResult handle(DepositCommand cmd) { threads.add(Thread.currentThread().getName()); return deposit.handle(cmd); }
+            @Override public OperationAttempt tryHandle(DepositCommand cmd) { return handle(cmd); }
+        };
+        dispatcher = new AccountLaneDispatcher(recording, WithdrawServiceTest.withdrawService(accounts, operations),
+                4, 1024, Duration.ofSeconds(1), LaneMetrics.noop());
+
+        // Sans verrou ni version : la voie unique suffit à sérialiser les lecture-modification-écriture
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<OperationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(callers.submit(() -> dispatcher.handle(new DepositCommand(account.getId(), Money.of("1")))));
+        }
+        for (Future<OperationResult> result : results) result.get();
+        callers.shutdown();
+
+        assertThat(threads).containsExactly("account-lane-" + dispatcher.laneOf(account.getId()));
+        assertThat(accounts.findById(account.getId()).getBalance()).isEqualTo(Money.of("200"));
+        assertThat(operations.saved).hasSize(200);
+    }
+
+    @Test
+    void accounts_on_different_lanes_proceed_in_parallel() throws Exception {
+        CountDownLatch otherLaneRan = new CountDownLatch(1);
+        DepositUseCase blocking = new DepositUseCase() {
+            @Override public OperationResult handle(DepositCommand cmd) {
+                await(otherLaneRan);
+                return result(cmd.accountId(), cmd.deposit());
+            }
+            @Override public OperationAttempt tryHandle(DepositCommand cmd) { return handle(cmd); }
+        };
+        WithdrawUseCase releasing = new WithdrawUseCase() {
+            @Override public OperationResult handle(WithdrawCommand cmd) {
+                otherLaneRan.countDown();
+                return result(cmd.accountId(), cmd.withdraw());
+            }
+            @Override public OperationAttempt tryHandle(WithdrawCommand cmd) { return handle(cmd); }
+        };
+        dispatcher = new AccountLaneDispatcher(blocking, releasing, 2, 16, Duration.ofSeconds(1), LaneMetrics.noop());
+        AccountId first = AccountId.newId();
+        AccountId second = idOnOtherLane(first);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<OperationResult> blocked = callers.submit(() -> dispatcher.handle(new DepositCommand(first, Money.of("1"))));
+        Future<OperationResult> released = callers.submit(() -> dispatcher.handle(new WithdrawCommand(second, Money.of("1"))));
+        callers.shutdown();
+
+        // Si les deux comptes partageaient une voie, le dépôt bloquerait le retrait indéfiniment
+        assertThat(released.get(5, TimeUnit.SECONDS).accountId()).isEqualTo(second);
+        assertThat(blocked.get(5, TimeUnit.SECONDS).accountId()).isEqualTo(first);
+    }
+
+    @Test
+    void full_lane_queue_should_reject_with_backpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DepositUseCase slow = new DepositUseCase() {
+            @Override public OperationResult handle(DepositCommand cmd) {
+                started.countDown();
+                await(release);
+                return result(cmd.accountId(), cmd.deposit());
+            }
+            @Override public OperationAttempt tryHandle(DepositCommand cmd) { return handle(cmd); }
+        };
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        IntSupplier[] depth = new IntSupplier[1];
+        LaneMetrics metrics = new LaneMetrics() {
+            @Override public void registerQueueDepth(int lane, IntSupplier queueDepth) { depth[0] = queueDepth; }
+            @Override public void completed(int lane, long queuedNanos, long serviceNanos) { completed.incrementAndGet(); }
+            @Override public void rejected(int lane) { rejected.incrementAndGet(); }
+        };
+        dispatcher = new AccountLaneDispatcher(slow, null, 1, 1, Duration.ofMillis(20), metrics);
+        AccountId account = AccountId.newId();
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<OperationResult> running = callers.submit(() -> dispatcher.handle(new DepositCommand(account, Money.of("1"))));
+        started.await(5, TimeUnit.SECONDS);
+        Future<OperationResult> queued = callers.submit(() -> dispatcher.handle(new DepositCommand(account, Money.of("2"))));
+        while (depth[0].getAsInt() < 1) Thread.onSpinWait();
+
+        // Voie occupée et file (capacité 1) pleine : refus immédiat après le délai d'offre
+        assertThatThrownBy(() -> dispatcher.handle(new DepositCommand(account, Money.of("3"))))
+                .isInstanceOf(CommandQueueFullApplicationException.class);
+        assertThat(rejected.get()).isEqualTo(1);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        callers.shutdown();
+        // Mesure enregistrée juste après la complétion du résultat
+        dispatcher.close();
+        assertThat(completed.get()).isEqualTo(2);
+    }
+
+    private AccountId idOnOtherLane(AccountId first) {
+        AccountId candidate = AccountId.newId();
+        while (dispatcher.laneOf(candidate) == dispatcher.laneOf(first)) {
+            candidate = AccountId.newId();
+        }
+        return candidate;
+    }
+
+    private static DepositResult result(AccountId accountId, Money amount) {
+        return new DepositResult(accountId, amount, Operation.of(accountId, amount, Operation.Type.DEPOSIT));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsResult;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.DEPOSIT;
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.WITHDRAWAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchOperationsServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+    DepositServiceTest.InMemoryAccountRepository accountRepository = new DepositServiceTest.InMemoryAccountRepository();
+    DepositServiceTest.InMemoryOperationRepository operationRepository = new DepositServiceTest.InMemoryOperationRepository();
+
+    @Test
+    void items_are_applied_in_order_with_one_save_and_rejections_reported() {
+        Account account = Account.openCurrent(Money.of("-50"), clock);
+        accountRepository.save(account);
+        AtomicInteger saves = new AtomicInteger();
+        AccountRepository counting = new AccountRepository() {
+            @Override public Account save(Account a) { saves.incrementAndGet(); return accountRepository.save(a); }
+            @Override public Account findById(AccountId id) { return accountRepository.findById(id); }
+        };
+        List<Operation> outbox = new ArrayList<>();
+        BatchOperationsService service = new BatchOperationsService(counting, operationRepository, TransactionRunner.noop(),
+                ConflictRetry.defaults(), AccountViewCache.noop(), outbox::add);
+
+        BatchOperationsResult result = service.handle(new BatchOperationsCommand(account.getId(), List.of(
+                new BatchOperationsCommand.Item(DEPOSIT, Money.of("100")),
+                new BatchOperationsCommand.Item(WITHDRAWAL, Money.of("500")),
+                new BatchOperationsCommand.Item(WITHDRAWAL, Money.zero()),
+                new BatchOperationsCommand.Item(WITHDRAWAL, Money.of("130")))));
+
+        // Le retrait refusé ne modifie pas le solde : le dernier retrait passe grâce au découvert
+        assertThat(result.finalBalance()).isEqualTo(Money.of("-30"));
+        assertThat(result.items()).extracting(BatchOperationsResult.Item::accepted).containsExactly(true, false, false, true);
+        assertThat(result.items().get(1).error()).isNotBlank();
+        assertThat(result.items().get(2).error()).isEqualTo("Withdraw amount must be strictly positive");
+        assertThat(saves.get()).isEqualTo(1);
+        assertThat(operationRepository.saved).extracting(Operation::amount).containsExactly(Money.of("100"), Money.of("130"));
+        assertThat(outbox).isEqualTo(operationRepository.saved);
+    }
+
+    @Test
+    void batch_without_accepted_item_does_not_write() {
+        Account savings = Account.openSavings(Money.of("10"), clock);
+        accountRepository.save(savings);
+        BatchOperationsService service = new BatchOperationsService(accountRepository, operationRepository, TransactionRunner.noop(),
+                ConflictRetry.defaults(), AccountViewCache.noop(), OperationOutbox.noop());
+
+        BatchOperationsResult result = service.handle(new BatchOperationsCommand(savings.getId(),
+                List.of(new BatchOperationsCommand.Item(DEPOSIT, Money.of("11")))));
+
+        assertThat(result.finalBalance()).isEqualTo(Money.zero());
+        assertThat(result.items()).singleElement().extracting(BatchOperationsResult.Item::accepted).isEqualTo(false);
+        assertThat(operationRepository.saved).isEmpty();
+    }
+
+    @Test
+    void empty_batch_and_missing_account_are_refused() {
+        BatchOperationsService service = new BatchOperationsService(accountRepository, operationRepository, TransactionRunner.noop(),
+                ConflictRetry.defaults(), AccountViewCache.noop(), OperationOutbox.noop());
+
+        assertThatThrownBy(() -> service.handle(new BatchOperationsCommand(AccountId.newId(), List.of())))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> service.handle(new BatchOperationsCommand(AccountId.newId(),
+                List.of(new BatchOperationsCommand.Item(DEPOSIT, Money.of("1"))))))
+                .isInstanceOf(AccountNotFoundApplicationException.class);
+    }
+}
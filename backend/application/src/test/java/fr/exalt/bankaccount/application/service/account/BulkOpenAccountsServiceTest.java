@@ -0,0 +1,99 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenOutcome;
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenRow;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkOpenAccountsServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+    List<Integer> insertBatches = new ArrayList<>();
+    DepositServiceTest.InMemoryAccountRepository store = new DepositServiceTest.InMemoryAccountRepository();
+    AccountRepository accounts = new AccountRepository() {
+        @Override public Account save(Account account) { throw new AssertionError("one-by-one save"); }
+        @Override public Account findById(AccountId id) { return store.findById(id); }
+        @Override public void insertAll(Collection<Account> batch) {
+            insertBatches.add(batch.size());
+            batch.forEach(store::save);
+        }
+    };
+    int transactions;
+    TransactionRunner transactionRunner = new TransactionRunner() {
+        @Override public <T> T inTransaction(Supplier<T> work) { transactions++; return work.get(); }
+    };
+
+    @Test
+    void rows_are_inserted_in_chunks_and_ids_returned_in_row_order() {
+        BulkOpenAccountsService service = new BulkOpenAccountsService(accounts, transactionRunner, 4, clock);
+        List<BulkOpenOutcome> results = new ArrayList<>();
+
+        service.handle(LongStream.rangeClosed(1, 10)
+                .mapToObj(i -> (BulkOpenRow) (i % 2 == 0
+                        ? new BulkOpenRow.Savings(i, Money.of("1000"))
+                        : new BulkOpenRow.Current(i, Money.of("-100"))))
+                .iterator(), results::add);
+
+        assertThat(results).extracting(BulkOpenOutcome::index).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(results).allMatch(BulkOpenOutcome::opened);
+        assertThat(insertBatches).containsExactly(4, 4, 2);
+        assertThat(transactions).isEqualTo(3);
+        assertThat(store.findById(results.get(1).accountId()).getType()).isEqualTo(Account.Type.SAVINGS);
+    }
+
+    @Test
+    void invalid_rows_are_reported_without_being_inserted() {
+        BulkOpenAccountsService service = new BulkOpenAccountsService(accounts, transactionRunner, 100, clock);
+        List<BulkOpenOutcome> results = new ArrayList<>();
+
+        service.handle(List.<BulkOpenRow>of(
+                new BulkOpenRow.Current(1, Money.of("100")),
+                new BulkOpenRow.Savings(2, null),
+                new BulkOpenRow.Malformed(3, "Unreadable line"),
+                new BulkOpenRow.Current(4, Money.zero())).iterator(), results::add);
+
+        assertThat(results).extracting(BulkOpenOutcome::error).containsExactly(
+                "Overdraft limit must be zero or negative", "Ceiling must be strictly positive", "Unreadable line", null);
+        assertThat(insertBatches).containsExactly(1);
+    }
+
+    @Test
+    void failed_chunk_is_reported_row_by_row_and_later_chunks_are_still_inserted() {
+        TransactionRunner secondChunkFails = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) {
+                if (++transactions == 2) throw new IllegalStateException("unique constraint violated");
+                return work.get();
+            }
+        };
+        BulkOpenAccountsService service = new BulkOpenAccountsService(accounts, secondChunkFails, 2, clock);
+        List<BulkOpenOutcome> results = new ArrayList<>();
+
+        service.handle(List.<BulkOpenRow>of(
+                new BulkOpenRow.Current(1, Money.of("-100")),
+                new BulkOpenRow.Current(2, Money.of("-100")),
+                new BulkOpenRow.Current(3, Money.of("-100")),
+                new BulkOpenRow.Malformed(4, "Unreadable line"),
+                new BulkOpenRow.Savings(5, Money.of("1000"))).iterator(), results::add);
+
+        assertThat(results).extracting(BulkOpenOutcome::index).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(results).extracting(BulkOpenOutcome::error).containsExactly(
+                null, null, BulkOpenAccountsService.CHUNK_FAILED, "Unreadable line", null);
+        assertThat(insertBatches).containsExactly(2, 1);
+    }
+}
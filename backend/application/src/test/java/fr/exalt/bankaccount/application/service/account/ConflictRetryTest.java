@@ -0,0 +1,70 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.port.out.RetryMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConflictRetryTest {
+
+    static final class RecordingMetrics implements RetryMetrics {
+        final List<String> events = new ArrayList<>();
+        @Override public void retried(String operation) { events.add("retried:" + operation); }
+        @Override public void exhausted(String operation) { events.add("exhausted:" + operation); }
+    }
+
+    @Test
+    void should_replay_command_until_it_succeeds_and_count_retries() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        ConflictRetry retry = new ConflictRetry(3, Duration.ZERO, metrics);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retry.run("deposit", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new AccountConcurrentUpdateApplicationException("conflict");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(metrics.events).containsExactly("retried:deposit", "retried:deposit");
+    }
+
+    @Test
+    void should_rethrow_conflict_once_attempts_are_exhausted() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        ConflictRetry retry = new ConflictRetry(2, Duration.ofMillis(1), metrics);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run("withdraw", () -> {
+            calls.incrementAndGet();
+            throw new AccountConcurrentUpdateApplicationException("conflict");
+        })).isInstanceOf(AccountConcurrentUpdateApplicationException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(metrics.events).containsExactly("retried:withdraw", "exhausted:withdraw");
+    }
+
+    @Test
+    void should_not_retry_other_exceptions() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        ConflictRetry retry = new ConflictRetry(3, Duration.ZERO, metrics);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run("deposit", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(metrics.events).isEmpty();
+    }
+}
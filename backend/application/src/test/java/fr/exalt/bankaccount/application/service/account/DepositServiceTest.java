@@ -3,13 +3,20 @@ package fr.exalt.bankaccount.application.service.account;
 import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
 import fr.exalt.bankaccount.application.dto.account.operation.DepositResult;
 import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 import fr.exalt.bankaccount.application.port.in.DepositUseCase;
 import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
 import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
 import fr.exalt.bankaccount.domain.model.exception.CeilingExceededException;
 import fr.exalt.bankaccount.domain.model.money.Money;
@@ -21,6 +28,7 @@ import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -52,6 +60,11 @@ public class DepositServiceTest {
         }
     }
 
+    static DepositService depositService(AccountRepository accountRepository, OperationRepository operationRepository) {
+        return new DepositService(accountRepository, operationRepository, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+    }
+
     Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
     Instant before = Instant.now().minus(31l, ChronoUnit.DAYS);
     Instant after = Instant.now().plus(31l, ChronoUnit.DAYS);
@@ -65,7 +78,7 @@ public class DepositServiceTest {
         Account account = Account.openCurrent(Money.of("-300"), clock);
         accountRepository.save(account);
 
-        DepositUseCase service = new DepositService(accountRepository, operationRepository);
+        DepositUseCase service = depositService(accountRepository, operationRepository);
         DepositCommand cmd = new DepositCommand(account.getId(), Money.of("200"));
 
         // when
@@ -92,7 +105,7 @@ public class DepositServiceTest {
         Account account = Account.openCurrent(Money.of("-300"), clock);
         accountRepository.save(account);
 
-        DepositUseCase service = new DepositService(accountRepository, operationRepository);
+        DepositUseCase service = depositService(accountRepository, operationRepository);
         DepositCommand cmd = new DepositCommand(account.getId(), Money.of("-200"));
 
         assertThatThrownBy(() -> service.handle(cmd)).isInstanceOf(BusinessRuleViolationException.class);
@@ -104,7 +117,7 @@ public class DepositServiceTest {
         AccountRepository accountRepository = new InMemoryAccountRepository();
         OperationRepository operationRepository = new InMemoryOperationRepository();
 
-        DepositUseCase service = new DepositService(accountRepository, operationRepository);
+        DepositUseCase service = depositService(accountRepository, operationRepository);
         Account account = Account.openSavings(Money.of("100"), clock);
         accountRepository.save(account);
 
@@ -114,12 +127,122 @@ public class DepositServiceTest {
         assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(0);
     }
 
+    @Test
+    void try_deposit_exceeding_savings_ceiling_should_return_rejection_without_persisting() {
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+
+        DepositUseCase service = depositService(accountRepository, operationRepository);
+        Account account = Account.openSavings(Money.of("100"), clock);
+        accountRepository.save(account);
+
+        OperationAttempt attempt = service.tryHandle(new DepositCommand(account.getId(), Money.of("102")));
+
+        assertThat(attempt).isInstanceOf(OperationRejection.class);
+        OperationRejection rejection = (OperationRejection) attempt;
+        assertThat(rejection.accountId()).isEqualTo(account.getId());
+        assertThat(rejection.reason()).isEqualTo(RejectionReason.CEILING_EXCEEDED);
+        assertThat(rejection.message())
+                .isEqualTo("Deposit Money[value=102.00] would exceed ceiling Money[value=100.00] (balance Money[value=0.00])");
+        assertThat(accountRepository.findById(account.getId()).getBalance()).isEqualTo(Money.zero());
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(0);
+    }
+
+    @Test
+    void try_deposit_within_ceiling_should_return_result_and_persist() {
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+
+        DepositUseCase service = depositService(accountRepository, operationRepository);
+        Account account = Account.openSavings(Money.of("100"), clock);
+        accountRepository.save(account);
+
+        OperationAttempt attempt = service.tryHandle(new DepositCommand(account.getId(), Money.of("100")));
+
+        assertThat(attempt).isInstanceOf(DepositResult.class);
+        assertThat(((DepositResult) attempt).newBalance()).isEqualTo(Money.of("100"));
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(1);
+    }
+
+    @Test
+    void deposit_should_reload_and_replay_when_save_hits_a_version_conflict() {
+        AccountRepository store = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+        Account account = Account.openCurrent(Money.of("-300"), clock);
+        store.save(account);
+
+        // Première sauvegarde en conflit (écriture concurrente), la seconde passe
+        int[] saves = {0};
+        AccountRepository conflicting = new AccountRepository() {
+            @Override public Account save(Account a) {
+                if (saves[0]++ == 0) throw new AccountConcurrentUpdateApplicationException("conflict");
+                return store.save(a);
+            }
+            @Override public Account findById(AccountId id) {
+                // Copie du snapshot stocké, comme un rechargement depuis la base
+                Account stored = store.findById(id);
+                return Account.rehydrate(stored.getId(), stored.getType(), stored.getBalance(),
+                        stored.getOverdraft(), stored.getCeiling(), clock);
+            }
+        };
+
+        DepositUseCase service = depositService(conflicting, operationRepository);
+        OperationResult result = service.handle(new DepositCommand(account.getId(), Money.of("200")));
+
+        assertThat(saves[0]).isEqualTo(2);
+        assertThat(result.newBalance()).isEqualTo(Money.of("200"));
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(1);
+    }
+
+    @Test
+    void conflict_retry_should_run_each_attempt_in_its_own_transaction() {
+        AccountRepository store = new InMemoryAccountRepository();
+        Account account = Account.openCurrent(Money.of("-300"), clock);
+        store.save(account);
+
+        boolean[] open = {false};
+        int[] transactions = {0};
+        TransactionRunner transactionRunner = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) {
+                // Jamais de tentative (ni d'attente) dans la transaction d'une tentative précédente
+                assertThat(open[0]).isFalse();
+                open[0] = true;
+                transactions[0]++;
+                try {
+                    return work.get();
+                } finally {
+                    open[0] = false;
+                }
+            }
+        };
+        int[] saves = {0};
+        AccountRepository conflicting = new AccountRepository() {
+            @Override public Account save(Account a) {
+                assertThat(open[0]).isTrue();
+                if (saves[0]++ == 0) throw new AccountConcurrentUpdateApplicationException("conflict");
+                return store.save(a);
+            }
+            @Override public Account findById(AccountId id) {
+                Account stored = store.findById(id);
+                return Account.rehydrate(stored.getId(), stored.getType(), stored.getBalance(),
+                        stored.getOverdraft(), stored.getCeiling(), clock);
+            }
+        };
+
+        DepositService service = new DepositService(conflicting, new InMemoryOperationRepository(), transactionRunner,
+                ConflictRetry.defaults(), AccountViewCache.noop(), OperationOutbox.noop());
+        OperationResult result = service.handle(new DepositCommand(account.getId(), Money.of("200")));
+
+        assertThat(transactions[0]).isEqualTo(2);
+        assertThat(result.newBalance()).isEqualTo(Money.of("200"));
+    }
+
     @Test
     void deposit_unknown_account_should_throw_not_found() {
         AccountRepository accountRepository = new InMemoryAccountRepository();
         OperationRepository operationRepository = new InMemoryOperationRepository();
 
-        DepositUseCase service = new DepositService(accountRepository, operationRepository);
+        DepositUseCase service = depositService(accountRepository, operationRepository);
         AccountId unknownId = AccountId.newId();
 
         DepositCommand cmd = new DepositCommand(unknownId, Money.of("350"));
@@ -127,4 +250,23 @@ public class DepositServiceTest {
         assertThatThrownBy(() -> service.handle(cmd)).isInstanceOf(AccountNotFoundApplicationException.class);
         assertThat(operationRepository.findByAccountIdBetween(unknownId, before, after).size()).isEqualTo(0);
     }
+
+    @Test
+    void deposit_should_append_the_operation_to_the_outbox() {
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+        List<Operation> outbox = new ArrayList<>();
+
+        Account account = Account.openSavings(Money.of("100"), clock);
+        accountRepository.save(account);
+        DepositService service = new DepositService(accountRepository, operationRepository, TransactionRunner.noop(),
+                ConflictRetry.defaults(), AccountViewCache.noop(), outbox::add);
+
+        DepositResult result = (DepositResult) service.tryHandle(new DepositCommand(account.getId(), Money.of("60")));
+        service.tryHandle(new DepositCommand(account.getId(), Money.of("60")));
+
+        // Le second dépôt dépasse le plafond : refusé, rien dans la boîte d'envoi
+        assertThat(outbox.size()).isEqualTo(1);
+        assertThat(outbox.get(0)).isEqualTo(result.operation());
+    }
 }
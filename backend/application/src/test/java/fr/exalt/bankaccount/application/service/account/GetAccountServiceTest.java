@@ -0,0 +1,155 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.AccountViewReader;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GetAccountServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    DepositServiceTest.InMemoryAccountRepository accounts = new DepositServiceTest.InMemoryAccountRepository();
+    MapCache cache = new MapCache();
+    CountingReader reader = new CountingReader(accounts);
+    GetAccountService service = new GetAccountService(reader, cache);
+
+    @Test
+    void account_is_loaded_once_then_served_from_the_cache() {
+        Account savings = accounts.save(Account.openSavings(Money.of("500"), clock));
+
+        AccountView first = service.handle(savings.getId());
+        AccountView second = service.handle(savings.getId());
+
+        assertThat(first.type()).isEqualTo(Account.Type.SAVINGS);
+        assertThat(first.balance()).isEqualTo(Money.zero());
+        assertThat(first.ceiling()).isEqualTo(Money.of("500"));
+        assertThat(first.overdraft()).isNull();
+        assertThat(second).isSameAs(first);
+        assertThat(cache.loads).isEqualTo(1);
+    }
+
+    @Test
+    void deposit_publishes_the_new_balance_to_the_cache() {
+        Account current = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        service.handle(current.getId());
+
+        new DepositService(accounts, new DepositServiceTest.InMemoryOperationRepository(), TransactionRunner.noop(),
+                ConflictRetry.defaults(), cache, OperationOutbox.noop())
+                .handle(new DepositCommand(current.getId(), Money.of("40")));
+
+        assertThat(service.handle(current.getId()).balance()).isEqualTo(Money.of("40"));
+        assertThat(cache.loads).isEqualTo(1);
+    }
+
+    @Test
+    void many_accounts_are_read_in_one_call_for_the_cache_misses() {
+        Account first = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account second = accounts.save(Account.openSavings(Money.of("500"), clock));
+        Account third = accounts.save(Account.openCurrent(Money.of("-50"), clock));
+        AccountId missing = AccountId.newId();
+        service.handle(second.getId());
+        reader.calls = 0;
+
+        List<AccountView> views = service.handle(List.of(third.getId(), missing, second.getId(), first.getId(), third.getId()));
+
+        // Ordre demandé, doublon et compte absent retirés ; un seul aller-retour pour les absents du cache
+        assertThat(views).extracting(AccountView::accountId).containsExactly(third.getId(), second.getId(), first.getId());
+        assertThat(reader.calls).isEqualTo(1);
+        assertThat(reader.lastIds).containsExactly(third.getId(), missing, first.getId());
+    }
+
+    @Test
+    void lookup_size_is_bounded() {
+        List<AccountId> tooMany = new ArrayList<>();
+        for (int i = 0; i <= GetAccountService.MAX_IDS; i++) tooMany.add(AccountId.newId());
+
+        assertThatThrownBy(() -> service.handle(tooMany)).isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> service.handle(List.of())).isInstanceOf(BusinessRuleViolationException.class);
+        assertThat(reader.calls).isZero();
+    }
+
+    @Test
+    void unknown_account_is_not_found() {
+        assertThatThrownBy(() -> service.handle(AccountId.newId()))
+                .isInstanceOf(AccountNotFoundApplicationException.class);
+    }
+
+    /** Vues lues sur le dépôt en mémoire, avec le nombre d'appels. */
+    static final class CountingReader implements AccountViewReader {
+        final AccountRepository accounts;
+        int calls;
+        List<AccountId> lastIds;
+
+        CountingReader(AccountRepository accounts) {
+            this.accounts = accounts;
+        }
+
+        @Override
+        public Map<AccountId, AccountView> findAllViews(Collection<AccountId> accountIds) {
+            calls++;
+            lastIds = List.copyOf(accountIds);
+            Map<AccountId, AccountView> found = new HashMap<>();
+            accountIds.forEach(id -> {
+                Account account = accounts.findById(id);
+                if (account != null) found.put(id, AccountView.of(account));
+            });
+            return found;
+        }
+    }
+
+    /** Cache sans transaction : les écritures sont appliquées tout de suite. */
+    static final class MapCache implements AccountViewCache {
+        final Map<AccountId, AccountView> views = new HashMap<>();
+        int loads;
+
+        @Override
+        public AccountView getOrLoad(AccountId accountId, Function<AccountId, AccountView> loader) {
+            return views.computeIfAbsent(accountId, id -> {
+                loads++;
+                return loader.apply(id);
+            });
+        }
+
+        @Override
+        public Map<AccountId, AccountView> getAllOrLoad(Collection<AccountId> accountIds,
+                                                        Function<Collection<AccountId>, Map<AccountId, AccountView>> loader) {
+            Map<AccountId, AccountView> found = new HashMap<>();
+            List<AccountId> absent = new ArrayList<>();
+            accountIds.forEach(id -> {
+                if (views.containsKey(id)) found.put(id, views.get(id));
+                else absent.add(id);
+            });
+            if (!absent.isEmpty()) {
+                Map<AccountId, AccountView> loaded = loader.apply(absent);
+                views.putAll(loaded);
+                found.putAll(loaded);
+            }
+            return found;
+        }
+
+        @Override public void put(AccountView view) { views.put(view.accountId(), view); }
+        @Override public void invalidate(AccountId accountId) { views.remove(accountId); }
+    }
+}
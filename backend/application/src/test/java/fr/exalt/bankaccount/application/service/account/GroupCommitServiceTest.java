@@ -0,0 +1,231 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GroupCommitServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    Instant before = Instant.now().minus(Duration.ofDays(31));
+    Instant after = Instant.now().plus(Duration.ofDays(31));
+
+    DepositServiceTest.InMemoryAccountRepository accountRepository = new DepositServiceTest.InMemoryAccountRepository();
+    DepositServiceTest.InMemoryOperationRepository operationRepository = new DepositServiceTest.InMemoryOperationRepository();
+    AtomicInteger transactions = new AtomicInteger();
+    TransactionRunner transactionRunner = new TransactionRunner() {
+        @Override
+        public <T> T inTransaction(java.util.function.Supplier<T> work) {
+            transactions.incrementAndGet();
+            return work.get();
+        }
+    };
+
+    List<Operation> outbox = Collections.synchronizedList(new ArrayList<>());
+
+    GroupCommitService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (service != null) service.close();
+    }
+
+    private GroupCommitService groupCommit(AccountRepository accounts, Duration window, int maxBatch) {
+        return new GroupCommitService(accounts, operationRepository, transactionRunner,
+                DepositServiceTest.depositService(accounts, operationRepository),
+                WithdrawServiceTest.withdrawService(accounts, operationRepository),
+                window, maxBatch, AccountViewCache.noop(), outbox::add, GroupCommitService.DEFAULT_RESULT_TIMEOUT);
+    }
+
+    @Test
+    void concurrent_commands_should_share_transactions_and_each_get_a_result() throws Exception {
+        Account account = Account.openCurrent(Money.of("-1000"), clock);
+        accountRepository.save(account);
+        service = groupCommit(accountRepository, Duration.ofMillis(20), 64);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<OperationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            results.add(callers.submit(() -> service.handle(new DepositCommand(account.getId(), Money.of("10")))));
+        }
+        for (Future<OperationResult> result : results) {
+            assertThat(result.get().operation().amount()).isEqualTo(Money.of("10"));
+        }
+        callers.shutdown();
+
+        assertThat(accountRepository.findById(account.getId()).getBalance()).isEqualTo(Money.of("640"));
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after)).hasSize(64);
+        assertThat(outbox).hasSize(64);
+        assertThat(transactions.get()).isLessThan(64);
+    }
+
+    @Test
+    void failing_command_should_not_sink_the_rest_of_the_group() throws Exception {
+        Account savings = Account.openSavings(Money.of("100"), clock);
+        accountRepository.save(savings);
+        AccountId missing = AccountId.newId();
+        // Fenêtre longue, groupe de 4 : les quatre commandes partent ensemble
+        service = groupCommit(accountRepository, Duration.ofSeconds(5), 4);
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        Future<OperationAttempt> accepted = callers.submit(() -> service.tryHandle(new DepositCommand(savings.getId(), Money.of("60"))));
+        Future<OperationAttempt> rejected = callers.submit(() -> service.tryHandle(new DepositCommand(savings.getId(), Money.of("60"))));
+        Future<OperationAttempt> invalid = callers.submit(() -> service.tryHandle(new WithdrawCommand(savings.getId(), Money.zero())));
+        Future<OperationAttempt> notFound = callers.submit(() -> service.tryHandle(new DepositCommand(missing, Money.of("1"))));
+        callers.shutdown();
+
+        // Le premier dépôt arrivé passe, le second dépasse le plafond (ordre d'arrivée non déterministe)
+        List<OperationAttempt> deposits = List.of(accepted.get(), rejected.get());
+        assertThat(deposits).filteredOn(OperationResult.class::isInstance).hasSize(1);
+        assertThat(deposits).filteredOn(OperationRejection.class::isInstance)
+                .singleElement()
+                .extracting(attempt -> ((OperationRejection) attempt).reason())
+                .isEqualTo(RejectionReason.CEILING_EXCEEDED);
+        assertThatThrownBy(invalid::get).hasCauseInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(notFound::get).hasCauseInstanceOf(AccountNotFoundApplicationException.class);
+
+        assertThat(accountRepository.findById(savings.getId()).getBalance()).isEqualTo(Money.of("60"));
+        assertThat(operationRepository.findByAccountIdBetween(savings.getId(), before, after)).hasSize(1);
+        assertThat(transactions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failed_group_transaction_should_replay_each_command_alone() throws Exception {
+        Account first = Account.openCurrent(Money.of("-100"), clock);
+        Account second = Account.openCurrent(Money.of("-100"), clock);
+        accountRepository.save(first);
+        accountRepository.save(second);
+        // La sauvegarde groupée échoue (conflit), les sauvegardes unitaires passent
+        AccountRepository conflictingGroup = new AccountRepository() {
+            @Override public Account save(Account account) { return accountRepository.save(account); }
+            @Override public Account findById(AccountId id) { return copy(accountRepository.findById(id)); }
+            @Override public void saveAll(Collection<Account> accounts) {
+                throw new AccountConcurrentUpdateApplicationException("conflict");
+            }
+        };
+        service = groupCommit(conflictingGroup, Duration.ofSeconds(5), 2);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<OperationResult> one = callers.submit(() -> service.handle(new DepositCommand(first.getId(), Money.of("5"))));
+        Future<OperationResult> two = callers.submit(() -> service.handle(new WithdrawCommand(second.getId(), Money.of("5"))));
+        callers.shutdown();
+
+        assertThat(one.get().newBalance()).isEqualTo(Money.of("5"));
+        assertThat(two.get().newBalance()).isEqualTo(Money.of("-5"));
+        assertThat(operationRepository.saved).extracting(Operation::accountId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    void closing_while_commands_are_submitted_should_complete_every_caller() throws Exception {
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accountRepository.save(account);
+        service = groupCommit(accountRepository, Duration.ofMillis(1), 16);
+
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            callers.execute(() -> {
+                // Soumissions en boucle jusqu'à l'arrêt : chaque appel rend la main, accepté ou refusé
+                while (true) {
+                    try {
+                        service.handle(new DepositCommand(account.getId(), Money.of("1")));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException closed) {
+                        return;
+                    }
+                }
+            });
+        }
+        Thread.sleep(50);
+        service.close();
+        callers.shutdown();
+
+        assertThat(callers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(accepted.get()).isPositive();
+        assertThat(accountRepository.findById(account.getId()).getBalance()).isEqualTo(Money.ofCents(accepted.get() * 100L));
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after)).hasSize(accepted.get());
+    }
+
+    @Test
+    void waiting_should_be_bounded_and_a_command_never_taken_should_leave_the_queue() throws Exception {
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accountRepository.save(account);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionRunner blocked = new TransactionRunner() {
+            @Override
+            public <T> T inTransaction(Supplier<T> work) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return work.get();
+            }
+        };
+        service = new GroupCommitService(accountRepository, operationRepository, blocked,
+                DepositServiceTest.depositService(accountRepository, operationRepository),
+                WithdrawServiceTest.withdrawService(accountRepository, operationRepository),
+                Duration.ZERO, 1, AccountViewCache.noop(), outbox::add, Duration.ofMillis(200));
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        Future<OperationResult> inFlight = callers.submit(() -> service.handle(new DepositCommand(account.getId(), Money.of("10"))));
+        callers.shutdown();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Le groupe en cours bloque : la commande suivante reste en file et en est retirée à l'échéance
+        assertThatThrownBy(() -> service.handle(new DepositCommand(account.getId(), Money.of("20"))))
+                .isInstanceOf(CommandQueueFullApplicationException.class);
+        assertThatThrownBy(inFlight::get)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outcome unknown");
+
+        release.countDown();
+        service.close();
+        assertThat(accountRepository.findById(account.getId()).getBalance()).isEqualTo(Money.of("10"));
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after)).hasSize(1);
+    }
+
+    private Account copy(Account stored) {
+        return stored == null ? null : Account.rehydrate(stored.getId(), stored.getType(), stored.getBalance(),
+                stored.getOverdraft(), stored.getCeiling(), clock);
+    }
+}
@@ -0,0 +1,107 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.GuardedBalanceWriter;
+import fr.exalt.bankaccount.application.port.out.RetryMetrics;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
+import fr.exalt.bankaccount.domain.model.exception.CeilingExceededException;
+import fr.exalt.bankaccount.domain.model.exception.InsufficientFundsException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class GuardedOperationServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    ConflictRetry noBackoff = new ConflictRetry(3, Duration.ZERO, RetryMetrics.noop());
+
+    @Test
+    void guarded_deposit_should_return_balance_written_by_the_statement() {
+        AccountRepository accountRepository = new DepositServiceTest.InMemoryAccountRepository();
+        Account account = Account.openSavings(Money.of("500"), clock);
+        accountRepository.save(account);
+        GuardedBalanceWriter writer = operation -> Optional.of(Money.of("120"));
+        List<Operation> outbox = new ArrayList<>();
+
+        DepositUseCase service = new GuardedOperationService(writer, accountRepository, TransactionRunner.noop(),
+                noBackoff, AccountViewCache.noop(), outbox::add);
+        OperationResult result = service.handle(new DepositCommand(account.getId(), Money.of("120")));
+
+        assertThat(result.newBalance()).isEqualTo(Money.of("120"));
+        assertThat(result.operation().amount()).isEqualTo(Money.of("120"));
+        assertThat(outbox).isEqualTo(List.of(result.operation()));
+    }
+
+    @Test
+    void refused_guard_should_be_replayed_by_the_domain_rule() {
+        AccountRepository accountRepository = new DepositServiceTest.InMemoryAccountRepository();
+        Account account = Account.openSavings(Money.of("500"), clock);
+        account.deposit(Money.of("450"));
+        accountRepository.save(account);
+        GuardedBalanceWriter writer = operation -> Optional.empty();
+
+        DepositUseCase service = new GuardedOperationService(writer, accountRepository, noBackoff);
+        DepositCommand cmd = new DepositCommand(account.getId(), Money.of("100"));
+        OperationAttempt attempt = service.tryHandle(cmd);
+
+        assertThat(attempt).isInstanceOf(OperationRejection.class);
+        assertThat(((OperationRejection) attempt).reason()).isEqualTo(RejectionReason.CEILING_EXCEEDED);
+        assertThatThrownBy(() -> service.handle(cmd)).isInstanceOf(CeilingExceededException.class);
+    }
+
+    @Test
+    void refused_guarded_withdraw_should_be_replayed_by_the_domain_rule() {
+        AccountRepository accountRepository = new DepositServiceTest.InMemoryAccountRepository();
+        Account account = Account.openCurrent(Money.of("-50"), clock);
+        accountRepository.save(account);
+        GuardedBalanceWriter writer = operation -> Optional.empty();
+
+        WithdrawUseCase service = new GuardedOperationService(writer, accountRepository, noBackoff);
+        WithdrawCommand cmd = new WithdrawCommand(account.getId(), Money.of("100"));
+        OperationAttempt attempt = service.tryHandle(cmd);
+
+        assertThat(attempt).isInstanceOf(OperationRejection.class);
+        assertThat(((OperationRejection) attempt).reason()).isEqualTo(RejectionReason.INSUFFICIENT_FUNDS);
+        assertThatThrownBy(() -> service.handle(cmd)).isInstanceOf(InsufficientFundsException.class);
+    }
+
+    @Test
+    void refused_guard_accepted_by_domain_should_retry_then_report_conflict() {
+        AccountRepository accountRepository = new DepositServiceTest.InMemoryAccountRepository();
+        Account account = Account.openSavings(Money.of("500"), clock);
+        accountRepository.save(account);
+        int[] calls = {0};
+        GuardedBalanceWriter writer = operation -> {
+            calls[0]++;
+            return Optional.empty();
+        };
+
+        DepositUseCase service = new GuardedOperationService(writer, accountRepository, noBackoff);
+
+        assertThatThrownBy(() -> service.handle(new DepositCommand(account.getId(), Money.of("10"))))
+                .isInstanceOf(AccountConcurrentUpdateApplicationException.class);
+        assertThat(calls[0]).isEqualTo(3);
+    }
+}
@@ -0,0 +1,334 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.CommandJournal;
+import fr.exalt.bankaccount.application.port.out.LedgerStore;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LedgerEngineTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+    InMemoryLedgerStore store = new InMemoryLedgerStore();
+    StoreBackedAccountRepository accounts = new StoreBackedAccountRepository(store, clock);
+    DepositServiceTest.InMemoryOperationRepository operations = new DepositServiceTest.InMemoryOperationRepository();
+    InMemoryJournal journal = new InMemoryJournal();
+    TransactionRunner direct = new TransactionRunner() {
+        @Override public <T> T inTransaction(Supplier<T> work) { return work.get(); }
+    };
+
+    LedgerEngine engine;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (engine != null) engine.close();
+    }
+
+    @Test
+    void concurrent_commands_are_applied_in_memory_and_persisted_asynchronously() throws Exception {
+        Account account = accounts.open(Account.openCurrent(Money.of("-100"), clock));
+        List<Operation> outbox = Collections.synchronizedList(new ArrayList<>());
+        engine = new LedgerEngine(accounts, operations, store, direct, journal, 64, outbox::add,
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<OperationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            results.add(callers.submit(() -> engine.handle(new DepositCommand(account.getId(), Money.of("2")))));
+            results.add(callers.submit(() -> engine.handle(new WithdrawCommand(account.getId(), Money.of("1")))));
+        }
+        for (Future<OperationResult> result : results) result.get();
+        callers.shutdown();
+        engine.close();
+
+        // Tampon de 64 emplacements pour 800 commandes : la contre-pression a joué sans perte
+        assertThat(store.balances.get(account.getId())).isEqualTo(Money.of("400"));
+        assertThat(operations.saved).hasSize(800);
+        assertThat(outbox).isEqualTo(operations.saved);
+        assertThat(store.checkpoint()).isEqualTo(799);
+        // Arrêt propre, tout est en base : le journal est vidé
+        assertThat(journal.durable).isEmpty();
+    }
+
+    @Test
+    void rejection_invalid_amount_and_missing_account_do_not_stop_the_engine() throws Exception {
+        Account savings = accounts.open(Account.openSavings(Money.of("100"), clock));
+        engine = new LedgerEngine(accounts, operations, store, direct, journal, 8, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        assertThat(engine.tryHandle(new DepositCommand(savings.getId(), Money.of("60")))).isInstanceOf(OperationResult.class);
+        OperationAttempt refused = engine.tryHandle(new DepositCommand(savings.getId(), Money.of("60")));
+        assertThat(refused).isInstanceOf(OperationRejection.class);
+        assertThat(((OperationRejection) refused).reason()).isEqualTo(RejectionReason.CEILING_EXCEEDED);
+        assertThatThrownBy(() -> engine.handle(new DepositCommand(savings.getId(), Money.of("60"))))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        // Montant invalide : refusé sur le thread appelant, rien n'est journalisé
+        assertThatThrownBy(() -> engine.handle(new WithdrawCommand(savings.getId(), Money.zero())))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> engine.handle(new DepositCommand(AccountId.newId(), Money.of("1"))))
+                .isInstanceOf(AccountNotFoundApplicationException.class);
+        assertThat(engine.handle(new WithdrawCommand(savings.getId(), Money.of("10"))).newBalance()).isEqualTo(Money.of("50"));
+        engine.close();
+
+        assertThat(store.balances.get(savings.getId())).isEqualTo(Money.of("50"));
+        assertThat(operations.saved).hasSize(2);
+        assertThat(journal.appended).isEqualTo(5);
+        assertThat(journal.durable).isEmpty();
+        assertThat(store.checkpoint()).isEqualTo(4);
+    }
+
+    @Test
+    void journal_is_replayed_after_a_stop_before_persistence() throws Exception {
+        Account account = accounts.open(Account.openCurrent(Money.of("-100"), clock));
+        TransactionRunner databaseDown = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) { throw new IllegalStateException("database down"); }
+        };
+        engine = new LedgerEngine(accounts, operations, store, databaseDown, journal, 8, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        // Réponses données dès la journalisation, alors que la base est indisponible
+        List<Operation> acknowledged = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            acknowledged.add(engine.handle(new DepositCommand(account.getId(), Money.of("10"))).operation());
+        }
+        engine.close();
+        assertThat(store.balances).doesNotContainKey(account.getId());
+        assertThat(operations.saved).isEmpty();
+
+        engine = new LedgerEngine(accounts, operations, store, direct, journal, 8, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        assertThat(store.balances.get(account.getId())).isEqualTo(Money.of("30"));
+        assertThat(operations.saved).extracting(Operation::id)
+                .containsExactlyElementsOf(acknowledged.stream().map(Operation::id).toList());
+        assertThat(journal.durable).isEmpty();
+        assertThat(engine.handle(new WithdrawCommand(account.getId(), Money.of("5"))).newBalance()).isEqualTo(Money.of("25"));
+        engine.close();
+        assertThat(store.checkpoint()).isEqualTo(3);
+    }
+
+    @Test
+    void journal_is_compacted_up_to_the_persisted_checkpoint_while_running() throws Exception {
+        Account account = accounts.open(Account.openCurrent(Money.of("-100"), clock));
+        engine = new LedgerEngine(accounts, operations, store, direct, journal, 8, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        for (int i = 0; i < 100; i++) {
+            engine.handle(new DepositCommand(account.getId(), Money.of("1")));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (store.checkpoint() < 99 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        // Prochain flush : au moins 64 entrées (8 tours de tampon) sont en base et peuvent être retirées
+        engine.handle(new DepositCommand(account.getId(), Money.of("1")));
+        engine.close();
+
+        assertThat(journal.compactions).isNotEmpty();
+        assertThat(journal.compactions.get(0)).isBetween(63L, 99L);
+        assertThat(journal.durable).isEmpty();
+        assertThat(store.balances.get(account.getId())).isEqualTo(Money.of("101"));
+    }
+
+    @Test
+    void journal_failure_fails_pending_commands_and_rejects_new_ones() throws Exception {
+        Account account = accounts.open(Account.openCurrent(Money.of("-100"), clock));
+        CommandJournal diskFull = new InMemoryJournal() {
+            @Override public void flush() { throw new UncheckedIOException(new IOException("No space left on device")); }
+        };
+        engine = new LedgerEngine(accounts, operations, store, direct, diskFull, 8, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        List<Future<OperationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(callers.submit(() -> engine.handle(new DepositCommand(account.getId(), Money.of("1")))));
+        }
+        // Aucun appelant ne reste bloqué : chacun reçoit l'échec du journal ou le refus du moteur en échec
+        for (Future<OperationResult> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOf(IllegalStateException.class)
+                    .rootCause().isInstanceOf(IOException.class);
+        }
+        callers.shutdown();
+        assertThatThrownBy(() -> engine.handle(new DepositCommand(account.getId(), Money.of("1"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Ledger engine has failed");
+
+        engine.close();
+        assertThat(operations.saved).isEmpty();
+        assertThat(store.balances).doesNotContainKey(account.getId());
+    }
+
+    @Test
+    void database_refusing_every_attempt_fails_the_engine_and_keeps_the_journal() throws Exception {
+        Account account = accounts.open(Account.openCurrent(Money.of("-100"), clock));
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionRunner constraintViolation = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("constraint violation");
+            }
+        };
+        engine = new LedgerEngine(accounts, operations, store, constraintViolation, journal, 8, OperationOutbox.noop(), 3);
+
+        Operation acknowledged = engine.handle(new DepositCommand(account.getId(), Money.of("10"))).operation();
+        // Trois tentatives espacées de 200 ms, puis le moteur refuse les commandes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Throwable refused = null;
+        while (refused == null && System.nanoTime() < deadline) {
+            try {
+                engine.handle(new DepositCommand(account.getId(), Money.of("1")));
+                Thread.sleep(20);
+            } catch (IllegalStateException e) {
+                refused = e;
+            }
+        }
+        assertThat(refused).hasMessage("Ledger engine has failed")
+                .cause().hasMessageStartingWith("Cannot persist ledger entries")
+                .cause().hasMessage("constraint violation");
+        assertThat(attempts.get()).isEqualTo(3);
+        engine.close();
+
+        // Rien n'est perdu : les entrées acquittées sont rejouées au redémarrage
+        engine = new LedgerEngine(accounts, operations, store, direct, journal, 8, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+        assertThat(operations.saved).extracting(Operation::id).startsWith(acknowledged.id());
+        assertThat(store.balances.get(account.getId())).isEqualTo(Money.ofCents(operations.saved.stream().mapToLong(operation -> operation.amount().cents()).sum()));
+    }
+
+    @Test
+    void persistence_backlog_is_sized_from_the_ring() throws Exception {
+        Account account = accounts.open(Account.openCurrent(Money.of("-100"), clock));
+        CountDownLatch databaseBack = new CountDownLatch(1);
+        TransactionRunner stalled = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) {
+                try {
+                    databaseBack.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return work.get();
+            }
+        };
+        engine = new LedgerEngine(accounts, operations, store, stalled, journal, 4, OperationOutbox.noop(),
+                LedgerEngine.DEFAULT_PERSIST_ATTEMPTS);
+
+        AtomicInteger completed = new AtomicInteger();
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        Future<?> commands = caller.submit(() -> {
+            for (int i = 0; i < 100; i++) {
+                engine.handle(new DepositCommand(account.getId(), Money.of("1")));
+                completed.incrementAndGet();
+            }
+        });
+        caller.shutdown();
+
+        // Base bloquée : le thread métier s'arrête une fois la file d'écriture pleine (4 emplacements × 8 tours),
+        // en plus du lot déjà pris par le thread d'écriture
+        try {
+            assertThatThrownBy(() -> commands.get(1, TimeUnit.SECONDS)).isInstanceOf(TimeoutException.class);
+            assertThat(completed.get()).isBetween(4 * 8, 4 * 8 + 4);
+        } finally {
+            databaseBack.countDown();
+        }
+        commands.get(5, TimeUnit.SECONDS);
+        engine.close();
+        assertThat(store.balances.get(account.getId())).isEqualTo(Money.of("100"));
+    }
+
+    static final class InMemoryLedgerStore implements LedgerStore {
+        final Map<AccountId, Money> balances = new ConcurrentHashMap<>();
+        volatile long checkpoint = -1;
+
+        @Override public long checkpoint() { return checkpoint; }
+        @Override public void saveBalances(Map<AccountId, Money> values) { balances.putAll(values); }
+        @Override public void saveCheckpoint(long sequence) { checkpoint = sequence; }
+    }
+
+    /** Relit chaque compte avec le solde écrit par le moteur, comme une base. */
+    static final class StoreBackedAccountRepository implements AccountRepository {
+        final Map<AccountId, Account> opened = new HashMap<>();
+        final InMemoryLedgerStore store;
+        final Clock clock;
+
+        StoreBackedAccountRepository(InMemoryLedgerStore store, Clock clock) {
+            this.store = store;
+            this.clock = clock;
+        }
+
+        Account open(Account account) {
+            opened.put(account.getId(), account);
+            return account;
+        }
+
+        @Override public Account save(Account account) { return open(account); }
+
+        @Override public Account findById(AccountId id) {
+            Account account = opened.get(id);
+            if (account == null) return null;
+            return Account.rehydrate(id, account.getType(), store.balances.getOrDefault(id, account.getBalance()),
+                    account.getOverdraft(), account.getCeiling(), clock);
+        }
+    }
+
+    static class InMemoryJournal implements CommandJournal {
+        final List<Entry> pending = new ArrayList<>();
+        final List<Entry> durable = new ArrayList<>();
+        final List<Long> compactions = new ArrayList<>();
+        int appended;
+
+        @Override public void append(Entry entry) { pending.add(entry); appended++; }
+        @Override public void flush() { durable.addAll(pending); pending.clear(); }
+        @Override public void replay(long afterSequence, Consumer<Entry> consumer) {
+            durable.stream().filter(entry -> entry.sequence() > afterSequence).forEach(consumer);
+        }
+        @Override public void compact(long upToSequence) {
+            durable.removeIf(entry -> entry.sequence() <= upToSequence);
+            compactions.add(upToSequence);
+        }
+        @Override public void truncate() { durable.clear(); }
+        @Override public void close() {}
+    }
+}
@@ -0,0 +1,98 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountPage;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.port.out.AccountListReader;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ListAccountsServiceTest {
+
+    ListReader reader = new ListReader();
+    ListAccountsService service = new ListAccountsService(reader);
+
+    @Test
+    void pages_resume_after_the_last_account_and_stop_on_the_last_page() {
+        for (int i = 0; i < 5; i++) reader.add(Account.Type.CURRENT, "" + i);
+
+        AccountPage first = service.handle(new AccountListQuery(null, null, null, null, 2));
+        AccountPage second = service.handle(new AccountListQuery(null, null, null, first.next(), 2));
+        AccountPage last = service.handle(new AccountListQuery(null, null, null, second.next(), 2));
+
+        assertThat(first.accounts()).extracting(AccountView::balance).containsExactly(Money.of("0"), Money.of("1"));
+        assertThat(second.accounts()).extracting(AccountView::balance).containsExactly(Money.of("2"), Money.of("3"));
+        assertThat(last.accounts()).extracting(AccountView::balance).containsExactly(Money.of("4"));
+        assertThat(last.next()).isNull();
+        // Un compte de plus que la page est demandé pour savoir s'il reste une page
+        assertThat(reader.limits).containsExactly(3, 3, 3);
+    }
+
+    @Test
+    void filters_are_passed_to_the_reader() {
+        reader.add(Account.Type.CURRENT, "10");
+        reader.add(Account.Type.SAVINGS, "20");
+        reader.add(Account.Type.SAVINGS, "300");
+
+        AccountPage page = service.handle(new AccountListQuery(Account.Type.SAVINGS, Money.of("0"), Money.of("100"), null, 10));
+
+        assertThat(page.accounts()).extracting(AccountView::balance).containsExactly(Money.of("20"));
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void page_size_and_balance_range_are_bounded() {
+        assertThatThrownBy(() -> service.handle(new AccountListQuery(null, null, null, null, 0)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> service.handle(new AccountListQuery(null, null, null, null, ListAccountsService.MAX_LIMIT + 1)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> service.handle(new AccountListQuery(Account.Type.CURRENT, Money.of("10"), Money.of("5"), null, 10)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThat(reader.limits).isEmpty();
+    }
+
+    @Test
+    void balance_filter_without_a_type_is_rejected() {
+        assertThatThrownBy(() -> service.handle(new AccountListQuery(null, Money.of("10"), null, null, 10)))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Balance filter requires an account type");
+        assertThatThrownBy(() -> service.handle(new AccountListQuery(null, null, Money.of("10"), null, 10)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThat(reader.limits).isEmpty();
+    }
+
+    /** Comptes dans l'ordre d'insertion, qui tient lieu d'ordre des identifiants. */
+    static class ListReader implements AccountListReader {
+        final List<AccountView> views = new ArrayList<>();
+        final List<Integer> limits = new ArrayList<>();
+
+        void add(Account.Type type, String balance) {
+            views.add(new AccountView(AccountId.newId(), type, Money.of(balance), null, null, 0));
+        }
+
+        @Override
+        public List<AccountView> findPage(AccountListQuery query) {
+            limits.add(query.limit());
+            int start = 0;
+            if (query.after() != null) {
+                while (!views.get(start).accountId().equals(query.after())) start++;
+                start++;
+            }
+            return views.subList(start, views.size()).stream()
+                    .filter(view -> query.type() == null || view.type() == query.type())
+                    .filter(view -> query.minBalance() == null || !view.balance().isLessThan(query.minBalance()))
+                    .filter(view -> query.maxBalance() == null || !view.balance().isGreaterThan(query.maxBalance()))
+                    .limit(query.limit())
+                    .toList();
+        }
+    }
+}
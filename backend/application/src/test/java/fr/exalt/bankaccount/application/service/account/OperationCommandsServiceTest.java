@@ -0,0 +1,146 @@
+package fr.exalt.bankaccount.application.service.account;
+
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommandsResult;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.ProcessedCommandStore;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.DEPOSIT;
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.WITHDRAWAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationCommandsServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+    InMemoryAccounts accounts = new InMemoryAccounts();
+    List<Operation> saved = new ArrayList<>();
+    List<Operation> outbox = new ArrayList<>();
+    OperationRepository operations = new OperationRepository() {
+        @Override public Operation save(Operation operation) { saved.add(operation); return operation; }
+        @Override public List<Operation> findByAccountIdBetween(AccountId accountId, Instant from, Instant to) { return List.of(); }
+    };
+    Set<UUID> processedIds = new HashSet<>();
+    ProcessedCommandStore processed = new ProcessedCommandStore() {
+        @Override public Set<UUID> findProcessed(Collection<UUID> commandIds) {
+            return commandIds.stream().filter(processedIds::contains).collect(Collectors.toSet());
+        }
+        @Override public void saveAll(Collection<UUID> commandIds) { processedIds.addAll(commandIds); }
+    };
+    AtomicInteger transactions = new AtomicInteger();
+    TransactionRunner transactionRunner = new TransactionRunner() {
+        @Override public <T> T inTransaction(Supplier<T> work) { transactions.incrementAndGet(); return work.get(); }
+    };
+
+    OperationCommandsService service = new OperationCommandsService(accounts, operations, processed, transactionRunner,
+            ConflictRetry.defaults(), AccountViewCache.noop(), outbox::add);
+
+    @Test
+    void batch_is_applied_in_order_per_account_in_one_transaction() {
+        Account first = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account second = accounts.save(Account.openCurrent(Money.of("0"), clock));
+
+        OperationCommandsResult result = service.handle(List.of(
+                command(first.getId(), DEPOSIT, "50"),
+                command(second.getId(), DEPOSIT, "20"),
+                command(first.getId(), WITHDRAWAL, "120"),
+                command(second.getId(), WITHDRAWAL, "30")));
+
+        // Le dernier retrait dépasse le découvert (nul) du second compte
+        assertThat(result).isEqualTo(new OperationCommandsResult(3, 1, 0));
+        assertThat(transactions.get()).isEqualTo(1);
+        assertThat(accounts.accountSaves.get()).isEqualTo(2);
+        assertThat(accounts.findById(first.getId()).getBalance()).isEqualTo(Money.of("-70"));
+        assertThat(accounts.findById(second.getId()).getBalance()).isEqualTo(Money.of("20"));
+        assertThat(saved).hasSize(3);
+        assertThat(outbox).isEqualTo(saved);
+        assertThat(processedIds).hasSize(4);
+    }
+
+    @Test
+    void redelivered_and_repeated_commands_are_applied_once() {
+        Account account = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        OperationCommand deposit = command(account.getId(), DEPOSIT, "10");
+        OperationCommand other = command(account.getId(), DEPOSIT, "5");
+
+        OperationCommandsResult firstDelivery = service.handle(List.of(deposit, deposit));
+        OperationCommandsResult redelivery = service.handle(List.of(deposit, other));
+
+        assertThat(firstDelivery).isEqualTo(new OperationCommandsResult(1, 0, 1));
+        assertThat(redelivery).isEqualTo(new OperationCommandsResult(1, 0, 1));
+        assertThat(accounts.findById(account.getId()).getBalance()).isEqualTo(Money.of("15"));
+        assertThat(saved).hasSize(2);
+    }
+
+    @Test
+    void unknown_account_and_invalid_amount_are_rejected_and_marked_processed() {
+        Account account = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        OperationCommand unknown = command(AccountId.newId(), DEPOSIT, "10");
+        OperationCommand negative = command(account.getId(), DEPOSIT, "-10");
+
+        OperationCommandsResult result = service.handle(List.of(unknown, negative));
+        OperationCommandsResult replay = service.handle(List.of(unknown, negative));
+
+        assertThat(result).isEqualTo(new OperationCommandsResult(0, 2, 0));
+        assertThat(replay).isEqualTo(new OperationCommandsResult(0, 0, 2));
+        assertThat(saved).isEmpty();
+        assertThat(accounts.accountSaves.get()).isZero();
+    }
+
+    @Test
+    void overflowing_balance_is_rejected_and_marked_processed_without_failing_the_batch() {
+        Account account = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account other = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        OperationCommand largest = new OperationCommand(UUID.randomUUID(), account.getId(), DEPOSIT, Money.ofCents(Long.MAX_VALUE));
+        OperationCommand overflow = command(account.getId(), DEPOSIT, "0.01");
+
+        OperationCommandsResult result = service.handle(List.of(
+                largest, overflow, command(account.getId(), WITHDRAWAL, "1"), command(other.getId(), DEPOSIT, "5")));
+        OperationCommandsResult replay = service.handle(List.of(overflow));
+
+        assertThat(result).isEqualTo(new OperationCommandsResult(3, 1, 0));
+        assertThat(replay).isEqualTo(new OperationCommandsResult(0, 0, 1));
+        assertThat(accounts.findById(account.getId()).getBalance()).isEqualTo(Money.ofCents(Long.MAX_VALUE - 100));
+        assertThat(accounts.findById(other.getId()).getBalance()).isEqualTo(Money.of("5"));
+        assertThat(processedIds).contains(overflow.commandId());
+    }
+
+    private static OperationCommand command(AccountId accountId, Operation.Type type, String amount) {
+        return new OperationCommand(UUID.randomUUID(), accountId, type, Money.of(amount));
+    }
+
+    static final class InMemoryAccounts implements AccountRepository {
+        final Map<AccountId, Account> store = new HashMap<>();
+        final AtomicInteger accountSaves = new AtomicInteger();
+
+        @Override public Account save(Account account) { store.put(account.getId(), account); return account; }
+        @Override public Account findById(AccountId id) { return store.get(id); }
+        @Override public void saveAll(Collection<Account> accounts) {
+            accountSaves.addAndGet(accounts.size());
+            accounts.forEach(this::save);
+        }
+    }
+}
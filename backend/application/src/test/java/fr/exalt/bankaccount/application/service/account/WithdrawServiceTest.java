@@ -2,12 +2,18 @@ package fr.exalt.bankaccount.application.service.account;
 
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
 import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
 import fr.exalt.bankaccount.domain.model.exception.InsufficientFundsException;
 import fr.exalt.bankaccount.domain.model.money.Money;
@@ -49,6 +55,11 @@ public class WithdrawServiceTest {
         }
     }
 
+    static WithdrawService withdrawService(AccountRepository accountRepository, OperationRepository operationRepository) {
+        return new WithdrawService(accountRepository, operationRepository, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+    }
+
     Clock clock = Clock.fixed(Instant.parse("2025-10-21T08:00:00Z"), ZoneOffset.UTC);
     Instant before = Instant.now().minus(31l, ChronoUnit.DAYS);
     Instant after = Instant.now().plus(31l, ChronoUnit.DAYS);
@@ -62,7 +73,7 @@ public class WithdrawServiceTest {
         Account account = Account.openCurrent(Money.of("-300"), clock);
         accountRepository.save(account);
 
-        WithdrawService service = new WithdrawService(accountRepository, operationRepository);
+        WithdrawService service = withdrawService(accountRepository, operationRepository);
         WithdrawCommand cmd = new WithdrawCommand(account.getId(), Money.of("200"));
 
         // when
@@ -89,7 +100,7 @@ public class WithdrawServiceTest {
         Account account = Account.openCurrent(Money.of("-300"), clock);
         accountRepository.save(account);
 
-        WithdrawService service = new WithdrawService(accountRepository, operationRepository);
+        WithdrawService service = withdrawService(accountRepository, operationRepository);
         WithdrawCommand cmd = new WithdrawCommand(account.getId(), Money.of("-200"));
 
         assertThatThrownBy(() -> service.handle(cmd)).isInstanceOf(BusinessRuleViolationException.class);
@@ -101,7 +112,7 @@ public class WithdrawServiceTest {
         AccountRepository accountRepository = new InMemoryAccountRepository();
         OperationRepository operationRepository = new InMemoryOperationRepository();
 
-        WithdrawService service = new WithdrawService(accountRepository, operationRepository);
+        WithdrawService service = withdrawService(accountRepository, operationRepository);
         Account account = Account.openCurrent(Money.of("-100"), clock);
         accountRepository.save(account);
 
@@ -111,12 +122,49 @@ public class WithdrawServiceTest {
         assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(0);
     }
 
+    @Test
+    void try_withdraw_exceeding_overdraft_should_return_rejection_without_persisting() {
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+
+        WithdrawService service = withdrawService(accountRepository, operationRepository);
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accountRepository.save(account);
+
+        OperationAttempt attempt = service.tryHandle(new WithdrawCommand(account.getId(), Money.of("102")));
+
+        assertThat(attempt).isInstanceOf(OperationRejection.class);
+        OperationRejection rejection = (OperationRejection) attempt;
+        assertThat(rejection.accountId()).isEqualTo(account.getId());
+        assertThat(rejection.reason()).isEqualTo(RejectionReason.INSUFFICIENT_FUNDS);
+        assertThat(rejection.message())
+                .isEqualTo("Insufficient funds: amount Money[value=102.00], balance Money[value=0.00], overdraft Money[value=-100.00]");
+        assertThat(accountRepository.findById(account.getId()).getBalance()).isEqualTo(Money.zero());
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(0);
+    }
+
+    @Test
+    void try_withdraw_within_overdraft_should_return_result_and_persist() {
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+
+        WithdrawService service = withdrawService(accountRepository, operationRepository);
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accountRepository.save(account);
+
+        OperationAttempt attempt = service.tryHandle(new WithdrawCommand(account.getId(), Money.of("100")));
+
+        assertThat(attempt).isInstanceOf(WithdrawResult.class);
+        assertThat(((WithdrawResult) attempt).newBalance()).isEqualTo(Money.of("-100"));
+        assertThat(operationRepository.findByAccountIdBetween(account.getId(), before, after).size()).isEqualTo(1);
+    }
+
     @Test
     void withdraw_unknown_account_should_throw_not_found() {
         AccountRepository accountRepository = new InMemoryAccountRepository();
         OperationRepository operationRepository = new InMemoryOperationRepository();
 
-        WithdrawService service = new WithdrawService(accountRepository, operationRepository);
+        WithdrawService service = withdrawService(accountRepository, operationRepository);
         AccountId unknownId = AccountId.newId();
 
         WithdrawCommand cmd = new WithdrawCommand(unknownId, Money.of("350"));
@@ -124,4 +172,23 @@ public class WithdrawServiceTest {
         assertThatThrownBy(() -> service.handle(cmd)).isInstanceOf(AccountNotFoundApplicationException.class);
         assertThat(operationRepository.findByAccountIdBetween(unknownId, before, after).size()).isEqualTo(0);
     }
+
+    @Test
+    void withdraw_should_append_the_operation_to_the_outbox() {
+        AccountRepository accountRepository = new InMemoryAccountRepository();
+        OperationRepository operationRepository = new InMemoryOperationRepository();
+        List<Operation> outbox = new ArrayList<>();
+
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accountRepository.save(account);
+        WithdrawService service = new WithdrawService(accountRepository, operationRepository, TransactionRunner.noop(),
+                ConflictRetry.defaults(), AccountViewCache.noop(), outbox::add);
+
+        WithdrawResult result = (WithdrawResult) service.tryHandle(new WithdrawCommand(account.getId(), Money.of("60")));
+        service.tryHandle(new WithdrawCommand(account.getId(), Money.of("60")));
+
+        // Le second retrait dépasse le découvert : refusé, rien dans la boîte d'envoi
+        assertThat(outbox.size()).isEqualTo(1);
+        assertThat(outbox.get(0)).isEqualTo(result.operation());
+    }
 }
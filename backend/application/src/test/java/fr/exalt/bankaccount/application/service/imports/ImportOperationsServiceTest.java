@@ -0,0 +1,141 @@
+package fr.exalt.bankaccount.application.service.imports;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus;
+import fr.exalt.bankaccount.application.dto.imports.ImportLine;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.application.service.account.ConflictRetry;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.DEPOSIT;
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.WITHDRAWAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportOperationsServiceTest {
+
+    Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+    InMemoryAccounts accounts = new InMemoryAccounts();
+    List<Operation> saved = new ArrayList<>();
+    OperationRepository operations = new OperationRepository() {
+        @Override public Operation save(Operation operation) { saved.add(operation); return operation; }
+        @Override public List<Operation> findByAccountIdBetween(AccountId accountId, Instant from, Instant to) { return List.of(); }
+    };
+    AtomicInteger transactions = new AtomicInteger();
+    TransactionRunner transactionRunner = new TransactionRunner() {
+        @Override public <T> T inTransaction(Supplier<T> work) { transactions.incrementAndGet(); return work.get(); }
+    };
+
+    ImportOperationsService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (service != null) service.close();
+    }
+
+    @Test
+    void lines_are_imported_chunk_by_chunk_with_one_transaction_per_chunk() {
+        Account first = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account second = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        List<Operation> outbox = new ArrayList<>();
+        service = new ImportOperationsService(accounts, operations, transactionRunner, ConflictRetry.defaults(), 100, clock,
+                AccountViewCache.noop(), outbox::add);
+        AtomicBoolean closed = new AtomicBoolean();
+
+        // 1000 lignes générées à la demande, alternées entre les deux comptes
+        ImportJobStatus submitted = service.submit(() -> LongStream.rangeClosed(1, 1000)
+                .mapToObj(n -> (ImportLine) new ImportLine.Parsed(n, n % 2 == 0 ? first.getId() : second.getId(), DEPOSIT, Money.of("1")))
+                .onClose(() -> closed.set(true)));
+        ImportJobStatus done = awaitEnd(submitted);
+
+        assertThat(done.state()).isEqualTo(ImportJobStatus.State.COMPLETED);
+        assertThat(done.linesRead()).isEqualTo(1000);
+        assertThat(done.accepted()).isEqualTo(1000);
+        assertThat(done.rejected()).isZero();
+        assertThat(transactions.get()).isEqualTo(10);
+        assertThat(accounts.accountSaves.get()).isEqualTo(20);
+        assertThat(accounts.findById(first.getId()).getBalance()).isEqualTo(Money.of("500"));
+        assertThat(saved).hasSize(1000);
+        assertThat(outbox).isEqualTo(saved);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void malformed_refused_and_unknown_account_lines_are_reported_without_stopping_the_import() {
+        Account savings = accounts.save(Account.openSavings(Money.of("100"), clock));
+        AccountId missing = AccountId.newId();
+        service = new ImportOperationsService(accounts, operations, transactionRunner, ConflictRetry.defaults(), 2, clock,
+                AccountViewCache.noop(), OperationOutbox.noop());
+
+        ImportJobStatus done = awaitEnd(service.submit(() -> Stream.of(
+                new ImportLine.Parsed(1, savings.getId(), DEPOSIT, Money.of("80")),
+                new ImportLine.Malformed(2, "Unreadable line"),
+                new ImportLine.Parsed(3, savings.getId(), DEPOSIT, Money.of("30")),
+                new ImportLine.Parsed(4, missing, DEPOSIT, Money.of("1")),
+                new ImportLine.Parsed(5, savings.getId(), WITHDRAWAL, Money.of("10")))));
+
+        assertThat(done.state()).isEqualTo(ImportJobStatus.State.COMPLETED);
+        assertThat(done.linesRead()).isEqualTo(5);
+        assertThat(done.accepted()).isEqualTo(2);
+        assertThat(done.rejections()).extracting(ImportJobStatus.RejectedLine::lineNumber).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(accounts.findById(savings.getId()).getBalance()).isEqualTo(Money.of("70"));
+    }
+
+    @Test
+    void failing_source_marks_the_job_as_failed() {
+        service = new ImportOperationsService(accounts, operations, transactionRunner, ConflictRetry.defaults(), 10, clock,
+                AccountViewCache.noop(), OperationOutbox.noop());
+
+        ImportJobStatus done = awaitEnd(service.submit(() -> { throw new IllegalStateException("disk gone"); }));
+
+        assertThat(done.state()).isEqualTo(ImportJobStatus.State.FAILED);
+        assertThat(done.error()).isEqualTo("disk gone");
+        assertThat(service.status(done.id())).isPresent();
+    }
+
+    private ImportJobStatus awaitEnd(ImportJobStatus submitted) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            ImportJobStatus status = service.status(submitted.id()).orElseThrow();
+            if (status.state() == ImportJobStatus.State.COMPLETED || status.state() == ImportJobStatus.State.FAILED) {
+                return status;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Import did not finish");
+    }
+
+    static final class InMemoryAccounts implements AccountRepository {
+        final Map<AccountId, Account> store = new HashMap<>();
+        final AtomicInteger accountSaves = new AtomicInteger();
+
+        @Override public Account save(Account account) { store.put(account.getId(), account); return account; }
+        @Override public Account findById(AccountId id) { return store.get(id); }
+        @Override public void saveAll(Collection<Account> accounts) {
+            accountSaves.addAndGet(accounts.size());
+            accounts.forEach(this::save);
+        }
+    }
+}
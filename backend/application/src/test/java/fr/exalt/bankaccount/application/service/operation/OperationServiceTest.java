@@ -1,9 +1,11 @@
 package fr.exalt.bankaccount.application.service.operation;
 
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
 import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
 import fr.exalt.bankaccount.domain.model.money.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -94,6 +96,54 @@ public class OperationServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("Pagination : reprise après (date, id), opérations de même date départagées par id")
+    void get_monthly_operations_page_by_page() {
+        Clock fixedClock = Clock.fixed(Instant.parse("2025-10-01T10:00:00Z"), ZoneOffset.UTC);
+        InMemoryOperationRepository repo = new InMemoryOperationRepository();
+        OperationService service = new OperationService(repo, fixedClock);
+
+        AccountId accountA = new AccountId(UUID.randomUUID());
+        Instant sameInstant = Instant.parse("2025-09-20T10:00:00Z");
+        OperationId low = new OperationId(UUID.fromString("00000000-0000-7000-8000-000000000001"));
+        OperationId high = new OperationId(UUID.fromString("f0000000-0000-7000-8000-000000000001"));
+        OperationId latest = OperationId.newId();
+        repo.save(new Operation(low, accountA, Money.of("10"), Operation.Type.DEPOSIT, sameInstant, ""));
+        repo.save(new Operation(latest, accountA, Money.of("10"), Operation.Type.DEPOSIT, Instant.parse("2025-09-30T10:00:00Z"), ""));
+        repo.save(new Operation(high, accountA, Money.of("10"), Operation.Type.DEPOSIT, sameInstant, ""));
+
+        OperationPage first = service.getMonthlyOperations(accountA, null, 2);
+        OperationPage last = service.getMonthlyOperations(accountA, first.next(), 2);
+
+        assertThat(first.operations()).extracting(Operation::id).containsExactly(latest, high);
+        assertThat(first.next()).isEqualTo(new OperationPage.Cursor(sameInstant, high));
+        assertThat(last.operations()).extracting(Operation::id).containsExactly(low);
+        assertThat(last.next()).isNull();
+
+        assertThatThrownBy(() -> service.getMonthlyOperations(accountA, null, OperationService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BusinessRuleViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Export : opérations du mois glissant remises une à une, de la plus récente à la plus ancienne")
+    void export_monthly_operations() {
+        Clock fixedClock = Clock.fixed(Instant.parse("2025-10-01T10:00:00Z"), ZoneOffset.UTC);
+        InMemoryOperationRepository repo = new InMemoryOperationRepository();
+        OperationService service = new OperationService(repo, fixedClock);
+
+        AccountId accountA = new AccountId(UUID.randomUUID());
+        OperationId recent = OperationId.newId();
+        OperationId older = OperationId.newId();
+        repo.save(new Operation(older, accountA, Money.of("10"), Operation.Type.DEPOSIT, Instant.parse("2025-09-10T10:00:00Z"), ""));
+        repo.save(new Operation(recent, accountA, Money.of("10"), Operation.Type.WITHDRAWAL, Instant.parse("2025-09-30T10:00:00Z"), ""));
+        repo.save(new Operation(OperationId.newId(), accountA, Money.of("10"), Operation.Type.DEPOSIT, Instant.parse("2025-08-01T10:00:00Z"), ""));
+
+        List<OperationId> exported = new ArrayList<>();
+        service.exportMonthlyOperations(accountA, operation -> exported.add(operation.id()));
+
+        assertThat(exported).containsExactly(recent, older);
+    }
+
     @Test
     @DisplayName("Cas non passant : accountId null -> IllegalArgumentException")
     void should_throw_illegal_exception() {
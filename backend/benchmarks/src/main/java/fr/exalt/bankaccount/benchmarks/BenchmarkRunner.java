@@ -0,0 +1,128 @@
+package fr.exalt.bankaccount.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point d'entrée des benchmarks JMH.
+ * <p>
+ * Lance les benchmarks sélectionnés avec le profiler GC (taux d'allocation, {@code gc.alloc.rate.norm}
+ * en octets par opération), écrit le résultat en CSV puis le compare à la baseline versionnée.
+ * </p>
+ *
+ * <pre>
+ * mvn -pl backend/benchmarks -am package -DskipTests
+ * java -jar backend/benchmarks/target/benchmarks.jar                 # tous les benchmarks du domaine
+ * java -jar backend/benchmarks/target/benchmarks.jar AccountBenchmark
+ * java -Dbench.updateBaseline=true -jar backend/benchmarks/target/benchmarks.jar
+ * </pre>
+ * Les benchmarks du package {@code postgres} nécessitent une base et ne sont lancés que sur demande explicite.
+ *
+ * Propriétés système :
+ * <ul>
+ *   <li>{@code bench.baseline} : fichier CSV de référence (défaut {@code backend/benchmarks/baseline/domain.csv})</li>
+ *   <li>{@code bench.result} : fichier CSV produit (défaut {@code backend/benchmarks/target/jmh-result.csv})</li>
+ *   <li>{@code bench.updateBaseline} : remplace la baseline par le résultat courant</li>
+ * </ul>
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_BASELINE = "backend/benchmarks/baseline/domain.csv";
+    private static final String DEFAULT_RESULT = "backend/benchmarks/target/jmh-result.csv";
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path baseline = Path.of(System.getProperty("bench.baseline", DEFAULT_BASELINE));
+        Path result = Path.of(System.getProperty("bench.result", DEFAULT_RESULT));
+        Files.createDirectories(result.toAbsolutePath().getParent());
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(result.toString());
+        if (args.length == 0) {
+            options.include(BenchmarkRunner.class.getPackageName() + "\\.domain\\..*");
+        } else {
+            for (String include : args) {
+                options.include(include);
+            }
+        }
+        new Runner(options.build()).run();
+
+        if (Boolean.getBoolean("bench.updateBaseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline mise à jour : " + baseline);
+        } else if (Files.exists(baseline)) {
+            printComparison(readScores(baseline), readScores(result));
+        } else {
+            System.out.println("Aucune baseline trouvée (" + baseline + "), comparaison ignorée.");
+        }
+    }
+
+    /**
+     * Affiche, pour chaque ligne présente dans les deux fichiers, l'écart relatif au score de référence.
+     * Les lignes {@code :gc.alloc.rate.norm} donnent l'écart d'allocation par opération.
+     */
+    private static void printComparison(Map<String, Score> baseline, Map<String, Score> current) {
+        System.out.println();
+        System.out.printf("%-70s %14s %14s %9s %s%n", "Benchmark", "Baseline", "Current", "Delta", "Unit");
+        String prefix = BenchmarkRunner.class.getPackageName() + ".";
+        current.forEach((key, score) -> {
+            Score reference = baseline.get(key);
+            String name = key.startsWith(prefix) ? key.substring(prefix.length()) : key;
+            if (reference == null) {
+                System.out.printf("%-70s %14s %14.3f %9s %s%n", name, "-", score.value(), "new", score.unit());
+                return;
+            }
+            String delta = reference.value() == 0
+                    ? (score.value() == 0 ? "=" : "n/a")
+                    : "%+.1f%%".formatted((score.value() - reference.value()) * 100 / reference.value());
+            System.out.printf("%-70s %14.3f %14.3f %9s %s%n", name, reference.value(), score.value(), delta, score.unit());
+        });
+    }
+
+    /**
+     * Lit un fichier CSV JMH (colonnes : Benchmark, Mode, Threads, Samples, Score, Score Error, Unit, Params...).
+     * Les paramètres éventuels sont ajoutés à la clé pour distinguer les variantes.
+     */
+    private static Map<String, Score> readScores(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            String[] cols = line.split(",");
+            if (cols.length < 7) {
+                continue;
+            }
+            StringBuilder key = new StringBuilder(unquote(cols[0]));
+            for (int i = 7; i < cols.length; i++) {
+                key.append(i == 7 ? " [" : ", ").append(unquote(cols[i]));
+                if (i == cols.length - 1) key.append(']');
+            }
+            scores.put(key.toString(), new Score(Double.parseDouble(unquote(cols[4])), unquote(cols[6])));
+        }
+        return scores;
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        return trimmed.startsWith("\"") && trimmed.endsWith("\"")
+                ? trimmed.substring(1, trimmed.length() - 1)
+                : trimmed;
+    }
+
+    private record Score(double value, String unit) {}
+}
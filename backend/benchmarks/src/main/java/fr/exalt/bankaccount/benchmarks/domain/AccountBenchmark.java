@@ -0,0 +1,69 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'une commande sur l'agrégat {@link Account} (dépôt, retrait, réhydratation).
+ * <p>
+ * Les comptes sont recréés à chaque itération avec des limites très larges :
+ * on mesure le chemin nominal, jamais le chemin de rejet.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountBenchmark {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final AccountId accountId = AccountId.newId();
+    private final Money amount = Money.of("10.00");
+    private final Money persistedBalance = Money.of("1250.42");
+    private final Money persistedOverdraft = Money.of("-500");
+    private final Money persistedCeiling = Money.of("10000");
+
+    private Account current;
+    private Account savings;
+
+    @Setup(Level.Iteration)
+    public void openAccounts() {
+        current = Account.openCurrent(Money.of("-1000000000000"), clock);
+        savings = Account.openSavings(Money.of("1000000000000"), clock);
+    }
+
+    @Benchmark
+    public Operation deposit_current() {
+        return current.deposit(amount);
+    }
+
+    @Benchmark
+    public Operation deposit_savings() {
+        return savings.deposit(amount);
+    }
+
+    @Benchmark
+    public Operation withdraw_current() {
+        return current.withdraw(amount);
+    }
+
+    @Benchmark
+    public Account rehydrate_current() {
+        return Account.rehydrate(accountId, Account.Type.CURRENT, persistedBalance, persistedOverdraft, null, clock);
+    }
+
+    @Benchmark
+    public Account rehydrate_savings() {
+        return Account.rehydrate(accountId, Account.Type.SAVINGS, persistedBalance, null, persistedCeiling, clock);
+    }
+}
@@ -0,0 +1,104 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.benchmarks.domain.reference.PolicyBasedAccount;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hiérarchie scellée ({@code CurrentAccount} / {@code SavingsAccount}) contre agrégat à policies
+ * ({@link PolicyBasedAccount}).
+ * <p>
+ * Chaque invocation traite un lot de {@value #BATCH} comptes mélangés (courants et épargne en alternance),
+ * comme le ferait un service qui charge des comptes de types différents : les sites d'appel voient
+ * les deux implémentations. Score par invocation, donc à diviser par {@value #BATCH} pour un coût par commande.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountHierarchyBenchmark {
+
+    static final int BATCH = 64;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final Money amount = Money.of("10.00");
+    private final AccountId accountId = AccountId.newId();
+    private final Money persistedBalance = Money.of("1250.42");
+    private final Money persistedOverdraft = Money.of("-500");
+    private final Money persistedCeiling = Money.of("10000");
+
+    private final Account[] sealed = new Account[BATCH];
+    private final PolicyBasedAccount[] policies = new PolicyBasedAccount[BATCH];
+
+    @Setup(Level.Iteration)
+    public void openAccounts() {
+        Money overdraft = Money.of("-1000000000000");
+        Money ceiling = Money.of("1000000000000");
+        for (int i = 0; i < BATCH; i++) {
+            boolean current = (i & 1) == 0;
+            sealed[i] = current ? Account.openCurrent(overdraft, clock) : Account.openSavings(ceiling, clock);
+            policies[i] = current
+                    ? PolicyBasedAccount.rehydrateCurrent(AccountId.newId(), Money.zero(), overdraft)
+                    : PolicyBasedAccount.rehydrateSavings(AccountId.newId(), Money.zero(), ceiling);
+        }
+    }
+
+    @Benchmark
+    public void deposit_sealed(Blackhole bh) {
+        for (Account account : sealed) {
+            bh.consume(account.deposit(amount));
+        }
+    }
+
+    @Benchmark
+    public void deposit_policies(Blackhole bh) {
+        for (PolicyBasedAccount account : policies) {
+            bh.consume(account.deposit(amount));
+        }
+    }
+
+    @Benchmark
+    public void rehydrate_sealed(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume((i & 1) == 0
+                    ? Account.rehydrate(accountId, Account.Type.CURRENT, persistedBalance, persistedOverdraft, null, clock)
+                    : Account.rehydrate(accountId, Account.Type.SAVINGS, persistedBalance, null, persistedCeiling, clock));
+        }
+    }
+
+    @Benchmark
+    public void rehydrate_policies(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume((i & 1) == 0
+                    ? PolicyBasedAccount.rehydrateCurrent(accountId, persistedBalance, persistedOverdraft)
+                    : PolicyBasedAccount.rehydrateSavings(accountId, persistedBalance, persistedCeiling));
+        }
+    }
+
+    @Benchmark
+    public void limits_sealed(Blackhole bh) {
+        for (Account account : sealed) {
+            bh.consume(account.getOverdraft());
+            bh.consume(account.getCeiling());
+        }
+    }
+
+    @Benchmark
+    public void limits_policies(Blackhole bh) {
+        for (PolicyBasedAccount account : policies) {
+            bh.consume(account.getOverdraft());
+            bh.consume(account.getCeiling());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.id.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de génération d'un identifiant : {@code UUID.randomUUID()} (SecureRandom) contre UUIDv7 par thread.
+ * Les variantes {@code _4threads} vérifient l'absence de contention entre threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator random = IdGenerator.random();
+    private final IdGenerator uuidV7 = IdGenerator.uuidV7();
+
+    @Benchmark
+    public UUID random() {
+        return random.next();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID random_4threads() {
+        return random.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7_4threads() {
+        return uuidV7.next();
+    }
+}
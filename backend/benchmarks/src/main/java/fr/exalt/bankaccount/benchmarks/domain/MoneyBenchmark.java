@@ -0,0 +1,47 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmétique et comparaisons de {@link Money}, appelées plusieurs fois par dépôt/retrait.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private Money balance;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        balance = Money.of("1250.42");
+        amount = Money.of("37.15");
+    }
+
+    @Benchmark
+    public Money add() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public boolean isLessThan() {
+        return balance.isLessThan(amount);
+    }
+
+    @Benchmark
+    public Money zero() {
+        return Money.zero();
+    }
+}
@@ -0,0 +1,66 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lecture / écriture d'un montant aux frontières REST et JPA : ancien aller-retour par {@code String}
+ * et {@link BigDecimal} contre {@link Money#parse(char[], int, int)} et {@link Money#format(char[], int)}
+ * sur les caractères du jeton JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyCodecBenchmark {
+
+    private char[] token;
+    private BigDecimal column;
+    private Money amount;
+    private char[] buffer;
+
+    @Setup
+    public void setUp() {
+        token = "1250.42".toCharArray();
+        column = new BigDecimal("1250.42");
+        amount = Money.of("1250.42");
+        buffer = new char[Money.MAX_FORMATTED_LENGTH];
+    }
+
+    /** Ancien chemin REST : jeton lu en BigDecimal puis {@code Money.of(String.valueOf(...))}. */
+    @Benchmark
+    public Money read_string_roundtrip() {
+        return Money.of(String.valueOf(new BigDecimal(token, 0, token.length)));
+    }
+
+    @Benchmark
+    public Money read_parse() {
+        return Money.parse(token, 0, token.length);
+    }
+
+    /** Ancien chemin JPA : {@code Money.of(column.toString())}. */
+    @Benchmark
+    public Money read_column_string() {
+        return Money.of(column.toString());
+    }
+
+    @Benchmark
+    public Money read_column_value_of() {
+        return Money.valueOf(column);
+    }
+
+    @Benchmark
+    public String write_plain_string() {
+        return amount.value().toPlainString();
+    }
+
+    @Benchmark
+    public int write_format() {
+        return amount.format(buffer, 0);
+    }
+}
@@ -0,0 +1,33 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Création d'une {@link Operation} via la factory (identifiant, horodatage, validations).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperationBenchmark {
+
+    private final AccountId accountId = AccountId.newId();
+    private final Money amount = Money.of("37.15");
+
+    @Benchmark
+    public Operation of_deposit() {
+        return Operation.of(accountId, amount, Operation.Type.DEPOSIT);
+    }
+
+    @Benchmark
+    public Operation of_withdrawal() {
+        return Operation.of(accountId, amount, Operation.Type.WITHDRAWAL);
+    }
+}
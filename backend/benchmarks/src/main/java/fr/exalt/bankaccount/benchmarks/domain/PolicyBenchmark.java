@@ -0,0 +1,42 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling;
+import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vérifications des règles de plafond et de découvert, sur le chemin accepté.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolicyBenchmark {
+
+    private final Money balance = Money.of("1250.42");
+    private final Money amount = Money.of("37.15");
+
+    private final FixedCeiling fixedCeiling = new FixedCeiling(Money.of("10000"));
+    private final FixedOverdraft fixedOverdraft = new FixedOverdraft(Money.of("-500"));
+    private final FixedOverdraft noOverdraft = FixedOverdraft.NONE;
+
+    @Benchmark
+    public void fixedCeiling_validateDeposit() {
+        fixedCeiling.validateDeposit(balance, amount);
+    }
+
+    @Benchmark
+    public void fixedOverdraft_validateWithdraw() {
+        fixedOverdraft.validateWithdraw(balance, amount);
+    }
+
+    @Benchmark
+    public void noOverdraft_validateWithdraw() {
+        noOverdraft.validateWithdraw(balance, amount);
+    }
+}
@@ -0,0 +1,66 @@
+package fr.exalt.bankaccount.benchmarks.domain;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût du chemin de rejet (plafond dépassé, fonds insuffisants) :
+ * exception levée puis rattrapée ({@code deposit}/{@code withdraw}) contre refus retourné comme valeur
+ * ({@code tryDeposit}/{@code tryWithdraw}). Le solde n'évolue jamais : chaque appel est refusé.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejectionBenchmark {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final Money amount = Money.of("10.00");
+
+    private Account current;
+    private Account savings;
+
+    @Setup(Level.Iteration)
+    public void openAccounts() {
+        current = Account.openCurrent(Money.zero(), clock);
+        savings = Account.openSavings(Money.of("5.00"), clock);
+    }
+
+    @Benchmark
+    public Object withdraw_throwing() {
+        try {
+            return current.withdraw(amount);
+        } catch (BusinessRuleViolationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public OperationOutcome withdraw_outcome() {
+        return current.tryWithdraw(amount);
+    }
+
+    @Benchmark
+    public Object deposit_throwing() {
+        try {
+            return savings.deposit(amount);
+        } catch (BusinessRuleViolationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public OperationOutcome deposit_outcome() {
+        return savings.tryDeposit(amount);
+    }
+}
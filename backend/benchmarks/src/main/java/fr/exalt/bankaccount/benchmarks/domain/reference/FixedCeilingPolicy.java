@@ -0,0 +1,22 @@
+package fr.exalt.bankaccount.benchmarks.domain.reference;
+
+import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/** Plafond fixe (livret), derrière {@link CeilingPolicy}. */
+public final class FixedCeilingPolicy implements CeilingPolicy {
+    private final FixedCeiling rule;
+
+    public FixedCeilingPolicy(Money ceiling) {
+        this.rule = new FixedCeiling(ceiling);
+    }
+
+    @Override
+    public void validateDeposit(Money balance, Money deposit) {
+        rule.validateDeposit(balance, deposit);
+    }
+
+    public Money getCeiling() {
+        return rule.getCeiling();
+    }
+}
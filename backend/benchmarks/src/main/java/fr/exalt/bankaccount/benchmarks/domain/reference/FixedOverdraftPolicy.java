@@ -0,0 +1,22 @@
+package fr.exalt.bankaccount.benchmarks.domain.reference;
+
+import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/** Découvert fixe (compte courant), derrière {@link OverdraftPolicy}. */
+public final class FixedOverdraftPolicy implements OverdraftPolicy {
+    private final FixedOverdraft rule;
+
+    public FixedOverdraftPolicy(Money overdraft) {
+        this.rule = new FixedOverdraft(overdraft);
+    }
+
+    @Override
+    public void validateWithdraw(Money balance, Money withdraw) {
+        rule.validateWithdraw(balance, withdraw);
+    }
+
+    public Money getOverdraft() {
+        return rule.getOverdraft();
+    }
+}
@@ -0,0 +1,15 @@
+package fr.exalt.bankaccount.benchmarks.domain.reference;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.Objects;
+
+/** Aucun plafond (compte courant) : tout dépôt est accepté. */
+public final class NoCeiling implements CeilingPolicy {
+
+    @Override
+    public void validateDeposit(Money balance, Money deposit) {
+        Objects.requireNonNull(balance, "balance");
+        Objects.requireNonNull(deposit, "deposit");
+    }
+}
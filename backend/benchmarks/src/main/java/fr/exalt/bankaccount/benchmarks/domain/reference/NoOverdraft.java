@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.benchmarks.domain.reference;
+
+import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/** Aucun découvert (livret), derrière {@link OverdraftPolicy}. */
+public final class NoOverdraft implements OverdraftPolicy {
+
+    @Override
+    public void validateWithdraw(Money balance, Money withdraw) {
+        FixedOverdraft.NONE.validateWithdraw(balance, withdraw);
+    }
+}
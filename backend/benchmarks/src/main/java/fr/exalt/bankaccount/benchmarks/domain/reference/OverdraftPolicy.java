@@ -0,0 +1,11 @@
+package fr.exalt.bankaccount.benchmarks.domain.reference;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Ancienne interface de découvert de l'agrégat à policies, conservée pour {@link PolicyBasedAccount}.
+ * Les implémentations délèguent aux règles du domaine : seul le dispatch par interface est mesuré.
+ */
+public interface OverdraftPolicy {
+    void validateWithdraw(Money balance, Money withdraw);
+}
@@ -0,0 +1,67 @@
+package fr.exalt.bankaccount.benchmarks.domain.reference;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Référence de mesure : chemin chaud de l'ancien agrégat {@code Account} à policies
+ * (une seule classe, règles déléguées à {@link CeilingPolicy} / {@link OverdraftPolicy},
+ * découvert et plafond exposés via {@code instanceof}).
+ * <p>
+ * Conservé uniquement pour comparer avec la hiérarchie scellée
+ * {@code CurrentAccount} / {@code SavingsAccount} ; n'est pas utilisé par l'application. Les policies
+ * de ce paquet délèguent aux règles du domaine ({@code FixedCeiling}, {@code FixedOverdraft}).
+ * </p>
+ */
+public final class PolicyBasedAccount {
+
+    private final AccountId id;
+    private Money balance;
+    private final CeilingPolicy ceilingPolicy;
+    private final OverdraftPolicy overdraftPolicy;
+
+    private PolicyBasedAccount(AccountId id, Money balance, CeilingPolicy ceilingPolicy, OverdraftPolicy overdraftPolicy) {
+        this.id = id;
+        this.balance = balance;
+        this.ceilingPolicy = ceilingPolicy;
+        this.overdraftPolicy = overdraftPolicy;
+    }
+
+    public static PolicyBasedAccount rehydrateCurrent(AccountId id, Money balance, Money overdraft) {
+        return new PolicyBasedAccount(id, balance, new NoCeiling(), new FixedOverdraftPolicy(overdraft));
+    }
+
+    public static PolicyBasedAccount rehydrateSavings(AccountId id, Money balance, Money ceiling) {
+        return new PolicyBasedAccount(id, balance, new FixedCeilingPolicy(ceiling), new NoOverdraft());
+    }
+
+    public Operation deposit(Money amount) {
+        if (amount == null || amount.isLessThanOrEqual(Money.zero())) {
+            throw new BusinessRuleViolationException("Deposit amount must be strictly positive");
+        }
+        ceilingPolicy.validateDeposit(balance, amount);
+        Operation op = Operation.of(id, amount, Operation.Type.DEPOSIT);
+        balance = op.applyTo(balance);
+        return op;
+    }
+
+    public Operation withdraw(Money amount) {
+        if (amount == null || amount.isLessThanOrEqual(Money.zero())) {
+            throw new BusinessRuleViolationException("Withdraw amount must be strictly positive");
+        }
+        overdraftPolicy.validateWithdraw(balance, amount);
+        Operation op = Operation.of(id, amount, Operation.Type.WITHDRAWAL);
+        balance = op.applyTo(balance);
+        return op;
+    }
+
+    public Money getOverdraft() {
+        return overdraftPolicy instanceof FixedOverdraftPolicy fo ? fo.getOverdraft() : null;
+    }
+
+    public Money getCeiling() {
+        return ceilingPolicy instanceof FixedCeilingPolicy fc ? fc.getCeiling() : null;
+    }
+}
@@ -0,0 +1,112 @@
+package fr.exalt.bankaccount.benchmarks.postgres;
+
+import fr.exalt.bankaccount.domain.model.id.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Localité des insertions dans un index B-tree PostgreSQL selon le générateur de clés.
+ * <p>
+ * Insère des lots de {@value #BATCH} lignes dans une table calquée sur {@code operations}
+ * (clé primaire {@code uuid}) et rapporte, en fin d'essai, la taille de l'index de clé primaire
+ * et le volume de WAL généré par ligne. Des clés aléatoires (v4) dispersent les insertions
+ * sur toutes les pages de l'index (splits, pages à moitié pleines, full-page writes) ;
+ * des clés v7 s'ajoutent en fin d'index.
+ * </p>
+ * Nécessite une base PostgreSQL (par exemple celle du {@code docker-compose.yml}) et n'est pas lancé par défaut :
+ * <pre>
+ * java -Dbench.pg.url=jdbc:postgresql://localhost:5432/bank -Dbench.pg.user=bank -Dbench.pg.password=... \
+ *      -jar backend/benchmarks/target/benchmarks.jar InsertLocalityBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class InsertLocalityBenchmark {
+
+    static final int BATCH = 500;
+    private static final String TABLE = "bench_insert_locality";
+
+    @Param({"random", "uuidV7"})
+    public String generator;
+
+    private IdGenerator ids;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long rows;
+    private String walStart;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        String url = System.getProperty("bench.pg.url");
+        if (url == null) {
+            throw new IllegalStateException("bench.pg.url is required (e.g. jdbc:postgresql://localhost:5432/bank)");
+        }
+        ids = "uuidV7".equals(generator) ? IdGenerator.uuidV7() : IdGenerator.random();
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.pg.user"), System.getProperty("bench.pg.password"));
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+            st.execute("CREATE TABLE " + TABLE + " (id uuid PRIMARY KEY, account_id uuid NOT NULL,"
+                    + " amount numeric(19,2) NOT NULL, at timestamptz NOT NULL)");
+            walStart = currentWalLsn(st);
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, account_id, amount, at) VALUES (?, ?, 10.00, now())");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert_batch() throws SQLException {
+        UUID accountId = ids.next();
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, ids.next());
+            insert.setObject(2, accountId);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        rows += BATCH;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement st = connection.createStatement()) {
+            long walBytes;
+            try (ResultSet rs = st.executeQuery("SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walStart + "')")) {
+                rs.next();
+                walBytes = rs.getLong(1);
+            }
+            long indexBytes;
+            try (ResultSet rs = st.executeQuery("SELECT pg_relation_size('" + TABLE + "_pkey')")) {
+                rs.next();
+                indexBytes = rs.getLong(1);
+            }
+            System.out.printf("%n[%s] rows=%d, pk index=%d kB (%.1f B/row), WAL=%.1f B/row%n",
+                    generator, rows, indexBytes / 1024, (double) indexBytes / rows, (double) walBytes / rows);
+            st.execute("DROP TABLE " + TABLE);
+        } finally {
+            insert.close();
+            connection.close();
+        }
+    }
+
+    private static String currentWalLsn(Statement st) throws SQLException {
+        try (ResultSet rs = st.executeQuery("SELECT pg_current_wal_lsn()")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
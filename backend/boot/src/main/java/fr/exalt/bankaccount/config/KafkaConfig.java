@@ -1,14 +1,46 @@
 package fr.exalt.bankaccount.config;
 
+import fr.exalt.bankaccount.application.port.in.ApplyOperationCommandsUseCase;
+import fr.exalt.bankaccount.infrastructure.messaging.OperationCommandListener;
+import fr.exalt.bankaccount.infrastructure.messaging.OperationOutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.backoff.FixedBackOff;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
 
+    private static final Duration MAX_COMMAND_RETRY_INTERVAL = Duration.ofSeconds(30);
+
     @Bean
     public NewTopic operationsTopic(
             @Value("${bank.kafka.topics.operations}") String topicName) {
@@ -18,4 +50,113 @@ public class KafkaConfig {
                 .build();
     }
 
+    @Bean
+    public NewTopic commandsTopic(
+            @Value("${bank.kafka.topics.commands}") String topicName,
+            @Value("${bank.kafka.commands.partitions:6}") int partitions) {
+        return TopicBuilder.name(topicName)
+                .partitions(partitions)
+                .replicas(1)
+                .build();
+    }
+
+    // ---- File de rebut des commandes d'opération : nom par défaut du DeadLetterPublishingRecoverer,
+    //      mêmes partitions que le topic source (une commande y garde sa partition)
+    @Bean
+    public NewTopic commandsDeadLetterTopic(
+            @Value("${bank.kafka.topics.commands}") String topicName,
+            @Value("${bank.kafka.commands.partitions:6}") int partitions) {
+        return TopicBuilder.name(topicName + ".DLT")
+                .partitions(partitions)
+                .replicas(1)
+                .build();
+    }
+
+    // ---- Relais de la boîte d'envoi des opérations : producteur dédié, réglé pour le débit
+    //      (lots, linger, compression) ; idempotent pour garder l'ordre par compte malgré les renvois
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "bank.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OperationOutboxRelay operationOutboxRelay(
+            DataSource dataSource, KafkaProperties kafkaProperties, Clock clock,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${bank.kafka.topics.operations}") String topicName,
+            @Value("${bank.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${bank.outbox.relay.poll-interval:50ms}") Duration pollInterval,
+            @Value("${bank.outbox.relay.send-timeout:30s}") Duration sendTimeout,
+            @Value("${bank.outbox.relay.producer.linger:20ms}") Duration linger,
+            @Value("${bank.outbox.relay.producer.batch-size:262144}") int producerBatchSize,
+            @Value("${bank.outbox.relay.producer.compression:lz4}") String compression) {
+        Map<String, Object> properties = kafkaProperties.buildProducerProperties(null);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, (int) linger.toMillis());
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, producerBatchSize);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // Clé et valeur déjà sérialisées par le relais (JSON), quels que soient les sérialiseurs par défaut
+        KafkaTemplate<String, String> template = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new StringSerializer()));
+        return new OperationOutboxRelay(dataSource, template, topicName, batchSize, pollInterval, sendTimeout, clock,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    // ---- Consommateur des commandes d'opération : lots d'un poll, un conteneur par partition,
+    //      offsets validés à la main (synchrones, dans l'ordre) après la transaction du lot.
+    //      Commande en échec (isolée par le listener) : rejouée avec une attente doublée à chaque fois,
+    //      au plus max-retries fois, puis publiée sur <topic>.DLT et dépassée.
+    //      Base indisponible : rejouée sans limite, jamais d'offset validé au-delà d'une commande non appliquée
+    @Bean
+    @ConditionalOnExpression("${bank.kafka.commands.consumer.enabled:true} and !${bank.accounts.engine.enabled:false}")
+    public ConcurrentKafkaListenerContainerFactory<String, String> operationCommandContainerFactory(
+            KafkaProperties kafkaProperties,
+            KafkaTemplate<?, ?> kafkaTemplate,
+            @Value("${bank.kafka.commands.partitions:6}") int partitions,
+            @Value("${bank.kafka.commands.max-poll-records:2000}") int maxPollRecords,
+            @Value("${bank.kafka.commands.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${bank.kafka.commands.max-retries:5}") int maxRetries) {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties(null);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(
+                new DefaultKafkaConsumerFactory<>(properties, new StringDeserializer(), new StringDeserializer()));
+        factory.setBatchListener(true);
+        factory.setConcurrency(partitions);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties().setSyncCommits(true);
+        factory.setCommonErrorHandler(operationCommandErrorHandler(kafkaTemplate, retryBackoff, maxRetries));
+        return factory;
+    }
+
+    private static DefaultErrorHandler operationCommandErrorHandler(KafkaTemplate<?, ?> kafkaTemplate,
+                                                                    Duration retryBackoff, int maxRetries) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(retryBackoff.toMillis());
+        backOff.setMultiplier(2);
+        backOff.setMaxInterval(MAX_COMMAND_RETRY_INTERVAL.toMillis());
+        // Message publié tel quel (producteur par défaut : chaînes), en-têtes de l'exception ajoutés
+        DefaultErrorHandler handler = new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate), backOff);
+        FixedBackOff outage = new FixedBackOff(retryBackoff.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS);
+        handler.setBackOffFunction((record, exception) -> databaseUnavailable(exception) ? outage : null);
+        return handler;
+    }
+
+    /** Échec lié à la base elle-même (connexion, délai, conflit) et non à la commande. */
+    private static boolean databaseUnavailable(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Bean
+    @ConditionalOnExpression("${bank.kafka.commands.consumer.enabled:true} and !${bank.accounts.engine.enabled:false}")
+    public OperationCommandListener operationCommandListener(ApplyOperationCommandsUseCase useCase,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OperationCommandListener(useCase, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
 }
@@ -0,0 +1,6 @@
+-- Point de reprise du moteur de comptes en mémoire (bank.accounts.engine)
+
+create table if not exists ledger_checkpoint (
+    id          smallint        primary key,
+    sequence    bigint          not null
+);
@@ -0,0 +1,5 @@
+-- Liste paginée des comptes (GET /accounts) : parcours par identifiant (UUIDv7, ordre d'ouverture).
+-- Sans filtre, la clé primaire suffit ; avec un filtre de type, la page suivante repart de cet index.
+-- Le solde n'est pas indexé : il est réécrit à chaque opération.
+
+create index if not exists idx_accounts_type_id on accounts(type, id);
@@ -0,0 +1,7 @@
+-- Historique paginé des opérations (GET /accounts/{id}/operations) : parcours descendant sur (at, id)
+-- pour un compte, arrêté après une page. L'identifiant départage les opérations de même date.
+-- L'index (account_id) seul devient redondant : il est remplacé.
+
+create index if not exists idx_ops_account_at on operations(account_id, at, id);
+
+drop index if exists idx_operations_account;
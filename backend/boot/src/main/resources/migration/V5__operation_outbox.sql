@@ -0,0 +1,12 @@
+-- Boîte d'envoi des événements d'opération (transactional outbox), vidée par le relais Kafka
+-- dans l'ordre de seq ; les lignes publiées sont supprimées
+
+create table if not exists operation_outbox (
+    seq           bigint          generated by default as identity primary key,
+    operation_id  uuid            not null,
+    account_id    uuid            not null,
+    type          varchar(20)     not null,
+    amount        numeric(19,2)   not null,
+    at            timestamptz     not null,
+    label         varchar(255)
+);
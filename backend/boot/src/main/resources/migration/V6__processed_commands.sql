@@ -0,0 +1,7 @@
+-- Identifiants des commandes d'opération déjà appliquées (consommateur Kafka) : une commande
+-- relivrée par le broker est reconnue et ignorée
+
+create table if not exists processed_commands (
+    command_id    uuid            primary key,
+    processed_at  timestamptz     not null
+);
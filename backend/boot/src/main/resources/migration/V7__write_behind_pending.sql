@@ -0,0 +1,8 @@
+-- Comptes dont le solde validé n'est peut-être pas encore écrit par le cache d'écriture différée :
+-- une ligne écrite avec l'opération, supprimée avec l'écriture du solde ; au démarrage, seuls ces
+-- comptes sont recalculés depuis les opérations
+
+create table if not exists write_behind_pending (
+    id            uuid            primary key,
+    account_id    uuid            not null
+);
@@ -6,6 +6,7 @@ import fr.exalt.bankaccount.BootApplication;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -14,6 +15,7 @@ import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,7 +45,15 @@ class BankAccountE2EIT {
         return http.postForEntity(url(path), req, type);
     }
 
+    private BigDecimal balanceOf(String accountId) throws Exception {
+        ResponseEntity<String> resp = http.getForEntity(url("/accounts/" + accountId), String.class);
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return json.readTree(resp.getBody()).get("balance").decimalValue();
+    }
+
+    // Actuator déclare aussi un RequestMappingHandlerMapping (controllerEndpointHandlerMapping)
     @Autowired
+    @Qualifier("requestMappingHandlerMapping")
     private org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping mapping;
 
     @Test
@@ -70,21 +80,37 @@ class BankAccountE2EIT {
         assertThat(depResp.getStatusCode()).isEqualTo(HttpStatus.OK);
         JsonNode depJson = json.readTree(depResp.getBody());
         assertThat(depJson.get("newBalance").decimalValue()).isEqualByComparingTo("200");
+        assertThat(balanceOf(accountId)).isEqualByComparingTo("200");
 
         // 3) Retrait 50
         var witResp = post("/accounts/" + accountId + "/withdraw", Map.of("amount", new BigDecimal("50")), String.class);
         assertThat(witResp.getStatusCode()).isEqualTo(HttpStatus.OK);
         JsonNode witJson = json.readTree(witResp.getBody());
         assertThat(witJson.get("newBalance").decimalValue()).isEqualByComparingTo("150");
+        // Lecture servie par le cache, mis à jour à la validation du retrait
+        assertThat(balanceOf(accountId)).isEqualByComparingTo("150");
 
         // 4) Lister opérations
         ResponseEntity<String> opsResp = http.getForEntity(url("/accounts/" + accountId + "/operations"), String.class);
         assertThat(opsResp.getStatusCode()).isEqualTo(HttpStatus.OK);
-        JsonNode ops = json.readTree(opsResp.getBody());
+        JsonNode page = json.readTree(opsResp.getBody());
+        assertThat(page.get("next").isNull()).isTrue();
+        JsonNode ops = page.get("operations");
         assertThat(ops.isArray()).isTrue();
         assertThat(ops).hasSize(2);
         assertThat(ops.get(0).get("type").asText()).isIn("DEPOSIT","WITHDRAWAL");
         assertThat(ops.get(1).get("type").asText()).isIn("DEPOSIT","WITHDRAWAL");
+
+        // 5) Même historique en NDJSON, une ligne par opération
+        HttpHeaders ndjson = new HttpHeaders();
+        ndjson.setAccept(List.of(MediaType.parseMediaType("application/x-ndjson")));
+        ResponseEntity<String> exportResp = http.exchange(url("/accounts/" + accountId + "/operations"),
+                HttpMethod.GET, new HttpEntity<>(ndjson), String.class);
+        assertThat(exportResp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> lines = exportResp.getBody().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(json.readTree(lines.get(0)).get("id").asText()).isEqualTo(ops.get(0).get("id").asText());
+        assertThat(json.readTree(lines.get(1)).get("id").asText()).isEqualTo(ops.get(1).get("id").asText());
     }
 
     // ---------- Scénario 2 : Compte épargne (ceiling appliqué) ----------
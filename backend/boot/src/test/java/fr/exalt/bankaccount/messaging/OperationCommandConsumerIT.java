@@ -0,0 +1,209 @@
+package fr.exalt.bankaccount.messaging;
+
+import fr.exalt.bankaccount.BootApplication;
+import fr.exalt.bankaccount.application.dto.account.openaccount.OpenCurrentAccountCommand;
+import fr.exalt.bankaccount.application.port.in.OpenCurrentAccountUseCase;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consommateur des commandes d'opération contre un broker embarqué : lots appliqués une seule fois malgré
+ * les relivraisons, messages illisibles écartés, commandes toxiques refusées ou mises en file de rebut,
+ * offsets validés jusqu'au bout de chaque partition.
+ */
+@SpringBootTest(classes = BootApplication.class, properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "bank.kafka.commands.consumer.enabled=true",
+        "bank.kafka.commands.partitions=3",
+        "bank.kafka.commands.max-poll-records=500",
+        "bank.kafka.commands.retry-backoff=50ms",
+        "bank.kafka.commands.max-retries=2",
+        "bank.kafka.topics.commands=" + OperationCommandConsumerIT.TOPIC
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@EmbeddedKafka(partitions = 3, topics = OperationCommandConsumerIT.TOPIC)
+class OperationCommandConsumerIT {
+
+    static final String TOPIC = "test.operation-commands";
+    private static final String GROUP = "bank-operation-commands";
+    private static final int ACCOUNTS = 12;
+    private static final int DEPOSITS_PER_ACCOUNT = 200;
+
+    @Autowired
+    EmbeddedKafkaBroker broker;
+
+    @Autowired
+    OpenCurrentAccountUseCase openCurrentAccount;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("commandes appliquées une fois, dans l'ordre par compte ; offsets validés après le commit")
+    void applies_each_command_once_and_commits_offsets() throws Exception {
+        // Base partagée avec les autres tests : on compte à partir de l'état initial
+        long processedBefore = count("processed_commands");
+        long outboxBefore = count("operation_outbox");
+        List<AccountId> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(openCurrentAccount.handle(new OpenCurrentAccountCommand(Money.of("0.00"))).accountId());
+        }
+
+        List<String[]> sent = new ArrayList<>();   // { clé, valeur }
+        for (int n = 0; n < DEPOSITS_PER_ACCOUNT; n++) {
+            for (AccountId account : accounts) {
+                sent.add(message(UUID.randomUUID(), account, "DEPOSIT", "1.00"));
+            }
+        }
+        // Relivraisons : les 100 premières commandes une seconde fois
+        List<String[]> redelivered = new ArrayList<>(sent.subList(0, 100));
+        sent.addAll(redelivered);
+        // Après les dépôts (même partition) : retrait au-delà du solde, refusé mais marqué traité
+        sent.add(message(UUID.randomUUID(), accounts.get(0), "WITHDRAWAL", "1000.00"));
+        // Illisibles : écartés sans bloquer la partition
+        sent.add(new String[] { accounts.get(1).value().toString(), "not json" });
+        sent.add(message(UUID.randomUUID(), accounts.get(2), "FEE", "1.00"));
+
+        Map<Integer, Long> endOffsets = send(sent);
+
+        long expectedProcessed = processedBefore + ACCOUNTS * DEPOSITS_PER_ACCOUNT + 1;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (!(count("processed_commands") == expectedProcessed && committed(endOffsets))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(count("processed_commands")).isEqualTo(expectedProcessed);
+        assertThat(count("operation_outbox")).isEqualTo(outboxBefore + ACCOUNTS * DEPOSITS_PER_ACCOUNT);
+        assertThat(jdbc.queryForObject("select count(*) from operations where type = 'WITHDRAWAL' and account_id = ?",
+                Long.class, accounts.get(0).value())).isZero();
+        for (AccountId account : accounts) {
+            BigDecimal balance = jdbc.queryForObject(
+                    "select balance from accounts where id = ?", BigDecimal.class, account.value());
+            assertThat(balance).isEqualByComparingTo(String.valueOf(DEPOSITS_PER_ACCOUNT));
+        }
+        assertThat(committed(endOffsets)).isTrue();
+    }
+
+    @Test
+    @DisplayName("commandes toxiques : dépassement refusé, échec en base écarté en file de rebut, la partition avance")
+    void poison_commands_do_not_block_the_partition() throws Exception {
+        AccountId account = openCurrentAccount.handle(new OpenCurrentAccountCommand(Money.of("0.00"))).accountId();
+        UUID overflow = UUID.randomUUID();
+        UUID tooLargeForColumn = UUID.randomUUID();
+        List<UUID> applied = List.of(UUID.randomUUID(), overflow, UUID.randomUUID());
+        Map<Integer, Long> endOffsets = send(List.of(
+                message(applied.get(0), account, "DEPOSIT", "10.00"),
+                // Solde au-delà d'un long en centimes : refus déterministe, marqué traité
+                message(overflow, account, "DEPOSIT", "92233720368547758.07"),
+                // Solde au-delà de la colonne numeric(9, 2) : la transaction échoue à chaque essai
+                message(tooLargeForColumn, account, "DEPOSIT", "9999999.99"),
+                message(applied.get(2), account, "WITHDRAWAL", "1.00")));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (!(processed(applied) == applied.size() && committed(endOffsets))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(processed(applied)).isEqualTo(applied.size());
+        assertThat(processed(List.of(tooLargeForColumn))).isZero();
+        assertThat(committed(endOffsets)).isTrue();
+        BigDecimal balance = jdbc.queryForObject(
+                "select balance from accounts where id = ?", BigDecimal.class, account.value());
+        assertThat(balance).isEqualByComparingTo("9.00");
+        try (Consumer<String, String> deadLetters = new DefaultKafkaConsumerFactory<>(
+                KafkaTestUtils.consumerProps("dead-letter-check", "false", broker),
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            deadLetters.subscribe(List.of(TOPIC + ".DLT"));
+            ConsumerRecord<String, String> deadLetter =
+                    KafkaTestUtils.getSingleRecord(deadLetters, TOPIC + ".DLT", Duration.ofSeconds(30));
+            assertThat(deadLetter.value()).contains(tooLargeForColumn.toString());
+            assertThat(deadLetter.key()).isEqualTo(account.value().toString());
+        }
+    }
+
+    private static String[] message(UUID commandId, AccountId account, String type, String amount) {
+        return new String[] {
+                account.value().toString(),
+                "{\"commandId\":\"" + commandId + "\",\"accountId\":\"" + account.value()
+                        + "\",\"type\":\"" + type + "\",\"amount\":" + amount + "}"
+        };
+    }
+
+    /** Publie les messages dans l'ordre ; renvoie, par partition, l'offset suivant le dernier message. */
+    private Map<Integer, Long> send(List<String[]> messages) throws Exception {
+        Map<String, Object> properties = KafkaTestUtils.producerProps(broker);
+        DefaultKafkaProducerFactory<String, String> factory =
+                new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new StringSerializer());
+        try {
+            KafkaTemplate<String, String> kafka = new KafkaTemplate<>(factory);
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>();
+            for (String[] message : messages) {
+                sends.add(kafka.send(TOPIC, message[0], message[1]));
+            }
+            kafka.flush();
+            Map<Integer, Long> endOffsets = new HashMap<>();
+            for (var send : sends) {
+                RecordMetadata metadata = send.get(30, TimeUnit.SECONDS).getRecordMetadata();
+                endOffsets.merge(metadata.partition(), metadata.offset() + 1, Math::max);
+            }
+            return endOffsets;
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    private boolean committed(Map<Integer, Long> endOffsets) throws Exception {
+        for (Map.Entry<Integer, Long> end : endOffsets.entrySet()) {
+            OffsetAndMetadata offset = KafkaTestUtils.getCurrentOffset(
+                    broker.getBrokersAsString(), GROUP, TOPIC, end.getKey());
+            if (offset == null || offset.offset() != end.getValue()) return false;
+        }
+        return true;
+    }
+
+    private long processed(List<UUID> commandIds) {
+        return commandIds.stream()
+                .mapToLong(id -> jdbc.queryForObject(
+                        "select count(*) from processed_commands where command_id = ?", Long.class, id))
+                .sum();
+    }
+
+    private long count(String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
@@ -1,38 +1,36 @@
 package fr.exalt.bankaccount.domain.model.account;
 
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
-import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.CeilingPolicy;
-import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling;
-import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.NoCeiling;
-import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
-import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.NoOverdraft;
-import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.OverdraftPolicy;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
 import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
 import fr.exalt.bankaccount.domain.model.exception.InvariantViolationException;
 import fr.exalt.bankaccount.domain.model.money.Money;
 
 import java.time.Clock;
-import java.util.*;
+import java.util.Objects;
 
 /**
  * Agrégat Account.
  * <p>
  * Remarque d'architecture :
  * -------------------------
- * Les règles et opérations diffèrent selon le type (CURRENT / SAVINGS),
- * mais la variabilité reste gérée via des policies (OverdraftPolicy, CeilingPolicy).
+ * Les règles diffèrent selon le type : chaque sous-type scellé porte sa propre règle
+ * ({@link CurrentAccount} : découvert autorisé, {@link SavingsAccount} : plafond).
  * <br/>
- * Si l'application évolue (nouveaux types de comptes, règles plus divergentes),
- * il pourra être pertinent d'introduire deux sous-types dédiés :
- * - CurrentAccount
- * - SavingsAccount
+ * Les règles elles-mêmes sont écrites une seule fois, dans les classes finales
+ * {@link fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft} et
+ * {@link fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling}, appelées
+ * directement : ni interface à dispatcher, ni {@code instanceof} pour exposer le découvert ou le plafond.
  * </p>
- * afin de bénéficier d'une meilleure sécurité de type et d'une lisibilité accrue.
+ * La hiérarchie étant scellée, l'ajout d'un nouveau type de compte est une décision explicite.
 */
-public class Account {
+public abstract sealed class Account permits CurrentAccount, SavingsAccount {
 
     public enum Type { CURRENT, SAVINGS }
 
+    /** Version d'un compte ouvert mais jamais persisté. */
+    public static final long UNSAVED_VERSION = -1L;
+
     private final AccountId id;
     private final Type type;
     private final Clock clock;
@@ -40,69 +38,70 @@ public class Account {
     // Balance courante
     private Money balance;
 
-    // Policies
-    private CeilingPolicy ceilingPolicy;
-    private OverdraftPolicy overdraftPolicy;
+    // Version lue au chargement (verrouillage optimiste), UNSAVED_VERSION si jamais persisté
+    private long version;
 
     // --------------------------
-    // Constructeur privé interne
+    // Constructeur interne
     // --------------------------
-    private Account(AccountId id,
-                    Type type,
-                    Clock clock,
-                    Money balance,
-                    OverdraftPolicy overdraftPolicy,
-                    CeilingPolicy ceilingPolicy) {
+    Account(AccountId id, Type type, Clock clock, Money balance, long version) {
 
         if (id == null) throw new InvariantViolationException("AccountId cannot be null");
         if (type == null) throw new InvariantViolationException("Account type cannot be null");
-        if (overdraftPolicy == null) throw new InvariantViolationException("Overdraft policy is required");
-        if (ceilingPolicy == null) throw new InvariantViolationException("Ceiling policy is required");
 
         this.id = Objects.requireNonNull(id);
         this.type = Objects.requireNonNull(type);
         this.clock = (clock == null) ? Clock.systemUTC() : clock;
 
         this.balance = (balance == null) ? Money.zero() : balance;
-
-        this.overdraftPolicy = Objects.requireNonNull(overdraftPolicy);
-        this.ceilingPolicy = Objects.requireNonNull(ceilingPolicy);
+        this.version = version;
     }
 
     // ---------------------
     // Factories d'ouverture
     // ---------------------
 
-    public static Account openCurrent(Money overdaft, Clock clock) {
-        // Paramétrage des policies
+    public static CurrentAccount openCurrent(Money overdaft, Clock clock) {
+        // Paramétrage du découvert
         if (overdaft == null || overdaft.isGreaterThan(Money.zero())) {
             throw new BusinessRuleViolationException("Overdraft limit must be zero or negative");
         }
-
-        return new Account(
-                AccountId.newId(), Type.CURRENT, clock,  Money.zero(),
-                new FixedOverdraft(overdaft), new NoCeiling());
-
+        return new CurrentAccount(AccountId.newId(), clock, Money.zero(), overdaft, UNSAVED_VERSION);
     }
-    public static Account openSavings(Money ceiling, Clock clock) {
+
+    public static SavingsAccount openSavings(Money ceiling, Clock clock) {
 
         if (ceiling == null || ceiling.isLessThanOrEqual(Money.zero())) {
             throw new BusinessRuleViolationException("Ceiling must be strictly positive");
         }
-
-        return new Account(
-                AccountId.newId(), Type.SAVINGS, clock,  Money.zero(),
-                new NoOverdraft(), new FixedCeiling(ceiling));
+        return new SavingsAccount(AccountId.newId(), clock, Money.zero(), ceiling, UNSAVED_VERSION);
     }
 
     // ---------- Réhydratation ----------
 
+    /** Réhydratation d'un snapshot en version 0 (version initiale en base). */
+    public static Account rehydrate(AccountId id,
+                                    Type type,
+                                    Money currentBalance,
+                                    Money overdraftOrNull,   // CURRENT: <= 0 ; SAVINGS: null
+                                    Money ceilingOrNull,     // SAVINGS: > 0 ; CURRENT: null
+                                    Clock clock) {
+        return rehydrate(id, type, currentBalance, overdraftOrNull, ceilingOrNull, 0L, clock);
+    }
+
+    /**
+     * Réhydratation d'un snapshot persisté.
+     *
+     * @param version version lue en base, rejouée lors de la sauvegarde pour détecter une écriture concurrente
+     */
     public static Account rehydrate(AccountId id,
                                     Type type,
                                     Money currentBalance,
                                     Money overdraftOrNull,   // CURRENT: <= 0 ; SAVINGS: null
                                     Money ceilingOrNull,     // SAVINGS: > 0 ; CURRENT: null
+                                    long version,
                                     Clock clock) {
+        if (version < 0) throw new InvariantViolationException("Persisted version cannot be negative");
         if (id == null) throw new InvariantViolationException("AccountId cannot be null");
         if (type == null) throw new InvariantViolationException("Account type cannot be null");
 
@@ -110,69 +109,75 @@ public class Account {
             if (overdraftOrNull == null || overdraftOrNull.isGreaterThan(Money.zero())) {
                 throw new InvariantViolationException("Persisted overdraft must be zero or negative for CURRENT");
             }
-            return new Account(
-                    id, type, clock, currentBalance,
-                    new FixedOverdraft(overdraftOrNull),
-                    new NoCeiling()
-            );
+            return new CurrentAccount(id, clock, currentBalance, overdraftOrNull, version);
         } else {
             if (ceilingOrNull == null || ceilingOrNull.isLessThanOrEqual(Money.zero())) {
                 throw new InvariantViolationException("Persisted ceiling must be strictly positive for SAVINGS");
             }
-            return new Account(
-                    id, type, clock, currentBalance,
-                    new NoOverdraft(),
-                    new FixedCeiling(ceilingOrNull)
-            );
+            return new SavingsAccount(id, clock, currentBalance, ceilingOrNull, version);
         }
     }
 
     // ---------- Commandes ----------
 
-    public Operation deposit(Money amount) {
-        if (amount == null || amount.isLessThanOrEqual(Money.zero())) {
-            throw new BusinessRuleViolationException("Deposit amount must be strictly positive");
-        }
-        ceilingPolicy.validateDeposit(this.balance, amount);
+    public abstract Operation deposit(Money amount);
 
-        Operation op = Operation.of(this.id, amount, Operation.Type.DEPOSIT);
-        this.balance = op.applyTo(this.balance);
-        return op;
-    }
+    public abstract Operation withdraw(Money amount);
 
-    public Operation withdraw(Money amount) {
-        if (amount == null || amount.isLessThanOrEqual(Money.zero())) {
-            throw new BusinessRuleViolationException("Withdraw amount must be strictly positive");
-        }
-        overdraftPolicy.validateWithdraw(this.balance, amount);
+    /**
+     * Variante de {@link #deposit(Money)} sans exception pour le refus métier :
+     * un dépassement de plafond est retourné comme
+     * {@link fr.exalt.bankaccount.domain.model.account.operation.OperationRejected} (solde inchangé).
+     * Un montant invalide reste une {@link BusinessRuleViolationException}.
+     */
+    public abstract OperationOutcome tryDeposit(Money amount);
 
-        Operation op = Operation.of(this.id, amount, Operation.Type.WITHDRAWAL);
-        this.balance = op.applyTo(this.balance);
-        return op;
+    /**
+     * Variante de {@link #withdraw(Money)} sans exception pour le refus métier :
+     * des fonds insuffisants sont retournés comme
+     * {@link fr.exalt.bankaccount.domain.model.account.operation.OperationRejected} (solde inchangé).
+     * Un montant invalide reste une {@link BusinessRuleViolationException}.
+     */
+    public abstract OperationOutcome tryWithdraw(Money amount);
+
+    /**
+     * Mouvement de dépôt validé (montant strictement positif) pour un compte non chargé.
+     * <p>
+     * Destiné à l'écriture gardée en base : la règle de plafond y est vérifiée par la garde SQL,
+     * puis rejouée par {@link #tryDeposit(Money)} sur le compte rechargé si la garde refuse.
+     * </p>
+     */
+    public static Operation prepareDeposit(AccountId id, Money amount) {
+        requireStrictlyPositive(amount, "Deposit amount must be strictly positive");
+        return Operation.of(id, amount, Operation.Type.DEPOSIT);
+    }
+
+    /** Équivalent de {@link #prepareDeposit(AccountId, Money)} pour un retrait. */
+    public static Operation prepareWithdrawal(AccountId id, Money amount) {
+        requireStrictlyPositive(amount, "Withdraw amount must be strictly positive");
+        return Operation.of(id, amount, Operation.Type.WITHDRAWAL);
     }
 
     /** CURRENT uniquement. */
     public void adjustOverdraftLimit(Money newOverdraftLimit) {
-        if (this.type != Type.CURRENT) {
-            throw new BusinessRuleViolationException("Only CURRENT accounts can adjust overdraft");
-        }
-        if (newOverdraftLimit == null || newOverdraftLimit.isGreaterThan(Money.zero())) {
-            throw new BusinessRuleViolationException("Overdraft limit must be zero or negative");
-        }
-        // recrée la policy
-        this.overdraftPolicy = new FixedOverdraft(newOverdraftLimit);
+        throw new BusinessRuleViolationException("Only CURRENT accounts can adjust overdraft");
     }
 
     /** SAVINGS uniquement. */
     public void adjustCeiling(Money newCeiling) {
-        if (this.type != Type.SAVINGS) {
-            throw new BusinessRuleViolationException("Only SAVINGS accounts can adjust ceiling");
-        }
-        if (newCeiling == null || newCeiling.isLessThanOrEqual(Money.zero())) {
-            throw new BusinessRuleViolationException("Ceiling must be strictly positive");
+        throw new BusinessRuleViolationException("Only SAVINGS accounts can adjust ceiling");
+    }
+
+    static void requireStrictlyPositive(Money amount, String message) {
+        if (amount == null || amount.isLessThanOrEqual(Money.zero())) {
+            throw new BusinessRuleViolationException(message);
         }
-        // recrée la policy
-        this.ceilingPolicy = new FixedCeiling(newCeiling);
+    }
+
+    final Operation apply(Money amount, Operation.Type type) {
+        Operation op = Operation.of(this.id, amount, type);
+        this.balance = op.applyTo(this.balance);
+        return op;
     }
 
     // ---------- Getters (API lue dans les tests) ----------
@@ -182,26 +187,35 @@ public class Account {
     public Money balance() { return balance; }
     public AccountId getId() { return id; }
     public Clock getClock() { return clock; }
+    public long getVersion() { return version; }
+
+    /** Vrai tant que le compte n'a jamais été persisté. */
+    public boolean isNew() { return version == UNSAVED_VERSION; }
 
     /**
-     * Expose la valeur métier depuis la policy.
+     * Enregistre la version attribuée par la persistance après une sauvegarde réussie,
+     * pour qu'une sauvegarde suivante du même objet reste cohérente.
+     */
+    public void markPersisted(long newVersion) {
+        if (newVersion <= version) {
+            throw new InvariantViolationException("Persisted version must increase (%d -> %d)".formatted(version, newVersion));
+        }
+        this.version = newVersion;
+    }
+
+    /**
+     * Découvert autorisé.
      * Retourne null si non pertinent pour le type.
      */
     public Money getOverdraft() {
-        if (overdraftPolicy instanceof FixedOverdraft fo) {
-            return fo.getOverdraft(); // ← nécessite un getter public dans FixedOverdraft
-        }
         return null;
     }
 
     /**
-     * Expose la valeur métier depuis la policy.
+     * Plafond de dépôt.
      * Retourne null si non pertinent pour le type.
      */
     public Money getCeiling() {
-        if (ceilingPolicy instanceof FixedCeiling fc) {
-            return fc.getCeiling(); // ← nécessite un getter public dans FixedCeiling
-        }
-        return null; // NoCeiling / autres implémentations
+        return null;
     }
 }
@@ -1,9 +1,11 @@
 package fr.exalt.bankaccount.domain.model.account;
 
+import fr.exalt.bankaccount.domain.model.id.Ids;
+
 import java.util.UUID;
 
 public record AccountId(UUID value) {
     public static AccountId newId() {
-        return new AccountId(UUID.randomUUID());
+        return new AccountId(Ids.next());
     }
 }
@@ -0,0 +1,71 @@
+package fr.exalt.bankaccount.domain.model.account;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.exception.InvariantViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.time.Clock;
+
+/**
+ * Compte courant : pas de plafond, découvert fixe (zéro ou négatif).
+ * <p>
+ * Tout retrait qui rendrait la balance inférieure au découvert autorisé est refusé
+ * (règle {@link FixedOverdraft}, appelée directement).
+ * </p>
+ */
+public final class CurrentAccount extends Account {
+
+    private FixedOverdraft overdraft;
+
+    CurrentAccount(AccountId id, Clock clock, Money balance, Money overdraftLimit, long version) {
+        super(id, Type.CURRENT, clock, balance, version);
+        if (overdraftLimit == null) throw new InvariantViolationException("Overdraft limit is required");
+        this.overdraft = new FixedOverdraft(overdraftLimit);
+    }
+
+    @Override
+    public Operation deposit(Money amount) {
+        requireStrictlyPositive(amount, "Deposit amount must be strictly positive");
+        // Aucun plafond
+        return apply(amount, Operation.Type.DEPOSIT);
+    }
+
+    @Override
+    public Operation withdraw(Money amount) {
+        requireStrictlyPositive(amount, "Withdraw amount must be strictly positive");
+        overdraft.validateWithdraw(balance(), amount);
+        return apply(amount, Operation.Type.WITHDRAWAL);
+    }
+
+    @Override
+    public OperationOutcome tryDeposit(Money amount) {
+        return new OperationAccepted(deposit(amount));
+    }
+
+    @Override
+    public OperationOutcome tryWithdraw(Money amount) {
+        requireStrictlyPositive(amount, "Withdraw amount must be strictly positive");
+        if (!overdraft.allowsWithdraw(balance(), amount)) {
+            return OperationRejected.insufficientFunds(balance(), amount, overdraft.getOverdraft());
+        }
+        return new OperationAccepted(apply(amount, Operation.Type.WITHDRAWAL));
+    }
+
+    @Override
+    public void adjustOverdraftLimit(Money newOverdraftLimit) {
+        if (newOverdraftLimit == null || newOverdraftLimit.isGreaterThan(Money.zero())) {
+            throw new BusinessRuleViolationException("Overdraft limit must be zero or negative");
+        }
+        this.overdraft = new FixedOverdraft(newOverdraftLimit);
+    }
+
+    @Override
+    public Money getOverdraft() {
+        return overdraft.getOverdraft();
+    }
+}
@@ -0,0 +1,77 @@
+package fr.exalt.bankaccount.domain.model.account;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling;
+import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.exception.InvariantViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.time.Clock;
+
+/**
+ * Livret d'épargne : plafond de dépôt strictement positif, aucun découvert.
+ * <p>
+ * Tout dépôt qui ferait dépasser le plafond est refusé, tout retrait qui rendrait
+ * la balance négative est refusé (règles {@link FixedCeiling} et {@link FixedOverdraft#NONE},
+ * appelées directement).
+ * </p>
+ */
+public final class SavingsAccount extends Account {
+
+    private FixedCeiling ceiling;
+
+    SavingsAccount(AccountId id, Clock clock, Money balance, Money ceiling, long version) {
+        super(id, Type.SAVINGS, clock, balance, version);
+        if (ceiling == null) throw new InvariantViolationException("Ceiling is required");
+        this.ceiling = new FixedCeiling(ceiling);
+    }
+
+    @Override
+    public Operation deposit(Money amount) {
+        requireStrictlyPositive(amount, "Deposit amount must be strictly positive");
+        ceiling.validateDeposit(balance(), amount);
+        return apply(amount, Operation.Type.DEPOSIT);
+    }
+
+    @Override
+    public Operation withdraw(Money amount) {
+        requireStrictlyPositive(amount, "Withdraw amount must be strictly positive");
+        FixedOverdraft.NONE.validateWithdraw(balance(), amount);
+        return apply(amount, Operation.Type.WITHDRAWAL);
+    }
+
+    @Override
+    public OperationOutcome tryDeposit(Money amount) {
+        requireStrictlyPositive(amount, "Deposit amount must be strictly positive");
+        if (!ceiling.allowsDeposit(balance(), amount)) {
+            return OperationRejected.ceilingExceeded(balance(), amount, ceiling.getCeiling());
+        }
+        return new OperationAccepted(apply(amount, Operation.Type.DEPOSIT));
+    }
+
+    @Override
+    public OperationOutcome tryWithdraw(Money amount) {
+        requireStrictlyPositive(amount, "Withdraw amount must be strictly positive");
+        if (!FixedOverdraft.NONE.allowsWithdraw(balance(), amount)) {
+            return OperationRejected.insufficientFunds(balance(), amount, FixedOverdraft.NONE.getOverdraft());
+        }
+        return new OperationAccepted(apply(amount, Operation.Type.WITHDRAWAL));
+    }
+
+    @Override
+    public void adjustCeiling(Money newCeiling) {
+        if (newCeiling == null || newCeiling.isLessThanOrEqual(Money.zero())) {
+            throw new BusinessRuleViolationException("Ceiling must be strictly positive");
+        }
+        this.ceiling = new FixedCeiling(newCeiling);
+    }
+
+    @Override
+    public Money getCeiling() {
+        return ceiling.getCeiling();
+    }
+}
@@ -26,7 +26,7 @@ public record Operation(OperationId id, AccountId accountId, Money amount, Type
             throw new DomainException("Operations timestamp cannot be null");
         }
         // Montant strictement positif
-        if (amount.isLessThanOrEqual(Money.of("0"))) {
+        if (amount.isLessThanOrEqual(Money.zero())) {
             throw new DomainException("Operations money value must be greater than 0.00");
         }
         // label par défaut si null
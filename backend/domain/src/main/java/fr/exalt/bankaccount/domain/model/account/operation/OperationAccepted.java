@@ -0,0 +1,7 @@
+package fr.exalt.bankaccount.domain.model.account.operation;
+
+/**
+ * Commande acceptée : l'opération a été appliquée au solde du compte.
+ */
+public record OperationAccepted(Operation operation) implements OperationOutcome {
+}
@@ -1,10 +1,12 @@
 package fr.exalt.bankaccount.domain.model.account.operation;
 
+import fr.exalt.bankaccount.domain.model.id.Ids;
+
 import java.util.UUID;
 
 public record OperationId(UUID value) {
 
     public static OperationId newId() {
-        return new OperationId(UUID.randomUUID());
+        return new OperationId(Ids.next());
     }
 }
@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.domain.model.account.operation;
+
+/**
+ * Issue d'une commande de dépôt ou de retrait évaluée sans exception.
+ * <p>
+ * Un refus métier (plafond dépassé, fonds insuffisants) est une issue normale : il est retourné
+ * sous forme de valeur plutôt que levé, ce qui évite le coût d'une exception (stack trace,
+ * dépilement) sur le chemin nominal. Les exceptions restent réservées aux entrées invalides
+ * et aux violations d'invariants.
+ * </p>
+ */
+public sealed interface OperationOutcome permits OperationAccepted, OperationRejected {
+}
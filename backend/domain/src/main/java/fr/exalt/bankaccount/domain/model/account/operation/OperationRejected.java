@@ -0,0 +1,39 @@
+package fr.exalt.bankaccount.domain.model.account.operation;
+
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.exception.CeilingExceededException;
+import fr.exalt.bankaccount.domain.model.exception.InsufficientFundsException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Commande refusée par une règle métier : le solde du compte est inchangé.
+ *
+ * @param reason  règle ayant refusé la commande
+ * @param balance solde au moment du refus
+ * @param amount  montant demandé
+ * @param limit   plafond (CEILING_EXCEEDED) ou découvert autorisé (INSUFFICIENT_FUNDS)
+ */
+public record OperationRejected(RejectionReason reason, Money balance, Money amount, Money limit)
+        implements OperationOutcome {
+
+    public static OperationRejected ceilingExceeded(Money balance, Money deposit, Money ceiling) {
+        return new OperationRejected(RejectionReason.CEILING_EXCEEDED, balance, deposit, ceiling);
+    }
+
+    public static OperationRejected insufficientFunds(Money balance, Money withdraw, Money overdraftAllowed) {
+        return new OperationRejected(RejectionReason.INSUFFICIENT_FUNDS, balance, withdraw, overdraftAllowed);
+    }
+
+    /** Message identique à celui de l'exception équivalente. */
+    public String message() {
+        return toException().getMessage();
+    }
+
+    /** Exception équivalente, pour les appelants qui conservent le contrat à exceptions. */
+    public BusinessRuleViolationException toException() {
+        return switch (reason) {
+            case CEILING_EXCEEDED -> new CeilingExceededException(balance, amount, limit);
+            case INSUFFICIENT_FUNDS -> new InsufficientFundsException(balance, amount, limit);
+        };
+    }
+}
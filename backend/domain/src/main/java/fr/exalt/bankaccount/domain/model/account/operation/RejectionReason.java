@@ -0,0 +1,3 @@
+package fr.exalt.bankaccount.domain.model.account.operation;
+
+public enum RejectionReason { CEILING_EXCEEDED, INSUFFICIENT_FUNDS }
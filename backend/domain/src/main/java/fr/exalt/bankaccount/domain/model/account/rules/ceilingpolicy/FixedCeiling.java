@@ -6,26 +6,35 @@ import fr.exalt.bankaccount.domain.model.money.Money;
 import java.util.Objects;
 
 /**
- * Politique de plafond fixe.
+ * Règle de plafond fixe, appliquée par {@link fr.exalt.bankaccount.domain.model.account.SavingsAccount}.
+ * <p>
+ * Classe finale appelée directement (sans interface) : l'appel est résolu statiquement et inliné
+ * par le JIT. C'est l'unique implémentation de la règle ; la garde SQL de l'écriture gardée
+ * est vérifiée contre elle.
+ * </p>
  * Ne lève que des exceptions métier (dépassement de plafond).
  * Les invariants (null, positifs, etc.) sont garantis par l'agrégat Account.
  */
-public class FixedCeiling implements CeilingPolicy {
+public final class FixedCeiling {
     private final Money ceiling;
 
     public FixedCeiling(Money ceiling) {
         this.ceiling = Objects.requireNonNull(ceiling, "ceiling");
     }
 
-    @Override
     public void validateDeposit(Money balance, Money deposit) {
+        if (!allowsDeposit(balance, deposit)) {
+            throw new CeilingExceededException(balance, deposit, ceiling);
+        }
+    }
+
+    /** Variante sans exception de {@link #validateDeposit(Money, Money)}. */
+    public boolean allowsDeposit(Money balance, Money deposit) {
         Objects.requireNonNull(balance, "balance");
         Objects.requireNonNull(deposit, "deposit");
 
-        // Seule règle métier propre à la policy : ne pas dépasser le plafond
-        if (!deposit.add(balance).isLessThanOrEqual(ceiling)) {
-            throw new CeilingExceededException(balance, deposit, ceiling);
-        }
+        // Seule règle métier : ne pas dépasser le plafond
+        return balance.addIsLessThanOrEqual(deposit, ceiling);
     }
 
     public Money getCeiling() {
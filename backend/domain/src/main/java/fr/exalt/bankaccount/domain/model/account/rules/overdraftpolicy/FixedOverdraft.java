@@ -6,10 +6,11 @@ import fr.exalt.bankaccount.domain.model.money.Money;
 import java.util.Objects;
 
 /**
- * Politique de découvert fixe.
+ * Règle de découvert fixe.
  * <p>
- * Cette implémentation impose un découvert maximum autorisé :
- * tout retrait qui rendrait la balance inférieure à cette limite est refusé.
+ * Tout retrait qui rendrait la balance inférieure à la limite est refusé. Un découvert de zéro
+ * interdit tout solde négatif : c'est la règle de retrait du livret d'épargne
+ * ({@link #NONE}), celle du compte courant porte le découvert configuré.
  * </p>
  *
  * <h3>Responsabilités :</h3>
@@ -18,15 +19,20 @@ import java.util.Objects;
  *   <li>Ne gère pas les invariants (montants positifs, null, etc.),
  *       qui sont garantis par l’agrégat {@link fr.exalt.bankaccount.domain.model.account.Account}.</li>
  * </ul>
+ * Classe finale appelée directement (sans interface), unique implémentation de la règle.
  */
-public class FixedOverdraft implements OverdraftPolicy {
+public final class FixedOverdraft {
+
+    /** Aucun découvert : la balance après retrait doit rester ≥ 0.00. */
+    public static final FixedOverdraft NONE = new FixedOverdraft(Money.zero());
+
     private final Money overdraftLimit;
 
     /**
      * @param overdraft Montant du découvert autorisé (zéro ou négatif).
      */
     public FixedOverdraft(Money overdraft) {
-        overdraftLimit = overdraft;
+        overdraftLimit = Objects.requireNonNull(overdraft, "overdraft");
     }
 
     /**
@@ -36,15 +42,19 @@ public class FixedOverdraft implements OverdraftPolicy {
      * @param withdraw Montant du retrait (strictement positif)
      * @throws InsufficientFundsException si le retrait dépasse le découvert autorisé
      */
-    @Override
     public void validateWithdraw(Money balance, Money withdraw) {
+        if (!allowsWithdraw(balance, withdraw)) {
+            throw new InsufficientFundsException(balance, withdraw, overdraftLimit);
+        }
+    }
+
+    /** Variante sans exception de {@link #validateWithdraw(Money, Money)}. */
+    public boolean allowsWithdraw(Money balance, Money withdraw) {
         Objects.requireNonNull(balance, "balance");
         Objects.requireNonNull(withdraw, "withdraw");
 
         // Règle métier : interdiction de dépasser le découvert autorisé
-        if (balance.subtract(withdraw).isLessThan(overdraftLimit)) {
-            throw new InsufficientFundsException(balance, withdraw, overdraftLimit);
-        }
+        return !balance.subtractIsLessThan(withdraw, overdraftLimit);
     }
 
     public Money getOverdraft() {
@@ -0,0 +1,25 @@
+package fr.exalt.bankaccount.domain.model.id;
+
+import java.util.UUID;
+
+/**
+ * Source des identifiants techniques des agrégats et entités ({@code AccountId}, {@code OperationId}).
+ * <p>
+ * L'implémentation active est choisie via {@link Ids#use(IdGenerator)} ; par défaut {@link #uuidV7()}.
+ * </p>
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    /** UUIDv7 (RFC 9562) ordonné dans le temps, monotone par thread. */
+    static IdGenerator uuidV7() {
+        return UuidV7Generator.INSTANCE;
+    }
+
+    /** UUIDv4 aléatoire ({@link UUID#randomUUID()}, via {@code SecureRandom}). */
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -0,0 +1,35 @@
+package fr.exalt.bankaccount.domain.model.id;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Point d'accès unique au générateur d'identifiants utilisé par les factories {@code newId()}.
+ * <p>
+ * Les factories du domaine sont statiques : le générateur est donc porté par ce registre
+ * plutôt qu'injecté. Il se remplace au démarrage (ou dans un test) via {@link #use(IdGenerator)}.
+ * </p>
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = IdGenerator.uuidV7();
+
+    private Ids() {}
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static IdGenerator current() {
+        return generator;
+    }
+
+    /**
+     * Remplace le générateur courant et retourne le précédent (pour le restaurer).
+     */
+    public static IdGenerator use(IdGenerator newGenerator) {
+        IdGenerator previous = generator;
+        generator = Objects.requireNonNull(newGenerator, "generator");
+        return previous;
+    }
+}
@@ -0,0 +1,59 @@
+package fr.exalt.bankaccount.domain.model.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Générateur UUIDv7 (RFC 9562, méthode 1 : compteur dans {@code rand_a}).
+ * <p>
+ * Disposition des 128 bits :
+ * <pre>
+ *  48 bits  timestamp Unix en millisecondes
+ *   4 bits  version (0111)
+ *  12 bits  compteur, réensemencé aléatoirement à chaque nouvelle milliseconde
+ *   2 bits  variant (10)
+ *  62 bits  aléatoire ({@link ThreadLocalRandom})
+ * </pre>
+ * Chaque thread possède son propre état (dernière milliseconde, compteur) : pas de verrou ni de CAS partagé.
+ * Les identifiants d'un même thread sont strictement croissants ; entre threads ils restent ordonnés
+ * à la milliseconde près, ce qui suffit à garder les insertions en fin d'index B-tree.
+ * Si le compteur déborde (plus de ~2048 ids dans la même milliseconde) ou si l'horloge recule,
+ * le timestamp est avancé d'une milliseconde pour conserver la monotonie.
+ * </p>
+ */
+final class UuidV7Generator implements IdGenerator {
+
+    static final UuidV7Generator INSTANCE = new UuidV7Generator();
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private UuidV7Generator() {}
+
+    @Override
+    public UUID next() {
+        return STATE.get().next(System.currentTimeMillis());
+    }
+
+    static final class State {
+        private static final int COUNTER_MAX = 0xFFF;
+        // Graine dans la moitié basse : laisse au moins 2048 valeurs avant débordement
+        private static final int COUNTER_SEED_BOUND = 1 << 11;
+
+        private long millis = -1L;
+        private int counter;
+
+        UUID next(long now) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (now > millis) {
+                millis = now;
+                counter = random.nextInt(COUNTER_SEED_BOUND);
+            } else if (++counter > COUNTER_MAX) {
+                millis++;
+                counter = random.nextInt(COUNTER_SEED_BOUND);
+            }
+            long msb = (millis << 16) | 0x7000L | counter;
+            long lsb = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+            return new UUID(msb, lsb);
+        }
+    }
+}
@@ -4,47 +4,188 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
-public record Money(BigDecimal value) {
-    public Money {
-        Objects.requireNonNull(value);
-        value = value.setScale(2, RoundingMode.HALF_EVEN);
+/**
+ * Montant monétaire à deux décimales.
+ * <p>
+ * La valeur est stockée en centimes dans un {@code long} : l'arithmétique et les comparaisons
+ * n'allouent rien (hors instance résultat) et les dépassements de capacité sont détectés
+ * ({@link ArithmeticException}). {@link BigDecimal} n'est utilisé qu'aux frontières
+ * (parsing, REST, JPA) via {@link #of(String)}, {@link #valueOf(BigDecimal)} et {@link #value()} ;
+ * {@link #parse(char[], int, int)} et {@link #format(char[], int)} lisent et écrivent directement
+ * des caractères, sans {@code String} ni {@code BigDecimal} intermédiaire.
+ * </p>
+ * Les montants sont normalisés à 2 décimales avec un arrondi bancaire (HALF_EVEN).
+ */
+public final class Money {
+
+    /** Nombre de décimales conservées. */
+    public static final int SCALE = 2;
+
+    /** Longueur maximale d'un montant formaté par {@link #format(char[], int)} : signe, 17 chiffres, point, 2 décimales. */
+    public static final int MAX_FORMATTED_LENGTH = 21;
+
+    private static final Money ZERO = new Money(0L);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
     }
 
     public static Money of(String s) {
-        return new Money(new BigDecimal(s));
+        return valueOf(new BigDecimal(s));
+    }
+
+    /** Convertit une valeur décimale (arrondie à 2 décimales, HALF_EVEN). */
+    public static Money valueOf(BigDecimal value) {
+        Objects.requireNonNull(value);
+        return ofCents(value.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Lit un littéral décimal ({@code -12}, {@code 12.5}, {@code +0.125}...) directement en centimes,
+     * avec le même arrondi que {@link #valueOf(BigDecimal)} (HALF_EVEN). Seule la notation exponentielle
+     * passe par {@link BigDecimal}.
+     *
+     * @throws NumberFormatException si les caractères ne forment pas un nombre décimal
+     * @throws ArithmeticException   si le montant dépasse la capacité d'un {@code long} de centimes
+     */
+    public static Money parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        long cents = 0;
+        int digits = 0;
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, digits++) {
+            cents = Math.addExact(Math.multiplyExact(cents, 10), chars[i] - '0');
+        }
+        int decimals = 0;
+        int firstDropped = 0;
+        boolean restDropped = false;
+        if (i < end && chars[i] == '.') {
+            for (i++; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, digits++) {
+                int digit = chars[i] - '0';
+                if (decimals < SCALE) cents = Math.addExact(Math.multiplyExact(cents, 10), digit);
+                else if (decimals == SCALE) firstDropped = digit;
+                else restDropped |= digit != 0;
+                decimals++;
+            }
+        }
+        if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            return valueOf(new BigDecimal(chars, offset, length));
+        }
+        if (i != end || digits == 0) {
+            throw new NumberFormatException("Not a decimal amount: " + new String(chars, offset, length));
+        }
+        for (; decimals < SCALE; decimals++) {
+            cents = Math.multiplyExact(cents, 10);
+        }
+        // HALF_EVEN sur la valeur absolue (l'arrondi est symétrique)
+        if (firstDropped > 5 || (firstDropped == 5 && (restDropped || (cents & 1) == 1))) {
+            cents = Math.addExact(cents, 1);
+        }
+        return ofCents(negative ? -cents : cents);
+    }
+
+    /**
+     * Écrit le montant ({@code -1250.40}, toujours 2 décimales) dans {@code buffer} à partir de {@code offset}
+     * et retourne le nombre de caractères écrits (au plus {@link #MAX_FORMATTED_LENGTH}).
+     */
+    public int format(char[] buffer, int offset) {
+        // Valeur absolue en négatif : Long.MIN_VALUE reste représentable
+        long magnitude = cents > 0 ? -cents : cents;
+        int digits = 0;
+        for (long rest = magnitude; rest != 0; rest /= 10) digits++;
+        digits = Math.max(digits, SCALE + 1);
+        int length = digits + 1 + (cents < 0 ? 1 : 0);
+
+        int position = offset + length;
+        for (int written = 0; written < digits; written++) {
+            if (written == SCALE) buffer[--position] = '.';
+            buffer[--position] = (char) ('0' - magnitude % 10);
+            magnitude /= 10;
+        }
+        if (cents < 0) buffer[--position] = '-';
+        return length;
+    }
+
+    /** Crée un montant à partir d'un nombre de centimes (unités mineures). */
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
     }
 
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
+    }
+
+    /** Valeur en centimes (unités mineures). */
+    public long cents() {
+        return cents;
+    }
+
+    /** Valeur décimale (échelle 2), destinée aux adapters REST / JPA. */
+    public BigDecimal value() {
+        return BigDecimal.valueOf(cents, SCALE);
     }
 
     public boolean isLessThanOrEqual(Money other) {
-        return (this.value.compareTo(other.value()) <= 0);
+        return this.cents <= other.cents;
     }
 
     public boolean greaterThanOrEqual(Money other) {
-        return (this.value.compareTo(other.value()) >= 0);
+        return this.cents >= other.cents;
     }
 
     public boolean isGreaterThan(Money other) {
-        return (this.value.compareTo(other.value()) > 0);
+        return this.cents > other.cents;
     }
 
     public boolean isLessThan(Money other) {
-        return (this.value.compareTo(other.value()) < 0);
+        return this.cents < other.cents;
     }
 
-    public Money add(Money other) {
-        return new Money(this.value().add(other.value()));
+    /**
+     * Indique si {@code this + other <= limit}, sans créer le montant intermédiaire.
+     */
+    public boolean addIsLessThanOrEqual(Money other, Money limit) {
+        return Math.addExact(this.cents, other.cents) <= limit.cents;
     }
 
+    /**
+     * Indique si {@code this - other < limit}, sans créer le montant intermédiaire.
+     */
+    public boolean subtractIsLessThan(Money other, Money limit) {
+        return Math.subtractExact(this.cents, other.cents) < limit.cents;
+    }
 
-    public Money subtract(Money other) {
-        return new Money((this.value().subtract(other.value())));
+    public Money add(Money other) {
+        return ofCents(Math.addExact(this.cents, other.cents));
     }
 
+    public Money subtract(Money other) {
+        return ofCents(Math.subtractExact(this.cents, other.cents));
+    }
 
     public boolean isEqualTo(Money other) {
-        return this.value().equals(other.value());
+        return this.cents == other.cents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && this.cents == other.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return "Money[value=" + value() + "]";
     }
 }
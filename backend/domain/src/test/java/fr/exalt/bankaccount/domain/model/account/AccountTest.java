@@ -1,14 +1,15 @@
 package fr.exalt.bankaccount.domain.model.account;
 
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationAccepted;
 import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
-import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling;
-import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.NoCeiling;
-import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
-import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.NoOverdraft;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationOutcome;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
+import fr.exalt.bankaccount.domain.model.account.operation.RejectionReason;
 import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
 import fr.exalt.bankaccount.domain.model.exception.CeilingExceededException;
 import fr.exalt.bankaccount.domain.model.exception.InsufficientFundsException;
+import fr.exalt.bankaccount.domain.model.exception.InvariantViolationException;
 import fr.exalt.bankaccount.domain.model.money.Money;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -39,9 +40,9 @@ class AccountTest {
         assertThat(acc.getType()).isEqualTo(Account.Type.CURRENT);
         assertThat(acc.getBalance()).isEqualTo(Money.zero());
 
-        // ✅ Vérifie les TYPES concrets de policies (via extraction réflexive AssertJ)
-        assertThat(acc).extracting("ceilingPolicy").isInstanceOf(NoCeiling.class);
-        assertThat(acc).extracting("overdraftPolicy").isInstanceOf(FixedOverdraft.class);
+        // ✅ Vérifie le sous-type concret
+        assertThat(acc).isInstanceOf(CurrentAccount.class);
+        assertThat(acc.getCeiling()).isNull();
     }
 
     @Test
@@ -52,9 +53,9 @@ class AccountTest {
         assertThat(acc.getType()).isEqualTo(Account.Type.SAVINGS);
         assertThat(acc.getBalance()).isEqualTo(Money.zero());
 
-        // ✅ Vérifie les TYPES concrets de policies
-        assertThat(acc).extracting("ceilingPolicy").isInstanceOf(FixedCeiling.class);
-        assertThat(acc).extracting("overdraftPolicy").isInstanceOf(NoOverdraft.class);
+        // ✅ Vérifie le sous-type concret
+        assertThat(acc).isInstanceOf(SavingsAccount.class);
+        assertThat(acc.getOverdraft()).isNull();
     }
 
     // -------------------------
@@ -99,9 +100,9 @@ class AccountTest {
         assertThat(acc.getBalance()).isEqualTo(Money.of("60"));
         assertThat(acc.getOverdraft()).isEqualTo(Money.of("-200"));
 
-        // ✅ Policies
-        assertThat(acc).extracting("ceilingPolicy").isInstanceOf(NoCeiling.class);
-        assertThat(acc).extracting("overdraftPolicy").isInstanceOf(FixedOverdraft.class);
+        // ✅ Sous-type
+        assertThat(acc).isInstanceOf(CurrentAccount.class);
+        assertThat(acc.getCeiling()).isNull();
     }
 
     @Test
@@ -120,9 +121,9 @@ class AccountTest {
         assertThat(acc.getBalance()).isEqualTo(Money.of("600"));
         assertThat(acc.getCeiling()).isEqualTo(Money.of("1000"));
 
-        // ✅ Policies
-        assertThat(acc).extracting("ceilingPolicy").isInstanceOf(FixedCeiling.class);
-        assertThat(acc).extracting("overdraftPolicy").isInstanceOf(NoOverdraft.class);
+        // ✅ Sous-type
+        assertThat(acc).isInstanceOf(SavingsAccount.class);
+        assertThat(acc.getOverdraft()).isNull();
     }
 
     // -------------------------
@@ -187,6 +188,79 @@ class AccountTest {
         assertThat(acc.getBalance()).isEqualTo(Money.of("50"));
     }
 
+    // -------------------------
+    // Variante sans exception
+    // -------------------------
+
+    @Test
+    void try_deposit_should_return_accepted_operation_and_update_balance() {
+        Account acc = Account.openSavings(Money.of("1000"), fixedClock);
+
+        OperationOutcome outcome = acc.tryDeposit(Money.of("900"));
+
+        assertThat(outcome).isInstanceOf(OperationAccepted.class);
+        Operation op = ((OperationAccepted) outcome).operation();
+        assertThat(op.type()).isEqualTo(Operation.Type.DEPOSIT);
+        assertThat(op.amount()).isEqualTo(Money.of("900"));
+        assertThat(acc.getBalance()).isEqualTo(Money.of("900"));
+    }
+
+    @Test
+    void try_deposit_over_ceiling_should_return_rejection_without_changing_balance() {
+        Account acc = Account.openSavings(Money.of("1000"), fixedClock);
+        acc.deposit(Money.of("900"));
+
+        OperationOutcome outcome = acc.tryDeposit(Money.of("200"));
+
+        assertThat(outcome).isEqualTo(new OperationRejected(
+                RejectionReason.CEILING_EXCEEDED, Money.of("900"), Money.of("200"), Money.of("1000")));
+        assertThat(((OperationRejected) outcome).message())
+                .isEqualTo("Deposit Money[value=200.00] would exceed ceiling Money[value=1000.00] (balance Money[value=900.00])");
+        assertThat(acc.getBalance()).isEqualTo(Money.of("900"));
+    }
+
+    @Test
+    void try_withdraw_beyond_overdraft_should_return_rejection_without_changing_balance() {
+        Account current = Account.openCurrent(Money.of("-100"), fixedClock);
+        current.withdraw(Money.of("100"));
+
+        OperationOutcome outcome = current.tryWithdraw(Money.of("1"));
+
+        assertThat(outcome).isEqualTo(OperationRejected.insufficientFunds(
+                Money.of("-100"), Money.of("1"), Money.of("-100")));
+        assertThat(((OperationRejected) outcome).toException())
+                .isInstanceOf(InsufficientFundsException.class)
+                .hasMessage("Insufficient funds: amount Money[value=1.00], balance Money[value=-100.00], overdraft Money[value=-100.00]");
+        assertThat(current.getBalance()).isEqualTo(Money.of("-100"));
+
+        Account savings = Account.openSavings(Money.of("500"), fixedClock);
+        assertThat(savings.tryWithdraw(Money.of("0.01"))).isEqualTo(OperationRejected.insufficientFunds(
+                Money.zero(), Money.of("0.01"), Money.zero()));
+    }
+
+    @Test
+    void try_withdraw_within_overdraft_should_return_accepted_operation() {
+        Account acc = Account.openCurrent(Money.of("-100"), fixedClock);
+
+        OperationOutcome outcome = acc.tryWithdraw(Money.of("100"));
+
+        assertThat(outcome).isInstanceOf(OperationAccepted.class);
+        assertThat(((OperationAccepted) outcome).operation().type()).isEqualTo(Operation.Type.WITHDRAWAL);
+        assertThat(acc.getBalance()).isEqualTo(Money.of("-100"));
+    }
+
+    @Test
+    void try_variants_should_still_throw_on_non_positive_amounts() {
+        Account acc = Account.openCurrent(Money.of("0"), fixedClock);
+
+        assertThatThrownBy(() -> acc.tryDeposit(Money.zero()))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Deposit amount must be strictly positive");
+        assertThatThrownBy(() -> acc.tryWithdraw(Money.of("-1")))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Withdraw amount must be strictly positive");
+    }
+
     // -------------------------
     // Montants non positifs
     // -------------------------
@@ -218,14 +292,14 @@ class AccountTest {
     // -------------------------
 
     @Test
-    @DisplayName("adjustOverdraftLimit sur CURRENT avec -50 → OK et policy = FixedOverdraft(-50)")
+    @DisplayName("adjustOverdraftLimit sur CURRENT avec -50 → OK et découvert = -50")
     void adjust_overdraft_limit_on_current_should_update_policy_and_value() {
         Account acc = Account.openCurrent(Money.of("0"), fixedClock);
 
         Assertions.assertNotNull(acc);
         acc.adjustOverdraftLimit(Money.of("-50"));
 
-        assertThat(acc).extracting("overdraftPolicy").isInstanceOf(FixedOverdraft.class);
+        assertThat(acc).isInstanceOf(CurrentAccount.class);
         assertThat(acc.getOverdraft()).isEqualTo(Money.of("-50"));
     }
 
@@ -241,14 +315,14 @@ class AccountTest {
     }
 
     @Test
-    @DisplayName("adjustCeiling sur SAVINGS avec 5000 → OK et policy = FixedCeiling(5000)")
+    @DisplayName("adjustCeiling sur SAVINGS avec 5000 → OK et plafond = 5000")
     void adjust_ceiling_on_savings_should_update_policy_and_value() {
         Account acc = Account.openSavings(Money.of("1000"), fixedClock);
 
         Assertions.assertNotNull(acc);
         acc.adjustCeiling(Money.of("5000"));
 
-        assertThat(acc).extracting("ceilingPolicy").isInstanceOf(FixedCeiling.class);
+        assertThat(acc).isInstanceOf(SavingsAccount.class);
         assertThat(acc.getCeiling()).isEqualTo(Money.of("5000"));
     }
 
@@ -288,4 +362,37 @@ class AccountTest {
                 .isInstanceOf(BusinessRuleViolationException.class)
                 .hasMessage("Ceiling must be strictly positive");
     }
+
+    // -------------------------
+    // Version (verrouillage optimiste)
+    // -------------------------
+
+    @Test
+    @DisplayName("Version : un compte ouvert est neuf, un compte réhydraté porte sa version")
+    void opened_account_is_new_and_rehydrated_account_keeps_version() {
+        Account opened = Account.openCurrent(Money.of("-100"), fixedClock);
+        Account loaded = Account.rehydrate(accountId, Account.Type.CURRENT, Money.of("10"),
+                Money.of("-100"), null, 7L, fixedClock);
+
+        assertThat(opened.isNew()).isTrue();
+        assertThat(opened.getVersion()).isEqualTo(Account.UNSAVED_VERSION);
+        assertThat(loaded.isNew()).isFalse();
+        assertThat(loaded.getVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("markPersisted : la version doit strictement augmenter")
+    void mark_persisted_should_only_move_version_forward() {
+        Account acc = Account.rehydrate(accountId, Account.Type.SAVINGS, Money.of("10"),
+                null, Money.of("1000"), 3L, fixedClock);
+
+        acc.markPersisted(4L);
+
+        assertThat(acc.getVersion()).isEqualTo(4L);
+        assertThatThrownBy(() -> acc.markPersisted(4L))
+                .isInstanceOf(InvariantViolationException.class);
+        assertThatThrownBy(() -> Account.rehydrate(accountId, Account.Type.SAVINGS, Money.of("10"),
+                null, Money.of("1000"), -1L, fixedClock))
+                .isInstanceOf(InvariantViolationException.class);
+    }
 }
@@ -0,0 +1,88 @@
+package fr.exalt.bankaccount.domain.model.account;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Budget d'allocation du chemin chaud {@code Account.deposit/withdraw → Operation.of → règle du sous-type}.
+ * <p>
+ * Mesure les octets alloués par le thread courant (sans escape analysis garantie) et échoue
+ * si une commande dépasse le budget : seule l'{@link Operation} résultante (avec son identifiant
+ * et son horodatage) et le nouveau solde doivent être alloués.
+ * </p>
+ */
+@DisplayName("Budget d'allocation du chemin dépôt / retrait")
+class AllocationBudgetTest {
+
+    /**
+     * Octets tolérés par commande : Operation, OperationId, UUID, Instant et nouveau solde.
+     * Le générateur UUIDv7 n'alloue que l'instance {@link java.util.UUID}.
+     */
+    private static final long BUDGET_PER_COMMAND = 136;
+
+    private static final int WARMUP = 20_000;
+    private static final int MEASURED = 10_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final Money amount = Money.of("10.00");
+
+    @BeforeAll
+    static void allocationCounterAvailable() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Compteur d'allocation par thread indisponible sur cette JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "Compteur d'allocation par thread désactivé");
+    }
+
+    @Test
+    void deposit_on_current_account_stays_within_budget() {
+        Account account = Account.openCurrent(Money.of("-1000000000"), clock);
+        assertThat(bytesPerCommand(() -> account.deposit(amount))).as("octets alloués par commande").isLessThanOrEqualTo(BUDGET_PER_COMMAND);
+    }
+
+    @Test
+    void deposit_on_savings_account_stays_within_budget() {
+        Account account = Account.openSavings(Money.of("1000000000"), clock);
+        assertThat(bytesPerCommand(() -> account.deposit(amount))).as("octets alloués par commande").isLessThanOrEqualTo(BUDGET_PER_COMMAND);
+    }
+
+    @Test
+    void withdraw_on_current_account_stays_within_budget() {
+        Account account = Account.openCurrent(Money.of("-1000000000"), clock);
+        assertThat(bytesPerCommand(() -> account.withdraw(amount))).as("octets alloués par commande").isLessThanOrEqualTo(BUDGET_PER_COMMAND);
+    }
+
+    @Test
+    void withdraw_on_savings_account_stays_within_budget() {
+        Account account = Account.openSavings(Money.of("1000000000"), clock);
+        account.deposit(Money.of("100000000"));
+        assertThat(bytesPerCommand(() -> account.withdraw(amount))).as("octets alloués par commande").isLessThanOrEqualTo(BUDGET_PER_COMMAND);
+    }
+
+    private long bytesPerCommand(Runnable command) {
+        for (int i = 0; i < WARMUP; i++) {
+            command.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED; i++) {
+            command.run();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        return (after - before) / MEASURED;
+    }
+}
@@ -11,47 +11,16 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
- * Tests unitaires des implémentations de {@link CeilingPolicy}.
- * <p>
- * Couvre les comportements des deux stratégies :
- * <ul>
- *   <li>{@link NoCeiling} : aucun plafond (tout dépôt est accepté si les invariants sont respectés)</li>
- *   <li>{@link FixedCeiling} : plafond fixe (balance + dépôt ≤ plafond)</li>
- * </ul>
+ * Tests unitaires de la règle de plafond {@link FixedCeiling} (balance + dépôt ≤ plafond).
  * <p>
  * Les invariants d'entrée (null, montants non positifs) sont garantis par l’agrégat Account
- * et ne sont pas testés ici. Les policies lèvent uniquement des exceptions métier spécifiques :
+ * et ne sont pas testés ici. La règle lève uniquement une exception métier spécifique :
  * {@link CeilingExceededException}.
  * </p>
  */
-@DisplayName("CeilingPolicy")
+@DisplayName("FixedCeiling")
 class CeilingPolicyTest {
 
-    /**
-     * Groupe de tests pour la stratégie {@link NoCeiling},
-     * qui n'impose aucun plafond : tout dépôt valide est accepté.
-     */
-    @Nested
-    @DisplayName("NoCeiling")
-    class NoCeilingTest {
-
-        private final NoCeiling policy = new NoCeiling();
-
-        /**
-         * Vérifie que {@link NoCeiling} autorise tout montant strictement positif
-         * (les préconditions sont garanties par Account).
-         *
-         * @param amount montant du dépôt sous forme textuelle
-         */
-        @ParameterizedTest
-        @ValueSource(strings = {"0.01", "10.00", "1000000.00"})
-        @DisplayName("autorise tout dépôt strictement positif")
-        void allows_any_strictly_positive_amount(String amount) {
-            assertThatCode(() -> policy.validateDeposit(Money.zero(), Money.of(amount)))
-                    .doesNotThrowAnyException();
-        }
-    }
-
     /**
      * Groupe de tests pour la stratégie {@link FixedCeiling},
      * qui impose un plafond de dépôt.
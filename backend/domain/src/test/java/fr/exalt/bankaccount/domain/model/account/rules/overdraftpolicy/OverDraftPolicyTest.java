@@ -12,34 +12,34 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
- * Tests unitaires des implémentations de {@link OverdraftPolicy}.
+ * Tests unitaires de la règle de découvert {@link FixedOverdraft}.
  * <p>
- * Couvre les comportements des deux stratégies :
+ * Couvre les deux usages :
  * <ul>
- *   <li>{@link NoOverdraft} : aucun découvert (balance finale doit rester ≥ 0)</li>
- *   <li>{@link FixedOverdraft} : découvert fixe (balance finale doit rester ≥ limite de découvert)</li>
+ *   <li>{@link FixedOverdraft#NONE} : aucun découvert (balance finale doit rester ≥ 0)</li>
+ *   <li>découvert fixe (balance finale doit rester ≥ limite de découvert)</li>
  * </ul>
  * <p>
  * Les invariants d'entrée (null, montants non positifs) sont garantis par l'agrégat Account
- * et ne sont pas testés ici. Les policies lèvent uniquement des exceptions métier
- * spécifiques : {@link InsufficientFundsException}.
+ * et ne sont pas testés ici. La règle lève uniquement une exception métier
+ * spécifique : {@link InsufficientFundsException}.
  * </p>
  */
-@DisplayName("OverdraftPolicy")
+@DisplayName("FixedOverdraft")
 public class OverDraftPolicyTest {
 
     /**
-     * Groupe de tests pour la stratégie {@link NoOverdraft},
+     * Groupe de tests pour {@link FixedOverdraft#NONE},
      * qui interdit tout découvert : la balance après retrait doit rester ≥ 0.00.
      */
     @Nested
-    @DisplayName("NoOverdraft")
+    @DisplayName("NONE")
     class NoOverdraftTest {
 
-        private final NoOverdraft policy = new NoOverdraft();
+        private final FixedOverdraft policy = FixedOverdraft.NONE;
 
         /**
-         * Vérifie que {@link NoOverdraft} autorise tout retrait strictement positif tant
+         * Vérifie que {@link FixedOverdraft#NONE} autorise tout retrait strictement positif tant
          * que le résultat balance - withdraw est ≥ 0.00.
          *
          * @param amount montant du retrait sous forme textuelle
@@ -53,7 +53,7 @@ public class OverDraftPolicyTest {
         }
 
         /**
-         * Vérifie que {@link NoOverdraft} rejette les retraits donnant une balance finale < 0.00.
+         * Vérifie que {@link FixedOverdraft#NONE} rejette les retraits donnant une balance finale < 0.00.
          */
         @ParameterizedTest
         @ValueSource(strings = {"10.05", "15.01"})
@@ -68,7 +68,7 @@ public class OverDraftPolicyTest {
     }
 
     /**
-     * Groupe de tests pour la stratégie {@link FixedOverdraft},
+     * Groupe de tests pour un découvert fixe,
      * qui impose un découvert autorisé (balance finale doit rester ≥ limite).
      */
     @Nested
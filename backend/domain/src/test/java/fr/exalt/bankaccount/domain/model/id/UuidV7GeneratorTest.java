@@ -0,0 +1,108 @@
+package fr.exalt.bankaccount.domain.model.id;
+
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7Generator")
+class UuidV7GeneratorTest {
+
+    private static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    @Test
+    void should_produce_version_7_rfc_variant_with_current_timestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = IdGenerator.uuidV7().next();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(timestampOf(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    void should_be_strictly_increasing_within_a_thread() {
+        IdGenerator generator = IdGenerator.uuidV7();
+        UUID previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = generator.next();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void should_stay_monotonic_when_counter_overflows_or_clock_goes_backwards() {
+        UuidV7Generator.State state = new UuidV7Generator.State();
+
+        UUID previous = state.next(1_000L);
+        // Même milliseconde : 5000 ids dépassent forcément la capacité du compteur (4096)
+        for (int i = 0; i < 5_000; i++) {
+            UUID next = state.next(1_000L);
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        assertThat(timestampOf(previous)).isGreaterThan(1_000L);
+
+        // Horloge qui recule : on reste sur le timestamp déjà émis
+        UUID afterRegression = state.next(500L);
+        assertThat(afterRegression).isGreaterThan(previous);
+        assertThat(timestampOf(afterRegression)).isEqualTo(timestampOf(previous));
+    }
+
+    @Test
+    void should_not_collide_across_threads() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                Set<UUID> local = new HashSet<>();
+                for (int i = 0; i < perThread; i++) {
+                    local.add(IdGenerator.uuidV7().next());
+                }
+                all.addAll(local);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    @Test
+    void ids_registry_should_be_pluggable() {
+        UUID fixed = new UUID(42L, 42L);
+        IdGenerator previous = Ids.use(() -> fixed);
+        try {
+            assertThat(AccountId.newId().value()).isEqualTo(fixed);
+        } finally {
+            Ids.use(previous);
+        }
+        assertThat(AccountId.newId().value().version()).isEqualTo(7);
+    }
+}
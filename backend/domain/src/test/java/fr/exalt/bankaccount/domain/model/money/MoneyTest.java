@@ -171,6 +171,65 @@ public class MoneyTest {
         assertThat(m1.subtract(m4)).isEqualTo(Money.of("1.1"));
     }
 
+    /**
+     * Vérifie que la représentation en centimes est cohérente avec la valeur décimale
+     * exposée aux adapters.
+     */
+    @Test
+    @DisplayName("Représentation en centimes cohérente avec la valeur décimale")
+    void cents_and_decimal_value_are_consistent() {
+        assertThat(Money.of("12.34").cents()).isEqualTo(1234L);
+        assertThat(Money.of("-0.05").cents()).isEqualTo(-5L);
+        assertThat(Money.ofCents(1234L)).isEqualTo(Money.of("12.34"));
+        assertThat(Money.ofCents(1234L).value()).isEqualByComparingTo("12.34");
+        assertThat(Money.ofCents(1234L).value().scale()).isEqualTo(2);
+        assertThat(Money.valueOf(new java.math.BigDecimal("1.015"))).isEqualTo(Money.of("1.02"));
+    }
+
+    /**
+     * Vérifie que les dépassements de capacité sont détectés au lieu de boucler silencieusement.
+     */
+    @Test
+    @DisplayName("Détecte les dépassements de capacité")
+    void arithmetic_overflow_is_detected() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        Money min = Money.ofCents(Long.MIN_VALUE);
+
+        assertThatThrownBy(() -> max.add(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> min.subtract(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of("1e30"))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("parse : mêmes montants et même arrondi que of(String), sans passer par BigDecimal")
+    void parse_matches_of_for_decimal_literals() {
+        for (String literal : new String[] {"0", "10", "-10", "+7.5", "1.005", "1.015", "-1.015", "1.0051",
+                "0.125", "0.135", "-0.001", "92233720368547758.07", "1e2", "-2.5E-1", ".5"}) {
+            char[] chars = (" " + literal + " ").toCharArray();
+            assertThat(Money.parse(chars, 1, literal.length())).as(literal).isEqualTo(Money.of(literal));
+        }
+    }
 
+    @Test
+    @DisplayName("parse : refuse ce qui n'est pas un nombre, détecte le dépassement")
+    void parse_rejects_malformed_and_overflowing_amounts() {
+        assertThatThrownBy(() -> Money.parse("12a".toCharArray(), 0, 3)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("-".toCharArray(), 0, 1)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("1.2.3".toCharArray(), 0, 5)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("92233720368547758.08".toCharArray(), 0, 20)).isInstanceOf(ArithmeticException.class);
+    }
 
+    @Test
+    @DisplayName("format : toujours 2 décimales, identique à value().toPlainString()")
+    void format_writes_two_decimals() {
+        for (long cents : new long[] {0, 5, -5, 42, 100, -12_540, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            Money money = Money.ofCents(cents);
+            char[] buffer = new char[2 + Money.MAX_FORMATTED_LENGTH];
+            int length = money.format(buffer, 2);
+            assertThat(new String(buffer, 2, length)).isEqualTo(money.value().toPlainString());
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package fr.exalt.bankaccount.infrastructure.cache;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Cache de lecture des comptes, borné (éviction du moins récemment utilisé), avec ses mesures :
+ * <ul>
+ *   <li>{@code bank.account.view.cache.requests{result=hit|miss}} : lectures servies par le cache ou non</li>
+ *   <li>{@code bank.account.view.cache.load} : durée des chargements sur absence</li>
+ *   <li>{@code bank.account.view.cache.size} : comptes en cache</li>
+ * </ul>
+ * Une vue chargée n'est mise en cache que si aucune écriture validée n'a touché le compte pendant le
+ * chargement (compteur d'écritures par segment d'identifiants) : une lecture lente ne remplace jamais
+ * un solde plus récent.
+ */
+public class InMemoryAccountViewCache implements AccountViewCache {
+
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    private static final int STRIPES = 1024;
+
+    private final Map<AccountId, AccountView> views;
+    private final AtomicLongArray writes = new AtomicLongArray(STRIPES);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer loads;
+
+    public InMemoryAccountViewCache(int capacity, MeterRegistry registry) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        // Accès ordonné : l'entrée la plus ancienne est la moins récemment utilisée
+        this.views = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AccountId, AccountView> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.hits = requests(registry, "hit");
+        this.misses = requests(registry, "miss");
+        this.loads = Timer.builder("bank.account.view.cache.load")
+                .description("Account reads served from the database on a cache miss")
+                .register(registry);
+        Gauge.builder("bank.account.view.cache.size", views, map -> {
+                    synchronized (map) {
+                        return map.size();
+                    }
+                })
+                .description("Accounts held in the read cache")
+                .register(registry);
+    }
+
+    @Override
+    public AccountView getOrLoad(AccountId accountId, Function<AccountId, AccountView> loader) {
+        synchronized (views) {
+            AccountView cached = views.get(accountId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        int stripe = stripe(accountId);
+        long writesBefore = writes.get(stripe);
+        long started = System.nanoTime();
+        AccountView loaded = loader.apply(accountId);
+        loads.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        synchronized (views) {
+            if (writes.get(stripe) == writesBefore) {
+                views.merge(accountId, loaded, InMemoryAccountViewCache::latest);
+            }
+        }
+        return loaded;
+    }
+
+    /** Un seul appel à {@code loader} pour tous les comptes absents ; chaque compte compte pour un hit ou un miss. */
+    @Override
+    public Map<AccountId, AccountView> getAllOrLoad(Collection<AccountId> accountIds,
+                                                    Function<Collection<AccountId>, Map<AccountId, AccountView>> loader) {
+        Map<AccountId, AccountView> found = new LinkedHashMap<>();
+        List<AccountId> absent = new ArrayList<>();
+        synchronized (views) {
+            for (AccountId accountId : accountIds) {
+                AccountView cached = views.get(accountId);
+                if (cached != null) found.put(accountId, cached);
+                else absent.add(accountId);
+            }
+        }
+        hits.increment(found.size());
+        if (absent.isEmpty()) return found;
+
+        misses.increment(absent.size());
+        long[] writesBefore = new long[absent.size()];
+        for (int i = 0; i < writesBefore.length; i++) {
+            writesBefore[i] = writes.get(stripe(absent.get(i)));
+        }
+        long started = System.nanoTime();
+        Map<AccountId, AccountView> loaded = loader.apply(absent);
+        loads.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        synchronized (views) {
+            for (int i = 0; i < writesBefore.length; i++) {
+                AccountId accountId = absent.get(i);
+                AccountView view = loaded.get(accountId);
+                if (view == null) continue;
+                if (writes.get(stripe(accountId)) == writesBefore[i]) {
+                    views.merge(accountId, view, InMemoryAccountViewCache::latest);
+                }
+                found.put(accountId, view);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(AccountView view) {
+        afterCommit(() -> {
+            synchronized (views) {
+                writes.incrementAndGet(stripe(view.accountId()));
+                views.merge(view.accountId(), view, InMemoryAccountViewCache::latest);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(AccountId accountId) {
+        afterCommit(() -> {
+            synchronized (views) {
+                writes.incrementAndGet(stripe(accountId));
+                views.remove(accountId);
+            }
+        });
+    }
+
+    /** Deux validations concurrentes peuvent se terminer dans le désordre : la version la plus haute l'emporte. */
+    private static AccountView latest(AccountView current, AccountView candidate) {
+        return candidate.version() >= current.version() ? candidate : current;
+    }
+
+    private static int stripe(AccountId accountId) {
+        int h = accountId.value().hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("bank.account.view.cache.requests")
+                .description("Account reads, served from the cache (hit) or not (miss)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,463 @@
+package fr.exalt.bankaccount.infrastructure.cache;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewReader;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cache des comptes réhydratés, avec écriture différée des soldes.
+ * <p>
+ * Les comptes lus sont gardés dans un cache borné (éviction du moins récemment utilisé) : un
+ * {@code findById} sur un compte chaud ne fait ni SELECT ni mapping d'entité. La sauvegarde d'un compte
+ * chargé contrôle la version dans le cache, puis la met à jour à la validation de la transaction
+ * appelante ; les soldes modifiés sont regroupés par compte et écrits en base par un thread dédié, au plus
+ * tard après {@code maxStaleness}, et une dernière fois à l'arrêt.
+ * </p>
+ * Les opérations restent écrites de façon synchrone dans la transaction appelante. Un compte qui passe en
+ * attente d'écriture y est aussi marqué ({@code write_behind_pending}), et la marque est supprimée avec
+ * l'écriture de son solde : après un arrêt brutal, seuls les comptes marqués sont recalculés depuis le journal
+ * des opérations au démarrage. Le cache suppose une seule instance écrivant les soldes, et aucune écriture de
+ * solde hors de ce dépôt (mode gardé, moteur en mémoire).
+ * <p>
+ * Base indisponible : les soldes s'accumulent en attente. Au-delà de {@code maxPending} comptes en attente,
+ * toute sauvegarde qui en ajouterait un est refusée ({@link CommandQueueFullApplicationException}).
+ * </p>
+ * Mesures : {@code bank.accounts.write-behind.pending} (comptes dont le solde n'est pas écrit) et
+ * {@code bank.accounts.write-behind.flush.failures} (écritures périodiques en échec).
+ */
+public class WriteBehindAccountRepository implements AccountRepository, AccountViewReader, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 100_000;
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofMillis(200);
+    public static final int DEFAULT_MAX_PENDING = 100_000;
+
+    // Écriture conditionnelle sur la dernière version connue en base : 0 ligne = cache périmé
+    private static final String FLUSH = "update accounts set balance = ?, version = ? where id = ? and version = ?";
+
+    // Solde = somme des opérations (un compte est toujours ouvert à zéro)
+    private static final String OPERATIONS_SUM = """
+            coalesce((select sum(case when o.type = 'DEPOSIT' then o.amount else -o.amount end)
+                        from operations o where o.account_id = a.id), 0)""";
+
+    private static final String RECONCILE = "update accounts a set balance = " + OPERATIONS_SUM + ", version = version + 1"
+            + " where a.id in (select p.account_id from write_behind_pending p) and a.balance <> " + OPERATIONS_SUM;
+
+    private static final String RECONCILE_ONE =
+            "update accounts a set balance = " + OPERATIONS_SUM + ", version = version + 1 where id = ?";
+
+    private static final String MARK = "insert into write_behind_pending (id, account_id) values (?, ?)";
+    private static final String UNMARK = "delete from write_behind_pending where id = ?";
+    private static final String UNMARK_ALL = "delete from write_behind_pending";
+
+    private final AccountRepository delegate;
+    private final TransactionRunner transactionRunner;
+    private final JdbcTemplate jdbc;
+    private final Clock clock;
+    private final int maxPending;
+    private final Counter flushFailures;
+
+    // Accès ordonné : l'entrée la plus ancienne est la moins récemment utilisée
+    private final Map<AccountId, Entry> entries;
+    private int pendingCount;                    // entrées à écrire, sous le verrou de la map
+    private final List<UUID> orphanMarkers = new ArrayList<>(); // marques en trop, supprimées à la prochaine écriture
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WriteBehindAccountRepository(AccountRepository delegate,
+                                        DataSource dataSource,
+                                        TransactionRunner transactionRunner,
+                                        Clock clock,
+                                        int capacity,
+                                        Duration maxStaleness,
+                                        boolean reconcileOnStartup,
+                                        int maxPending,
+                                        MeterRegistry registry) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        if (maxPending < 1) throw new IllegalArgumentException("maxPending must be >= 1");
+        if (maxStaleness == null || maxStaleness.isNegative() || maxStaleness.isZero()) {
+            throw new IllegalArgumentException("maxStaleness must be > 0");
+        }
+        this.delegate = delegate;
+        this.transactionRunner = transactionRunner;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.clock = clock;
+        this.maxPending = maxPending;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AccountId, Entry> eldest) {
+                // Un solde pas encore écrit (ou une sauvegarde en cours) n'est jamais évincé
+                return size() > capacity && eldest.getValue().evictable();
+            }
+        };
+
+        this.flushFailures = Counter.builder("bank.accounts.write-behind.flush.failures")
+                .description("Periodic balance writes that failed and will be retried")
+                .register(registry);
+        Gauge.builder("bank.accounts.write-behind.pending", this, WriteBehindAccountRepository::pending)
+                .description("Cached accounts whose balance is not yet written to the database")
+                .register(registry);
+
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+        long periodNanos = maxStaleness.toNanos();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Account findById(AccountId accountId) {
+        synchronized (entries) {
+            Entry entry = entries.get(accountId);
+            if (entry != null) return entry.committed.toAccount(accountId, clock);
+        }
+        Account loaded = delegate.findById(accountId);
+        if (loaded == null) return null;
+        synchronized (entries) {
+            // Un autre thread a pu charger ou modifier le compte entre-temps : le cache fait foi
+            Entry entry = entries.computeIfAbsent(accountId, id -> new Entry(Snapshot.of(loaded)));
+            return entry.committed.toAccount(accountId, clock);
+        }
+    }
+
+    /**
+     * Compte neuf : INSERT synchrone. Compte chargé : contrôle de version dans le cache, solde écrit en
+     * différé après la validation de la transaction appelante.
+     */
+    @Override
+    public Account save(Account account) {
+        if (account.isNew()) {
+            delegate.save(account);
+            Snapshot inserted = Snapshot.of(account);
+            afterCompletion(committed -> { if (committed) cache(account.getId(), inserted); });
+            return account;
+        }
+
+        AccountId accountId = account.getId();
+        Entry entry;
+        UUID newMarker = null;
+        synchronized (entries) {
+            entry = entries.get(accountId);
+            if (entry != null) {
+                if (entry.pending || entry.committed.version != account.getVersion()) {
+                    throw new AccountConcurrentUpdateApplicationException(
+                            "Account %s was modified concurrently (expected version %d)".formatted(accountId, account.getVersion()));
+                }
+                if (!entry.dirty && pendingCount >= maxPending) {
+                    throw new CommandQueueFullApplicationException(
+                            "Too many balances waiting to be written (%d), try again later".formatted(pendingCount));
+                }
+                entry.pending = true;
+                if (entry.marker == null) newMarker = UUID.randomUUID();
+            }
+        }
+        if (entry == null) {
+            // Absent du cache (jamais lu ou évincé sans écriture en attente) : la base est à jour, écriture directe.
+            // Un autre thread a pu mettre en cache l'état d'avant entre-temps : l'état validé le remplace
+            Account saved = delegate.save(account);
+            Snapshot written = Snapshot.of(saved);
+            afterCompletion(committed -> { if (committed) refresh(accountId, written); });
+            return saved;
+        }
+
+        UUID marker = newMarker;
+        if (marker != null) {
+            // Premier solde en attente sur ce compte : marqué dans la transaction appelante, avec l'opération
+            try {
+                jdbc.update(MARK, marker, accountId.value());
+            } catch (RuntimeException e) {
+                complete(entry, null, null);
+                throw e;
+            }
+        }
+        Snapshot next = Snapshot.of(account).withVersion(account.getVersion() + 1);
+        account.markPersisted(next.version);
+        afterCompletion(committed -> complete(entry, committed ? next : null, marker));
+        return account;
+    }
+
+    /**
+     * Lecture groupée : les comptes en cache sont lus sur leur dernier état validé (la base peut être en
+     * retard), les autres sont chargés en une fois par le dépôt délégué puis mis en cache.
+     */
+    @Override
+    public Map<AccountId, AccountView> findAllViews(Collection<AccountId> accountIds) {
+        Map<AccountId, AccountView> found = new LinkedHashMap<>();
+        List<AccountId> absent = new ArrayList<>();
+        synchronized (entries) {
+            for (AccountId accountId : accountIds) {
+                Entry entry = entries.get(accountId);
+                if (entry != null) found.put(accountId, entry.committed.toView(accountId));
+                else absent.add(accountId);
+            }
+        }
+        if (absent.isEmpty()) return found;
+
+        Map<AccountId, Account> loaded = delegate.findAllById(absent);
+        synchronized (entries) {
+            loaded.forEach((accountId, account) -> {
+                Entry entry = entries.computeIfAbsent(accountId, id -> new Entry(Snapshot.of(account)));
+                found.put(accountId, entry.committed.toView(accountId));
+            });
+        }
+        return found;
+    }
+
+    @Override
+    public void insertAll(Collection<Account> accounts) {
+        delegate.insertAll(accounts);
+        Map<AccountId, Snapshot> inserted = new LinkedHashMap<>();
+        accounts.forEach(account -> inserted.put(account.getId(), Snapshot.of(account)));
+        afterCompletion(committed -> { if (committed) inserted.forEach(this::cache); });
+    }
+
+    /**
+     * Écrit en base, dans une transaction, les soldes modifiés depuis la dernière écriture.
+     * Un compte dont la version en base a bougé hors de ce cache est évincé, et son solde recalculé
+     * depuis les opérations. Les marques des comptes écrits sont supprimées dans la même transaction.
+     */
+    public void flush() {
+        Map<AccountId, Entry> dirty = new LinkedHashMap<>();
+        Map<AccountId, Snapshot> written = new LinkedHashMap<>();
+        Map<AccountId, UUID> claimed = new LinkedHashMap<>();
+        List<UUID> orphans;
+        synchronized (entries) {
+            entries.forEach((accountId, entry) -> {
+                if (entry.dirty) {
+                    dirty.put(accountId, entry);
+                    written.put(accountId, entry.committed);
+                    entry.dirty = false;
+                    // Une sauvegarde en cours compte sur la marque existante : elle couvrira la prochaine écriture
+                    if (!entry.pending && entry.marker != null) {
+                        claimed.put(accountId, entry.marker);
+                        entry.marker = null;
+                    }
+                }
+            });
+            pendingCount -= dirty.size();
+            if (dirty.isEmpty()) return;
+            orphans = new ArrayList<>(orphanMarkers);
+            orphanMarkers.clear();
+        }
+
+        List<AccountId> ids = new ArrayList<>(dirty.keySet());
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (AccountId accountId : ids) {
+            Snapshot snapshot = written.get(accountId);
+            rows.add(new Object[] { snapshot.balance.value(), snapshot.version, accountId.value(), dirty.get(accountId).persistedVersion });
+        }
+        int[] updated;
+        try {
+            updated = transactionRunner.inTransaction(() -> {
+                int[] counts = jdbc.batchUpdate(FLUSH, rows);
+                List<Object[]> markers = new ArrayList<>();
+                orphans.forEach(marker -> markers.add(new Object[] { marker }));
+                for (int i = 0; i < counts.length; i++) {
+                    UUID marker = claimed.get(ids.get(i));
+                    if (counts[i] != 0 && marker != null) markers.add(new Object[] { marker });
+                }
+                if (!markers.isEmpty()) jdbc.batchUpdate(UNMARK, markers);
+                return counts;
+            });
+        } catch (RuntimeException e) {
+            // Écriture rejouée au prochain passage, marques comprises
+            synchronized (entries) {
+                dirty.forEach((accountId, entry) -> {
+                    markDirty(entry);
+                    UUID marker = claimed.get(accountId);
+                    if (marker != null) adoptMarker(entry, marker);
+                });
+                orphanMarkers.addAll(orphans);
+            }
+            throw e;
+        }
+
+        List<AccountId> stale = new ArrayList<>();
+        synchronized (entries) {
+            for (int i = 0; i < updated.length; i++) {
+                AccountId accountId = ids.get(i);
+                Entry entry = dirty.get(accountId);
+                if (updated[i] == 0) {
+                    stale.add(accountId);
+                    if (entries.remove(accountId, entry) && entry.dirty) pendingCount--;
+                } else {
+                    entry.persistedVersion = written.get(accountId).version;
+                }
+            }
+        }
+        if (!stale.isEmpty()) {
+            List<Object[]> markers = stale.stream().map(claimed::get).filter(Objects::nonNull)
+                    .map(marker -> new Object[] { marker }).toList();
+            transactionRunner.inTransaction(() -> {
+                jdbc.batchUpdate(RECONCILE_ONE, stale.stream().map(accountId -> new Object[] { accountId.value() }).toList());
+                return markers.isEmpty() ? null : jdbc.batchUpdate(UNMARK, markers);
+            });
+        }
+    }
+
+    /**
+     * Recalcule depuis les opérations les soldes des comptes marqués en attente d'écriture, puis efface les
+     * marques ; renvoie le nombre de comptes corrigés. Appelé au démarrage, avant toute écriture par ce cache.
+     */
+    public int reconcile() {
+        return transactionRunner.inTransaction(() -> {
+            int corrected = jdbc.update(RECONCILE);
+            jdbc.update(UNMARK_ALL);
+            return corrected;
+        });
+    }
+
+    /** Arrête l'écriture périodique, puis écrit les derniers soldes en attente. */
+    @Override
+    public void close() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /** Nombre de comptes dont le solde validé n'est pas encore écrit en base. */
+    public int pending() {
+        synchronized (entries) {
+            return pendingCount;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Base indisponible : les soldes restent en attente dans le cache, rejoués au prochain passage
+            flushFailures.increment();
+        }
+    }
+
+    private void complete(Entry entry, Snapshot committed, UUID marker) {
+        synchronized (entries) {
+            entry.pending = false;
+            if (committed != null) {
+                entry.committed = committed;
+                markDirty(entry);
+                if (marker != null) adoptMarker(entry, marker);
+            }
+        }
+    }
+
+    /** Sous le verrou de la map : une entrée garde une seule marque, les autres sont supprimées à la prochaine écriture. */
+    private void adoptMarker(Entry entry, UUID marker) {
+        if (entry.marker == null) entry.marker = marker;
+        else orphanMarkers.add(marker);
+    }
+
+    /** Sous le verrou de la map. */
+    private void markDirty(Entry entry) {
+        if (!entry.dirty) {
+            entry.dirty = true;
+            pendingCount++;
+        }
+    }
+
+    private void cache(AccountId accountId, Snapshot snapshot) {
+        synchronized (entries) {
+            entries.putIfAbsent(accountId, new Entry(snapshot));
+        }
+    }
+
+    /**
+     * Met en cache un état écrit directement en base, à la place d'une entrée plus ancienne. Une entrée
+     * en cours d'écriture sur une version antérieure est en conflit : l'écriture différée ne trouvera pas
+     * sa version en base, l'évincera et recalculera le solde.
+     */
+    private void refresh(AccountId accountId, Snapshot snapshot) {
+        synchronized (entries) {
+            Entry entry = entries.get(accountId);
+            if (entry == null || (entry.evictable() && entry.committed.version < snapshot.version)) {
+                entries.put(accountId, new Entry(snapshot));
+            }
+        }
+    }
+
+    /** Le cache ne suit que les écritures validées : sans transaction en cours, l'écriture est déjà validée. */
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /** État d'un compte dans le cache ; protégé par le verrou de la map. */
+    private static final class Entry {
+        Snapshot committed;
+        long persistedVersion;
+        boolean pending;
+        boolean dirty;
+        UUID marker;                             // ligne de write_behind_pending couvrant le solde en attente
+
+        Entry(Snapshot committed) {
+            this.committed = committed;
+            this.persistedVersion = committed.version;
+        }
+
+        boolean evictable() {
+            return !pending && !dirty;
+        }
+    }
+
+    /** Valeurs immuables d'un compte validé : réhydratées à chaque lecture, sans passer par l'entité. */
+    private record Snapshot(Account.Type type, Money balance, Money overdraft, Money ceiling, long version) {
+
+        static Snapshot of(Account account) {
+            return new Snapshot(account.getType(), account.getBalance(),
+                    account.getType() == Account.Type.CURRENT ? account.getOverdraft() : null,
+                    account.getType() == Account.Type.SAVINGS ? account.getCeiling() : null,
+                    account.getVersion());
+        }
+
+        Snapshot withVersion(long newVersion) {
+            return new Snapshot(type, balance, overdraft, ceiling, newVersion);
+        }
+
+        AccountView toView(AccountId accountId) {
+            return new AccountView(accountId, type, balance, overdraft, ceiling, version);
+        }
+
+        Account toAccount(AccountId accountId, Clock clock) {
+            return Account.rehydrate(accountId, type, balance, overdraft, ceiling, version, clock);
+        }
+    }
+}
@@ -1,19 +1,60 @@
 package fr.exalt.bankaccount.infrastructure.config;
 
+import fr.exalt.bankaccount.application.port.out.AccountListReader;
 import fr.exalt.bankaccount.application.port.out.AccountRepository;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.AccountViewReader;
+import fr.exalt.bankaccount.application.port.out.GuardedBalanceWriter;
+import fr.exalt.bankaccount.application.port.out.LaneMetrics;
+import fr.exalt.bankaccount.application.port.out.LedgerStore;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
+import fr.exalt.bankaccount.application.port.out.ProcessedCommandStore;
+import fr.exalt.bankaccount.application.port.out.RetryMetrics;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.application.service.account.AccountLaneDispatcher;
+import fr.exalt.bankaccount.application.service.account.BatchOperationsService;
+import fr.exalt.bankaccount.application.service.account.BulkOpenAccountsService;
+import fr.exalt.bankaccount.application.service.account.ConflictRetry;
 import fr.exalt.bankaccount.application.service.account.DepositService;
+import fr.exalt.bankaccount.application.service.account.GetAccountService;
+import fr.exalt.bankaccount.application.service.account.GroupCommitService;
+import fr.exalt.bankaccount.application.service.account.GuardedOperationService;
+import fr.exalt.bankaccount.application.service.account.LedgerEngine;
+import fr.exalt.bankaccount.application.service.account.ListAccountsService;
 import fr.exalt.bankaccount.application.service.account.OpenCurrentAccountService;
 import fr.exalt.bankaccount.application.service.account.OpenSavingsAccountService;
+import fr.exalt.bankaccount.application.service.account.OperationCommandsService;
 import fr.exalt.bankaccount.application.service.account.WithdrawService;
+import fr.exalt.bankaccount.application.service.imports.ImportOperationsService;
 import fr.exalt.bankaccount.application.service.operation.OperationService;
+import fr.exalt.bankaccount.infrastructure.cache.InMemoryAccountViewCache;
+import fr.exalt.bankaccount.infrastructure.cache.WriteBehindAccountRepository;
+import fr.exalt.bankaccount.infrastructure.journal.FileCommandJournal;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.metrics.MicrometerLaneMetrics;
+import fr.exalt.bankaccount.infrastructure.metrics.MicrometerRetryMetrics;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.AccountRestMapper;
+import fr.exalt.bankaccount.infrastructure.rest.mapper.BulkOpenRestMapper;
+import fr.exalt.bankaccount.infrastructure.rest.mapper.ImportRestMapper;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.OperationRestMapper;
+import fr.exalt.bankaccount.infrastructure.transaction.SpringTransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.sql.DataSource;
 import java.time.Clock;
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Configuration
 @EnableTransactionManagement
@@ -28,6 +69,12 @@ public class ApplicationServiceConfig {
         return new AccountRestMapper(opMapper);
     }
 
+    @Bean
+    public ImportRestMapper importRestMapper() { return new ImportRestMapper(); }
+
+    @Bean
+    public BulkOpenRestMapper bulkOpenRestMapper() { return new BulkOpenRestMapper(); }
+
     // ---- Use cases (purs, sans @Service)
     @Bean
     public OpenCurrentAccountService openCurrentAccountService(AccountRepository accountRepository, Clock clock) {
@@ -40,18 +87,193 @@ public class ApplicationServiceConfig {
     }
 
     @Bean
-    public DepositService depositService(AccountRepository accountRepository, OperationRepository operationRepository) {
-        return new DepositService(accountRepository, operationRepository);
+    public BulkOpenAccountsService bulkOpenAccountsService(AccountRepository accountRepository,
+                                                           TransactionRunner transactionRunner, Clock clock,
+                                                           @Value("${bank.accounts.bulk-open.chunk-size:1000}") int chunkSize) {
+        return new BulkOpenAccountsService(accountRepository, transactionRunner, chunkSize, clock);
+    }
+
+    // ---- Lecture de comptes (un ou plusieurs) à travers le cache. Le moteur en mémoire ne publie pas ses soldes dans le cache :
+    //      avec lui, la lecture va en base (soldes écrits en différé par le moteur)
+    @Bean
+    public GetAccountService getAccountService(AccountViewReader accountViewReader, AccountViewCache accountViewCache,
+                                               @Value("${bank.accounts.engine.enabled:false}") boolean engineEnabled) {
+        return new GetAccountService(accountViewReader, engineEnabled ? AccountViewCache.noop() : accountViewCache);
+    }
+
+    // ---- Liste paginée des comptes (back-office), lue en base hors cache
+    @Bean
+    public ListAccountsService listAccountsService(AccountListReader accountListReader) {
+        return new ListAccountsService(accountListReader);
+    }
+
+    @Bean
+    public AccountViewCache accountViewCache(ObjectProvider<MeterRegistry> meterRegistry,
+                                             @Value("${bank.accounts.view-cache.capacity:100000}") int capacity) {
+        return new InMemoryAccountViewCache(capacity, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    // ---- Dépôt / retrait : lecture-modification-écriture versionnée (défaut)
+    //      ou instruction SQL gardée (bank.accounts.write-mode=guarded).
+    //      Événement d'opération écrit dans la boîte d'envoi, dans la même transaction
+    @Bean
+    @ConditionalOnProperty(name = "bank.accounts.write-mode", havingValue = "versioned", matchIfMissing = true)
+    public DepositService depositService(AccountRepository accountRepository, OperationRepository operationRepository,
+                                         TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                                         AccountViewCache accountViewCache, OperationOutbox operationOutbox) {
+        return new DepositService(accountRepository, operationRepository, transactionRunner, conflictRetry,
+                accountViewCache, operationOutbox);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bank.accounts.write-mode", havingValue = "versioned", matchIfMissing = true)
+    public WithdrawService withdrawService(AccountRepository accountRepository, OperationRepository operationRepository,
+                                           TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                                           AccountViewCache accountViewCache, OperationOutbox operationOutbox) {
+        return new WithdrawService(accountRepository, operationRepository, transactionRunner, conflictRetry,
+                accountViewCache, operationOutbox);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bank.accounts.write-mode", havingValue = "guarded")
+    public GuardedOperationService guardedOperationService(GuardedBalanceWriter balanceWriter, AccountRepository accountRepository,
+                                                           TransactionRunner transactionRunner, ConflictRetry conflictRetry,
+                                                           AccountViewCache accountViewCache, OperationOutbox operationOutbox) {
+        return new GuardedOperationService(balanceWriter, accountRepository, transactionRunner, conflictRetry,
+                accountViewCache, operationOutbox);
+    }
+
+    // ---- Lot d'opérations sur un compte (lecture-modification-écriture versionnée, hors moteur en mémoire)
+    @Bean
+    @ConditionalOnExpression("!${bank.accounts.engine.enabled:false}")
+    public BatchOperationsService batchOperationsService(AccountRepository accountRepository,
+                                                         OperationRepository operationRepository,
+                                                         TransactionRunner transactionRunner,
+                                                         ConflictRetry conflictRetry, AccountViewCache accountViewCache,
+                                                         OperationOutbox operationOutbox) {
+        return new BatchOperationsService(accountRepository, operationRepository, transactionRunner, conflictRetry,
+                accountViewCache, operationOutbox);
+    }
+
+    // ---- Import de fichiers d'opérations, par tronçons (hors moteur en mémoire)
+    @Bean
+    @ConditionalOnExpression("!${bank.accounts.engine.enabled:false}")
+    public ImportOperationsService importOperationsService(AccountRepository accountRepository,
+                                                           OperationRepository operationRepository,
+                                                           TransactionRunner transactionRunner,
+                                                           ConflictRetry conflictRetry, Clock clock,
+                                                           AccountViewCache accountViewCache,
+                                                           OperationOutbox operationOutbox,
+                                                           @Value("${bank.imports.chunk-size:5000}") int chunkSize) {
+        return new ImportOperationsService(accountRepository, operationRepository, transactionRunner,
+                conflictRetry, chunkSize, clock, accountViewCache, operationOutbox);
+    }
+
+    // ---- Lots de commandes reçus de Kafka : une transaction par lot, dédoublonnés (hors moteur en mémoire)
+    @Bean
+    @ConditionalOnExpression("!${bank.accounts.engine.enabled:false}")
+    public OperationCommandsService operationCommandsService(AccountRepository accountRepository,
+                                                             OperationRepository operationRepository,
+                                                             ProcessedCommandStore processedCommandStore,
+                                                             TransactionRunner transactionRunner,
+                                                             ConflictRetry conflictRetry,
+                                                             AccountViewCache accountViewCache,
+                                                             OperationOutbox operationOutbox) {
+        return new OperationCommandsService(accountRepository, operationRepository, processedCommandStore,
+                transactionRunner, conflictRetry, accountViewCache, operationOutbox);
+    }
+
+    // ---- Validation groupée (opt-in, mode versionné) : prioritaire sur DepositService / WithdrawService
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${bank.accounts.group-commit.enabled:false} and !${bank.accounts.engine.enabled:false}"
+            + " and '${bank.accounts.write-mode:versioned}' == 'versioned'")
+    public GroupCommitService groupCommitService(AccountRepository accountRepository, OperationRepository operationRepository,
+                                                 TransactionRunner transactionRunner,
+                                                 DepositService depositService, WithdrawService withdrawService,
+                                                 AccountViewCache accountViewCache, OperationOutbox operationOutbox,
+                                                 @Value("${bank.accounts.group-commit.window:2ms}") Duration window,
+                                                 @Value("${bank.accounts.group-commit.max-batch:256}") int maxBatch,
+                                                 @Value("${bank.accounts.group-commit.result-timeout:30s}") Duration resultTimeout) {
+        return new GroupCommitService(accountRepository, operationRepository, transactionRunner,
+                depositService, withdrawService, window, maxBatch, accountViewCache, operationOutbox, resultTimeout);
+    }
+
+    // ---- Une voie mono-thread par groupe de comptes (opt-in, mode versionné, exclusif du group commit)
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${bank.accounts.lanes.enabled:false} and !${bank.accounts.group-commit.enabled:false}"
+            + " and !${bank.accounts.engine.enabled:false} and '${bank.accounts.write-mode:versioned}' == 'versioned'")
+    public AccountLaneDispatcher accountLaneDispatcher(DepositService depositService, WithdrawService withdrawService,
+                                                       LaneMetrics laneMetrics,
+                                                       @Value("${bank.accounts.lanes.count:0}") int lanes,
+                                                       @Value("${bank.accounts.lanes.queue-capacity:1024}") int queueCapacity,
+                                                       @Value("${bank.accounts.lanes.offer-timeout:50ms}") Duration offerTimeout) {
+        return new AccountLaneDispatcher(depositService, withdrawService, lanes, queueCapacity, offerTimeout, laneMetrics);
+    }
+
+    // ---- Moteur en mémoire journalisé (opt-in, mode versionné, exclusif du group commit et des voies)
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${bank.accounts.engine.enabled:false} and '${bank.accounts.write-mode:versioned}' == 'versioned'")
+    public LedgerEngine ledgerEngine(AccountRepository accountRepository, OperationRepository operationRepository,
+                                     LedgerStore ledgerStore, TransactionRunner transactionRunner,
+                                     OperationOutbox operationOutbox,
+                                     @Value("${bank.accounts.engine.ring-size:8192}") int ringSize,
+                                     @Value("${bank.accounts.engine.journal-path:data/ledger.journal}") Path journalPath,
+                                     @Value("${bank.accounts.engine.journal-fsync:true}") boolean journalFsync,
+                                     @Value("${bank.accounts.engine.persist-attempts:50}") int persistAttempts) {
+        // Le journal est fermé par le moteur à l'arrêt
+        return new LedgerEngine(accountRepository, operationRepository, ledgerStore, transactionRunner,
+                new FileCommandJournal(journalPath, journalFsync), ringSize, operationOutbox, persistAttempts);
+    }
+
+    // ---- Cache des comptes avec écriture différée des soldes (opt-in, mode versionné, hors moteur en mémoire).
+    //      Prioritaire aussi comme AccountViewReader : la base peut être en retard sur le cache
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${bank.accounts.write-behind.enabled:false} and !${bank.accounts.engine.enabled:false}"
+            + " and '${bank.accounts.write-mode:versioned}' == 'versioned'")
+    public WriteBehindAccountRepository writeBehindAccountRepository(AccountRepositoryAdapter accountRepositoryAdapter,
+                                                                     DataSource dataSource,
+                                                                     TransactionRunner transactionRunner, Clock clock,
+                                                                     @Value("${bank.accounts.write-behind.capacity:100000}") int capacity,
+                                                                     @Value("${bank.accounts.write-behind.max-staleness:200ms}") Duration maxStaleness,
+                                                                     @Value("${bank.accounts.write-behind.reconcile-on-startup:true}") boolean reconcileOnStartup,
+                                                                     @Value("${bank.accounts.write-behind.max-pending:100000}") int maxPending,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new WriteBehindAccountRepository(accountRepositoryAdapter, dataSource, transactionRunner, clock,
+                capacity, maxStaleness, reconcileOnStartup, maxPending,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public LaneMetrics laneMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MicrometerLaneMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public TransactionRunner transactionRunner(PlatformTransactionManager transactionManager) {
+        return new SpringTransactionRunner(transactionManager);
+    }
+
+    // ---- Rejeu sur conflit de version (verrouillage optimiste)
+    @Bean
+    public RetryMetrics retryMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MicrometerRetryMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 
     @Bean
-    public WithdrawService withdrawService(AccountRepository accountRepository, OperationRepository operationRepository) {
-        return new WithdrawService(accountRepository, operationRepository);
+    public ConflictRetry conflictRetry(RetryMetrics retryMetrics,
+                                       @Value("${bank.accounts.conflict-retry.max-attempts:3}") int maxAttempts,
+                                       @Value("${bank.accounts.conflict-retry.base-backoff:5ms}") Duration baseBackoff) {
+        return new ConflictRetry(maxAttempts, baseBackoff, retryMetrics);
     }
 
     @Bean
-    public OperationService operationService(OperationRepository operationRepository, Clock clock) {
-        return new OperationService(operationRepository, clock);
+    public OperationService operationService(OperationRepository operationRepository, Clock clock,
+                                             TransactionRunner transactionRunner) {
+        return new OperationService(operationRepository, clock, transactionRunner);
     }
 
     @Bean
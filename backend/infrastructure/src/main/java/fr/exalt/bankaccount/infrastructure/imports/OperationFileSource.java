@@ -0,0 +1,113 @@
+package fr.exalt.bankaccount.infrastructure.imports;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.exalt.bankaccount.application.dto.imports.ImportLine;
+import fr.exalt.bankaccount.application.port.out.ImportSource;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Fichier d'opérations lu ligne à ligne, sans le charger en mémoire.
+ * <ul>
+ *   <li>CSV : {@code accountId,type,amount} (ligne d'en-tête facultative) ;</li>
+ *   <li>NDJSON : un objet {@code {"accountId": "...", "type": "DEPOSIT", "amount": 12.50}} par ligne.</li>
+ * </ul>
+ * Les lignes vides sont ignorées ; une ligne illisible devient {@link ImportLine.Malformed}.
+ */
+public class OperationFileSource implements ImportSource {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final Path file;
+    private final Format format;
+    private final boolean deleteOnClose;
+
+    /**
+     * @param deleteOnClose fichier temporaire (copie de l'upload) supprimé à la fin de la lecture
+     */
+    public OperationFileSource(Path file, Format format, boolean deleteOnClose) {
+        this.file = file;
+        this.format = format;
+        this.deleteOnClose = deleteOnClose;
+    }
+
+    @Override
+    public Stream<ImportLine> open() {
+        BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open import file " + file, e);
+        }
+        AtomicLong lineNumber = new AtomicLong();
+        return reader.lines()
+                .map(text -> new NumberedLine(lineNumber.incrementAndGet(), text.strip()))
+                .filter(line -> !line.text.isEmpty() && !isCsvHeader(line))
+                .map(this::parse)
+                .onClose(() -> close(reader));
+    }
+
+    private ImportLine parse(NumberedLine line) {
+        try {
+            return switch (format) {
+                case CSV -> parseCsv(line);
+                case NDJSON -> parseJson(line);
+            };
+        } catch (RuntimeException | IOException e) {
+            return new ImportLine.Malformed(line.number, "Unreadable line: " + e.getMessage());
+        }
+    }
+
+    private static ImportLine parseCsv(NumberedLine line) {
+        String[] fields = line.text.split(",", -1);
+        if (fields.length != 3) {
+            return new ImportLine.Malformed(line.number, "Expected 3 fields (accountId,type,amount), got " + fields.length);
+        }
+        return parsed(line.number, fields[0], fields[1], fields[2]);
+    }
+
+    private static ImportLine parseJson(NumberedLine line) throws IOException {
+        JsonNode node = JSON.readTree(line.text);
+        if (node == null || !node.hasNonNull("accountId") || !node.hasNonNull("type") || !node.hasNonNull("amount")) {
+            return new ImportLine.Malformed(line.number, "Expected fields accountId, type and amount");
+        }
+        return parsed(line.number, node.get("accountId").asText(), node.get("type").asText(), node.get("amount").asText());
+    }
+
+    private static ImportLine parsed(long number, String accountId, String type, String amount) {
+        return new ImportLine.Parsed(number,
+                new AccountId(UUID.fromString(accountId.strip())),
+                Operation.Type.valueOf(type.strip().toUpperCase(Locale.ROOT)),
+                Money.of(amount.strip()));
+    }
+
+    private boolean isCsvHeader(NumberedLine line) {
+        return format == Format.CSV && line.number == 1 && line.text.toLowerCase(Locale.ROOT).startsWith("accountid");
+    }
+
+    private void close(BufferedReader reader) {
+        try {
+            reader.close();
+            if (deleteOnClose) Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close import file " + file, e);
+        }
+    }
+
+    private record NumberedLine(long number, String text) {}
+}
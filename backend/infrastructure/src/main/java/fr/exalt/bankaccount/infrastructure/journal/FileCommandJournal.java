@@ -0,0 +1,226 @@
+package fr.exalt.bankaccount.infrastructure.journal;
+
+import fr.exalt.bankaccount.application.port.out.CommandJournal;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Journal du moteur en mémoire dans un fichier en ajout seul, enregistrements binaires de taille fixe :
+ * <pre>
+ * séquence (8) | type (1) | compte (16) | opération (16) | centimes (8) | secondes (8) | nanos (4) | CRC32 (4)
+ * </pre>
+ * Les entrées sont accumulées dans un tampon et écrites à chaque {@link #flush()} ;
+ * {@code fsync} ({@link FileChannel#force(boolean)}) est optionnel.
+ * À la relecture, un enregistrement incomplet ou au CRC invalide (écriture interrompue) marque la fin
+ * du journal et est tronqué.
+ * <p>
+ * Le compactage recopie les enregistrements à conserver dans un fichier voisin, substitué ensuite
+ * au journal par un renommage atomique : un arrêt brutal laisse l'ancien ou le nouveau journal, complet.
+ * </p>
+ */
+public class FileCommandJournal implements CommandJournal {
+
+    static final int RECORD_SIZE = 8 + 1 + 16 + 16 + 8 + 8 + 4 + 4;
+
+    private static final int BUFFER_RECORDS = 1024;
+
+    private final Path path;
+    private final boolean fsync;
+    private FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORDS);
+    private final CRC32 crc = new CRC32();
+
+    public FileCommandJournal(Path path, boolean fsync) {
+        this.path = path;
+        this.fsync = fsync;
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            this.channel = open(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open command journal " + path, e);
+        }
+    }
+
+    @Override
+    public void append(Entry entry) {
+        if (buffer.remaining() < RECORD_SIZE) {
+            write();
+        }
+        Operation operation = entry.operation();
+        int start = buffer.position();
+        buffer.putLong(entry.sequence());
+        buffer.put((byte) operation.type().ordinal());
+        putUuid(buffer, operation.accountId().value());
+        putUuid(buffer, operation.id().value());
+        buffer.putLong(operation.amount().cents());
+        buffer.putLong(operation.at().getEpochSecond());
+        buffer.putInt(operation.at().getNano());
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    @Override
+    public void flush() {
+        write();
+        if (fsync) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot sync command journal", e);
+            }
+        }
+    }
+
+    @Override
+    public void replay(long afterSequence, Consumer<Entry> consumer) {
+        try {
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            long position = 0;
+            long size = channel.size();
+            while (position + RECORD_SIZE <= size) {
+                record.clear();
+                while (record.hasRemaining() && channel.read(record, position + record.position()) > 0) {
+                    // lecture complète de l'enregistrement
+                }
+                record.flip();
+                if (record.getInt(RECORD_SIZE - 4) != checksum(record, 0)) break;
+                Entry entry = read(record);
+                if (entry.sequence() > afterSequence) consumer.accept(entry);
+                position += RECORD_SIZE;
+            }
+            if (position < size) {
+                // Queue déchirée : on repart du dernier enregistrement valide
+                channel.truncate(position);
+            }
+            channel.position(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay command journal", e);
+        }
+    }
+
+    @Override
+    public void compact(long upToSequence) {
+        write();
+        try {
+            long size = channel.size();
+            long keepFrom = firstRecordAfter(upToSequence, size / RECORD_SIZE) * RECORD_SIZE;
+            if (keepFrom == 0) return;
+            if (keepFrom >= size) {
+                truncate();
+                return;
+            }
+            Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            try (FileChannel target = FileChannel.open(compacted,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (long position = keepFrom; position < size; ) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+                if (fsync) target.force(false);
+            }
+            Files.move(compacted, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel.close();
+            channel = open(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact command journal", e);
+        }
+    }
+
+    @Override
+    public void truncate() {
+        try {
+            buffer.clear();
+            channel.truncate(0);
+            channel.position(0);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate command journal", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Fichier fermé même si la dernière écriture échoue (moteur en échec)
+        try (FileChannel closing = channel) {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close command journal", e);
+        }
+    }
+
+    private void write() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write command journal", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    /** Recherche dichotomique : les séquences sont croissantes dans le fichier. */
+    private long firstRecordAfter(long sequence, long records) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Long.BYTES);
+        long low = 0;
+        long high = records;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            header.clear();
+            while (header.hasRemaining() && channel.read(header, middle * RECORD_SIZE + header.position()) > 0) {
+                // lecture complète de la séquence
+            }
+            if (header.getLong(0) <= sequence) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    private int checksum(ByteBuffer source, int start) {
+        crc.reset();
+        crc.update(source.slice(start, RECORD_SIZE - 4));
+        return (int) crc.getValue();
+    }
+
+    private static Entry read(ByteBuffer record) {
+        long sequence = record.getLong();
+        Operation.Type type = Operation.Type.values()[record.get()];
+        AccountId accountId = new AccountId(getUuid(record));
+        OperationId operationId = new OperationId(getUuid(record));
+        Money amount = Money.ofCents(record.getLong());
+        Instant at = Instant.ofEpochSecond(record.getLong(), record.getInt());
+        // Libellé non journalisé : valeur par défaut du type, comme à la création
+        return new Entry(sequence, new Operation(operationId, accountId, amount, type, at, null));
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -1,24 +1,47 @@
 package fr.exalt.bankaccount.infrastructure.jpa.adapter;
 
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 import fr.exalt.bankaccount.application.port.out.AccountRepository;
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.infrastructure.jpa.converter.MoneyConverter;
+import fr.exalt.bankaccount.infrastructure.jpa.entity.AccountEntity;
 import fr.exalt.bankaccount.infrastructure.jpa.mapper.AccountMapper;
 import fr.exalt.bankaccount.infrastructure.jpa.spring.AccountJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Repository
 public class AccountRepositoryAdapter implements AccountRepository {
 
     private final AccountJpaRepository accountJpaRepository;
     private final AccountMapper accountMapper = new AccountMapper();
+    // Batchs JDBC : même conversion des colonnes monétaires que les entités
+    private final MoneyConverter money = new MoneyConverter();
+    private final JdbcTemplate jdbc;
     private final Clock clock;
 
-    public AccountRepositoryAdapter (AccountJpaRepository jpa, Clock clock) {
+    private static final String UPDATE_IF_VERSION = """
+            update accounts set balance = ?, overdraft = ?, ceiling = ?, version = version + 1
+             where id = ? and version = ?
+            """;
+
+    private static final String INSERT = """
+            insert into accounts (id, version, type, balance, overdraft, ceiling) values (?, 0, ?, ?, ?, ?)
+            """;
+
+    public AccountRepositoryAdapter (AccountJpaRepository jpa, DataSource dataSource, Clock clock) {
         this.accountJpaRepository = jpa;
+        this.jdbc = new JdbcTemplate(dataSource);
         this.clock = clock;
     }
 
@@ -31,9 +54,94 @@ public class AccountRepositoryAdapter implements AccountRepository {
                 );
     }
 
+    /**
+     * Compte neuf : INSERT. Compte chargé : un seul {@code UPDATE ... WHERE id = ? AND version = ?}
+     * avec la version lue dans {@link #findById(AccountId)} (pas de merge, donc pas de SELECT préalable).
+     */
     @Override
     public Account save(Account account) {
-        accountJpaRepository.save(accountMapper.toEntity(account));
+        if (account.isNew()) {
+            accountJpaRepository.save(accountMapper.toEntity(account));
+            account.markPersisted(0L);
+            return account;
+        }
+
+        AccountEntity values = accountMapper.toEntity(account);
+        int updated = accountJpaRepository.updateIfVersion(
+                values.getId(), account.getVersion(), values.getBalance(), values.getOverdraft(), values.getCeiling());
+        if (updated == 0) {
+            throw conflict(account);
+        }
+        account.markPersisted(account.getVersion() + 1);
         return account;
     }
+
+    /** Un seul {@code SELECT ... WHERE id IN (...)}. */
+    @Override
+    public Map<AccountId, Account> findAllById(Collection<AccountId> accountIds) {
+        Map<AccountId, Account> found = new LinkedHashMap<>();
+        accountJpaRepository.findAllById(accountIds.stream().map(AccountId::value).toList())
+                .forEach(entity -> {
+                    Account account = accountMapper.toDomain(entity, clock);
+                    found.put(account.getId(), account);
+                });
+        return found;
+    }
+
+    /**
+     * Comptes neufs : INSERT. Comptes chargés : un seul batch JDBC d'UPDATE conditionnels sur la version.
+     * Une ligne non mise à jour lève le conflit : la transaction appelante est annulée en entier.
+     */
+    @Override
+    public void saveAll(Collection<Account> accounts) {
+        List<Account> loaded = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            if (account.isNew()) save(account);
+            else loaded.add(account);
+        }
+        if (loaded.isEmpty()) return;
+
+        // Les écritures JPA en attente partent avant le batch JDBC
+        accountJpaRepository.flush();
+        int[] updated = jdbc.batchUpdate(UPDATE_IF_VERSION, loaded.stream()
+                .map(account -> {
+                    AccountEntity values = accountMapper.toEntity(account);
+                    return new Object[] {
+                            money.convertToDatabaseColumn(values.getBalance()),
+                            money.convertToDatabaseColumn(values.getOverdraft()),
+                            money.convertToDatabaseColumn(values.getCeiling()),
+                            values.getId(), account.getVersion()
+                    };
+                })
+                .toList());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) throw conflict(loaded.get(i));
+        }
+        loaded.forEach(account -> account.markPersisted(account.getVersion() + 1));
+    }
+
+    /**
+     * Comptes neufs : un seul batch JDBC d'INSERT, sans SELECT ni passage par le contexte de persistance.
+     */
+    @Override
+    public void insertAll(Collection<Account> accounts) {
+        if (accounts.isEmpty()) return;
+        jdbc.batchUpdate(INSERT, accounts.stream()
+                .map(account -> {
+                    AccountEntity values = accountMapper.toEntity(account);
+                    return new Object[] {
+                            values.getId(), values.getType(),
+                            money.convertToDatabaseColumn(values.getBalance()),
+                            money.convertToDatabaseColumn(values.getOverdraft()),
+                            money.convertToDatabaseColumn(values.getCeiling())
+                    };
+                })
+                .toList());
+        accounts.forEach(account -> account.markPersisted(0L));
+    }
+
+    private static AccountConcurrentUpdateApplicationException conflict(Account account) {
+        return new AccountConcurrentUpdateApplicationException(
+                "Account %s was modified concurrently (expected version %d)".formatted(account.getId(), account.getVersion()));
+    }
 }
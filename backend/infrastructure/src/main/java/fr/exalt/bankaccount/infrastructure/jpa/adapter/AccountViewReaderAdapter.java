@@ -0,0 +1,100 @@
+package fr.exalt.bankaccount.infrastructure.jpa.adapter;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.application.port.out.AccountListReader;
+import fr.exalt.bankaccount.application.port.out.AccountViewReader;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+public class AccountViewReaderAdapter implements AccountViewReader, AccountListReader {
+
+    private static final String SELECT_VIEWS = """
+            select id, type, balance, overdraft, ceiling, version from accounts where id in (:ids)
+            """;
+
+    private static final String SELECT_PAGE = "select id, type, balance, overdraft, ceiling, version from accounts";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public AccountViewReaderAdapter(DataSource dataSource) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Un seul {@code SELECT ... WHERE id IN (...)} sur les colonnes utiles, lignes converties directement
+     * en vues : ni entité gérée, ni agrégat réhydraté.
+     */
+    @Override
+    public Map<AccountId, AccountView> findAllViews(Collection<AccountId> accountIds) {
+        Map<AccountId, AccountView> found = new LinkedHashMap<>();
+        if (accountIds.isEmpty()) return found;
+        jdbc.query(SELECT_VIEWS, Map.of("ids", accountIds.stream().map(AccountId::value).toList()), rs -> {
+            AccountView view = toView(rs);
+            found.put(view.accountId(), view);
+        });
+        return found;
+    }
+
+    /**
+     * Pagination par clé : {@code WHERE id > :after ORDER BY id LIMIT :limit}. Les identifiants sont des
+     * UUIDv7, croissants dans l'ordre d'ouverture ; la page suivante repart de la clé primaire (ou de
+     * {@code idx_accounts_type_id} avec un filtre de type) au lieu de relire et d'écarter les lignes précédentes.
+     * Le filtre de solde est appliqué aux lignes parcourues de {@code idx_accounts_type_id} : le solde,
+     * réécrit à chaque opération, n'est volontairement pas indexé, et le service refuse un filtre de solde
+     * sans type pour ne pas parcourir toute la table.
+     */
+    @Override
+    public List<AccountView> findPage(AccountListQuery query) {
+        List<String> clauses = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", query.limit());
+        if (query.type() != null) {
+            clauses.add("type = :type");
+            params.addValue("type", query.type().name());
+        }
+        if (query.minBalance() != null) {
+            clauses.add("balance >= :minBalance");
+            params.addValue("minBalance", query.minBalance().value());
+        }
+        if (query.maxBalance() != null) {
+            clauses.add("balance <= :maxBalance");
+            params.addValue("maxBalance", query.maxBalance().value());
+        }
+        if (query.after() != null) {
+            clauses.add("id > :after");
+            params.addValue("after", query.after().value());
+        }
+        String sql = SELECT_PAGE
+                + (clauses.isEmpty() ? "" : " where " + String.join(" and ", clauses))
+                + " order by id limit :limit";
+        return jdbc.query(sql, params, (rs, rowNum) -> toView(rs));
+    }
+
+    private static AccountView toView(ResultSet rs) throws SQLException {
+        AccountId accountId = new AccountId(rs.getObject("id", UUID.class));
+        Account.Type type = Account.Type.valueOf(rs.getString("type"));
+        return new AccountView(
+                accountId,
+                type,
+                Money.valueOf(rs.getBigDecimal("balance")),
+                // Même règle que le mapper d'entité : découvert pour CURRENT, plafond pour SAVINGS
+                type == Account.Type.CURRENT ? Money.valueOf(rs.getBigDecimal("overdraft")) : null,
+                type == Account.Type.SAVINGS ? Money.valueOf(rs.getBigDecimal("ceiling")) : null,
+                rs.getLong("version"));
+    }
+}
@@ -0,0 +1,132 @@
+package fr.exalt.bankaccount.infrastructure.jpa.adapter;
+
+import fr.exalt.bankaccount.application.port.out.GuardedBalanceWriter;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Écriture gardée d'un mouvement en SQL natif.
+ * <p>
+ * Les gardes reprennent les règles {@code FixedCeiling} / {@code FixedOverdraft} du domaine, qui restent
+ * la référence (voir {@code GuardedOperationService} et {@code GuardedWriteDifferentialIT}) :
+ * <ul>
+ *   <li>dépôt : {@code balance + montant <= ceiling} pour un livret, sans limite pour un compte courant</li>
+ *   <li>retrait : {@code balance - montant >= overdraft} pour un compte courant, {@code >= 0} pour un livret</li>
+ * </ul>
+ * Sur PostgreSQL, mise à jour du solde et insertion de l'opération partent en une seule requête
+ * (CTE modifiantes, testées par {@code GuardedWriteDifferentialPostgresIT}). Ailleurs (H2 en test),
+ * repli sur UPDATE gardé, relecture du solde et INSERT dans la même transaction : la ligne reste verrouillée par l'UPDATE, le résultat est identique.
+ * La version est incrémentée pour que les écritures versionnées concurrentes détectent le changement.
+ * </p>
+ */
+@Repository
+public class GuardedBalanceWriterAdapter implements GuardedBalanceWriter {
+
+    private static final String DEPOSIT_GUARD = "(type <> 'SAVINGS' or balance + :delta <= ceiling)";
+    private static final String WITHDRAWAL_GUARD =
+            "balance + :delta >= case when type = 'CURRENT' then overdraft else 0 end";
+
+    private static final String SINGLE_STATEMENT = """
+            with moved as (
+                update accounts set balance = balance + :delta, version = version + 1
+                 where id = :accountId and %s
+             returning id, balance
+            ), logged as (
+                insert into operations (id, account_id, amount, type, at, label)
+                select :operationId, moved.id, :amount, :type, :at, :label from moved
+            )
+            select balance from moved
+            """;
+
+    private static final String GUARDED_UPDATE = """
+            update accounts set balance = balance + :delta, version = version + 1
+             where id = :accountId and %s
+            """;
+
+    private static final String SELECT_BALANCE = "select balance from accounts where id = :accountId";
+
+    private static final String INSERT_OPERATION = """
+            insert into operations (id, account_id, amount, type, at, label)
+            values (:operationId, :accountId, :amount, :type, :at, :label)
+            """;
+
+    private final EntityManager entityManager;
+    private final boolean singleStatement;
+
+    public GuardedBalanceWriterAdapter(EntityManager entityManager, DataSource dataSource) {
+        this.entityManager = entityManager;
+        this.singleStatement = "PostgreSQL".equals(databaseProductName(dataSource));
+    }
+
+    @Override
+    public Optional<Money> apply(Operation operation) {
+        String guard = operation.type() == Operation.Type.DEPOSIT ? DEPOSIT_GUARD : WITHDRAWAL_GUARD;
+        BigDecimal delta = operation.type() == Operation.Type.DEPOSIT
+                ? operation.amount().value()
+                : operation.amount().value().negate();
+
+        // Les écritures en attente partent avant l'instruction native
+        entityManager.flush();
+        Optional<Money> balance = singleStatement
+                ? applySingleStatement(operation, guard, delta)
+                : applyInSteps(operation, guard, delta);
+        // Une entité compte en cache aurait un solde et une version périmés
+        balance.ifPresent(applied -> entityManager.clear());
+        return balance;
+    }
+
+    private Optional<Money> applySingleStatement(Operation operation, String guard, BigDecimal delta) {
+        Query query = entityManager.createNativeQuery(SINGLE_STATEMENT.formatted(guard))
+                .setParameter("delta", delta)
+                .setParameter("accountId", operation.accountId().value());
+        bindOperation(query, operation);
+        List<?> rows = query.getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of(Money.valueOf((BigDecimal) rows.get(0)));
+    }
+
+    private Optional<Money> applyInSteps(Operation operation, String guard, BigDecimal delta) {
+        int updated = entityManager.createNativeQuery(GUARDED_UPDATE.formatted(guard))
+                .setParameter("delta", delta)
+                .setParameter("accountId", operation.accountId().value())
+                .executeUpdate();
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        BigDecimal balance = (BigDecimal) entityManager.createNativeQuery(SELECT_BALANCE)
+                .setParameter("accountId", operation.accountId().value())
+                .getSingleResult();
+        Query insert = entityManager.createNativeQuery(INSERT_OPERATION)
+                .setParameter("accountId", operation.accountId().value());
+        bindOperation(insert, operation);
+        insert.executeUpdate();
+        return Optional.of(Money.valueOf(balance));
+    }
+
+    private static void bindOperation(Query query, Operation operation) {
+        query.setParameter("operationId", operation.id().value())
+                .setParameter("amount", operation.amount().value())
+                .setParameter("type", operation.type().name())
+                .setParameter("at", operation.at())
+                .setParameter("label", operation.label());
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            // Base inconnue : le repli en plusieurs instructions fonctionne partout
+            return "";
+        }
+    }
+}
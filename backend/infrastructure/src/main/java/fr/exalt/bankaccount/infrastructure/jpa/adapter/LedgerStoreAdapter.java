@@ -0,0 +1,54 @@
+package fr.exalt.bankaccount.infrastructure.jpa.adapter;
+
+import fr.exalt.bankaccount.application.port.out.LedgerStore;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.jpa.entity.LedgerCheckpointEntity;
+import fr.exalt.bankaccount.infrastructure.jpa.spring.LedgerCheckpointJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Repository
+public class LedgerStoreAdapter implements LedgerStore {
+
+    private static final String UPDATE_BALANCE = "update accounts set balance = ?, version = version + 1 where id = ?";
+
+    private final LedgerCheckpointJpaRepository checkpointJpaRepository;
+    private final JdbcTemplate jdbc;
+
+    public LedgerStoreAdapter(LedgerCheckpointJpaRepository checkpointJpaRepository, DataSource dataSource) {
+        this.checkpointJpaRepository = checkpointJpaRepository;
+        this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public long checkpoint() {
+        return checkpointJpaRepository.findById(LedgerCheckpointEntity.SINGLETON_ID)
+                .map(LedgerCheckpointEntity::getSequence)
+                .orElse(-1L);
+    }
+
+    /**
+     * Un seul batch JDBC d'UPDATE, sans condition de version : le moteur est l'unique écrivain des soldes.
+     * La version est tout de même incrémentée pour invalider une lecture versionnée concurrente.
+     */
+    @Override
+    public void saveBalances(Map<AccountId, Money> balances) {
+        if (balances.isEmpty()) return;
+        // Les écritures JPA en attente partent avant le batch JDBC
+        checkpointJpaRepository.flush();
+        jdbc.batchUpdate(UPDATE_BALANCE, balances.entrySet().stream()
+                .map(entry -> new Object[] { entry.getValue().value(), entry.getKey().value() })
+                .toList());
+    }
+
+    @Override
+    public void saveCheckpoint(long sequence) {
+        if (checkpointJpaRepository.updateSequence(LedgerCheckpointEntity.SINGLETON_ID, sequence) == 0) {
+            checkpointJpaRepository.save(new LedgerCheckpointEntity(sequence));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package fr.exalt.bankaccount.infrastructure.jpa.adapter;
+
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Un INSERT JDBC dans {@code operation_outbox}, sur la connexion de la transaction en cours :
+ * l'événement est validé ou annulé avec l'opération. Un lot d'opérations part en un seul INSERT batché.
+ */
+@Repository
+public class OperationOutboxAdapter implements OperationOutbox {
+
+    private static final String INSERT =
+            "insert into operation_outbox (operation_id, account_id, type, amount, at, label) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    public OperationOutboxAdapter(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void append(Operation operation) {
+        jdbc.update(INSERT, row(operation));
+    }
+
+    @Override
+    public void appendAll(List<Operation> operations) {
+        if (operations.isEmpty()) return;
+        List<Object[]> rows = new ArrayList<>(operations.size());
+        operations.forEach(operation -> rows.add(row(operation)));
+        jdbc.batchUpdate(INSERT, rows);
+    }
+
+    private static Object[] row(Operation operation) {
+        return new Object[] {
+                operation.id().value(),
+                operation.accountId().value(),
+                operation.type().name(),
+                operation.amount().value(),
+                OffsetDateTime.ofInstant(operation.at(), ZoneOffset.UTC),
+                operation.label()
+        };
+    }
+}
@@ -1,22 +1,35 @@
 package fr.exalt.bankaccount.infrastructure.jpa.adapter;
 
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.application.port.out.OperationRepository;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
 import fr.exalt.bankaccount.infrastructure.jpa.mapper.OperationMapper;
+import fr.exalt.bankaccount.infrastructure.jpa.projection.OperationRow;
 import fr.exalt.bankaccount.infrastructure.jpa.spring.OperationJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public class OperationRepositoryAdapter implements OperationRepository {
     private final OperationJpaRepository jpa;
+    private final JdbcTemplate jdbc;
     private final OperationMapper mapper = new OperationMapper();
 
-    public OperationRepositoryAdapter (OperationJpaRepository jpa) {
+    private static final String INSERT =
+            "insert into operations (id, account_id, amount, type, at, label) values (?, ?, ?, ?, ?, ?)";
+
+    public OperationRepositoryAdapter (OperationJpaRepository jpa, DataSource dataSource) {
         this.jpa = jpa;
+        this.jdbc = new JdbcTemplate(dataSource);
     }
 
     @Override
@@ -25,9 +38,44 @@ public class OperationRepositoryAdapter implements OperationRepository {
         return operation;
     }
 
+    /** Un seul batch JDBC d'INSERT, dans la transaction courante. */
+    @Override
+    public void saveAll(List<Operation> operations) {
+        if (operations.isEmpty()) return;
+        jdbc.batchUpdate(INSERT, operations.stream()
+                .map(operation -> new Object[] {
+                        operation.id().value(),
+                        operation.accountId().value(),
+                        operation.amount().value(),
+                        operation.type().name(),
+                        OffsetDateTime.ofInstant(operation.at(), ZoneOffset.UTC),
+                        operation.label()
+                })
+                .toList());
+    }
+
+    /*
+     * Lectures par projection : chaque ligne devient directement une Operation (montant converti par MoneyConverter),
+     * sans entité gérée ni croissance du contexte de persistance.
+     */
+
     @Override
     public List<Operation> findByAccountIdBetween(AccountId accountId, Instant from, Instant to) {
-        return jpa.findByAccountIdAndAtBetweenOrderByAtDesc(accountId.value(), from, to)
-                .stream().map(mapper::toDomain).toList();
+        return jpa.findRows(accountId.value(), from, to).stream().map(mapper::toDomain).toList();
+    }
+
+    /** {@code LIMIT} en base : seule la page demandée est lue et convertie. */
+    @Override
+    public List<Operation> findPageByAccountIdBetween(AccountId accountId, Instant from, Instant to,
+                                                      OperationPage.Cursor after, int limit) {
+        List<OperationRow> page = after == null
+                ? jpa.findFirstPage(accountId.value(), from, to, Limit.of(limit))
+                : jpa.findPageAfter(accountId.value(), from, to, after.at(), after.operationId().value(), Limit.of(limit));
+        return page.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public Stream<Operation> streamByAccountIdBetween(AccountId accountId, Instant from, Instant to) {
+        return jpa.streamRows(accountId.value(), from, to).map(mapper::toDomain);
     }
 }
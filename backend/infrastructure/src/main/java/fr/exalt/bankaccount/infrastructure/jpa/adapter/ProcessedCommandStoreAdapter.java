@@ -0,0 +1,59 @@
+package fr.exalt.bankaccount.infrastructure.jpa.adapter;
+
+import fr.exalt.bankaccount.application.port.out.ProcessedCommandStore;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Table {@code processed_commands} en JDBC, sur la connexion de la transaction en cours : les identifiants
+ * de commande sont validés ou annulés avec les opérations du lot.
+ * <p>
+ * Une recherche {@code in (...)} et un INSERT batché par lot ; la date de traitement est celle de la base.
+ * </p>
+ */
+@Repository
+public class ProcessedCommandStoreAdapter implements ProcessedCommandStore {
+
+    private static final String SELECT_IN = "select command_id from processed_commands where command_id in (:ids)";
+
+    private static final String INSERT =
+            "insert into processed_commands (command_id, processed_at) values (?, current_timestamp)";
+
+    // Borne le nombre de paramètres d'une requête IN
+    private static final int IN_CHUNK = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ProcessedCommandStoreAdapter(DataSource dataSource) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public Set<UUID> findProcessed(Collection<UUID> commandIds) {
+        if (commandIds.isEmpty()) return Set.of();
+        List<UUID> ids = new ArrayList<>(commandIds);
+        Set<UUID> processed = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CHUNK));
+            processed.addAll(jdbc.queryForList(SELECT_IN, Map.of("ids", chunk), UUID.class));
+        }
+        return processed;
+    }
+
+    @Override
+    public void saveAll(Collection<UUID> commandIds) {
+        if (commandIds.isEmpty()) return;
+        List<Object[]> rows = new ArrayList<>(commandIds.size());
+        commandIds.forEach(id -> rows.add(new Object[] { id }));
+        jdbc.getJdbcTemplate().batchUpdate(INSERT, rows);
+    }
+}
@@ -0,0 +1,26 @@
+package fr.exalt.bankaccount.infrastructure.jpa.converter;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Colonne {@code numeric(p, 2)} ↔ {@link Money}. Le driver JDBC lit et écrit des {@link BigDecimal} :
+ * la conversion passe directement par les centimes (valeur non mise à l'échelle), sans {@code String}.
+ * Appliqué explicitement ({@code @Convert}) sur les attributs monétaires des entités.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.value();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal column) {
+        return column == null ? null : Money.valueOf(column);
+    }
+}
@@ -1,39 +1,49 @@
 package fr.exalt.bankaccount.infrastructure.jpa.entity;
 
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.jpa.converter.MoneyConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import org.springframework.data.annotation.Version;
+import jakarta.persistence.Version;
+import org.springframework.data.domain.Persistable;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name="accounts")
-public class AccountEntity {
+@Table(name="accounts", indexes = {
+        @Index(name = "idx_accounts_type_id", columnList = "type, id")
+})
+public class AccountEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
 
+    // null tant que l'entité n'est pas persistée (voir isNew : persist, pas merge)
     @Version
-    private long version;
+    private Long version;
 
     @Column(nullable = false)
     private String type; // "SAVINGS" / "CURRENT"
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 9, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(precision= 19, scale = 2)
-    private BigDecimal overdraft;
+    private Money overdraft;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(precision= 19, scale = 2)
-    private BigDecimal ceiling;
+    private Money ceiling;
 
     protected AccountEntity() {}
 
-    private AccountEntity(UUID id, String type, BigDecimal balance, BigDecimal overdraft, BigDecimal ceiling) {
+    private AccountEntity(UUID id, String type, Money balance, Money overdraft, Money ceiling) {
         this.id = id;
         this.type = type;
         this.balance = balance;
@@ -41,17 +51,27 @@ public class AccountEntity {
         this.ceiling = ceiling;
     }
 
-    public static AccountEntity create (UUID id, String type, BigDecimal balance, BigDecimal overdraft, BigDecimal ceiling) {
+    public static AccountEntity create (UUID id, String type, Money balance, Money overdraft, Money ceiling) {
         return new AccountEntity(id, type, balance, overdraft, ceiling);
     }
 
+    @Override
     public UUID getId() { return id; }
+
+    /**
+     * Identifiant attribué par le domaine : sans ce critère explicite, Spring Data ferait un merge
+     * (SELECT puis INSERT) à chaque ouverture de compte.
+     */
+    @Override
+    public boolean isNew() { return version == null; }
+
+    public long getVersion() { return version == null ? 0L : version; }
     public String getType() { return type; }
-    public BigDecimal getBalance() { return balance; }
-    public BigDecimal getOverdraft() { return overdraft; }
-    public BigDecimal getCeiling() { return ceiling; }
+    public Money getBalance() { return balance; }
+    public Money getOverdraft() { return overdraft; }
+    public Money getCeiling() { return ceiling; }
 
-    public void setBalance(BigDecimal balance) { this.balance = balance; }
-    public void setOverdraft(BigDecimal overdraft) { this.overdraft = overdraft; }
-    public void setCeiling(BigDecimal ceiling) { this.ceiling = ceiling; }
+    public void setBalance(Money balance) { this.balance = balance; }
+    public void setOverdraft(Money overdraft) { this.overdraft = overdraft; }
+    public void setCeiling(Money ceiling) { this.ceiling = ceiling; }
 }
@@ -0,0 +1,32 @@
+package fr.exalt.bankaccount.infrastructure.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Point de reprise du moteur en mémoire : une seule ligne, dernière séquence du journal écrite en base.
+ */
+@Entity
+@Table(name = "ledger_checkpoint")
+public class LedgerCheckpointEntity {
+
+    public static final short SINGLETON_ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    protected LedgerCheckpointEntity() {}
+
+    public LedgerCheckpointEntity(long sequence) {
+        this.id = SINGLETON_ID;
+        this.sequence = sequence;
+    }
+
+    public Short getId() { return id; }
+    public long getSequence() { return sequence; }
+}
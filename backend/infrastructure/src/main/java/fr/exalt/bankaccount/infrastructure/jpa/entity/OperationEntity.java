@@ -1,16 +1,18 @@
 package fr.exalt.bankaccount.infrastructure.jpa.entity;
 
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.jpa.converter.MoneyConverter;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Table(name = "operations", indexes= {
-        @Index(name = "idx_ops_account_at", columnList = "account_id, at")
+        @Index(name = "idx_ops_account_at", columnList = "account_id, at, id")
 })
-public class OperationEntity {
+public class OperationEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -18,8 +20,9 @@ public class OperationEntity {
     @Column(name = "account_id", nullable = false)
     private UUID accountId;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
 
     @Column(nullable = false)
     private String type; // DEPOSIT / WITHDRAW
@@ -30,9 +33,13 @@ public class OperationEntity {
     @Column
     private String label;
 
+    // Les opérations ne sont jamais modifiées : neuve tant qu'elle n'a été ni persistée ni chargée
+    @Transient
+    private boolean isNew = true;
+
     protected OperationEntity() {}
 
-    private OperationEntity(UUID id, UUID accountId, BigDecimal amount, String type, Instant at, String label) {
+    private OperationEntity(UUID id, UUID accountId, Money amount, String type, Instant at, String label) {
         this.id = id;
         this.accountId = accountId;
         this.amount = amount;
@@ -42,13 +49,25 @@ public class OperationEntity {
     }
 
 
-    public static OperationEntity create(UUID id, UUID accountId, BigDecimal amount, String type, Instant at, String label) {
+    public static OperationEntity create(UUID id, UUID accountId, Money amount, String type, Instant at, String label) {
         return new OperationEntity(id, accountId, amount, type, at, label);
     }
 
+    /**
+     * Identifiant attribué par le domaine : sans ce critère explicite, Spring Data ferait un merge
+     * (SELECT puis INSERT) à chaque opération enregistrée.
+     */
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() { this.isNew = false; }
+
+    @Override
     public UUID getId() { return id; }
     public UUID getAccountId() { return accountId; }
-    public BigDecimal getAmount() { return amount; }
+    public Money getAmount() { return amount; }
     public String getType() { return type; }
     public Instant getAt() { return at; }
     public String getLabel() { return label; }
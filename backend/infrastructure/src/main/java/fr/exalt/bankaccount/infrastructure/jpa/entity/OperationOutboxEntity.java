@@ -0,0 +1,59 @@
+package fr.exalt.bankaccount.infrastructure.jpa.entity;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.jpa.converter.MoneyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Événement d'opération en attente de publication (transactional outbox), dans l'ordre de {@code seq}.
+ * <p>
+ * Écrit par {@code OperationOutboxAdapter}, lu puis supprimé par {@code OperationOutboxRelay}, en JDBC :
+ * l'entité décrit la table.
+ * </p>
+ */
+@Entity
+@Table(name = "operation_outbox")
+public class OperationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "operation_id", nullable = false)
+    private UUID operationId;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Column(nullable = false)
+    private Instant at;
+
+    @Column
+    private String label;
+
+    protected OperationOutboxEntity() {}
+
+    public Long getSeq() { return seq; }
+    public UUID getOperationId() { return operationId; }
+    public UUID getAccountId() { return accountId; }
+    public String getType() { return type; }
+    public Money getAmount() { return amount; }
+    public Instant getAt() { return at; }
+    public String getLabel() { return label; }
+}
@@ -0,0 +1,32 @@
+package fr.exalt.bankaccount.infrastructure.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Commande d'opération déjà appliquée (ou refusée) par le consommateur Kafka.
+ * <p>
+ * Lue et écrite par {@code ProcessedCommandStoreAdapter} en JDBC : l'entité décrit la table.
+ * </p>
+ */
+@Entity
+@Table(name = "processed_commands")
+public class ProcessedCommandEntity {
+
+    @Id
+    @Column(name = "command_id")
+    private UUID commandId;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    protected ProcessedCommandEntity() {}
+
+    public UUID getCommandId() { return commandId; }
+    public Instant getProcessedAt() { return processedAt; }
+}
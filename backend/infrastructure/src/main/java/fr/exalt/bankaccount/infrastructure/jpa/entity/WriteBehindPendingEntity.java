@@ -0,0 +1,30 @@
+package fr.exalt.bankaccount.infrastructure.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.UUID;
+
+/**
+ * Marque d'un compte dont le solde validé n'est peut-être pas encore écrit en base.
+ * <p>
+ * Lue et écrite par {@code WriteBehindAccountRepository} en JDBC : l'entité décrit la table.
+ * </p>
+ */
+@Entity
+@Table(name = "write_behind_pending")
+public class WriteBehindPendingEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    protected WriteBehindPendingEntity() {}
+
+    public UUID getId() { return id; }
+    public UUID getAccountId() { return accountId; }
+}
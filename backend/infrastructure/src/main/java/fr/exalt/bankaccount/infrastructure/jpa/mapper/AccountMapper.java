@@ -2,10 +2,11 @@ package fr.exalt.bankaccount.infrastructure.jpa.mapper;
 
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.CurrentAccount;
+import fr.exalt.bankaccount.domain.model.account.SavingsAccount;
 import fr.exalt.bankaccount.domain.model.money.Money;
 import fr.exalt.bankaccount.infrastructure.jpa.entity.AccountEntity;
 
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.util.UUID;
 
@@ -14,16 +15,16 @@ public class AccountMapper {
     public AccountEntity toEntity(Account account) {
         UUID accountUuid = account.getId().value();
         String type = account.getType().name();
-        BigDecimal balance = account.getBalance().value();
-        BigDecimal overdraft = null;
-        BigDecimal ceiling = null;
+        Money balance = account.getBalance();
+        Money overdraft = null;
+        Money ceiling = null;
 
-        if (account.getType() == Account.Type.CURRENT) {
+        if (account instanceof CurrentAccount current) {
             // découvert <= 0 ; plafond NULL
-            overdraft = account.getOverdraft().value();
-        } else {
+            overdraft = current.getOverdraft();
+        } else if (account instanceof SavingsAccount savings) {
             // découvert null ; plafond > 0
-            ceiling = account.getCeiling().value();
+            ceiling = savings.getCeiling();
         }
 
         return AccountEntity.create(accountUuid, type, balance, overdraft, ceiling);
@@ -33,12 +34,10 @@ public class AccountMapper {
 
         AccountId accountId = new AccountId(accountEntity.getId());
         Account.Type type = Account.Type.valueOf(accountEntity.getType());
-        Money balance = Money.of(accountEntity.getBalance().toString());
-        Money overdraft = type == Account.Type.CURRENT ?
-                Money.of(accountEntity.getOverdraft().toString()) : null;
-        Money ceiling = type == Account.Type.SAVINGS ?
-                Money.of(accountEntity.getCeiling().toString()) : null;
+        Money balance = accountEntity.getBalance();
+        Money overdraft = type == Account.Type.CURRENT ? accountEntity.getOverdraft() : null;
+        Money ceiling = type == Account.Type.SAVINGS ? accountEntity.getCeiling() : null;
 
-        return Account.rehydrate(accountId, type, balance, overdraft, ceiling, clock);
+        return Account.rehydrate(accountId, type, balance, overdraft, ceiling, accountEntity.getVersion(), clock);
     }
 }
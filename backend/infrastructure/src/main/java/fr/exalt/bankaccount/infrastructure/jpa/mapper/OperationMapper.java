@@ -3,15 +3,15 @@ package fr.exalt.bankaccount.infrastructure.jpa.mapper;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
 import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
-import fr.exalt.bankaccount.domain.model.money.Money;
 import fr.exalt.bankaccount.infrastructure.jpa.entity.OperationEntity;
+import fr.exalt.bankaccount.infrastructure.jpa.projection.OperationRow;
 
 public class OperationMapper {
     public OperationEntity toEntity(Operation operation) {
         return OperationEntity.create(
             operation.id().value(),
             operation.accountId().value(),
-            operation.amount().value(),
+            operation.amount(),
             operation.type().name(),
             operation.at(),
             operation.label()
@@ -22,11 +22,22 @@ public class OperationMapper {
         return new Operation(
             new OperationId(entity.getId()),
             new AccountId(entity.getAccountId()),
-            Money.of(entity.getAmount().toString()),
+            entity.getAmount(),
             Operation.Type.valueOf(entity.getType()),
             entity.getAt(),
             entity.getLabel()
         );
 
     }
+
+    public Operation toDomain(OperationRow row) {
+        return new Operation(
+            new OperationId(row.id()),
+            new AccountId(row.accountId()),
+            row.amount(),
+            Operation.Type.valueOf(row.type()),
+            row.at(),
+            row.label()
+        );
+    }
 }
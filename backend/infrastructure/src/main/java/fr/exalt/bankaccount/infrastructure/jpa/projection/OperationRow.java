@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.infrastructure.jpa.projection;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ligne de la table {@code operations} lue par expression constructeur ({@code select new ...}) :
+ * ni entité gérée, ni instantané pour la détection de modifications, rien dans le contexte de persistance. Le montant arrive déjà converti ({@code MoneyConverter}).
+ */
+public record OperationRow(UUID id, UUID accountId, Money amount, String type, Instant at, String label) {
+}
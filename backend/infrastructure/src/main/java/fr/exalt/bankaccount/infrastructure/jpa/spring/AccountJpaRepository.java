@@ -1,9 +1,33 @@
 package fr.exalt.bankaccount.infrastructure.jpa.spring;
 
+import fr.exalt.bankaccount.domain.model.money.Money;
 import fr.exalt.bankaccount.infrastructure.jpa.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID> {
+
+    /**
+     * Mise à jour conditionnelle en un seul aller-retour : n'écrit que si la version en base est
+     * celle lue au chargement, et l'incrémente. Retourne 0 en cas d'écriture concurrente.
+     * <p>
+     * Le contexte de persistance est vidé après coup : un rechargement (rejeu après conflit)
+     * relit la ligne en base au lieu de l'entité en cache.
+     * </p>
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update AccountEntity a
+               set a.balance = :balance, a.overdraft = :overdraft, a.ceiling = :ceiling, a.version = a.version + 1
+             where a.id = :id and a.version = :version
+            """)
+    int updateIfVersion(@Param("id") UUID id,
+                        @Param("version") long version,
+                        @Param("balance") Money balance,
+                        @Param("overdraft") Money overdraft,
+                        @Param("ceiling") Money ceiling);
 }
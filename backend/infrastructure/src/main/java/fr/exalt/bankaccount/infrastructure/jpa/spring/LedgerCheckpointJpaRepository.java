@@ -0,0 +1,15 @@
+package fr.exalt.bankaccount.infrastructure.jpa.spring;
+
+import fr.exalt.bankaccount.infrastructure.jpa.entity.LedgerCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerCheckpointJpaRepository extends JpaRepository<LedgerCheckpointEntity, Short> {
+
+    /** Avance le point de reprise ; 0 si la ligne n'existe pas encore. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update LedgerCheckpointEntity c set c.sequence = :sequence where c.id = :id")
+    int updateSequence(@Param("id") short id, @Param("sequence") long sequence);
+}
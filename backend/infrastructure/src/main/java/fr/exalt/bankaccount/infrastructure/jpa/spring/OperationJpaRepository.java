@@ -1,13 +1,64 @@
 package fr.exalt.bankaccount.infrastructure.jpa.spring;
 
 import fr.exalt.bankaccount.infrastructure.jpa.entity.OperationEntity;
+import fr.exalt.bankaccount.infrastructure.jpa.projection.OperationRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Les lectures d'historique sont des projections ({@link OperationRow}) : les entités ne servent qu'à l'écriture.
+ */
 public interface OperationJpaRepository extends JpaRepository<OperationEntity, UUID> {
 
-    List<OperationEntity> findByAccountIdAndAtBetweenOrderByAtDesc(UUID accountId, Instant from, Instant to);
+    String SELECT_ROWS = """
+            select new fr.exalt.bankaccount.infrastructure.jpa.projection.OperationRow(
+                o.id, o.accountId, o.amount, o.type, o.at, o.label)
+            from OperationEntity o
+            where o.accountId = :accountId
+              and o.at >= :from
+              and o.at <= :to
+            """;
+
+    @Query(SELECT_ROWS + "order by o.at desc")
+    List<OperationRow> findRows(@Param("accountId") UUID accountId,
+                                @Param("from") Instant from,
+                                @Param("to") Instant to);
+
+    // Pagination par clé sur (at, id), parcours descendant de l'index (account_id, at, id)
+    @Query(SELECT_ROWS + "order by o.at desc, o.id desc")
+    List<OperationRow> findFirstPage(@Param("accountId") UUID accountId,
+                                     @Param("from") Instant from,
+                                     @Param("to") Instant to,
+                                     Limit limit);
+
+    @Query(SELECT_ROWS + """
+              and (o.at < :at or (o.at = :at and o.id < :id))
+            order by o.at desc, o.id desc
+            """)
+    List<OperationRow> findPageAfter(@Param("accountId") UUID accountId,
+                                     @Param("from") Instant from,
+                                     @Param("to") Instant to,
+                                     @Param("at") Instant at,
+                                     @Param("id") UUID id,
+                                     Limit limit);
+
+    /**
+     * Curseur côté base : les lignes arrivent par paquets de {@code fetch_size} au fil du parcours
+     * (PostgreSQL n'ouvre un curseur qu'hors autocommit, d'où la transaction obligatoire).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_ROWS + "order by o.at desc, o.id desc")
+    Stream<OperationRow> streamRows(@Param("accountId") UUID accountId,
+                                    @Param("from") Instant from,
+                                    @Param("to") Instant to);
 }
@@ -0,0 +1,123 @@
+package fr.exalt.bankaccount.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommandsResult;
+import fr.exalt.bankaccount.application.port.in.ApplyOperationCommandsUseCase;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.infrastructure.rest.json.MoneyJsonComponent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consommateur du topic des commandes d'opération, en lots.
+ * <p>
+ * Chaque {@code poll} est remis en une fois : les messages illisibles sont écartés, les autres appliqués
+ * par {@link ApplyOperationCommandsUseCase} dans une seule transaction. Les offsets du lot ne sont validés
+ * qu'au retour, donc après le commit en base. Si le lot échoue, ses commandes sont reprises une à une, chacune
+ * dans sa transaction : la première en échec est signalée au gestionnaire d'erreurs du conteneur
+ * ({@link BatchListenerFailedException}), qui valide les offsets qui la précèdent et rejoue à partir d'elle
+ * (puis l'écarte en file de rebut, à bout de tentatives). Les commandes déjà traitées sont reconnues à leur
+ * identifiant. Une instance de conteneur par partition : les commandes d'un compte (même clé, même partition)
+ * sont appliquées dans l'ordre du topic.
+ * </p>
+ * Mesure : {@code bank.commands.consumed}, étiquetée par {@code outcome}
+ * ({@code applied}, {@code rejected}, {@code duplicate}, {@code malformed}).
+ */
+public class OperationCommandListener {
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(MoneyJsonComponent.module())
+            .build();
+
+    private final ApplyOperationCommandsUseCase useCase;
+    private final Counter applied;
+    private final Counter rejected;
+    private final Counter duplicates;
+    private final Counter malformed;
+
+    public OperationCommandListener(ApplyOperationCommandsUseCase useCase, MeterRegistry registry) {
+        this.useCase = useCase;
+        this.applied = consumed(registry, "applied");
+        this.rejected = consumed(registry, "rejected");
+        this.duplicates = consumed(registry, "duplicate");
+        this.malformed = consumed(registry, "malformed");
+    }
+
+    @KafkaListener(id = "operation-commands",
+            topics = "${bank.kafka.topics.commands}",
+            groupId = "${bank.kafka.commands.group-id:bank-operation-commands}",
+            containerFactory = "operationCommandContainerFactory")
+    public void onCommands(List<ConsumerRecord<String, String>> records) {
+        List<ConsumerRecord<String, String>> readable = new ArrayList<>(records.size());
+        List<OperationCommand> commands = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            OperationCommand command = parse(record.value());
+            if (command == null) {
+                // Rejouer un message illisible bloquerait la partition : il est écarté et compté
+                malformed.increment();
+            } else {
+                readable.add(record);
+                commands.add(command);
+            }
+        }
+        OperationCommandsResult result;
+        try {
+            result = useCase.handle(commands);
+        } catch (RuntimeException e) {
+            handleOneByOne(readable, commands);
+            return;
+        }
+        count(result);
+    }
+
+    /** Lot en échec : commandes reprises une à une pour isoler la fautive. */
+    private void handleOneByOne(List<ConsumerRecord<String, String>> records, List<OperationCommand> commands) {
+        for (int i = 0; i < commands.size(); i++) {
+            OperationCommandsResult result;
+            try {
+                result = useCase.handle(List.of(commands.get(i)));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException(
+                        "Operation command " + commands.get(i).commandId() + " failed", e, records.get(i));
+            }
+            count(result);
+        }
+    }
+
+    private void count(OperationCommandsResult result) {
+        applied.increment(result.applied());
+        rejected.increment(result.rejected());
+        duplicates.increment(result.duplicates());
+    }
+
+    private static OperationCommand parse(String value) {
+        if (value == null) return null;
+        try {
+            OperationCommandMessage message = JSON.readValue(value, OperationCommandMessage.class);
+            if (message.commandId() == null || message.accountId() == null
+                    || message.type() == null || message.amount() == null) {
+                return null;
+            }
+            return new OperationCommand(message.commandId(), new AccountId(message.accountId()),
+                    message.type(), message.amount());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Counter consumed(MeterRegistry registry, String outcome) {
+        return Counter.builder("bank.commands.consumed")
+                .description("Operation commands consumed from Kafka, by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
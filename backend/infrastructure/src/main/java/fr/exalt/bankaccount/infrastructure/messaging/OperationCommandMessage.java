@@ -0,0 +1,13 @@
+package fr.exalt.bankaccount.infrastructure.messaging;
+
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+import java.util.UUID;
+
+/**
+ * Commande lue sur le topic des commandes d'opération, clé = identifiant du compte :
+ * { "commandId": "<uuid>", "accountId": "<uuid>", "type": "DEPOSIT", "amount": 100.00 }
+ */
+public record OperationCommandMessage(UUID commandId, UUID accountId, Operation.Type type, Money amount) {
+}
@@ -0,0 +1,11 @@
+package fr.exalt.bankaccount.infrastructure.messaging;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Événement publié sur le topic des opérations, clé = identifiant du compte :
+ * { "operationId": "<uuid>", "accountId": "<uuid>", "type": "DEPOSIT", "amount": 100.00, "at": "...", "label": null }
+ */
+public record OperationEvent(String operationId, String accountId, String type, BigDecimal amount, Instant at, String label) {
+}
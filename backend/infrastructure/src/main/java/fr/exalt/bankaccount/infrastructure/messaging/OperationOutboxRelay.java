@@ -0,0 +1,227 @@
+package fr.exalt.bankaccount.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relais de la boîte d'envoi des opérations vers Kafka.
+ * <p>
+ * Un thread dédié lit {@code operation_outbox} par lots dans l'ordre d'écriture, publie chaque lot
+ * (clé = identifiant du compte, donc une partition et un ordre par compte) puis supprime en une instruction
+ * les lignes acquittées, désignées une à une : {@code seq} est attribué à l'insertion, pas au commit, donc une
+ * transaction validée entre la lecture et la suppression peut faire apparaître une ligne plus ancienne que le
+ * lot, qui doit rester en table. Seul le préfixe acquitté d'un lot est supprimé : après un échec, la suite est
+ * republiée au passage suivant. La livraison est donc « au moins une fois », les consommateurs dédoublonnent
+ * sur {@code operationId}. Le relais suppose une seule instance lisant la table.
+ * </p>
+ * Mesures :
+ * <ul>
+ *   <li>{@code bank.outbox.relay.lag} : âge de l'événement le plus ancien pas encore publié (0 si la table est vide)</li>
+ *   <li>{@code bank.outbox.relay.published} : événements publiés et acquittés</li>
+ *   <li>{@code bank.outbox.relay.failures} : lots interrompus par un échec de publication</li>
+ * </ul>
+ */
+public class OperationOutboxRelay implements AutoCloseable {
+
+    private static final String SELECT_BATCH = """
+            select seq, operation_id, account_id, type, amount, at, label
+              from operation_outbox
+             order by seq
+             limit ?""";
+
+    private static final String DELETE_ACKNOWLEDGED = "delete from operation_outbox where seq in (:seqs)";
+
+    // Clé primaire : la ligne la plus ancienne est lue sans parcourir la table
+    private static final String OLDEST = "select at from operation_outbox order by seq limit 1";
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final long NONE_PENDING = -1L;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final KafkaTemplate<String, String> kafka;
+    private final String topic;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Clock clock;
+    private final Counter published;
+    private final Counter failures;
+
+    // Date (epoch ms) de l'événement en attente le plus ancien, relevée à la fin de chaque passage
+    private volatile long oldestPendingMillis = NONE_PENDING;
+
+    private final ScheduledExecutorService relay = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "operation-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OperationOutboxRelay(DataSource dataSource,
+                                KafkaTemplate<String, String> kafka,
+                                String topic,
+                                int batchSize,
+                                Duration pollInterval,
+                                Duration sendTimeout,
+                                Clock clock,
+                                MeterRegistry registry) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize must be >= 1");
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be > 0");
+        }
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        this.kafka = kafka;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.clock = clock;
+        this.published = Counter.builder("bank.outbox.relay.published")
+                .description("Operation events published and acknowledged by the broker")
+                .register(registry);
+        this.failures = Counter.builder("bank.outbox.relay.failures")
+                .description("Relay batches interrupted by a publication failure")
+                .register(registry);
+        TimeGauge.builder("bank.outbox.relay.lag", this, TimeUnit.MILLISECONDS, OperationOutboxRelay::lagMillis)
+                .description("Age of the oldest operation event not yet published")
+                .register(registry);
+
+        long periodNanos = pollInterval.toNanos();
+        relay.scheduleWithFixedDelay(this::drainQuietly, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Publie les événements en attente, lot par lot, jusqu'à vider la table ou rencontrer un échec ;
+     * renvoie le nombre d'événements publiés.
+     */
+    public synchronized int drain() {
+        int total = 0;
+        try {
+            while (true) {
+                List<Pending> batch = jdbc.query(SELECT_BATCH, OperationOutboxRelay::pending, batchSize);
+                if (batch.isEmpty()) break;
+
+                int acknowledged = publish(batch);
+                if (acknowledged > 0) {
+                    List<Long> seqs = batch.subList(0, acknowledged).stream().map(Pending::seq).toList();
+                    namedJdbc.update(DELETE_ACKNOWLEDGED, Map.of("seqs", seqs));
+                    published.increment(acknowledged);
+                    total += acknowledged;
+                }
+                if (acknowledged < batch.size()) {
+                    failures.increment();
+                    break;
+                }
+                if (batch.size() < batchSize) break;
+            }
+        } finally {
+            refreshLag();
+        }
+        return total;
+    }
+
+    /**
+     * Arrête le relais et ferme son producteur ; les événements encore en attente restent en table
+     * pour le prochain démarrage.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        relay.shutdown();
+        relay.awaitTermination(30, TimeUnit.SECONDS);
+        kafka.getProducerFactory().reset();
+    }
+
+    /** Envoie tout le lot puis attend les acquittements dans l'ordre ; renvoie la longueur du préfixe acquitté. */
+    private int publish(List<Pending> batch) {
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            sends.add(kafka.send(topic, pending.event().accountId(), toJson(pending.event())));
+        }
+        // Lot entier dans les tampons du producteur : inutile d'attendre le linger pour la fin du lot
+        kafka.flush();
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < sends.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                return i;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            }
+        }
+        return sends.size();
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException ignored) {
+            // Base ou broker indisponible : les événements restent en table, le retard est visible dans la mesure
+        }
+    }
+
+    private void refreshLag() {
+        try {
+            List<OffsetDateTime> oldest = jdbc.queryForList(OLDEST, OffsetDateTime.class);
+            oldestPendingMillis = oldest.isEmpty() ? NONE_PENDING : oldest.get(0).toInstant().toEpochMilli();
+        } catch (RuntimeException ignored) {
+            // Dernière valeur connue conservée : le retard continue de croître
+        }
+    }
+
+    private double lagMillis() {
+        long oldest = oldestPendingMillis;
+        return oldest == NONE_PENDING ? 0 : Math.max(0, clock.millis() - oldest);
+    }
+
+    private static String toJson(OperationEvent event) {
+        try {
+            return JSON.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Pending pending(ResultSet rs, int row) throws SQLException {
+        return new Pending(rs.getLong("seq"), new OperationEvent(
+                rs.getObject("operation_id").toString(),
+                rs.getObject("account_id").toString(),
+                rs.getString("type"),
+                rs.getBigDecimal("amount"),
+                rs.getObject("at", OffsetDateTime.class).toInstant(),
+                rs.getString("label")));
+    }
+
+    private record Pending(long seq, OperationEvent event) {}
+}
@@ -0,0 +1,59 @@
+package fr.exalt.bankaccount.infrastructure.metrics;
+
+import fr.exalt.bankaccount.application.port.out.LaneMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Adapter Micrometer des voies de commandes par compte.
+ * <ul>
+ *   <li>{@code bank.account.lane.depth{lane}} : profondeur de file</li>
+ *   <li>{@code bank.account.lane.wait{lane}} : temps passé en file</li>
+ *   <li>{@code bank.account.lane.service{lane}} : temps de traitement</li>
+ *   <li>{@code bank.account.lane.rejected{lane}} : commandes refusées, file pleine</li>
+ * </ul>
+ */
+public class MicrometerLaneMetrics implements LaneMetrics {
+
+    private final MeterRegistry registry;
+
+    public MicrometerLaneMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void registerQueueDepth(int lane, IntSupplier depth) {
+        Gauge.builder("bank.account.lane.depth", depth, IntSupplier::getAsInt)
+                .description("Commands waiting in the account lane queue")
+                .tag("lane", String.valueOf(lane))
+                .register(registry);
+    }
+
+    @Override
+    public void completed(int lane, long queuedNanos, long serviceNanos) {
+        timer("bank.account.lane.wait", "Time spent queued before processing", lane).record(queuedNanos, TimeUnit.NANOSECONDS);
+        timer("bank.account.lane.service", "Command processing time on the lane", lane).record(serviceNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void rejected(int lane) {
+        Counter.builder("bank.account.lane.rejected")
+                .description("Commands refused because the lane queue was full")
+                .tag("lane", String.valueOf(lane))
+                .register(registry)
+                .increment();
+    }
+
+    private Timer timer(String name, String description, int lane) {
+        // Le registre met en cache les timers par (nom, tags)
+        return Timer.builder(name)
+                .description(description)
+                .tag("lane", String.valueOf(lane))
+                .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package fr.exalt.bankaccount.infrastructure.metrics;
+
+import fr.exalt.bankaccount.application.port.out.RetryMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adapter Micrometer des compteurs de rejeu sur conflit de version.
+ * <ul>
+ *   <li>{@code bank.account.conflict.retries{operation}} : tentatives rejouées</li>
+ *   <li>{@code bank.account.conflict.exhausted{operation}} : conflits remontés après la dernière tentative</li>
+ * </ul>
+ */
+public class MicrometerRetryMetrics implements RetryMetrics {
+
+    private final MeterRegistry registry;
+
+    public MicrometerRetryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void retried(String operation) {
+        counter("bank.account.conflict.retries", "Commands replayed after a version conflict", operation).increment();
+    }
+
+    @Override
+    public void exhausted(String operation) {
+        counter("bank.account.conflict.exhausted", "Version conflicts returned to the caller after the last attempt", operation).increment();
+    }
+
+    private Counter counter(String name, String description, String operation) {
+        // Le registre met en cache les compteurs par (nom, tags)
+        return Counter.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -1,78 +1,202 @@
 package fr.exalt.bankaccount.infrastructure.rest.controller;
 
 import fr.exalt.bankaccount.application.dto.account.openaccount.OpenAccountResult;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsResult;
 import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
 import fr.exalt.bankaccount.application.dto.account.openaccount.OpenCurrentAccountCommand;
 import fr.exalt.bankaccount.application.dto.account.openaccount.OpenSavingsAccountCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
 import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.port.in.BatchOperationsUseCase;
+import fr.exalt.bankaccount.application.port.in.BulkOpenAccountsUseCase;
 import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.GetAccountUseCase;
+import fr.exalt.bankaccount.application.port.in.GetAccountsUseCase;
+import fr.exalt.bankaccount.application.port.in.ListAccountsUseCase;
 import fr.exalt.bankaccount.application.port.in.OpenCurrentAccountUseCase;
 import fr.exalt.bankaccount.application.port.in.OpenSavingsAccountUseCase;
 import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
-import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountPageResponse;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountResponse;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountsLookupRequest;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountsResponse;
 import fr.exalt.bankaccount.infrastructure.rest.dto.openaccount.OpenCurrentAccountRequest;
 import fr.exalt.bankaccount.infrastructure.rest.dto.openaccount.OpenSavingsAccountRequest;
 import fr.exalt.bankaccount.infrastructure.rest.dto.operation.AmountRequest;
+import fr.exalt.bankaccount.infrastructure.rest.dto.operation.BatchOperationsRequest;
+import fr.exalt.bankaccount.infrastructure.rest.dto.operation.BatchOperationsResponse;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.AccountRestMapper;
+import fr.exalt.bankaccount.infrastructure.rest.mapper.BulkOpenRestMapper;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.OperationRestMapper;
 import fr.exalt.bankaccount.infrastructure.rest.dto.openaccount.AccountCreatedResponse;
-import fr.exalt.bankaccount.infrastructure.rest.dto.operation.AccountOperationResponse;
+import fr.exalt.bankaccount.infrastructure.rest.exception.RestExceptionHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/accounts")
 public class AccountController {
 
+    static final String NDJSON = "application/x-ndjson";
+
     private final OpenCurrentAccountUseCase openCurrentAccountUseCase;
     private final OpenSavingsAccountUseCase openSavingsAccountUseCase;
     private final WithdrawUseCase withdrawUseCase;
     private final DepositUseCase depositUseCase;
+    // Absent avec le moteur en mémoire (seul écrivain des soldes)
+    private final ObjectProvider<BatchOperationsUseCase> batchOperationsUseCase;
+    private final BulkOpenAccountsUseCase bulkOpenAccountsUseCase;
+    private final GetAccountUseCase getAccountUseCase;
+    private final GetAccountsUseCase getAccountsUseCase;
+    private final ListAccountsUseCase listAccountsUseCase;
 
     private final AccountRestMapper accountRestMapper;
+    private final BulkOpenRestMapper bulkOpenRestMapper;
 
     AccountController(OpenCurrentAccountUseCase openCurrentAccountUseCase,
                       OpenSavingsAccountUseCase openSavingsAccountUseCase,
                       WithdrawUseCase withdrawUseCase,
                       DepositUseCase depositUseCase,
-                      AccountRestMapper accountRestMapper) {
+                      ObjectProvider<BatchOperationsUseCase> batchOperationsUseCase,
+                      BulkOpenAccountsUseCase bulkOpenAccountsUseCase,
+                      GetAccountUseCase getAccountUseCase,
+                      GetAccountsUseCase getAccountsUseCase,
+                      ListAccountsUseCase listAccountsUseCase,
+                      AccountRestMapper accountRestMapper,
+                      BulkOpenRestMapper bulkOpenRestMapper) {
         this.openCurrentAccountUseCase = openCurrentAccountUseCase;
         this.openSavingsAccountUseCase = openSavingsAccountUseCase;
         this.withdrawUseCase = withdrawUseCase;
         this.depositUseCase = depositUseCase;
+        this.batchOperationsUseCase = batchOperationsUseCase;
+        this.bulkOpenAccountsUseCase = bulkOpenAccountsUseCase;
+        this.getAccountUseCase = getAccountUseCase;
+        this.getAccountsUseCase = getAccountsUseCase;
+        this.listAccountsUseCase = listAccountsUseCase;
         this.accountRestMapper = accountRestMapper;
+        this.bulkOpenRestMapper = bulkOpenRestMapper;
+    }
+
+    /** Type, solde, découvert ou plafond, servis par le cache de lecture. */
+    @GetMapping("/{id}")
+    public ResponseEntity<AccountResponse> get(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(accountRestMapper.toAccountResponse(getAccountUseCase.handle(new AccountId(id))));
+    }
+
+    /**
+     * Lecture groupée ({@code ?ids=a,b,c}) : comptes en cache, les autres lus en une seule requête.
+     * Les identifiants inconnus sont listés dans {@code missing}.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<AccountsResponse> getAll(@RequestParam("ids") List<UUID> ids) {
+        return ResponseEntity.ok(lookup(ids));
+    }
+
+    /**
+     * Liste paginée, filtrable par type et par solde (bornes incluses), dans l'ordre d'ouverture.
+     * La page suivante se demande avec le curseur {@code next} de la réponse ; il est null sur la dernière page.
+     */
+    @GetMapping
+    public ResponseEntity<AccountPageResponse> list(@RequestParam(name = "type", required = false) String type,
+                                                    @RequestParam(name = "minBalance", required = false) BigDecimal minBalance,
+                                                    @RequestParam(name = "maxBalance", required = false) BigDecimal maxBalance,
+                                                    @RequestParam(name = "cursor", required = false) String cursor,
+                                                    @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(accountRestMapper.toAccountPageResponse(listAccountsUseCase.handle(
+                accountRestMapper.toListQuery(type, minBalance, maxBalance, cursor, limit))));
+    }
+
+    /** Même lecture groupée, identifiants dans le corps. */
+    @PostMapping("/lookup")
+    public ResponseEntity<AccountsResponse> lookup(@RequestBody @Valid AccountsLookupRequest request) {
+        return ResponseEntity.ok(lookup(request.ids()));
     }
 
     @PostMapping("/current")
     public ResponseEntity<AccountCreatedResponse> openCurrent(@RequestBody @Valid OpenCurrentAccountRequest request) {
-        Money overdraft = Money.of(String.valueOf(request.overdraft()));
-        OpenAccountResult result = openCurrentAccountUseCase.handle(new OpenCurrentAccountCommand(overdraft));
+        OpenAccountResult result = openCurrentAccountUseCase.handle(new OpenCurrentAccountCommand(request.overdraft()));
         return ResponseEntity.status(201).body(accountRestMapper.toCreateResponse(result));
     }
 
     @PostMapping("/savings")
     public ResponseEntity<AccountCreatedResponse> openSavings(@RequestBody @Valid OpenSavingsAccountRequest request) {
-        Money ceiling = Money.of(String.valueOf(request.ceiling()));
-        OpenAccountResult result = openSavingsAccountUseCase.handle(new OpenSavingsAccountCommand(ceiling));
+        OpenAccountResult result = openSavingsAccountUseCase.handle(new OpenSavingsAccountCommand(request.ceiling()));
         return ResponseEntity.status(201).body(accountRestMapper.toCreateResponse(result));
     }
 
+    /**
+     * Ouverture en masse : une ligne NDJSON par compte en entrée, une ligne NDJSON par compte en sortie
+     * (identifiant ou motif du refus). Corps lu et réponse écrite au fil de l'eau, tronçon par tronçon.
+     */
+    @PostMapping(value = "/bulk", consumes = NDJSON)
+    public void openBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        PrintWriter out = response.getWriter();
+        bulkOpenAccountsUseCase.handle(bulkOpenRestMapper.rows(request.getReader()),
+                outcome -> out.println(bulkOpenRestMapper.toLine(outcome)));
+        out.flush();
+    }
+
     @PostMapping("/{id}/withdraw")
-    public ResponseEntity<AccountOperationResponse> withdraw(@PathVariable("id") UUID id, @RequestBody @Valid AmountRequest request) {
-        Money amount = Money.of(String.valueOf(request.amount()));
-        OperationResult result = withdrawUseCase.handle(new WithdrawCommand(new AccountId(id), amount));
-        return ResponseEntity.status(200).body(accountRestMapper.toAccountOperationResponse(result));
+    public ResponseEntity<?> withdraw(@PathVariable("id") UUID id, @RequestBody @Valid AmountRequest request) {
+        OperationAttempt attempt = withdrawUseCase.tryHandle(new WithdrawCommand(new AccountId(id), request.amount()));
+        return toResponse(attempt);
     }
 
     @PostMapping("/{id}/deposit")
-    public ResponseEntity<AccountOperationResponse> deposit(@PathVariable("id") UUID id, @RequestBody @Valid AmountRequest request) {
-        Money amount = Money.of(String.valueOf(request.amount()));
-        OperationResult result = depositUseCase.handle(new DepositCommand(new AccountId(id), amount));
-        return ResponseEntity.status(200).body(accountRestMapper.toAccountOperationResponse(result));
+    public ResponseEntity<?> deposit(@PathVariable("id") UUID id, @RequestBody @Valid AmountRequest request) {
+        OperationAttempt attempt = depositUseCase.tryHandle(new DepositCommand(new AccountId(id), request.amount()));
+        return toResponse(attempt);
+    }
+
+    /**
+     * Lot ordonné de dépôts / retraits sur un compte : un chargement, une sauvegarde du solde,
+     * une insertion groupée des opérations. Chaque élément est accepté ou refusé individuellement.
+     */
+    @PostMapping("/{id}/operations:batch")
+    public ResponseEntity<BatchOperationsResponse> batch(@PathVariable("id") UUID id,
+                                                         @RequestBody @Valid BatchOperationsRequest request) {
+        BatchOperationsUseCase useCase = batchOperationsUseCase.getIfAvailable();
+        if (useCase == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        List<BatchOperationsCommand.Item> items = request.operations().stream()
+                .map(item -> new BatchOperationsCommand.Item(
+                        Operation.Type.valueOf(item.type()), item.amount()))
+                .toList();
+        BatchOperationsResult result = useCase.handle(new BatchOperationsCommand(new AccountId(id), items));
+        return ResponseEntity.ok(accountRestMapper.toBatchResponse(result));
+    }
+
+    private AccountsResponse lookup(List<UUID> ids) {
+        List<AccountId> accountIds = ids.stream().map(AccountId::new).toList();
+        return accountRestMapper.toAccountsResponse(accountIds, getAccountsUseCase.handle(accountIds));
+    }
+
+    /**
+     * Un refus métier (plafond, fonds insuffisants) est une issue attendue : il est traduit
+     * directement en 422, avec le même corps que {@link RestExceptionHandler}, sans passer par une exception.
+     */
+    private ResponseEntity<?> toResponse(OperationAttempt attempt) {
+        if (attempt instanceof OperationRejection rejection) {
+            return ResponseEntity.unprocessableEntity().body(rejection.message());
+        }
+        return ResponseEntity.status(200).body(accountRestMapper.toAccountOperationResponse((OperationResult) attempt));
     }
 }
@@ -0,0 +1,83 @@
+package fr.exalt.bankaccount.infrastructure.rest.controller;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus;
+import fr.exalt.bankaccount.application.port.in.ImportOperationsUseCase;
+import fr.exalt.bankaccount.infrastructure.imports.OperationFileSource;
+import fr.exalt.bankaccount.infrastructure.rest.dto.imports.ImportJobResponse;
+import fr.exalt.bankaccount.infrastructure.rest.mapper.ImportRestMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Import de fichiers d'opérations (fin de journée).
+ * <p>
+ * Le corps de la requête est recopié en flux dans un fichier temporaire (mémoire constante), puis
+ * importé en arrière-plan : la réponse 202 donne l'URL de suivi du job.
+ * </p>
+ */
+@RestController
+@RequestMapping("/imports/operations")
+public class ImportController {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
+    // Absent avec le moteur en mémoire (seul écrivain des soldes)
+    private final ObjectProvider<ImportOperationsUseCase> importOperationsUseCase;
+    private final ImportRestMapper mapper;
+
+    ImportController(ObjectProvider<ImportOperationsUseCase> importOperationsUseCase, ImportRestMapper mapper) {
+        this.importOperationsUseCase = importOperationsUseCase;
+        this.mapper = mapper;
+    }
+
+    @PostMapping(consumes = { CSV, NDJSON })
+    public ResponseEntity<ImportJobResponse> upload(HttpServletRequest request) throws IOException {
+        ImportOperationsUseCase useCase = importOperationsUseCase.getIfAvailable();
+        if (useCase == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        OperationFileSource.Format format = request.getContentType().startsWith(NDJSON)
+                ? OperationFileSource.Format.NDJSON
+                : OperationFileSource.Format.CSV;
+
+        Path spool = Files.createTempFile("operations-import-", ".tmp");
+        try (InputStream body = request.getInputStream()) {
+            Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+
+        ImportJobStatus status = useCase.submit(new OperationFileSource(spool, format, true));
+        return ResponseEntity.accepted()
+                .location(URI.create("/imports/operations/" + status.id()))
+                .body(mapper.toResponse(status));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> status(@PathVariable("jobId") UUID jobId) {
+        ImportOperationsUseCase useCase = importOperationsUseCase.getIfAvailable();
+        if (useCase == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        return useCase.status(jobId)
+                .map(status -> ResponseEntity.ok(mapper.toResponse(status)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,16 +1,19 @@
 package fr.exalt.bankaccount.infrastructure.rest.controller;
 
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.application.service.operation.OperationService;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
-import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.infrastructure.rest.dto.operation.OperationPageResponse;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.OperationRestMapper;
-import fr.exalt.bankaccount.infrastructure.rest.dto.operation.OperationResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.UUID;
 
 
@@ -26,9 +29,27 @@ public class OperationController {
         this.mapper = mapper;
     }
 
+    /**
+     * Opérations des 30 derniers jours, de la plus récente à la plus ancienne, par pages de {@code limit}.
+     * La page suivante se demande avec le curseur {@code next} de la réponse ; il est null sur la dernière page.
+     */
     @GetMapping("/{id}/operations")
-    List<OperationResponse> getMonthly(@PathVariable("id") UUID id) {
-        List<Operation> ops = service.getMonthlyOperations(new AccountId(id));
-        return ops.stream().map(mapper::toResponse).toList();
+    OperationPageResponse getMonthly(@PathVariable("id") UUID id,
+                                     @RequestParam(name = "cursor", required = false) String cursor,
+                                     @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        OperationPage.Cursor after = cursor == null ? null : mapper.decodeCursor(cursor);
+        return mapper.toPageResponse(service.getMonthlyOperations(new AccountId(id), after, limit));
+    }
+
+    /**
+     * Même historique, complet, en NDJSON ({@code Accept: application/x-ndjson}) : une ligne par opération,
+     * écrite dès sa lecture en base, sans liste intermédiaire.
+     */
+    @GetMapping(value = "/{id}/operations", produces = AccountController.NDJSON)
+    void exportMonthly(@PathVariable("id") UUID id, HttpServletResponse response) throws IOException {
+        response.setContentType(AccountController.NDJSON);
+        PrintWriter out = response.getWriter();
+        service.exportMonthlyOperations(new AccountId(id), operation -> out.println(mapper.toLine(operation)));
+        out.flush();
     }
 }
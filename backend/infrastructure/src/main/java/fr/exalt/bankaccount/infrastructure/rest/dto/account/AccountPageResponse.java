@@ -0,0 +1,10 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.account;
+
+import java.util.List;
+
+/**
+ * Une page de comptes : { "accounts": [ { "id": "...", "type": "CURRENT", "balance": 250, ... } ], "next": "<curseur>" }
+ * ({@code next} à null sur la dernière page).
+ */
+public record AccountPageResponse(List<AccountResponse> accounts, String next) {
+}
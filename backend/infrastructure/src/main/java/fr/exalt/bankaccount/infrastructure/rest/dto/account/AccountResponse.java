@@ -0,0 +1,10 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.account;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Lecture d'un compte : { "id": "<uuid>", "type": "CURRENT|SAVINGS", "balance": 250, "overdraft": -100, "ceiling": null }
+ * (découvert pour un compte courant, plafond pour un livret).
+ */
+public record AccountResponse(String id, String type, Money balance, Money overdraft, Money ceiling) {
+}
@@ -0,0 +1,14 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.account;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lecture groupée de comptes, pour les listes trop longues pour une URL : { "ids": [ "<uuid>", ... ] }
+ */
+public record AccountsLookupRequest(@NotEmpty @Size(max = 200) List<@NotNull UUID> ids) {
+}
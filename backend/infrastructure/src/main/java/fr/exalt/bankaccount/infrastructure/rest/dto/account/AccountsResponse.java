@@ -0,0 +1,10 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.account;
+
+import java.util.List;
+
+/**
+ * Comptes trouvés, dans l'ordre demandé, et identifiants inconnus :
+ * { "accounts": [ { "id": "...", "type": "CURRENT", "balance": 250, ... } ], "missing": [ "<uuid>" ] }
+ */
+public record AccountsResponse(List<AccountResponse> accounts, List<String> missing) {
+}
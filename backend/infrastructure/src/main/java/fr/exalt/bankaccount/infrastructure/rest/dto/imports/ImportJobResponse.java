@@ -0,0 +1,26 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.imports;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Suivi d'un import :
+ * {
+ *   "id": "<uuid>", "state": "RUNNING", "linesRead": 120000, "accepted": 119990, "rejected": 10,
+ *   "linesPerSecond": 45000.0, "startedAt": "...", "finishedAt": null,
+ *   "rejections": [ { "line": 42, "reason": "..." } ], "error": null
+ * }
+ */
+public record ImportJobResponse(String id,
+                                String state,
+                                long linesRead,
+                                long accepted,
+                                long rejected,
+                                double linesPerSecond,
+                                Instant startedAt,
+                                Instant finishedAt,
+                                List<RejectedLine> rejections,
+                                String error) {
+
+    public record RejectedLine(long line, String reason) {}
+}
@@ -0,0 +1,10 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.openaccount;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+
+/**
+ * Une ligne NDJSON de l'ouverture en masse :
+ * { "type": "CURRENT", "overdraft": -500 } ou { "type": "SAVINGS", "ceiling": 10000 }
+ */
+public record BulkOpenAccountRequest(String type, Money overdraft, Money ceiling) {
+}
@@ -0,0 +1,8 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.openaccount;
+
+/**
+ * Une ligne NDJSON de réponse, dans l'ordre des lignes reçues (index à partir de 1) :
+ * { "index": 1, "id": "<uuid>", "error": null } ou { "index": 2, "id": null, "error": "..." }
+ */
+public record BulkOpenAccountResponse(long index, String id, String error) {
+}
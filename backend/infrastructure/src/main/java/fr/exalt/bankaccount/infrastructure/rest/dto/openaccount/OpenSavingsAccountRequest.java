@@ -1,9 +1,8 @@
 package fr.exalt.bankaccount.infrastructure.rest.dto.openaccount;
 
+import fr.exalt.bankaccount.domain.model.money.Money;
 import jakarta.validation.constraints.NotNull;
 
-import java.math.BigDecimal;
-
 public record OpenSavingsAccountRequest(
-        @NotNull BigDecimal ceiling
+        @NotNull Money ceiling
 ) { }
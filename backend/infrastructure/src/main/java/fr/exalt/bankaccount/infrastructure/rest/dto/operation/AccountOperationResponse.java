@@ -1,6 +1,6 @@
 package fr.exalt.bankaccount.infrastructure.rest.dto.operation;
 
-import java.math.BigDecimal;
+import fr.exalt.bankaccount.domain.model.money.Money;
 
 /**
  * Réponse pour deposit/withdraw :
@@ -10,5 +10,5 @@ import java.math.BigDecimal;
  *   "operation": { ...OperationResponse... }
  * }
  */
-public record AccountOperationResponse (String accountId, BigDecimal newBalance, OperationResponse operation){
+public record AccountOperationResponse (String accountId, Money newBalance, OperationResponse operation){
 }
@@ -1,8 +1,7 @@
 package fr.exalt.bankaccount.infrastructure.rest.dto.operation;
 
+import fr.exalt.bankaccount.domain.model.money.Money;
 import jakarta.validation.constraints.NotNull;
 
-import java.math.BigDecimal;
-
-public record AmountRequest(@NotNull BigDecimal amount) {
+public record AmountRequest(@NotNull Money amount) {
 }
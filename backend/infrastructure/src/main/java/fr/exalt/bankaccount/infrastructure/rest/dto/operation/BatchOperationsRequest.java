@@ -0,0 +1,21 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.operation;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Lot d'opérations sur un compte, appliquées dans l'ordre :
+ * {
+ *   "operations": [ { "type": "DEPOSIT", "amount": 100 }, { "type": "WITHDRAWAL", "amount": 30 } ]
+ * }
+ */
+public record BatchOperationsRequest(@NotEmpty @Size(max = 1000) List<@Valid @NotNull Item> operations) {
+
+    public record Item(@NotNull @Pattern(regexp = "DEPOSIT|WITHDRAWAL") String type, @NotNull Money amount) {}
+}
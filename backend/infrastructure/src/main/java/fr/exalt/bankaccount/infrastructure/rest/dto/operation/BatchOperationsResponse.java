@@ -0,0 +1,20 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.operation;
+
+import fr.exalt.bankaccount.domain.model.money.Money;
+import java.util.List;
+
+/**
+ * Réponse d'un lot :
+ * {
+ *   "accountId": "<uuid>",
+ *   "finalBalance": 70,
+ *   "items": [
+ *     { "index": 0, "status": "ACCEPTED", "operation": { ...OperationResponse... }, "error": null },
+ *     { "index": 1, "status": "REJECTED", "operation": null, "error": "..." }
+ *   ]
+ * }
+ */
+public record BatchOperationsResponse(String accountId, Money finalBalance, List<Item> items) {
+
+    public record Item(int index, String status, OperationResponse operation, String error) {}
+}
@@ -0,0 +1,10 @@
+package fr.exalt.bankaccount.infrastructure.rest.dto.operation;
+
+import java.util.List;
+
+/**
+ * Une page de l'historique : { "operations": [ { "id": "...", "type": "DEPOSIT", ... } ], "next": "<curseur>" }
+ * ({@code next} à null sur la dernière page).
+ */
+public record OperationPageResponse(List<OperationResponse> operations, String next) {
+}
@@ -1,12 +1,13 @@
 package fr.exalt.bankaccount.infrastructure.rest.dto.operation;
 
-import java.math.BigDecimal;
+import fr.exalt.bankaccount.domain.model.money.Money;
+
 import java.time.Instant;
 
 public record OperationResponse(
         String id,
         String type,
-        BigDecimal amount,
+        Money amount,
         Instant at,
         String label
 ) {
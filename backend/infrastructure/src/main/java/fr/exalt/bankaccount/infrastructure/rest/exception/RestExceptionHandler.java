@@ -1,6 +1,8 @@
 package fr.exalt.bankaccount.infrastructure.rest.exception;
 
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
 import fr.exalt.bankaccount.domain.model.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
@@ -20,6 +22,18 @@ public class RestExceptionHandler {
         return ex.getMessage();
     }
 
+    @ExceptionHandler(AccountConcurrentUpdateApplicationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleConcurrentUpdate(AccountConcurrentUpdateApplicationException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(CommandQueueFullApplicationException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleCommandQueueFull(CommandQueueFullApplicationException ex) {
+        return ex.getMessage();
+    }
+
     @ExceptionHandler(BusinessRuleViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public String handleBusiness(BusinessRuleViolationException ex) {
@@ -0,0 +1,57 @@
+package fr.exalt.bankaccount.infrastructure.rest.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Codec JSON de {@link Money} : lecture des jetons numériques (ou chaînes) directement depuis le tampon
+ * du parser, écriture des chiffres directement dans le générateur. Aucun {@code String} ni
+ * {@code BigDecimal} intermédiaire ; le format reste celui de {@link Money#value()} ({@code 250.00}).
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+    /** Même codec pour les {@code ObjectMapper} créés hors du contexte Spring (NDJSON). */
+    public static SimpleModule module() {
+        return new SimpleModule("MoneyModule")
+                .addSerializer(Money.class, new Serializer())
+                .addDeserializer(Money.class, new Deserializer());
+    }
+
+    public static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            char[] buffer = new char[Money.MAX_FORMATTED_LENGTH];
+            gen.writeNumber(buffer, 0, value.format(buffer, 0));
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+            }
+            try {
+                return Money.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw InvalidFormatException.from(p, "Invalid amount", p.getText(), Money.class);
+            }
+        }
+    }
+}
@@ -1,11 +1,31 @@
 package fr.exalt.bankaccount.infrastructure.rest.mapper;
 
 import fr.exalt.bankaccount.application.dto.account.openaccount.OpenAccountResult;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsResult;
 import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountPage;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountPageResponse;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountResponse;
+import fr.exalt.bankaccount.infrastructure.rest.dto.account.AccountsResponse;
 import fr.exalt.bankaccount.infrastructure.rest.dto.openaccount.AccountCreatedResponse;
 import fr.exalt.bankaccount.infrastructure.rest.dto.operation.AccountOperationResponse;
+import fr.exalt.bankaccount.infrastructure.rest.dto.operation.BatchOperationsResponse;
 import fr.exalt.bankaccount.infrastructure.rest.dto.operation.OperationResponse;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 public class AccountRestMapper {
 
     private final OperationRestMapper operationRestMapper;
@@ -18,6 +38,52 @@ public class AccountRestMapper {
         return new AccountCreatedResponse(result.accountId().value().toString());
     }
 
+    public AccountResponse toAccountResponse(AccountView view) {
+        return new AccountResponse(
+                view.accountId().value().toString(),
+                view.type().name(),
+                view.balance(),
+                view.overdraft(),
+                view.ceiling()
+        );
+    }
+
+    public AccountsResponse toAccountsResponse(List<AccountId> requested, List<AccountView> views) {
+        Set<AccountId> found = new HashSet<>();
+        views.forEach(view -> found.add(view.accountId()));
+        return new AccountsResponse(
+                views.stream().map(this::toAccountResponse).toList(),
+                requested.stream().distinct().filter(accountId -> !found.contains(accountId))
+                        .map(accountId -> accountId.value().toString())
+                        .toList()
+        );
+    }
+
+    public AccountListQuery toListQuery(String type, BigDecimal minBalance, BigDecimal maxBalance, String cursor, int limit) {
+        Account.Type accountType = null;
+        if (type != null) {
+            try {
+                accountType = Account.Type.valueOf(type);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessRuleViolationException("Unknown account type: " + type);
+            }
+        }
+        return new AccountListQuery(
+                accountType,
+                minBalance == null ? null : Money.valueOf(minBalance),
+                maxBalance == null ? null : Money.valueOf(maxBalance),
+                cursor == null ? null : decodeCursor(cursor),
+                limit
+        );
+    }
+
+    public AccountPageResponse toAccountPageResponse(AccountPage page) {
+        return new AccountPageResponse(
+                page.accounts().stream().map(this::toAccountResponse).toList(),
+                page.next() == null ? null : encodeCursor(page.next())
+        );
+    }
+
     public AccountOperationResponse toAccountOperationResponse(OperationResult result) {
         // {
         //   "accountId": "<uuid>",
@@ -27,8 +93,41 @@ public class AccountRestMapper {
         OperationResponse op = operationRestMapper.toResponse(result.operation());
         return new AccountOperationResponse(
                 result.accountId().value().toString(),
-                result.newBalance().value(),
+                result.newBalance(),
                 op
         );
     }
+
+    public BatchOperationsResponse toBatchResponse(BatchOperationsResult result) {
+        return new BatchOperationsResponse(
+                result.accountId().value().toString(),
+                result.finalBalance(),
+                result.items().stream()
+                        .map(item -> item.accepted()
+                                ? new BatchOperationsResponse.Item(item.index(), "ACCEPTED",
+                                        operationRestMapper.toResponse(item.operation()), null)
+                                : new BatchOperationsResponse.Item(item.index(), "REJECTED", null, item.error()))
+                        .toList()
+        );
+    }
+
+    /** Curseur opaque pour le client : identifiant du dernier compte de la page, en base64url. */
+    private static String encodeCursor(AccountId accountId) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(accountId.value().getMostSignificantBits())
+                .putLong(accountId.value().getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    private static AccountId decodeCursor(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            bytes = new byte[0];
+        }
+        if (bytes.length != 16) throw new BusinessRuleViolationException("Invalid cursor");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new AccountId(new UUID(buffer.getLong(), buffer.getLong()));
+    }
 }
@@ -0,0 +1,55 @@
+package fr.exalt.bankaccount.infrastructure.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenOutcome;
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenRow;
+import fr.exalt.bankaccount.infrastructure.rest.dto.openaccount.BulkOpenAccountRequest;
+import fr.exalt.bankaccount.infrastructure.rest.dto.openaccount.BulkOpenAccountResponse;
+import fr.exalt.bankaccount.infrastructure.rest.json.MoneyJsonComponent;
+
+import java.io.BufferedReader;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Conversion NDJSON ligne à ligne pour l'ouverture de comptes en masse. */
+public class BulkOpenRestMapper {
+
+    private static final ObjectMapper JSON = new ObjectMapper().registerModule(MoneyJsonComponent.module());
+
+    /** Lignes du corps de requête, lues à la demande ; les lignes vides sont ignorées. */
+    public Iterator<BulkOpenRow> rows(BufferedReader body) {
+        AtomicLong index = new AtomicLong();
+        return body.lines()
+                .map(text -> toRow(index.incrementAndGet(), text.strip()))
+                .filter(Objects::nonNull)
+                .iterator();
+    }
+
+    public String toLine(BulkOpenOutcome outcome) {
+        BulkOpenAccountResponse response = new BulkOpenAccountResponse(outcome.index(),
+                outcome.opened() ? outcome.accountId().value().toString() : null, outcome.error());
+        try {
+            return JSON.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BulkOpenRow toRow(long index, String text) {
+        if (text.isEmpty()) return null;
+        try {
+            BulkOpenAccountRequest request = JSON.readValue(text, BulkOpenAccountRequest.class);
+            if ("CURRENT".equals(request.type())) {
+                return new BulkOpenRow.Current(index, request.overdraft());
+            }
+            if ("SAVINGS".equals(request.type())) {
+                return new BulkOpenRow.Savings(index, request.ceiling());
+            }
+            return new BulkOpenRow.Malformed(index, "Account type must be CURRENT or SAVINGS");
+        } catch (JsonProcessingException e) {
+            return new BulkOpenRow.Malformed(index, "Unreadable line: " + e.getOriginalMessage());
+        }
+    }
+}
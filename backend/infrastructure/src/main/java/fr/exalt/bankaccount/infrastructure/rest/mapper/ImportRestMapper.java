@@ -0,0 +1,24 @@
+package fr.exalt.bankaccount.infrastructure.rest.mapper;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus;
+import fr.exalt.bankaccount.infrastructure.rest.dto.imports.ImportJobResponse;
+
+public class ImportRestMapper {
+
+    public ImportJobResponse toResponse(ImportJobStatus status) {
+        return new ImportJobResponse(
+                status.id().toString(),
+                status.state().name(),
+                status.linesRead(),
+                status.accepted(),
+                status.rejected(),
+                status.linesPerSecond(),
+                status.startedAt(),
+                status.finishedAt(),
+                status.rejections().stream()
+                        .map(rejection -> new ImportJobResponse.RejectedLine(rejection.lineNumber(), rejection.reason()))
+                        .toList(),
+                status.error()
+        );
+    }
+}
@@ -1,17 +1,85 @@
 package fr.exalt.bankaccount.infrastructure.rest.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.infrastructure.rest.dto.operation.OperationPageResponse;
 import fr.exalt.bankaccount.infrastructure.rest.dto.operation.OperationResponse;
+import fr.exalt.bankaccount.infrastructure.rest.json.MoneyJsonComponent;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
 
 public class OperationRestMapper {
 
+    // Curseur : secondes, nanosecondes, identifiant
+    private static final int CURSOR_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    // Dates ISO-8601 et montants, comme les réponses JSON du contrôleur
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(MoneyJsonComponent.module())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
     public OperationResponse toResponse(Operation operation) {
         return new OperationResponse(
                 operation.id().value().toString(),
                 operation.type().name(),
-                operation.amount().value(),
+                operation.amount(),
                 operation.at(),
                 operation.label()
         );
     }
+
+    /** Une ligne NDJSON, même contenu qu'un élément de page. */
+    public String toLine(Operation operation) {
+        try {
+            return JSON.writeValueAsString(toResponse(operation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public OperationPageResponse toPageResponse(OperationPage page) {
+        return new OperationPageResponse(
+                page.operations().stream().map(this::toResponse).toList(),
+                page.next() == null ? null : encodeCursor(page.next())
+        );
+    }
+
+    /** Curseur opaque pour le client : date et identifiant de la dernière opération de la page, en base64url. */
+    public String encodeCursor(OperationPage.Cursor cursor) {
+        UUID id = cursor.operationId().value();
+        ByteBuffer bytes = ByteBuffer.allocate(CURSOR_BYTES)
+                .putLong(cursor.at().getEpochSecond())
+                .putInt(cursor.at().getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    public OperationPage.Cursor decodeCursor(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            bytes = new byte[0];
+        }
+        if (bytes.length != CURSOR_BYTES) throw new BusinessRuleViolationException("Invalid cursor");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) throw new BusinessRuleViolationException("Invalid cursor");
+        return new OperationPage.Cursor(Instant.ofEpochSecond(seconds, nanos),
+                new OperationId(new UUID(buffer.getLong(), buffer.getLong())));
+    }
 }
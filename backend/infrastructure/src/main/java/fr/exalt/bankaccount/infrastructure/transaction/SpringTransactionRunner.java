@@ -0,0 +1,33 @@
+package fr.exalt.bankaccount.infrastructure.transaction;
+
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Adapter {@link TransactionRunner} sur le gestionnaire de transactions Spring (JPA).
+ */
+public class SpringTransactionRunner implements TransactionRunner {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public SpringTransactionRunner(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Avec JPA : session Hibernate en lecture seule et sans flush, connexion JDBC marquée read-only
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    @Override
+    public <T> T inReadOnlyTransaction(Supplier<T> work) {
+        return readOnlyTemplate.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,110 @@
+package fr.exalt.bankaccount.infrastructure.cache;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryAccountViewCacheTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    InMemoryAccountViewCache cache = new InMemoryAccountViewCache(2, registry);
+    AccountId id = AccountId.newId();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void hits_misses_and_loads_are_measured_and_size_is_bounded() {
+        cache.getOrLoad(id, this::view0);
+        cache.getOrLoad(id, this::view0);
+        cache.getOrLoad(AccountId.newId(), this::view0);
+        cache.getOrLoad(AccountId.newId(), this::view0);
+
+        assertThat(registry.get("bank.account.view.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(registry.get("bank.account.view.cache.requests").tag("result", "miss").counter().count()).isEqualTo(3);
+        assertThat(registry.get("bank.account.view.cache.load").timer().count()).isEqualTo(3);
+        assertThat(registry.get("bank.account.view.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void many_accounts_hit_the_cache_and_load_the_rest_in_one_call() {
+        AccountId other = AccountId.newId();
+        AccountId unknown = AccountId.newId();
+        cache.getOrLoad(id, this::view0);
+        List<Collection<AccountId>> calls = new ArrayList<>();
+
+        Map<AccountId, AccountView> found = cache.getAllOrLoad(List.of(id, other, unknown), ids -> {
+            calls.add(List.copyOf(ids));
+            return Map.of(other, view0(other));
+        });
+
+        assertThat(found).containsOnlyKeys(id, other);
+        assertThat(calls).containsExactly(List.of(other, unknown));
+        assertThat(registry.get("bank.account.view.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(registry.get("bank.account.view.cache.requests").tag("result", "miss").counter().count()).isEqualTo(3);
+        assertThat(cache.getAllOrLoad(List.of(other), ids -> Map.of())).containsOnlyKeys(other);
+    }
+
+    @Test
+    void writes_apply_on_commit_only() {
+        cache.getOrLoad(id, this::view0);
+
+        // Transaction annulée : la vue en cache ne bouge pas
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(view(1, "10"));
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(cache.getOrLoad(id, this::view0).balance()).isEqualTo(Money.zero());
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(view(1, "10"));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(cache.getOrLoad(id, this::view0).balance()).isEqualTo(Money.of("10"));
+    }
+
+    @Test
+    void older_version_never_replaces_a_newer_one() {
+        cache.put(view(5, "50"));
+        cache.put(view(4, "40"));
+
+        assertThat(cache.getOrLoad(id, this::view0).balance()).isEqualTo(Money.of("50"));
+    }
+
+    @Test
+    void load_racing_a_write_is_not_cached() {
+        // La lecture en base précède la validation d'une écriture qui invalide le compte
+        AccountView stale = cache.getOrLoad(id, accountId -> {
+            cache.invalidate(accountId);
+            return view0(accountId);
+        });
+        assertThat(stale.balance()).isEqualTo(Money.zero());
+
+        AccountView reloaded = cache.getOrLoad(id, accountId -> view(2, "20"));
+        assertThat(reloaded.balance()).isEqualTo(Money.of("20"));
+    }
+
+    private AccountView view0(AccountId accountId) {
+        return new AccountView(accountId, Account.Type.CURRENT, Money.zero(), Money.of("-100"), null, 0);
+    }
+
+    private AccountView view(long version, String balance) {
+        return new AccountView(id, Account.Type.CURRENT, Money.of(balance), Money.of("-100"), null, version);
+    }
+}
@@ -0,0 +1,261 @@
+package fr.exalt.bankaccount.infrastructure.cache;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.exception.CommandQueueFullApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.application.service.account.ConflictRetry;
+import fr.exalt.bankaccount.application.service.account.DepositService;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.transaction.SpringTransactionRunner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Écriture différée sur une vraie base : le thread d'écriture ouvre ses propres transactions,
+ * le test ne tourne donc pas dans la transaction de {@code @DataJpaTest}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        AccountRepositoryAdapter.class,
+        OperationRepositoryAdapter.class,
+        TestJpaConfig.class
+})
+public class WriteBehindAccountRepositoryIT {
+
+    @Autowired
+    AccountRepositoryAdapter adapter;
+    @Autowired
+    OperationRepositoryAdapter operations;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    Clock clock;
+
+    private SpringTransactionRunner transactionRunner;
+    private JdbcTemplate jdbc;
+    private WriteBehindAccountRepository accounts;
+
+    @BeforeEach
+    void setUp() {
+        transactionRunner = new SpringTransactionRunner(transactionManager);
+        jdbc = new JdbcTemplate(dataSource);
+        // Écriture périodique lente : les tests déclenchent flush() eux-mêmes
+        accounts = new WriteBehindAccountRepository(adapter, dataSource, transactionRunner, clock,
+                16, Duration.ofMinutes(10), false,
+                WriteBehindAccountRepository.DEFAULT_MAX_PENDING, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        accounts.close();
+    }
+
+    @Test
+    @DisplayName("Compte en cache : relu sans SELECT, même si la ligne change en base")
+    void cached_account_is_served_without_reading_the_database() {
+        Account opened = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+
+        jdbc.update("update accounts set balance = 42 where id = ?", opened.getId().value());
+
+        assertThat(accounts.findById(opened.getId()).getBalance()).isEqualTo(Money.zero());
+        assertThat(adapter.findById(opened.getId()).getBalance()).isEqualTo(Money.of("42"));
+    }
+
+    @Test
+    @DisplayName("Soldes regroupés et écrits en différé, opérations écrites tout de suite")
+    void balances_are_coalesced_and_written_behind() {
+        Account opened = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+        DepositService deposit = new DepositService(accounts, operations, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+        for (int i = 0; i < 5; i++) {
+            transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(opened.getId(), Money.of("10"))));
+        }
+
+        assertThat(accounts.findById(opened.getId()).getBalance()).isEqualTo(Money.of("50"));
+        assertThat(balanceInDatabase(opened)).isEqualByComparingTo("0");
+        assertThat(jdbc.queryForObject("select count(*) from operations where account_id = ?", Long.class,
+                opened.getId().value())).isEqualTo(5);
+        assertThat(markers()).isEqualTo(1);
+
+        accounts.flush();
+
+        Map<String, Object> row = jdbc.queryForMap("select balance, version from accounts where id = ?", opened.getId().value());
+        assertThat((BigDecimal) row.get("balance")).isEqualByComparingTo("50");
+        assertThat(((Number) row.get("version")).longValue()).isEqualTo(5);
+        assertThat(markers()).isZero();
+    }
+
+    @Test
+    @DisplayName("Transaction annulée : cache inchangé ; version périmée : conflit")
+    void rollback_keeps_cache_and_stale_version_conflicts() {
+        Account opened = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+        Account stale = accounts.findById(opened.getId());
+
+        assertThatThrownBy(() -> transactionRunner.inTransaction(() -> {
+            Account loaded = accounts.findById(opened.getId());
+            loaded.deposit(Money.of("30"));
+            accounts.save(loaded);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(accounts.findById(opened.getId()).getBalance()).isEqualTo(Money.zero());
+        assertThat(markers()).isZero();
+
+        Account winner = accounts.findById(opened.getId());
+        winner.deposit(Money.of("1"));
+        transactionRunner.inTransaction(() -> accounts.save(winner));
+
+        stale.deposit(Money.of("2"));
+        assertThatThrownBy(() -> transactionRunner.inTransaction(() -> accounts.save(stale)))
+                .isInstanceOf(AccountConcurrentUpdateApplicationException.class);
+        assertThat(accounts.findById(opened.getId()).getBalance()).isEqualTo(Money.of("1"));
+    }
+
+    @Test
+    @DisplayName("Compte absent du cache : écrit en base, puis l'état validé remplace une lecture concurrente")
+    void uncached_save_replaces_an_entry_read_before_commit() {
+        Account opened = transactionRunner.inTransaction(() -> adapter.save(Account.openCurrent(Money.of("-100"), clock)));
+        Account loaded = adapter.findById(opened.getId());
+        loaded.deposit(Money.of("25"));
+
+        Account readBeforeCommit = transactionRunner.inTransaction(() -> {
+            accounts.save(loaded);
+            // Autre thread, ligne encore non validée : l'ancien état entre dans le cache
+            return CompletableFuture.supplyAsync(() -> accounts.findById(opened.getId())).join();
+        });
+
+        assertThat(readBeforeCommit.getBalance()).isEqualTo(Money.zero());
+        Account cached = accounts.findById(opened.getId());
+        assertThat(cached.getBalance()).isEqualTo(Money.of("25"));
+        assertThat(cached.getVersion()).isEqualTo(1);
+        assertThat(balanceInDatabase(opened)).isEqualByComparingTo("25");
+    }
+
+    @Test
+    @DisplayName("Base indisponible : échecs comptés, soldes en attente bornés, écritures reprises au retour")
+    void failed_flushes_are_counted_and_pending_balances_are_bounded() throws InterruptedException {
+        AtomicBoolean databaseDown = new AtomicBoolean();
+        TransactionRunner flushes = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) {
+                if (databaseDown.get()) throw new IllegalStateException("database down");
+                return transactionRunner.inTransaction(work);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        accounts.close();
+        accounts = new WriteBehindAccountRepository(adapter, dataSource, flushes, clock,
+                16, Duration.ofMillis(20), false, 1, registry);
+        Account first = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+        Account second = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+        DepositService deposit = new DepositService(accounts, operations, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+
+        databaseDown.set(true);
+        transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(first.getId(), Money.of("10"))));
+        awaitUntil(() -> registry.get("bank.accounts.write-behind.flush.failures").counter().count() >= 2);
+
+        assertThat(registry.get("bank.accounts.write-behind.pending").gauge().value()).isEqualTo(1);
+        // Compte déjà en attente : accepté ; un second compte dépasserait la borne
+        transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(first.getId(), Money.of("5"))));
+        assertThatThrownBy(() -> transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(second.getId(), Money.of("1")))))
+                .isInstanceOf(CommandQueueFullApplicationException.class);
+
+        databaseDown.set(false);
+        // Compteur remis à zéro dès la prise des soldes par l'écriture, base à jour à sa validation
+        awaitUntil(() -> accounts.pending() == 0 && balanceInDatabase(first).compareTo(new BigDecimal("15")) == 0);
+        assertThat(markers()).isZero();
+        transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(second.getId(), Money.of("1"))));
+        assertThat(accounts.findById(second.getId()).getBalance()).isEqualTo(Money.of("1"));
+    }
+
+    @Test
+    @DisplayName("Arrêt brutal avant écriture : seuls les comptes marqués en attente sont recalculés au démarrage")
+    void pending_balances_are_reconciled_from_operations_on_startup() throws InterruptedException {
+        AtomicBoolean crashed = new AtomicBoolean();
+        TransactionRunner flushes = new TransactionRunner() {
+            @Override public <T> T inTransaction(Supplier<T> work) {
+                if (crashed.get()) throw new IllegalStateException("crashed");
+                return transactionRunner.inTransaction(work);
+            }
+        };
+        accounts.close();
+        accounts = new WriteBehindAccountRepository(adapter, dataSource, flushes, clock,
+                16, Duration.ofMinutes(10), false,
+                WriteBehindAccountRepository.DEFAULT_MAX_PENDING, new SimpleMeterRegistry());
+        Account opened = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+        Account untouched = transactionRunner.inTransaction(() -> accounts.save(Account.openCurrent(Money.of("-100"), clock)));
+        DepositService deposit = new DepositService(accounts, operations, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+        transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(opened.getId(), Money.of("30"))));
+        transactionRunner.inTransaction(() -> deposit.handle(new DepositCommand(opened.getId(), Money.of("20"))));
+        // Écart sur un compte sans solde en attente : hors du périmètre du recalcul
+        jdbc.update("update accounts set balance = 42 where id = ?", untouched.getId().value());
+        assertThat(balanceInDatabase(opened)).isEqualByComparingTo("0");
+        assertThat(markers()).isEqualTo(1);
+
+        // Arrêt sans écriture des soldes
+        crashed.set(true);
+        assertThatThrownBy(accounts::close).isInstanceOf(IllegalStateException.class);
+        accounts = new WriteBehindAccountRepository(adapter, dataSource, transactionRunner, clock,
+                16, Duration.ofMinutes(10), true,
+                WriteBehindAccountRepository.DEFAULT_MAX_PENDING, new SimpleMeterRegistry());
+
+        assertThat(balanceInDatabase(opened)).isEqualByComparingTo("50");
+        assertThat(accounts.findById(opened.getId()).getBalance()).isEqualTo(Money.of("50"));
+        assertThat(balanceInDatabase(untouched)).isEqualByComparingTo("42");
+        assertThat(markers()).isZero();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private long markers() {
+        return jdbc.queryForObject("select count(*) from write_behind_pending", Long.class);
+    }
+
+    private BigDecimal balanceInDatabase(Account account) {
+        return jdbc.queryForObject("select balance from accounts where id = ?", BigDecimal.class, account.getId().value());
+    }
+}
@@ -0,0 +1,68 @@
+package fr.exalt.bankaccount.infrastructure.imports;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportLine;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.DEPOSIT;
+import static fr.exalt.bankaccount.domain.model.account.operation.Operation.Type.WITHDRAWAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationFileSourceTest {
+
+    @TempDir
+    Path dir;
+
+    UUID account = UUID.randomUUID();
+
+    @Test
+    void csv_lines_are_parsed_with_header_and_malformed_lines() throws IOException {
+        Path file = Files.writeString(dir.resolve("ops.csv"), """
+                accountId,type,amount
+                %s,DEPOSIT,12.50
+
+                %s,withdrawal,3
+                %s,DEPOSIT
+                not-a-uuid,DEPOSIT,1
+                """.formatted(account, account, account));
+
+        List<ImportLine> lines;
+        try (Stream<ImportLine> stream = new OperationFileSource(file, OperationFileSource.Format.CSV, false).open()) {
+            lines = stream.toList();
+        }
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).isEqualTo(new ImportLine.Parsed(2, new AccountId(account), DEPOSIT, Money.of("12.50")));
+        assertThat(lines.get(1)).isEqualTo(new ImportLine.Parsed(4, new AccountId(account), WITHDRAWAL, Money.of("3")));
+        assertThat(lines.get(2)).isInstanceOf(ImportLine.Malformed.class).extracting(ImportLine::lineNumber).isEqualTo(5L);
+        assertThat(lines.get(3)).isInstanceOf(ImportLine.Malformed.class).extracting(ImportLine::lineNumber).isEqualTo(6L);
+        assertThat(file).exists();
+    }
+
+    @Test
+    void ndjson_lines_are_parsed_and_spool_file_is_deleted_on_close() throws IOException {
+        Path file = Files.writeString(dir.resolve("ops.ndjson"), """
+                {"accountId": "%s", "type": "DEPOSIT", "amount": 100}
+                {"accountId": "%s", "type": "WITHDRAWAL"}
+                {broken
+                """.formatted(account, account));
+
+        List<ImportLine> lines;
+        try (Stream<ImportLine> stream = new OperationFileSource(file, OperationFileSource.Format.NDJSON, true).open()) {
+            lines = stream.toList();
+        }
+
+        assertThat(lines.get(0)).isEqualTo(new ImportLine.Parsed(1, new AccountId(account), DEPOSIT, Money.of("100")));
+        assertThat(lines.subList(1, 3)).allMatch(ImportLine.Malformed.class::isInstance);
+        assertThat(file).doesNotExist();
+    }
+}
@@ -0,0 +1,116 @@
+package fr.exalt.bankaccount.infrastructure.journal;
+
+import fr.exalt.bankaccount.application.port.out.CommandJournal;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileCommandJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void flushed_entries_are_replayed_after_reopen() {
+        Path file = dir.resolve("ledger.journal");
+        AccountId account = AccountId.newId();
+        List<CommandJournal.Entry> written = List.of(
+                new CommandJournal.Entry(0, Operation.of(account, Money.of("12.34"), Operation.Type.DEPOSIT)),
+                new CommandJournal.Entry(1, Operation.of(account, Money.of("0.01"), Operation.Type.WITHDRAWAL)),
+                new CommandJournal.Entry(2, Operation.of(account, Money.of("5"), Operation.Type.DEPOSIT)));
+        try (FileCommandJournal journal = new FileCommandJournal(file, true)) {
+            written.forEach(journal::append);
+            journal.flush();
+        }
+
+        List<CommandJournal.Entry> replayed = new ArrayList<>();
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            journal.replay(0, replayed::add);
+        }
+
+        // Identifiant, horodatage et montant identiques : le rejeu reproduit la même opération
+        assertThat(replayed).containsExactlyElementsOf(written.subList(1, 3));
+    }
+
+    @Test
+    void torn_tail_is_dropped_and_appends_resume_after_last_valid_entry() throws IOException {
+        Path file = dir.resolve("ledger.journal");
+        AccountId account = AccountId.newId();
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            journal.append(new CommandJournal.Entry(0, Operation.of(account, Money.of("1"), Operation.Type.DEPOSIT)));
+        }
+        // Écriture interrompue : un demi-enregistrement en fin de fichier
+        Files.write(file, new byte[FileCommandJournal.RECORD_SIZE / 2], StandardOpenOption.APPEND);
+
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            List<CommandJournal.Entry> replayed = new ArrayList<>();
+            journal.replay(-1, replayed::add);
+            assertThat(replayed).extracting(CommandJournal.Entry::sequence).containsExactly(0L);
+
+            journal.append(new CommandJournal.Entry(1, Operation.of(account, Money.of("2"), Operation.Type.DEPOSIT)));
+        }
+
+        List<CommandJournal.Entry> replayed = new ArrayList<>();
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            journal.replay(-1, replayed::add);
+        }
+        assertThat(replayed).extracting(CommandJournal.Entry::sequence).containsExactly(0L, 1L);
+        assertThat(Files.size(file)).isEqualTo(2L * FileCommandJournal.RECORD_SIZE);
+    }
+
+    @Test
+    void truncate_empties_the_journal() {
+        Path file = dir.resolve("ledger.journal");
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            journal.append(new CommandJournal.Entry(0, Operation.of(AccountId.newId(), Money.of("1"), Operation.Type.DEPOSIT)));
+            journal.flush();
+            journal.truncate();
+        }
+        List<CommandJournal.Entry> replayed = new ArrayList<>();
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            journal.replay(-1, replayed::add);
+        }
+        assertThat(replayed).isEmpty();
+    }
+
+    @Test
+    void compact_drops_entries_up_to_the_sequence_and_appends_resume_after_the_rest() throws IOException {
+        Path file = dir.resolve("ledger.journal");
+        AccountId account = AccountId.newId();
+        try (FileCommandJournal journal = new FileCommandJournal(file, true)) {
+            for (long sequence = 0; sequence < 10; sequence++) {
+                journal.append(new CommandJournal.Entry(sequence, Operation.of(account, Money.of("1"), Operation.Type.DEPOSIT)));
+            }
+            journal.flush();
+            journal.compact(6);
+            assertThat(Files.size(file)).isEqualTo(3L * FileCommandJournal.RECORD_SIZE);
+
+            journal.append(new CommandJournal.Entry(10, Operation.of(account, Money.of("2"), Operation.Type.DEPOSIT)));
+            journal.flush();
+            // Entrées déjà retirées : rien à faire
+            journal.compact(5);
+            assertThat(Files.size(file)).isEqualTo(4L * FileCommandJournal.RECORD_SIZE);
+        }
+
+        List<CommandJournal.Entry> replayed = new ArrayList<>();
+        try (FileCommandJournal journal = new FileCommandJournal(file, false)) {
+            journal.replay(-1, replayed::add);
+            // Tout est en base : le fichier est vidé sur place
+            journal.compact(10);
+        }
+        assertThat(replayed).extracting(CommandJournal.Entry::sequence).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(Files.size(file)).isZero();
+        assertThat(dir.resolve("ledger.journal.compact")).doesNotExist();
+    }
+}
@@ -1,5 +1,6 @@
 package fr.exalt.bankaccount.infrastructure.jpa;
 
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
@@ -18,6 +19,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Clock;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -82,4 +85,46 @@ public class AccountRepositoryAdapterIT {
                 .hasMessageContaining(accountId.value().toString());
 
     }
+
+    @Test
+    @DisplayName("save : un UPDATE sur une version périmée lève AccountConcurrentUpdateApplicationException")
+    void save_with_stale_version_throws_conflict() {
+        // given : deux lectures du même compte
+        Account current = Account.openCurrent(Money.of("-200"), clock);
+        adapter.save(current);
+        Account first = adapter.findById(current.getId());
+        Account second = adapter.findById(current.getId());
+
+        // when : la première écriture passe et incrémente la version
+        first.deposit(Money.of("10"));
+        adapter.save(first);
+        second.deposit(Money.of("20"));
+
+        // then
+        assertThat(first.getVersion()).isEqualTo(second.getVersion() + 1);
+        assertThatThrownBy(() -> adapter.save(second))
+                .isInstanceOf(AccountConcurrentUpdateApplicationException.class)
+                .hasMessageContaining(current.getId().toString());
+        assertThat(adapter.findById(current.getId()).getBalance()).isEqualTo(Money.of("10"));
+    }
+
+    @Test
+    @DisplayName("insertAll : batch d'INSERT, comptes relus en version 0 puis modifiables")
+    void insert_all_then_update() {
+        Account current = Account.openCurrent(Money.of("-200"), clock);
+        Account savings = Account.openSavings(Money.of("500"), clock);
+
+        adapter.insertAll(List.of(current, savings));
+
+        Map<AccountId, Account> found = adapter.findAllById(List.of(current.getId(), savings.getId()));
+        assertThat(found).containsOnlyKeys(current.getId(), savings.getId());
+        assertThat(found.get(current.getId()).getOverdraft()).isEqualTo(Money.of("-200"));
+        assertThat(found.get(savings.getId()).getCeiling()).isEqualTo(Money.of("500"));
+        assertThat(current.isNew()).isFalse();
+
+        // La version posée à l'insertion est celle attendue par l'UPDATE conditionnel
+        current.deposit(Money.of("10"));
+        adapter.save(current);
+        assertThat(adapter.findById(current.getId()).getBalance()).isEqualTo(Money.of("10"));
+    }
 }
@@ -0,0 +1,91 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountViewReaderAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Import({
+        AccountViewReaderAdapter.class,
+        AccountRepositoryAdapter.class,
+        TestJpaConfig.class
+})
+public class AccountViewReaderAdapterIT {
+
+    @Autowired
+    AccountViewReaderAdapter reader;
+    @Autowired
+    AccountRepositoryAdapter accounts;
+    @Autowired
+    TestEntityManager em;
+    @Autowired
+    Clock clock;
+
+    @Test
+    @DisplayName("Lecture groupée : une requête IN, lignes converties en vues, comptes absents ignorés")
+    void views_are_read_in_one_query() {
+        Account current = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account savings = accounts.save(Account.openSavings(Money.of("1000"), clock));
+        current.deposit(Money.of("25.50"));
+        accounts.save(current);
+        em.flush();
+
+        Map<AccountId, AccountView> views = reader.findAllViews(List.of(current.getId(), savings.getId(), AccountId.newId()));
+
+        assertThat(views).containsOnlyKeys(current.getId(), savings.getId());
+        AccountView currentView = views.get(current.getId());
+        assertThat(currentView.type()).isEqualTo(Account.Type.CURRENT);
+        assertThat(currentView.balance()).isEqualTo(Money.of("25.50"));
+        assertThat(currentView.overdraft()).isEqualTo(Money.of("-100"));
+        assertThat(currentView.ceiling()).isNull();
+        assertThat(currentView.version()).isEqualTo(1);
+        AccountView savingsView = views.get(savings.getId());
+        assertThat(savingsView.ceiling()).isEqualTo(Money.of("1000"));
+        assertThat(savingsView.overdraft()).isNull();
+    }
+
+    @Test
+    @DisplayName("Pagination par clé : reprise après le dernier identifiant, filtres de type et de solde")
+    void pages_resume_after_the_last_id_with_filters() {
+        // Identifiants UUIDv7 croissants : les comptes d'autres tests sont avant ce point de départ
+        AccountId start = AccountId.newId();
+        Account first = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account second = accounts.save(Account.openSavings(Money.of("1000"), clock));
+        Account third = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account fourth = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        third.deposit(Money.of("300"));
+        accounts.save(third);
+        em.flush();
+
+        List<AccountView> page = reader.findPage(new AccountListQuery(null, null, null, start, 2));
+        List<AccountView> next = reader.findPage(new AccountListQuery(null, null, null, page.get(1).accountId(), 2));
+        assertThat(page).extracting(AccountView::accountId).containsExactly(first.getId(), second.getId());
+        assertThat(next).extracting(AccountView::accountId).containsExactly(third.getId(), fourth.getId());
+
+        List<AccountView> filtered = reader.findPage(
+                new AccountListQuery(Account.Type.CURRENT, Money.of("100"), Money.of("500"), start, 10));
+        assertThat(filtered).extracting(AccountView::accountId).containsExactly(third.getId());
+        assertThat(filtered.get(0).balance()).isEqualTo(Money.of("300"));
+    }
+}
@@ -0,0 +1,144 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.AccountConcurrentUpdateApplicationException;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.service.account.ConflictRetry;
+import fr.exalt.bankaccount.application.service.account.DepositService;
+import fr.exalt.bankaccount.application.service.account.GroupCommitService;
+import fr.exalt.bankaccount.application.service.account.WithdrawService;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.transaction.SpringTransactionRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Validation groupée sur une vraie base : le thread de validation ouvre ses propres transactions,
+ * le test ne tourne donc pas dans la transaction de {@code @DataJpaTest}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        AccountRepositoryAdapter.class,
+        OperationRepositoryAdapter.class,
+        TestJpaConfig.class
+})
+public class GroupCommitIT {
+
+    @Autowired
+    AccountRepositoryAdapter accounts;
+    @Autowired
+    OperationRepositoryAdapter operations;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    Clock clock;
+
+    private SpringTransactionRunner transactionRunner;
+    private GroupCommitService service;
+
+    @BeforeEach
+    void setUp() {
+        transactionRunner = new SpringTransactionRunner(transactionManager);
+        // Rejeu unitaire : une transaction par tentative, comme en production
+        DepositService deposit = new DepositService(accounts, operations, transactionRunner, ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+        WithdrawService withdraw = new WithdrawService(accounts, operations, transactionRunner, ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+        service = new GroupCommitService(accounts, operations, transactionRunner, deposit, withdraw,
+                Duration.ofMillis(10), 64, AccountViewCache.noop(), OperationOutbox.noop(),
+                GroupCommitService.DEFAULT_RESULT_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("Dépôts et retraits concurrents : soldes et opérations exacts après validation groupée")
+    void concurrent_commands_are_committed_in_groups() throws Exception {
+        Account first = accounts.save(Account.openCurrent(Money.of("-1000"), clock));
+        Account second = accounts.save(Account.openSavings(Money.of("100000"), clock));
+        // Épargne sans découvert : une avance évite qu'un retrait arrivé avant les dépôts soit refusé
+        second.deposit(Money.of("100"));
+        transactionRunner.inTransaction(() -> accounts.save(second));
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<OperationAttempt>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            AccountId target = i % 2 == 0 ? first.getId() : second.getId();
+            results.add(callers.submit(() -> service.tryHandle(new DepositCommand(target, Money.of("3")))));
+            results.add(callers.submit(() -> service.tryHandle(new WithdrawCommand(target, Money.of("1")))));
+        }
+        callers.shutdown();
+        for (Future<OperationAttempt> result : results) {
+            assertThat(result.get()).isInstanceOf(OperationResult.class);
+        }
+
+        assertThat(accounts.findById(first.getId()).getBalance()).isEqualTo(Money.of("100"));
+        assertThat(accounts.findById(second.getId()).getBalance()).isEqualTo(Money.of("200"));
+        assertThat(operations.findByAccountIdBetween(first.getId(), Instant.EPOCH, Instant.now().plusSeconds(60)))
+                .hasSize(100);
+    }
+
+    @Test
+    @DisplayName("saveAll : un compte à la version périmée annule le lot entier")
+    void save_all_with_stale_version_throws_conflict() {
+        Account fresh = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account stale = accounts.findById(fresh.getId());
+        Account other = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+
+        Account winner = accounts.findById(fresh.getId());
+        winner.deposit(Money.of("1"));
+        transactionRunner.inTransaction(() -> accounts.save(winner));
+
+        Map<AccountId, Account> loaded = accounts.findAllById(List.of(other.getId(), fresh.getId()));
+        assertThat(loaded).containsOnlyKeys(other.getId(), fresh.getId());
+
+        stale.deposit(Money.of("2"));
+        Account otherLoaded = loaded.get(other.getId());
+        otherLoaded.deposit(Money.of("2"));
+        assertThatThrownBy(() -> transactionRunner.inTransaction(() -> {
+            accounts.saveAll(List.of(otherLoaded, stale));
+            return null;
+        })).isInstanceOf(AccountConcurrentUpdateApplicationException.class);
+
+        assertThat(accounts.findById(other.getId()).getBalance()).isEqualTo(Money.zero());
+        assertThat(accounts.findById(fresh.getId()).getBalance()).isEqualTo(Money.of("1"));
+    }
+}
@@ -0,0 +1,228 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import fr.exalt.bankaccount.application.dto.account.operation.DepositCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationAttempt;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationResult;
+import fr.exalt.bankaccount.application.dto.account.operation.WithdrawCommand;
+import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
+import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
+import fr.exalt.bankaccount.application.port.out.AccountViewCache;
+import fr.exalt.bankaccount.application.port.out.OperationOutbox;
+import fr.exalt.bankaccount.application.port.out.TransactionRunner;
+import fr.exalt.bankaccount.application.service.account.ConflictRetry;
+import fr.exalt.bankaccount.application.service.account.DepositService;
+import fr.exalt.bankaccount.application.service.account.GuardedOperationService;
+import fr.exalt.bankaccount.application.service.account.WithdrawService;
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.rules.ceilingpolicy.FixedCeiling;
+import fr.exalt.bankaccount.domain.model.account.rules.overdraftpolicy.FixedOverdraft;
+import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.GuardedBalanceWriterAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test différentiel : une même suite de commandes, appliquée en mode versionné (lecture du compte,
+ * règle du domaine, sauvegarde) et en mode gardé (instruction SQL), doit produire les mêmes
+ * acceptations, les mêmes refus et les mêmes soldes.
+ * <p>
+ * Les règles {@link FixedCeiling} / {@link FixedOverdraft} servent d'oracle : chaque issue est aussi
+ * comparée à la règle appliquée au solde attendu. Sur H2, seul le repli en plusieurs instructions
+ * est exercé ; {@link GuardedWriteDifferentialPostgresIT} rejoue ces cas sur PostgreSQL.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Import({
+        AccountRepositoryAdapter.class,
+        OperationRepositoryAdapter.class,
+        GuardedBalanceWriterAdapter.class,
+        TestJpaConfig.class
+})
+public class GuardedWriteDifferentialIT {
+
+    @Autowired
+    AccountRepositoryAdapter accounts;
+    @Autowired
+    OperationRepositoryAdapter operations;
+    @Autowired
+    GuardedBalanceWriterAdapter balanceWriter;
+    @Autowired
+    Clock clock;
+
+    private DepositUseCase versionedDeposit;
+    private WithdrawUseCase versionedWithdraw;
+    private DepositUseCase guardedDeposit;
+    private WithdrawUseCase guardedWithdraw;
+
+    @BeforeEach
+    void setUp() {
+        versionedDeposit = new DepositService(accounts, operations, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+        versionedWithdraw = new WithdrawService(accounts, operations, TransactionRunner.noop(), ConflictRetry.defaults(),
+                AccountViewCache.noop(), OperationOutbox.noop());
+        GuardedOperationService guarded = new GuardedOperationService(balanceWriter, accounts, ConflictRetry.defaults());
+        guardedDeposit = guarded;
+        guardedWithdraw = guarded;
+    }
+
+    @Test
+    @DisplayName("Current : bornes du découvert identiques dans les deux modes")
+    void current_account_boundaries_match() {
+        Pair pair = open(() -> Account.openCurrent(Money.of("-100"), clock));
+
+        pair.deposit("50");
+        pair.withdraw("150");      // solde = découvert : accepté
+        pair.withdraw("0.01");     // un centime au-delà : refusé
+        pair.deposit("1000000");   // pas de plafond
+        pair.withdraw("1000100.01");
+
+        pair.assertSameState();
+    }
+
+    @Test
+    @DisplayName("Savings : bornes du plafond et du solde nul identiques dans les deux modes")
+    void savings_account_boundaries_match() {
+        Pair pair = open(() -> Account.openSavings(Money.of("500"), clock));
+
+        pair.deposit("500");       // solde = plafond : accepté
+        pair.deposit("0.01");      // un centime au-delà : refusé
+        pair.withdraw("500");      // solde nul : accepté
+        pair.withdraw("0.01");     // solde négatif : refusé
+
+        pair.assertSameState();
+    }
+
+    @Test
+    @DisplayName("Suite pseudo-aléatoire : mêmes issues pas à pas sur les deux types de compte")
+    void random_sequences_match() {
+        Random random = new Random(42);
+        Pair current = open(() -> Account.openCurrent(Money.of("-300"), clock));
+        Pair savings = open(() -> Account.openSavings(Money.of("1000"), clock));
+
+        for (int i = 0; i < 200; i++) {
+            Pair pair = random.nextBoolean() ? current : savings;
+            String amount = Money.ofCents(1 + random.nextInt(40_000)).value().toPlainString();
+            if (random.nextBoolean()) {
+                pair.deposit(amount);
+            } else {
+                pair.withdraw(amount);
+            }
+        }
+
+        current.assertSameState();
+        savings.assertSameState();
+    }
+
+    @Test
+    @DisplayName("Montant invalide et compte absent : mêmes erreurs dans les deux modes")
+    void errors_match() {
+        Pair pair = open(() -> Account.openSavings(Money.of("500"), clock));
+        AccountId missing = AccountId.newId();
+
+        assertThatThrownBy(() -> guardedDeposit.tryHandle(new DepositCommand(pair.guarded, Money.zero())))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Deposit amount must be strictly positive");
+        assertThatThrownBy(() -> versionedDeposit.tryHandle(new DepositCommand(pair.versioned, Money.zero())))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Deposit amount must be strictly positive");
+
+        assertThatThrownBy(() -> guardedWithdraw.tryHandle(new WithdrawCommand(missing, Money.of("1"))))
+                .isInstanceOf(AccountNotFoundApplicationException.class);
+        assertThatThrownBy(() -> versionedWithdraw.tryHandle(new WithdrawCommand(missing, Money.of("1"))))
+                .isInstanceOf(AccountNotFoundApplicationException.class);
+    }
+
+    private Pair open(Supplier<Account> factory) {
+        Account versioned = factory.get();
+        Account guarded = factory.get();
+        accounts.save(versioned);
+        accounts.save(guarded);
+        FixedCeiling ceiling = versioned.getCeiling() == null ? null : new FixedCeiling(versioned.getCeiling());
+        FixedOverdraft overdraft = versioned.getOverdraft() == null
+                ? FixedOverdraft.NONE
+                : new FixedOverdraft(versioned.getOverdraft());
+        return new Pair(versioned.getId(), guarded.getId(), ceiling, overdraft);
+    }
+
+    /** Deux comptes identiques, un par mode d'écriture, et le solde attendu selon les règles du domaine. */
+    private final class Pair {
+        final AccountId versioned;
+        final AccountId guarded;
+        // null : compte courant, sans plafond
+        final FixedCeiling ceiling;
+        final FixedOverdraft overdraft;
+        Money expectedBalance = Money.zero();
+        int accepted;
+
+        Pair(AccountId versioned, AccountId guarded, FixedCeiling ceiling, FixedOverdraft overdraft) {
+            this.versioned = versioned;
+            this.guarded = guarded;
+            this.ceiling = ceiling;
+            this.overdraft = overdraft;
+        }
+
+        void deposit(String amount) {
+            Money money = Money.of(amount);
+            boolean allowed = ceiling == null || ceiling.allowsDeposit(expectedBalance, money);
+            if (allowed) expectedBalance = expectedBalance.add(money);
+            compare(allowed,
+                    versionedDeposit.tryHandle(new DepositCommand(versioned, money)),
+                    guardedDeposit.tryHandle(new DepositCommand(guarded, money)));
+        }
+
+        void withdraw(String amount) {
+            Money money = Money.of(amount);
+            boolean allowed = overdraft.allowsWithdraw(expectedBalance, money);
+            if (allowed) expectedBalance = expectedBalance.subtract(money);
+            compare(allowed,
+                    versionedWithdraw.tryHandle(new WithdrawCommand(versioned, money)),
+                    guardedWithdraw.tryHandle(new WithdrawCommand(guarded, money)));
+        }
+
+        private void compare(boolean allowed, OperationAttempt expected, OperationAttempt actual) {
+            if (!allowed) {
+                assertThat(expected).isInstanceOf(OperationRejection.class);
+                assertThat(actual).isInstanceOf(OperationRejection.class);
+                assertThat(((OperationRejection) actual).rejected())
+                        .isEqualTo(((OperationRejection) expected).rejected());
+            } else {
+                assertThat(expected).isInstanceOf(OperationResult.class);
+                assertThat(actual).isInstanceOf(OperationResult.class);
+                assertThat(((OperationResult) expected).newBalance()).isEqualTo(expectedBalance);
+                assertThat(((OperationResult) actual).newBalance()).isEqualTo(expectedBalance);
+                accepted++;
+            }
+        }
+
+        void assertSameState() {
+            assertThat(accounts.findById(versioned).getBalance()).isEqualTo(expectedBalance);
+            assertThat(accounts.findById(guarded).getBalance()).isEqualTo(expectedBalance);
+            assertThat(operations.findByAccountIdBetween(guarded, Instant.EPOCH, Instant.now().plusSeconds(60)))
+                    .hasSize(accepted)
+                    .hasSameSizeAs(operations.findByAccountIdBetween(versioned, Instant.EPOCH, Instant.now().plusSeconds(60)));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mêmes cas que {@link GuardedWriteDifferentialIT}, sur un vrai PostgreSQL : le mode gardé y passe
+ * par l'instruction unique (CTE modifiantes), que H2 ne sait pas exécuter.
+ * Ignoré quand Docker n'est pas disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class GuardedWriteDifferentialPostgresIT extends GuardedWriteDifferentialIT {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @Test
+    @DisplayName("PostgreSQL : le mode gardé utilise l'instruction unique")
+    void guarded_writes_use_the_single_statement() {
+        assertThat(ReflectionTestUtils.getField(balanceWriter, "singleStatement")).isEqualTo(true);
+    }
+}
@@ -0,0 +1,105 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationRepositoryAdapter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verrouille le nombre d'instructions SQL des écritures : un compte ouvert ou une opération
+ * enregistrée doit donner un seul INSERT, sans SELECT préalable (merge).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Import({
+        AccountRepositoryAdapter.class,
+        OperationRepositoryAdapter.class,
+        TestJpaConfig.class
+})
+public class InsertStatementCountIT {
+
+    @Autowired
+    AccountRepositoryAdapter accounts;
+    @Autowired
+    OperationRepositoryAdapter operations;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    Clock clock;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Ouverture d'un compte : un seul INSERT")
+    void opening_an_account_is_a_single_insert() {
+        Account account = Account.openSavings(Money.of("1000"), clock);
+
+        accounts.save(account);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Enregistrement d'une opération : un seul INSERT")
+    void recording_an_operation_is_a_single_insert() {
+        Account account = Account.openCurrent(Money.of("-100"), clock);
+        accounts.save(account);
+        entityManager.flush();
+        statistics.clear();
+
+        operations.save(Operation.of(account.getId(), Money.of("10"), Operation.Type.DEPOSIT));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Dépôt sur un compte chargé : un SELECT, un UPDATE conditionnel, un INSERT")
+    void deposit_on_loaded_account_is_select_update_insert() {
+        Account opened = Account.openCurrent(Money.of("-100"), clock);
+        accounts.save(opened);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Account account = accounts.findById(opened.getId());
+        Operation operation = account.deposit(Money.of("10"));
+        accounts.save(account);
+        operations.save(operation);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,68 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.LedgerStoreAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Import({
+        LedgerStoreAdapter.class,
+        AccountRepositoryAdapter.class,
+        TestJpaConfig.class
+})
+public class LedgerStoreAdapterIT {
+
+    @Autowired
+    LedgerStoreAdapter store;
+    @Autowired
+    AccountRepositoryAdapter accounts;
+    @Autowired
+    TestEntityManager em;
+    @Autowired
+    Clock clock;
+
+    @Test
+    @DisplayName("Point de reprise : -1 sans ligne, puis dernière séquence enregistrée")
+    void checkpoint_is_created_then_advanced() {
+        assertThat(store.checkpoint()).isEqualTo(-1);
+
+        store.saveCheckpoint(41);
+        store.saveCheckpoint(42);
+
+        assertThat(store.checkpoint()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Soldes du moteur écrits en batch, version incrémentée")
+    void balances_are_written_and_version_bumped() {
+        Account first = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        Account second = accounts.save(Account.openSavings(Money.of("1000"), clock));
+        long version = first.getVersion();
+
+        store.saveBalances(Map.of(first.getId(), Money.of("-12.50"), second.getId(), Money.of("300")));
+        // UPDATE JDBC hors du contexte de persistance : on relit la base
+        em.clear();
+
+        Account reloaded = accounts.findById(first.getId());
+        assertThat(reloaded.getBalance()).isEqualTo(Money.of("-12.50"));
+        assertThat(reloaded.getVersion()).isEqualTo(version + 1);
+        assertThat(accounts.findById(second.getId()).getBalance()).isEqualTo(Money.of("300"));
+    }
+}
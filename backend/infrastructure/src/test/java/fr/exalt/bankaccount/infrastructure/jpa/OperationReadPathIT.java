@@ -0,0 +1,95 @@
+package fr.exalt.bankaccount.infrastructure.jpa;
+
+import fr.exalt.bankaccount.domain.model.account.Account;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.AccountRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationRepositoryAdapter;
+import fr.exalt.bankaccount.infrastructure.jpa.entity.OperationEntity;
+import fr.exalt.bankaccount.infrastructure.jpa.mapper.OperationMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lecture de l'historique : entités gérées puis conversion (ancien chemin) contre projection
+ * par expression constructeur. Le test vérifie que la projection ne laisse rien dans le contexte
+ * de persistance.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Import({
+        AccountRepositoryAdapter.class,
+        OperationRepositoryAdapter.class,
+        TestJpaConfig.class
+})
+public class OperationReadPathIT {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    AccountRepositoryAdapter accounts;
+    @Autowired
+    OperationRepositoryAdapter operations;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    Clock clock;
+
+    @Test
+    @DisplayName("Historique : projection sans entité gérée, contrairement au chargement d'entités")
+    void projection_reads_skip_the_persistence_context() {
+        Account account = accounts.save(Account.openCurrent(Money.of("-100"), clock));
+        List<Operation> seeded = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            seeded.add(Operation.of(account.getId(), Money.of("1.25"), Operation.Type.DEPOSIT));
+        }
+        operations.saveAll(seeded);
+        entityManager.flush();
+        entityManager.clear();
+
+        Instant to = Instant.now(clock).plusSeconds(1);
+        Instant from = to.minus(30, ChronoUnit.DAYS);
+        OperationMapper mapper = new OperationMapper();
+        Session session = entityManager.unwrap(Session.class);
+
+        IntSupplier entities = () -> entityManager.createQuery("""
+                        select o from OperationEntity o
+                        where o.accountId = :accountId and o.at between :from and :to
+                        order by o.at desc""", OperationEntity.class)
+                .setParameter("accountId", account.getId().value())
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList().stream().map(mapper::toDomain).toList().size();
+        IntSupplier projection = () -> operations.findByAccountIdBetween(account.getId(), from, to).size();
+
+        assertThat(entities.getAsInt()).isEqualTo(ROWS);
+        int managedAfterEntities = session.getStatistics().getEntityCount();
+        entityManager.clear();
+        assertThat(projection.getAsInt()).isEqualTo(ROWS);
+        int managedAfterProjection = session.getStatistics().getEntityCount();
+
+        assertThat(managedAfterEntities).isEqualTo(ROWS);
+        assertThat(managedAfterProjection).isZero();
+        assertThat(operations.findByAccountIdBetween(account.getId(), from, to))
+                .hasSize(ROWS)
+                .allMatch(operation -> operation.amount().equals(Money.of("1.25")) && operation.accountId().equals(account.getId()));
+    }
+}
@@ -1,13 +1,17 @@
 package fr.exalt.bankaccount.infrastructure.jpa;
 
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
 import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
+import fr.exalt.bankaccount.domain.model.money.Money;
 import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
 import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationRepositoryAdapter;
 import fr.exalt.bankaccount.infrastructure.jpa.entity.OperationEntity;
 import fr.exalt.bankaccount.infrastructure.jpa.mapper.OperationMapper;
 import fr.exalt.bankaccount.infrastructure.jpa.spring.OperationJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,11 +21,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,6 +46,8 @@ public class OperationRepositoryAdapterIT {
     OperationJpaRepository jpa;
     @Autowired
     Clock clock;
+    @Autowired
+    EntityManager entityManager;
 
     private final AccountId accountA = AccountId.newId();
     private final AccountId accountB = AccountId.newId();
@@ -52,23 +58,23 @@ public class OperationRepositoryAdapterIT {
 
         // 31 jours → hors fenêtre
         jpa.save(OperationEntity.create(
-                OperationId.newId().value(), accountA.value(), new BigDecimal(10), "DEPOSIT",
+                OperationId.newId().value(), accountA.value(), Money.of("10"), "DEPOSIT",
                 now.minus(31, ChronoUnit.DAYS), "old"));
 
         // 5j, 1j, 10j → Tri attendu DESC
         jpa.save(OperationEntity.create(
-                OperationId.newId().value(), accountA.value(), new BigDecimal(10), "DEPOSIT",
+                OperationId.newId().value(), accountA.value(), Money.of("10"), "DEPOSIT",
                 now.minus(5, ChronoUnit.DAYS), "five"));
         jpa.save(OperationEntity.create(
-                OperationId.newId().value(), accountA.value(), new BigDecimal(10), "WITHDRAWAL",
+                OperationId.newId().value(), accountA.value(), Money.of("10"), "WITHDRAWAL",
                 now.minus(1, ChronoUnit.DAYS), "one"));
         jpa.save(OperationEntity.create(
-                OperationId.newId().value(), accountA.value(), new BigDecimal(10), "DEPOSIT",
+                OperationId.newId().value(), accountA.value(), Money.of("10"), "DEPOSIT",
                 now.minus(10, ChronoUnit.DAYS), "ten"));
 
         // Bruit autre compte dans la fenêtre
         jpa.save(OperationEntity.create(
-                OperationId.newId().value(), accountB.value(), new BigDecimal(10), "DEPOSIT",
+                OperationId.newId().value(), accountB.value(), Money.of("10"), "DEPOSIT",
                 now.minus(12, ChronoUnit.DAYS), "other"));
     }
 
@@ -85,5 +91,39 @@ public class OperationRepositoryAdapterIT {
         assertThat(ops).allMatch(o -> o.accountId().equals(accountA));
     }
 
+    @Test
+    @DisplayName("streamByAccountIdBetween: parcours DESC, entités détachées au fil de la lecture")
+    void should_stream_and_detach() {
+        Instant to = Instant.now(clock);
+        Instant from = to.minus(30, ChronoUnit.DAYS);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> labels;
+        try (Stream<Operation> ops = adapter.streamByAccountIdBetween(accountA, from, to)) {
+            labels = ops.map(Operation::label).toList();
+        }
+
+        assertThat(labels).containsExactly("one", "five", "ten");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findPageByAccountIdBetween: LIMIT en base, reprise strictement après (date, id)")
+    void should_page_after_the_cursor() {
+        Instant to = Instant.now(clock);
+        Instant from = to.minus(30, ChronoUnit.DAYS);
+
+        // Relecture en base : le curseur porte la date telle que stockée (microsecondes)
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Operation> first = adapter.findPageByAccountIdBetween(accountA, from, to, null, 2);
+        List<Operation> rest = adapter.findPageByAccountIdBetween(accountA, from, to, OperationPage.Cursor.of(first.get(1)), 2);
+
+        assertThat(first).extracting(Operation::label).containsExactly("one", "five");
+        assertThat(rest).extracting(Operation::label).containsExactly("ten");
+    }
+
 
 }
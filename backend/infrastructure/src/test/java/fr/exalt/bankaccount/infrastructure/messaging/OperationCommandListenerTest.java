@@ -0,0 +1,108 @@
+package fr.exalt.bankaccount.infrastructure.messaging;
+
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommand;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationCommandsResult;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationCommandListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<List<OperationCommand>> batches = new ArrayList<>();
+    private final OperationCommandListener listener = new OperationCommandListener(commands -> {
+        batches.add(commands);
+        return new OperationCommandsResult(1, 1, 0);
+    }, registry);
+
+    @Test
+    void hands_the_whole_poll_to_the_use_case_in_topic_order() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID account = UUID.randomUUID();
+
+        listener.onCommands(List.of(
+                record(account, "{\"commandId\":\"" + first + "\",\"accountId\":\"" + account
+                        + "\",\"type\":\"DEPOSIT\",\"amount\":100.00}"),
+                record(account, "{\"commandId\":\"" + second + "\",\"accountId\":\"" + account
+                        + "\",\"type\":\"WITHDRAWAL\",\"amount\":\"30.5\"}")));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(
+                new OperationCommand(first, new AccountId(account), Operation.Type.DEPOSIT, Money.of("100.00")),
+                new OperationCommand(second, new AccountId(account), Operation.Type.WITHDRAWAL, Money.of("30.50")));
+        assertThat(consumed("applied")).isEqualTo(1);
+        assertThat(consumed("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void skips_and_counts_unreadable_messages() {
+        UUID account = UUID.randomUUID();
+
+        listener.onCommands(List.of(
+                record(account, "not json"),
+                record(account, null),
+                record(account, "{\"commandId\":\"" + UUID.randomUUID() + "\",\"accountId\":\"" + account
+                        + "\",\"type\":\"FEE\",\"amount\":1}"),
+                record(account, "{\"accountId\":\"" + account + "\",\"type\":\"DEPOSIT\",\"amount\":1}"),
+                record(account, "{\"commandId\":\"" + UUID.randomUUID() + "\",\"accountId\":\"" + account
+                        + "\",\"type\":\"DEPOSIT\",\"amount\":\"1,5\"}")));
+
+        assertThat(batches).containsExactly(List.of());
+        assertThat(consumed("malformed")).isEqualTo(5);
+    }
+
+    @Test
+    void failed_batch_is_retried_one_command_at_a_time_to_point_at_the_failing_record() {
+        UUID account = UUID.randomUUID();
+        UUID poison = UUID.randomUUID();
+        List<List<OperationCommand>> handled = new ArrayList<>();
+        OperationCommandListener failing = new OperationCommandListener(commands -> {
+            handled.add(commands);
+            if (commands.stream().anyMatch(command -> command.commandId().equals(poison))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return new OperationCommandsResult(commands.size(), 0, 0);
+        }, registry);
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(account, deposit(UUID.randomUUID(), account)),
+                record(account, "not json"),
+                record(account, deposit(UUID.randomUUID(), account)),
+                record(account, deposit(poison, account)),
+                record(account, deposit(UUID.randomUUID(), account)));
+
+        assertThatThrownBy(() -> failing.onCommands(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(records.get(3)))
+                .hasRootCauseMessage("constraint violation");
+
+        // Lot entier, puis une commande par transaction jusqu'à la fautive ; la suivante sera relivrée
+        assertThat(handled).extracting(List::size).containsExactly(4, 1, 1, 1);
+        assertThat(consumed("applied")).isEqualTo(2);
+        assertThat(consumed("malformed")).isEqualTo(1);
+    }
+
+    private static String deposit(UUID commandId, UUID account) {
+        return "{\"commandId\":\"" + commandId + "\",\"accountId\":\"" + account
+                + "\",\"type\":\"DEPOSIT\",\"amount\":1}";
+    }
+
+    private static ConsumerRecord<String, String> record(UUID account, String value) {
+        return new ConsumerRecord<>("commands", 0, 0L, account.toString(), value);
+    }
+
+    private double consumed(String outcome) {
+        return registry.get("bank.commands.consumed").tag("outcome", outcome).counter().count();
+    }
+}
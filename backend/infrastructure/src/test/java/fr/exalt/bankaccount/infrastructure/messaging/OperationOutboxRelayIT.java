@@ -0,0 +1,230 @@
+package fr.exalt.bankaccount.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.exalt.bankaccount.domain.model.account.AccountId;
+import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationId;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.TestJpaConfig;
+import fr.exalt.bankaccount.infrastructure.jpa.adapter.OperationOutboxAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Relais de la boîte d'envoi contre un broker embarqué : lots publiés par clé de compte, lignes acquittées
+ * supprimées, événements gardés (et retard mesuré) quand la publication échoue, ligne validée en retard
+ * jamais supprimée avant d'être publiée.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 3, topics = OperationOutboxRelayIT.TOPIC)
+@Import({ OperationOutboxAdapter.class, TestJpaConfig.class })
+public class OperationOutboxRelayIT {
+
+    static final String TOPIC = "bank.operations";
+
+    // Passages déclenchés par le test uniquement
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    OperationOutboxAdapter outbox;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    EmbeddedKafkaBroker broker;
+    @Autowired
+    Clock clock;
+
+    @Test
+    @DisplayName("Relais : lots publiés avec l'identifiant du compte en clé, dans l'ordre, puis supprimés")
+    void drains_the_outbox_in_order_keyed_by_account() throws Exception {
+        AccountId accountA = AccountId.newId();
+        AccountId accountB = AccountId.newId();
+        List<Operation> appended = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            appended.add(operation(i % 2 == 0 ? accountA : accountB, clock.instant()));
+        }
+        appended.forEach(outbox::append);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (OperationOutboxRelay relay = new OperationOutboxRelay(dataSource, template(), TOPIC, 2, NEVER,
+                Duration.ofSeconds(10), clock, registry)) {
+            assertThat(relay.drain()).isEqualTo(5);
+        }
+
+        assertThat(pendingRows()).isZero();
+        assertThat(registry.get("bank.outbox.relay.published").counter().count()).isEqualTo(5);
+        assertThat(registry.get("bank.outbox.relay.lag").timeGauge().value(TimeUnit.MILLISECONDS)).isZero();
+
+        Map<String, List<String>> idsByKey = new HashMap<>();
+        Map<String, Integer> partitionByKey = new HashMap<>();
+        try (Consumer<String, String> consumer = consumer()) {
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 5);
+            assertThat(records.count()).isEqualTo(5);
+            for (ConsumerRecord<String, String> record : records) {
+                JsonNode event = JSON.readTree(record.value());
+                assertThat(event.get("accountId").asText()).isEqualTo(record.key());
+                idsByKey.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(event.get("operationId").asText());
+                Integer previous = partitionByKey.putIfAbsent(record.key(), record.partition());
+                assertThat(previous == null || previous == record.partition()).isTrue();
+            }
+        }
+        assertThat(idsByKey.get(accountA.value().toString())).containsExactly(idsOf(appended, accountA));
+        assertThat(idsByKey.get(accountB.value().toString())).containsExactly(idsOf(appended, accountB));
+    }
+
+    @Test
+    @DisplayName("Relais : échec de publication, événements gardés en table et retard exposé")
+    void keeps_events_and_reports_lag_when_publication_fails() throws Exception {
+        outbox.append(operation(AccountId.newId(), clock.instant().minus(5, ChronoUnit.MINUTES)));
+        outbox.append(operation(AccountId.newId(), clock.instant()));
+
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<String, String> failing = mock(KafkaTemplate.class);
+        when(failing.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        when(failing.getProducerFactory()).thenReturn(mock(ProducerFactory.class));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (OperationOutboxRelay relay = new OperationOutboxRelay(dataSource, failing, TOPIC, 10, NEVER,
+                Duration.ofSeconds(1), clock, registry)) {
+            assertThat(relay.drain()).isZero();
+        }
+
+        assertThat(pendingRows()).isEqualTo(2);
+        assertThat(registry.get("bank.outbox.relay.failures").counter().count()).isEqualTo(1);
+        assertThat(registry.get("bank.outbox.relay.lag").timeGauge().value(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Relais : ligne de seq inférieur validée pendant le passage, gardée puis publiée au suivant")
+    void keeps_a_lower_seq_row_committed_between_select_and_delete() throws Exception {
+        Operation late = operation(AccountId.newId(), clock.instant());
+        Operation early = operation(AccountId.newId(), clock.instant());
+        List<String> sent = new ArrayList<>();
+        try (Connection pending = dataSource.getConnection()) {
+            // seq attribué ici, validé seulement pendant la publication du lot suivant
+            pending.setAutoCommit(false);
+            insert(pending, late);
+            outbox.append(early);
+
+            @SuppressWarnings("unchecked")
+            KafkaTemplate<String, String> kafka = mock(KafkaTemplate.class);
+            when(kafka.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+                if (!pending.getAutoCommit()) {
+                    pending.commit();
+                    pending.setAutoCommit(true);
+                }
+                sent.add(JSON.readTree(invocation.getArgument(2, String.class)).get("operationId").asText());
+                return CompletableFuture.completedFuture(null);
+            });
+            when(kafka.getProducerFactory()).thenReturn(mock(ProducerFactory.class));
+
+            try (OperationOutboxRelay relay = new OperationOutboxRelay(dataSource, kafka, TOPIC, 10, NEVER,
+                    Duration.ofSeconds(1), clock, new SimpleMeterRegistry())) {
+                assertThat(relay.drain()).isEqualTo(1);
+                assertThat(pendingRows()).isEqualTo(1);
+                assertThat(relay.drain()).isEqualTo(1);
+            }
+        } finally {
+            new JdbcTemplate(dataSource).update("delete from operation_outbox");
+        }
+
+        assertThat(pendingRows()).isZero();
+        assertThat(sent).containsExactly(early.id().value().toString(), late.id().value().toString());
+    }
+
+    private static void insert(Connection connection, Operation operation) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into operation_outbox (operation_id, account_id, type, amount, at, label) values (?, ?, ?, ?, ?, ?)")) {
+            insert.setObject(1, operation.id().value());
+            insert.setObject(2, operation.accountId().value());
+            insert.setString(3, operation.type().name());
+            insert.setBigDecimal(4, operation.amount().value());
+            insert.setObject(5, OffsetDateTime.ofInstant(operation.at(), ZoneOffset.UTC));
+            insert.setString(6, operation.label());
+            insert.executeUpdate();
+        }
+    }
+
+    private KafkaTemplate<String, String> template() {
+        Map<String, Object> properties = KafkaTestUtils.producerProps(broker);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new StringSerializer()));
+    }
+
+    private Consumer<String, String> consumer() {
+        Map<String, Object> properties = KafkaTestUtils.consumerProps("outbox-relay-it", "false", broker);
+        Consumer<String, String> consumer = new KafkaConsumer<>(properties, new StringDeserializer(), new StringDeserializer());
+        broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+        return consumer;
+    }
+
+    private int pendingRows() {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from operation_outbox", Integer.class);
+    }
+
+    private static Operation operation(AccountId accountId, Instant at) {
+        return new Operation(OperationId.newId(), accountId, Money.of("10"), Operation.Type.DEPOSIT, at, null);
+    }
+
+    private static String[] idsOf(List<Operation> operations, AccountId accountId) {
+        return operations.stream()
+                .filter(operation -> operation.accountId().equals(accountId))
+                .map(operation -> operation.id().value().toString())
+                .toArray(String[]::new);
+    }
+}
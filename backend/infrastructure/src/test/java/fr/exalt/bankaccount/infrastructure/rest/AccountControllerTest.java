@@ -1,12 +1,24 @@
 package fr.exalt.bankaccount.infrastructure.rest;
 
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenOutcome;
+import fr.exalt.bankaccount.application.dto.account.openaccount.BulkOpenRow;
+import fr.exalt.bankaccount.application.dto.account.operation.BatchOperationsResult;
 import fr.exalt.bankaccount.application.dto.account.operation.DepositResult;
 import fr.exalt.bankaccount.application.dto.account.openaccount.OpenCurrentAccountResult;
 import fr.exalt.bankaccount.application.dto.account.openaccount.OpenSavingsAccountResult;
+import fr.exalt.bankaccount.application.dto.account.operation.OperationRejection;
 import fr.exalt.bankaccount.application.dto.account.operation.WithdrawResult;
+import fr.exalt.bankaccount.application.dto.account.view.AccountListQuery;
+import fr.exalt.bankaccount.application.dto.account.view.AccountPage;
+import fr.exalt.bankaccount.application.dto.account.view.AccountView;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 
+import fr.exalt.bankaccount.application.port.in.BatchOperationsUseCase;
+import fr.exalt.bankaccount.application.port.in.BulkOpenAccountsUseCase;
 import fr.exalt.bankaccount.application.port.in.DepositUseCase;
+import fr.exalt.bankaccount.application.port.in.GetAccountUseCase;
+import fr.exalt.bankaccount.application.port.in.GetAccountsUseCase;
+import fr.exalt.bankaccount.application.port.in.ListAccountsUseCase;
 import fr.exalt.bankaccount.application.port.in.OpenCurrentAccountUseCase;
 import fr.exalt.bankaccount.application.port.in.OpenSavingsAccountUseCase;
 import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
@@ -14,14 +26,15 @@ import fr.exalt.bankaccount.application.port.in.WithdrawUseCase;
 import fr.exalt.bankaccount.domain.model.account.Account;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
 import fr.exalt.bankaccount.domain.model.account.operation.Operation;
+import fr.exalt.bankaccount.domain.model.account.operation.OperationRejected;
 import fr.exalt.bankaccount.domain.model.exception.BusinessRuleViolationException;
-import fr.exalt.bankaccount.domain.model.exception.CeilingExceededException;
 import fr.exalt.bankaccount.domain.model.exception.DomainException;
 import fr.exalt.bankaccount.domain.model.exception.InsufficientFundsException;
 import fr.exalt.bankaccount.domain.model.money.Money;
 import fr.exalt.bankaccount.infrastructure.rest.controller.AccountController;
 import fr.exalt.bankaccount.infrastructure.rest.exception.RestExceptionHandler;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.AccountRestMapper;
+import fr.exalt.bankaccount.infrastructure.rest.mapper.BulkOpenRestMapper;
 import fr.exalt.bankaccount.infrastructure.rest.mapper.OperationRestMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,16 +46,24 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AccountController.class)
 @Import({
         AccountRestMapper.class,
+        BulkOpenRestMapper.class,
         OperationRestMapper.class,
         RestExceptionHandler.class
 })
@@ -59,6 +80,101 @@ public class AccountControllerTest {
     DepositUseCase depositUseCase;
     @MockBean
     WithdrawUseCase withdrawUseCase;
+    @MockBean
+    BatchOperationsUseCase batchOperationsUseCase;
+    @MockBean
+    BulkOpenAccountsUseCase bulkOpenAccountsUseCase;
+    @MockBean
+    GetAccountUseCase getAccountUseCase;
+    @MockBean
+    GetAccountsUseCase getAccountsUseCase;
+    @MockBean
+    ListAccountsUseCase listAccountsUseCase;
+
+    // ----- Read -----
+    @Test
+    @DisplayName("GET /accounts/{id} : type, solde et découvert")
+    void should_read_current_account() throws Exception {
+        AccountId id = AccountId.newId();
+        when(getAccountUseCase.handle(id)).thenReturn(
+                new AccountView(id, Account.Type.CURRENT, Money.of("250"), Money.of("-100"), null, 3));
+
+        mockMvc.perform(get("/accounts/{id}", id.value()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id.value().toString()))
+                .andExpect(jsonPath("$.type").value("CURRENT"))
+                .andExpect(jsonPath("$.balance").value(250))
+                .andExpect(jsonPath("$.overdraft").value(-100))
+                .andExpect(jsonPath("$.ceiling").doesNotExist());
+    }
+
+    @Test
+    void read_unknown_account_should_return_404() throws Exception {
+        when(getAccountUseCase.handle(any())).thenThrow(new AccountNotFoundApplicationException("Account not found"));
+
+        mockMvc.perform(get("/accounts/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /accounts?ids= : comptes trouvés dans l'ordre, inconnus listés à part")
+    void should_read_many_accounts() throws Exception {
+        AccountId first = AccountId.newId();
+        AccountId unknown = AccountId.newId();
+        AccountId second = AccountId.newId();
+        when(getAccountsUseCase.handle(List.of(first, unknown, second))).thenReturn(List.of(
+                new AccountView(first, Account.Type.CURRENT, Money.of("10"), Money.of("-100"), null, 1),
+                new AccountView(second, Account.Type.SAVINGS, Money.of("20"), null, Money.of("500"), 4)));
+
+        mockMvc.perform(get("/accounts").param("ids", first.value() + "," + unknown.value() + "," + second.value()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts.length()").value(2))
+                .andExpect(jsonPath("$.accounts[0].id").value(first.value().toString()))
+                .andExpect(jsonPath("$.accounts[1].ceiling").value(500))
+                .andExpect(jsonPath("$.missing[0]").value(unknown.value().toString()));
+    }
+
+    @Test
+    void should_list_accounts_page_by_page_with_an_opaque_cursor() throws Exception {
+        AccountId last = AccountId.newId();
+        AccountView view = new AccountView(last, Account.Type.SAVINGS, Money.of("20"), null, Money.of("500"), 4);
+        when(listAccountsUseCase.handle(new AccountListQuery(Account.Type.SAVINGS, Money.of("10"), null, null, 1)))
+                .thenReturn(new AccountPage(List.of(view), last));
+        when(listAccountsUseCase.handle(new AccountListQuery(Account.Type.SAVINGS, Money.of("10"), null, last, 1)))
+                .thenReturn(new AccountPage(List.of(), null));
+
+        String body = mockMvc.perform(get("/accounts").param("type", "SAVINGS").param("minBalance", "10").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].id").value(last.value().toString()))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = body.replaceAll(".*\"next\":\"([^\"]+)\".*", "$1");
+
+        mockMvc.perform(get("/accounts").param("type", "SAVINGS").param("minBalance", "10").param("limit", "1")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts").isEmpty())
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/accounts").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/accounts").param("type", "GOLD"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_lookup_many_accounts_from_body() throws Exception {
+        AccountId id = AccountId.newId();
+        when(getAccountsUseCase.handle(List.of(id))).thenReturn(List.of(
+                new AccountView(id, Account.Type.CURRENT, Money.of("10"), Money.of("-100"), null, 1)));
+
+        mockMvc.perform(post("/accounts/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"%s\"]}".formatted(id.value())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].balance").value(10))
+                .andExpect(jsonPath("$.missing").isEmpty());
+    }
 
     // ----- Create CURRENT -----
     @Test
@@ -121,6 +237,44 @@ public class AccountControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // ----- Bulk open -----
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("POST /accounts/bulk - NDJSON in, one NDJSON line per row out")
+    void bulk_open_streams_ids_and_errors() throws Exception {
+        AccountId opened = AccountId.newId();
+        List<BulkOpenRow> received = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<BulkOpenRow> rows = invocation.getArgument(0);
+            Consumer<BulkOpenOutcome> results = invocation.getArgument(1);
+            rows.forEachRemaining(received::add);
+            results.accept(new BulkOpenOutcome(1, opened, null));
+            results.accept(new BulkOpenOutcome(2, null, "Ceiling must be strictly positive"));
+            results.accept(new BulkOpenOutcome(3, null, "Account type must be CURRENT or SAVINGS"));
+            return null;
+        }).when(bulkOpenAccountsUseCase).handle(any(), any());
+
+        mockMvc.perform(post("/accounts/bulk")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"type": "CURRENT", "overdraft": -500}
+                                {"type": "SAVINGS", "ceiling": 0}
+                                {"type": "OTHER"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("""
+                        {"index":1,"id":"%s","error":null}
+                        {"index":2,"id":null,"error":"Ceiling must be strictly positive"}
+                        {"index":3,"id":null,"error":"Account type must be CURRENT or SAVINGS"}
+                        """.formatted(opened.value())));
+
+        assertThat(received).containsExactly(
+                new BulkOpenRow.Current(1, Money.of("-500")),
+                new BulkOpenRow.Savings(2, Money.of("0")),
+                new BulkOpenRow.Malformed(3, "Account type must be CURRENT or SAVINGS"));
+    }
+
     // ---------- WITHDRAW (CURRENT) ----------
     @Test
     @DisplayName("POST /accounts/{id}/withdraw - should withdraw and return new balance + operation (200)")
@@ -129,7 +283,7 @@ public class AccountControllerTest {
         Operation operation = Operation.of(accountId, Money.of("50"), Operation.Type.WITHDRAWAL);
         Money balance = Money.of("250");
 
-        when(withdrawUseCase.handle(any())).thenReturn(new WithdrawResult(accountId, balance, operation));
+        when(withdrawUseCase.tryHandle(any())).thenReturn(new WithdrawResult(accountId, balance, operation));
 
         mockMvc.perform(post("/accounts/{id}/withdraw", accountId.value().toString())
                     .contentType(MediaType.APPLICATION_JSON)
@@ -151,7 +305,7 @@ public class AccountControllerTest {
     void withdraw_notFound() throws Exception {
         AccountId accountId = AccountId.newId();
 
-        when(withdrawUseCase.handle(any()))
+        when(withdrawUseCase.tryHandle(any()))
                 .thenThrow(new AccountNotFoundApplicationException(accountId.value().toString()));
 
         mockMvc.perform(post("/accounts/{id}/withdraw", accountId.value().toString())
@@ -163,10 +317,28 @@ public class AccountControllerTest {
     }
 
     @Test
-    @DisplayName("POST /accounts/{id}/withdraw - should return 400 when business rule fails")
+    @DisplayName("POST /accounts/{id}/withdraw - should return 422 when funds are insufficient")
     void withdraw_businessRuleViolation() throws Exception {
         AccountId accountId = AccountId.newId();
-        when(withdrawUseCase.handle(any()))
+        when(withdrawUseCase.tryHandle(any()))
+                .thenReturn(new OperationRejection(accountId, OperationRejected.insufficientFunds(
+                        Money.of("100"), Money.of("999999"), Money.of("-100"))));
+
+        mockMvc.perform(post("/accounts/{id}/withdraw", accountId.value().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 999999}
+                                """))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().string(
+                        "Insufficient funds: amount Money[value=999999.00], balance Money[value=100.00], overdraft Money[value=-100.00]"));
+    }
+
+    @Test
+    @DisplayName("POST /accounts/{id}/withdraw - should still map a thrown InsufficientFundsException to 422")
+    void withdraw_insufficientFundsException_returns422() throws Exception {
+        AccountId accountId = AccountId.newId();
+        when(withdrawUseCase.tryHandle(any()))
                 .thenThrow(InsufficientFundsException.class);
 
         mockMvc.perform(post("/accounts/{id}/withdraw", accountId.value().toString())
@@ -183,7 +355,7 @@ public class AccountControllerTest {
         UUID accountId = UUID.randomUUID();
 
         // On simule que la couche service rejette ce cas métier
-        when(withdrawUseCase.handle(any()))
+        when(withdrawUseCase.tryHandle(any()))
                 .thenThrow(new BusinessRuleViolationException("Withdraw amount must be strictly positive"));
 
         mockMvc.perform(post("/accounts/{id}/withdraw", accountId)
@@ -201,7 +373,7 @@ public class AccountControllerTest {
         Operation operation = Operation.of(accountId, Money.of("50"), Operation.Type.DEPOSIT);
         Money balance = Money.of("250");
 
-        when(depositUseCase.handle(any())).thenReturn(new DepositResult(accountId, balance, operation));
+        when(depositUseCase.tryHandle(any())).thenReturn(new DepositResult(accountId, balance, operation));
 
         mockMvc.perform(post("/accounts/{id}/deposit", accountId.value().toString())
                         .contentType(MediaType.APPLICATION_JSON)
@@ -223,7 +395,7 @@ public class AccountControllerTest {
     void deposit_notFound() throws Exception {
         AccountId accountId = AccountId.newId();
 
-        when(depositUseCase.handle(any()))
+        when(depositUseCase.tryHandle(any()))
                 .thenThrow(new AccountNotFoundApplicationException(accountId.value().toString()));
 
         mockMvc.perform(post("/accounts/{id}/deposit", accountId.value().toString())
@@ -235,18 +407,21 @@ public class AccountControllerTest {
     }
 
     @Test
-    @DisplayName("POST /accounts/{id}/deposit - should return 400 when business rule fails")
+    @DisplayName("POST /accounts/{id}/deposit - should return 422 when the ceiling would be exceeded")
     void deposit_businessRuleViolation() throws Exception {
         AccountId accountId = AccountId.newId();
-        when(depositUseCase.handle(any()))
-                .thenThrow(CeilingExceededException.class);
+        when(depositUseCase.tryHandle(any()))
+                .thenReturn(new OperationRejection(accountId, OperationRejected.ceilingExceeded(
+                        Money.of("100"), Money.of("999999"), Money.of("1000"))));
 
         mockMvc.perform(post("/accounts/{id}/deposit", accountId.value().toString())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("""
                                 {"amount": 999999}
                                 """))
-                .andExpect(status().isUnprocessableEntity());
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().string(
+                        "Deposit Money[value=999999.00] would exceed ceiling Money[value=1000.00] (balance Money[value=100.00])"));
     }
 
     @Test
@@ -254,7 +429,7 @@ public class AccountControllerTest {
     void deposit_negativeAmount_returns400() throws Exception {
         UUID accountId = UUID.randomUUID();
 
-        when(depositUseCase.handle(any()))
+        when(depositUseCase.tryHandle(any()))
                 .thenThrow(new DomainException("Deposit amount must be strictly positive"));
 
         mockMvc.perform(post("/accounts/{id}/deposit", accountId)
@@ -263,6 +438,47 @@ public class AccountControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // ---------- BATCH ----------
+    @Test
+    @DisplayName("POST /accounts/{id}/operations:batch - should report each item and the final balance (200)")
+    void batch_ok() throws Exception {
+        AccountId accountId = AccountId.newId();
+        Operation deposit = Operation.of(accountId, Money.of("100"), Operation.Type.DEPOSIT);
+        when(batchOperationsUseCase.handle(any())).thenReturn(new BatchOperationsResult(accountId, Money.of("100"), List.of(
+                new BatchOperationsResult.Item(0, deposit, null),
+                new BatchOperationsResult.Item(1, null, "Insufficient funds"))));
+
+        mockMvc.perform(post("/accounts/{id}/operations:batch", accountId.value().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [
+                                  {"type": "DEPOSIT", "amount": 100},
+                                  {"type": "WITHDRAWAL", "amount": 5000}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountId").value(accountId.value().toString()))
+                .andExpect(jsonPath("$.finalBalance").value(100.0))
+                .andExpect(jsonPath("$.items[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.items[0].operation.id").value(deposit.id().value().toString()))
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[1].error").value("Insufficient funds"));
+    }
+
+    @Test
+    @DisplayName("POST /accounts/{id}/operations:batch - unknown account should return 404")
+    void batch_accountNotFound() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        when(batchOperationsUseCase.handle(any())).thenThrow(new AccountNotFoundApplicationException("Account not found"));
+
+        mockMvc.perform(post("/accounts/{id}/operations:batch", accountId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [{"type": "DEPOSIT", "amount": 1}]}
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
     // --------- Cas Génériques -----------
 
     @Test
@@ -0,0 +1,91 @@
+package fr.exalt.bankaccount.infrastructure.rest;
+
+import fr.exalt.bankaccount.application.dto.imports.ImportJobStatus;
+import fr.exalt.bankaccount.application.dto.imports.ImportLine;
+import fr.exalt.bankaccount.application.port.in.ImportOperationsUseCase;
+import fr.exalt.bankaccount.application.port.out.ImportSource;
+import fr.exalt.bankaccount.infrastructure.rest.controller.ImportController;
+import fr.exalt.bankaccount.infrastructure.rest.exception.RestExceptionHandler;
+import fr.exalt.bankaccount.infrastructure.rest.mapper.ImportRestMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+@Import({
+        ImportRestMapper.class,
+        RestExceptionHandler.class
+})
+public class ImportControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ImportOperationsUseCase importOperationsUseCase;
+
+    @Test
+    @DisplayName("POST /imports/operations - CSV upload is spooled and submitted as a job (202)")
+    void upload_csv_returns_job() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        UUID account = UUID.randomUUID();
+        List<List<ImportLine>> read = new ArrayList<>();
+        when(importOperationsUseCase.submit(any())).thenAnswer(invocation -> {
+            ImportSource source = invocation.getArgument(0);
+            try (Stream<ImportLine> lines = source.open()) {
+                read.add(lines.toList());
+            }
+            return queued(jobId);
+        });
+
+        mockMvc.perform(post("/imports/operations")
+                        .contentType("text/csv")
+                        .content(account + ",DEPOSIT,10\n" + account + ",WITHDRAWAL,4\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/imports/operations/" + jobId))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+
+        assertThat(read).singleElement().satisfies(lines -> assertThat(lines).hasSize(2)
+                .allMatch(ImportLine.Parsed.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("GET /imports/operations/{id} - progress and rejected lines (200), unknown job (404)")
+    void job_status() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(importOperationsUseCase.status(jobId)).thenReturn(Optional.of(new ImportJobStatus(
+                jobId, ImportJobStatus.State.COMPLETED, 3, 2, 1, 1500.0, Instant.now(), Instant.now(),
+                List.of(new ImportJobStatus.RejectedLine(2, "Unreadable line")), null)));
+
+        mockMvc.perform(get("/imports/operations/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(2));
+
+        mockMvc.perform(get("/imports/operations/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobStatus queued(UUID id) {
+        return new ImportJobStatus(id, ImportJobStatus.State.QUEUED, 0, 0, 0, 0, null, null, List.of(), null);
+    }
+}
@@ -0,0 +1,42 @@
+package fr.exalt.bankaccount.infrastructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import fr.exalt.bankaccount.domain.model.money.Money;
+import fr.exalt.bankaccount.infrastructure.rest.dto.operation.AmountRequest;
+import fr.exalt.bankaccount.infrastructure.rest.json.MoneyJsonComponent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyJsonComponentTest {
+
+    private final ObjectMapper json = new ObjectMapper().registerModule(MoneyJsonComponent.module());
+
+    @Test
+    void reads_numeric_and_string_tokens_from_chars_and_bytes() throws Exception {
+        assertThat(json.readValue("{\"amount\": 12.345}", AmountRequest.class).amount()).isEqualTo(Money.of("12.34"));
+        assertThat(json.readValue("{\"amount\": -250}", AmountRequest.class).amount()).isEqualTo(Money.of("-250"));
+        assertThat(json.readValue("{\"amount\": \"0.5\"}", AmountRequest.class).amount()).isEqualTo(Money.of("0.5"));
+        assertThat(json.readValue("{\"amount\": 1.5e3}".getBytes(StandardCharsets.UTF_8), AmountRequest.class).amount())
+                .isEqualTo(Money.of("1500"));
+    }
+
+    @Test
+    void writes_two_decimals_as_a_json_number() throws Exception {
+        assertThat(json.writeValueAsString(new AmountRequest(Money.of("-0.5")))).isEqualTo("{\"amount\":-0.50}");
+        assertThat(json.writeValueAsString(new AmountRequest(Money.of("1234567.89")))).isEqualTo("{\"amount\":1234567.89}");
+    }
+
+    @Test
+    void rejects_malformed_amounts_and_other_tokens() {
+        assertThatThrownBy(() -> json.readValue("{\"amount\": \"12,5\"}", AmountRequest.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> json.readValue("{\"amount\": true}", AmountRequest.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package fr.exalt.bankaccount.infrastructure.rest;
 
+import fr.exalt.bankaccount.application.dto.operation.OperationPage;
 import fr.exalt.bankaccount.application.exception.AccountNotFoundApplicationException;
 import fr.exalt.bankaccount.application.service.operation.OperationService;
 import fr.exalt.bankaccount.domain.model.account.AccountId;
@@ -23,8 +24,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @WebMvcTest(controllers = OperationController.class)
 @Import({ OperationRestMapper.class, RestExceptionHandler.class })
@@ -42,20 +48,66 @@ public class OperationControllerTest {
                 new Operation(new OperationId(UUID.randomUUID()), accountId, Money.of("1000"), Operation.Type.DEPOSIT, Instant.parse("2025-10-20T10:00:00Z"), "First"),
                 new Operation(new OperationId(UUID.randomUUID()), accountId, Money.of("500"), Operation.Type.WITHDRAWAL, Instant.parse("2025-10-19T10:00:00Z"), "Second")
         );
-        when(operationService.getMonthlyOperations(accountId)).thenReturn(ops);
+        when(operationService.getMonthlyOperations(accountId, null, 100)).thenReturn(new OperationPage(ops, null));
 
         mockMvc.perform(get("/accounts/{id}/operations", accountId.value()))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].type").value("DEPOSIT"))
-                .andExpect(jsonPath("$[0].amount").value(1000))
-                .andExpect(jsonPath("$[1].type").value("WITHDRAWAL"));
+                .andExpect(jsonPath("$.operations[0].type").value("DEPOSIT"))
+                .andExpect(jsonPath("$.operations[0].amount").value(1000))
+                .andExpect(jsonPath("$.operations[1].type").value("WITHDRAWAL"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void should_page_with_an_opaque_cursor() throws Exception {
+        AccountId accountId = new AccountId(UUID.randomUUID());
+        Operation last = new Operation(new OperationId(UUID.randomUUID()), accountId, Money.of("10"), Operation.Type.DEPOSIT,
+                Instant.parse("2025-10-20T10:00:00.123456Z"), "Last");
+        OperationPage.Cursor cursor = OperationPage.Cursor.of(last);
+        when(operationService.getMonthlyOperations(accountId, null, 1)).thenReturn(new OperationPage(List.of(last), cursor));
+        when(operationService.getMonthlyOperations(accountId, cursor, 1)).thenReturn(new OperationPage(List.of(), null));
+
+        String next = new OperationRestMapper().encodeCursor(cursor);
+        mockMvc.perform(get("/accounts/{id}/operations", accountId.value()).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operations[0].label").value("Last"))
+                .andExpect(jsonPath("$.next").value(next));
+        mockMvc.perform(get("/accounts/{id}/operations", accountId.value()).param("limit", "1").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operations").isEmpty());
+        mockMvc.perform(get("/accounts/{id}/operations", accountId.value()).param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_stream_history_as_ndjson() throws Exception {
+        AccountId accountId = new AccountId(UUID.randomUUID());
+        List<Operation> ops = List.of(
+                new Operation(new OperationId(UUID.randomUUID()), accountId, Money.of("1000"), Operation.Type.DEPOSIT, Instant.parse("2025-10-20T10:00:00Z"), "First"),
+                new Operation(new OperationId(UUID.randomUUID()), accountId, Money.of("500"), Operation.Type.WITHDRAWAL, Instant.parse("2025-10-19T10:00:00Z"), "Second")
+        );
+        doAnswer(invocation -> {
+            Consumer<Operation> sink = invocation.getArgument(1);
+            ops.forEach(sink);
+            return null;
+        }).when(operationService).exportMonthlyOperations(eq(accountId), any());
+
+        String body = mockMvc.perform(get("/accounts/{id}/operations", accountId.value()).accept("application/x-ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList()).hasSize(2);
+        assertThat(body.lines().findFirst().orElseThrow())
+                .contains("\"type\":\"DEPOSIT\"")
+                .contains("\"at\":\"2025-10-20T10:00:00Z\"");
     }
 
     @Test
     void should_return_404_when_account_not_found() throws Exception {
         UUID id = UUID.randomUUID();
-        when(operationService.getMonthlyOperations(new AccountId(id)))
+        when(operationService.getMonthlyOperations(new AccountId(id), null, 100))
                 .thenThrow(new AccountNotFoundApplicationException(id.toString()));
 
         mockMvc.perform(get("/accounts/{id}/operations", id))